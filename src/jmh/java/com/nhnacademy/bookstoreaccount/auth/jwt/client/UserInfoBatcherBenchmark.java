@@ -0,0 +1,61 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author 김태환
+ * 동시 로그인의 사용자 정보 조회 처리량을 요청마다 호출할 때와 {@link UserInfoBatcher}로 모아서 호출할 때 비교합니다.
+ * 사용자 서비스는 왕복 1ms, 커넥션 4개인 {@link StubUserInfoClient}로 대신하며, 모든 조회는 서로 다른 이메일입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(32)
+@Fork(1)
+public class UserInfoBatcherBenchmark {
+	@Param({"false", "true"})
+	private boolean batched;
+
+	private UserInfoBatcher batcher;
+
+	@State(Scope.Thread)
+	public static class Caller {
+		private final String prefix = "user-" + Thread.currentThread().getId() + "-";
+		private long sequence;
+
+		private String nextEmail() {
+			return prefix + sequence++ + "@example.com";
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		batcher = new UserInfoBatcher(new StubUserInfoClient(Duration.ofMillis(1), 4), batched,
+			Duration.ofMillis(2), 64, new SimpleMeterRegistry());
+	}
+
+	@Benchmark
+	public GetUserTokenInfoResponse getUserInfoByEmail(Caller caller) {
+		return batcher.getUserInfoByEmail(caller.nextEmail());
+	}
+}
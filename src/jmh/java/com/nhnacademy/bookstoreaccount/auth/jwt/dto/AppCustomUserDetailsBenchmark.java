@@ -0,0 +1,49 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto;
+
+import static com.nhnacademy.bookstoreaccount.benchmark.BenchmarkFixtures.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+/**
+ * @author 김태환
+ * {@link AppCustomUserDetails#getAuthorities()}의 권한 목록 생성 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class AppCustomUserDetailsBenchmark {
+	private AppCustomUserDetails userDetails;
+
+	@Setup
+	public void setUp() {
+		userDetails = new AppCustomUserDetails(GetUserTokenInfoResponse.builder()
+			.id(1L)
+			.password("{bcrypt}password")
+			.roles(ROLES)
+			.status("ACTIVE")
+			.build());
+	}
+
+	@Benchmark
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return userDetails.getAuthorities();
+	}
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.filter;
+
+import static com.nhnacademy.bookstoreaccount.benchmark.BenchmarkFixtures.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.InMemoryRefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.ClientIpResolver;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author 김태환
+ * 인증 성공 후 {@link LoginFilter}가 토큰을 발급하고 응답을 직렬화하는 비용을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class LoginFilterBenchmark {
+	private InMemoryRefreshTokenStore refreshTokenStore;
+	private LoginFilter loginFilter;
+	private MockHttpServletRequest request;
+	private Authentication authentication;
+
+	@Setup
+	public void setUp() {
+		refreshTokenStore = new InMemoryRefreshTokenStore(5, 1_000_000L, Duration.ofSeconds(1),
+			new SimpleMeterRegistry());
+		loginFilter = new LoginFilter(null, new JwtUtils(keyRing()), refreshTokenStore, null,
+			new ClientIpResolver("", "X-Forwarded-For"), ACCESS_TOKEN_EXPIRES_IN, REFRESH_TOKEN_EXPIRES_IN);
+		request = new MockHttpServletRequest("POST", "/auth/login");
+		authentication = new UsernamePasswordAuthenticationToken("1", null,
+			List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+	}
+
+	@TearDown
+	public void tearDown() {
+		refreshTokenStore.close();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse successfulAuthentication() throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		loginFilter.successfulAuthentication(request, response, null, authentication);
+		return response;
+	}
+}
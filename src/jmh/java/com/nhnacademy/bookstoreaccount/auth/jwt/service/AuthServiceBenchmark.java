@@ -0,0 +1,69 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.service;
+
+import static com.nhnacademy.bookstoreaccount.benchmark.BenchmarkFixtures.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.cache.VerifiedTokenCache;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.ReissueTokensResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.InMemoryRefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.DeviceIds;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author 김태환
+ * {@link InMemoryRefreshTokenStore}를 사용하여 {@link AuthService#reissueTokensWithRefreshToken(String, String)}의 비용을 측정합니다.
+ * 매 호출마다 직전에 재발급된 리프레시 토큰을 사용하여 실제 토큰 교체 흐름을 재현합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class AuthServiceBenchmark {
+	private InMemoryRefreshTokenStore refreshTokenStore;
+	private AuthService authService;
+	private String refreshToken;
+
+	@Setup
+	public void setUp() {
+		refreshTokenStore = new InMemoryRefreshTokenStore(5, 1_000_000L, Duration.ofSeconds(1),
+			new SimpleMeterRegistry());
+		JwtUtils jwtUtils = new JwtUtils(keyRing());
+		authService = new AuthService(refreshTokenStore, jwtUtils, null,
+			new VerifiedTokenCache(10_000L, new SimpleMeterRegistry()), null, null, null, null);
+		authService.setAccessTokenExpiresIn(ACCESS_TOKEN_EXPIRES_IN);
+		authService.setRefreshTokenExpiresIn(REFRESH_TOKEN_EXPIRES_IN);
+
+		refreshToken = jwtUtils.generateToken("refresh", 1L, ROLES, REFRESH_TOKEN_EXPIRES_IN);
+		refreshTokenStore.save(1L, DeviceIds.DEFAULT_DEVICE_ID, refreshToken, REFRESH_TOKEN_EXPIRES_IN);
+	}
+
+	@TearDown
+	public void tearDown() {
+		refreshTokenStore.close();
+	}
+
+	@Benchmark
+	public ReissueTokensResponse reissueTokensWithRefreshToken() {
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, null);
+		refreshToken = response.refreshToken();
+		return response;
+	}
+}
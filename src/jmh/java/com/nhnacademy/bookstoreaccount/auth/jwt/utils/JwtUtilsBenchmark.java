@@ -0,0 +1,83 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import static com.nhnacademy.bookstoreaccount.benchmark.BenchmarkFixtures.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
+
+/**
+ * @author 김태환
+ * {@link JwtUtils}의 토큰 발급, 검증, 클레임 조회 비용을 측정합니다.
+ * 검증 엔진(jjwt, fast)별로 결과를 비교할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class JwtUtilsBenchmark {
+	@Param({"jjwt", "fast"})
+	private String verifier;
+
+	private JwtUtils jwtUtils;
+	private String accessToken;
+	private String refreshToken;
+
+	@Setup
+	public void setUp() {
+		jwtUtils = new JwtUtils(keyRing(), verifier);
+		accessToken = jwtUtils.generateToken("access", 1L, ROLES, ACCESS_TOKEN_EXPIRES_IN);
+		refreshToken = jwtUtils.generateToken("refresh", 1L, ROLES, REFRESH_TOKEN_EXPIRES_IN);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtils.generateToken("access", 1L, ROLES, ACCESS_TOKEN_EXPIRES_IN);
+	}
+
+	@Benchmark
+	public TokenPair generateTokenPair() {
+		return jwtUtils.generateTokenPair(1L, ROLES, ACCESS_TOKEN_EXPIRES_IN, REFRESH_TOKEN_EXPIRES_IN);
+	}
+
+	@Benchmark
+	public String validateToken() {
+		return jwtUtils.validateToken(accessToken);
+	}
+
+	@Benchmark
+	public ParsedToken parseToken() {
+		return jwtUtils.parseToken(refreshToken);
+	}
+
+	@Benchmark
+	public Long getUserIdFromToken() {
+		return jwtUtils.getUserIdFromToken(accessToken);
+	}
+
+	@Benchmark
+	public List<String> getRolesFromToken() {
+		return jwtUtils.getRolesFromToken(accessToken);
+	}
+
+	@Benchmark
+	public String getTokenTypeFromToken() {
+		return jwtUtils.getTokenTypeFromToken(accessToken);
+	}
+}
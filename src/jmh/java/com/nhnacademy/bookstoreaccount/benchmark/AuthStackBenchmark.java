@@ -0,0 +1,216 @@
+package com.nhnacademy.bookstoreaccount.benchmark;
+
+import static com.nhnacademy.bookstoreaccount.benchmark.BenchmarkFixtures.*;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.web.reactive.DispatcherHandler;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.controller.ReactiveAuthController;
+import com.nhnacademy.bookstoreaccount.auth.jwt.filter.LoginFilter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.LoginAuthenticationService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.InMemoryRefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginRateLimiter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.ClientIpResolver;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.InternalApiAuthenticator;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import jakarta.servlet.http.HttpServlet;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * @author 김태환
+ * 같은 JVM, 같은 {@link AuthService}로 서블릿 서버(Tomcat, 비동기 {@link LoginFilter})와 리액티브 서버(Netty,
+ * {@link ReactiveAuthController})의 동시 로그인 처리량을 비교합니다.
+ * 사용자 조회와 비밀번호 검증은 5ms 뒤에 끝나는 인증으로 대신하고, 토큰 서명과 저장은 실제 구현을 사용합니다.
+ * 두 서버 모두 기본 스레드 설정으로 실행합니다. 클라이언트는 요청 헤더와 본문을 나눠 보내는 요청이 Nagle 알고리즘에 묶여
+ * 측정을 왜곡하지 않도록 TCP_NODELAY 를 사용하는 Reactor Netty 클라이언트로 보냅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class AuthStackBenchmark {
+	private static final Duration AUTHENTICATION_TIME = Duration.ofMillis(5);
+	private static final Duration LOGIN_TIMEOUT = Duration.ofSeconds(5);
+	private static final ClientIpResolver CLIENT_IP_RESOLVER = new ClientIpResolver("", "X-Forwarded-For");
+	private static final String LOGIN_BODY = "{\"email\":\"user@example.com\",\"password\":\"password\"}";
+
+	@Param({"servlet", "reactive"})
+	private String stack;
+
+	private InMemoryRefreshTokenStore refreshTokenStore;
+	private Tomcat tomcat;
+	private Scheduler tokenScheduler;
+	private AnnotationConfigApplicationContext reactiveContext;
+	private DisposableServer nettyServer;
+	private ConnectionProvider clientConnections;
+	private HttpClient client;
+
+	@Setup
+	public void setUp() throws Exception {
+		refreshTokenStore = new InMemoryRefreshTokenStore(5, 1_000_000L, Duration.ofSeconds(1),
+			new SimpleMeterRegistry());
+		JwtUtils jwtUtils = new JwtUtils(keyRing());
+		LoginRateLimiter loginRateLimiter = new LoginRateLimiter(null, false, 100, Duration.ofMillis(600), 10, 10,
+			Duration.ofSeconds(6), 2, Duration.ofSeconds(1), 100_000L, new SimpleMeterRegistry());
+		AuthService authService = new AuthService(refreshTokenStore, jwtUtils, null, null, null, null,
+			new DelayedAuthentication(), loginRateLimiter);
+		authService.setAccessTokenExpiresIn(ACCESS_TOKEN_EXPIRES_IN);
+		authService.setRefreshTokenExpiresIn(REFRESH_TOKEN_EXPIRES_IN);
+
+		if ("servlet".equals(stack)) {
+			LoginFilter loginFilter = new LoginFilter(null, jwtUtils, refreshTokenStore, loginRateLimiter,
+				CLIENT_IP_RESOLVER, ACCESS_TOKEN_EXPIRES_IN, REFRESH_TOKEN_EXPIRES_IN);
+			loginFilter.setAsyncLogin(authService, LOGIN_TIMEOUT);
+			startTomcat(loginFilter);
+			client = client(tomcat.getConnector().getLocalPort());
+		} else {
+			startNetty(authService);
+			client = client(nettyServer.port());
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		clientConnections.disposeLater().block();
+		if (tomcat != null) {
+			tomcat.stop();
+			tomcat.destroy();
+		}
+		if (nettyServer != null) {
+			nettyServer.disposeNow();
+		}
+		if (reactiveContext != null) {
+			reactiveContext.close();
+			tokenScheduler.dispose();
+		}
+		refreshTokenStore.close();
+	}
+
+	@Benchmark
+	public String login() {
+		return client.post()
+			.uri("/auth/login")
+			.send(ByteBufFlux.fromString(Mono.just(LOGIN_BODY)))
+			.responseSingle((response, body) -> {
+				if (response.status().code() != 200) {
+					return Mono.error(new IllegalStateException("Login failed with status " + response.status()));
+				}
+				return body.asString();
+			})
+			.block();
+	}
+
+	private HttpClient client(int port) {
+		clientConnections = ConnectionProvider.builder("auth-stack-benchmark").maxConnections(256).build();
+		return HttpClient.create(clientConnections)
+			.baseUrl("http://localhost:" + port)
+			.headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+	}
+
+	private void startTomcat(LoginFilter loginFilter) throws Exception {
+		tomcat = new Tomcat();
+		tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+		tomcat.setPort(0);
+		Context context = tomcat.addContext("", null);
+		Tomcat.addServlet(context, "default", new HttpServlet() {
+		}).setAsyncSupported(true);
+		context.addServletMappingDecoded("/", "default");
+		FilterDef filterDef = new FilterDef();
+		filterDef.setFilterName("login");
+		filterDef.setFilter(loginFilter);
+		filterDef.setAsyncSupported("true");
+		context.addFilterDef(filterDef);
+		FilterMap filterMap = new FilterMap();
+		filterMap.setFilterName("login");
+		filterMap.addURLPattern("/*");
+		context.addFilterMap(filterMap);
+		tomcat.start();
+	}
+
+	private void startNetty(AuthService authService) {
+		tokenScheduler = Schedulers.newParallel("jwt-token", Runtime.getRuntime().availableProcessors());
+		reactiveContext = new AnnotationConfigApplicationContext();
+		reactiveContext.register(ReactiveStackConfig.class);
+		// 리액티브 웹 애플리케이션 조건과 @Value 주입을 거치지 않도록 만들어 둔 컨트롤러를 그대로 등록합니다.
+		reactiveContext.getBeanFactory().registerSingleton("reactiveAuthController",
+			new ReactiveAuthController(authService, tokenScheduler, CLIENT_IP_RESOLVER,
+				new InternalApiAuthenticator(""), LOGIN_TIMEOUT));
+		reactiveContext.refresh();
+		ReactorHttpHandlerAdapter adapter = new ReactorHttpHandlerAdapter(
+			WebHttpHandlerBuilder.applicationContext(reactiveContext).build());
+		nettyServer = HttpServer.create().port(0).handle(adapter).bindNow();
+	}
+
+	@Configuration
+	@EnableWebFlux
+	static class ReactiveStackConfig {
+
+		@Bean
+		public DispatcherHandler webHandler() {
+			return new DispatcherHandler();
+		}
+	}
+
+	/**
+	 * 사용자 조회와 비밀번호 검증 대신 일정 시간 뒤에 인증을 마칩니다.
+	 */
+	private static final class DelayedAuthentication extends LoginAuthenticationService {
+		private static final Authentication AUTHENTICATION = new UsernamePasswordAuthenticationToken("1", null,
+			AuthorityUtils.createAuthorityList(ROLES));
+
+		private DelayedAuthentication() {
+			super(null, null);
+		}
+
+		@Override
+		public CompletableFuture<Authentication> authenticate(String userEmail, String password) {
+			return CompletableFuture.supplyAsync(() -> AUTHENTICATION,
+				CompletableFuture.delayedExecutor(AUTHENTICATION_TIME.toMillis(), TimeUnit.MILLISECONDS));
+		}
+	}
+}
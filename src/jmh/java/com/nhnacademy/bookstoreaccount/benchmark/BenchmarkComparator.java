@@ -0,0 +1,136 @@
+package com.nhnacademy.bookstoreaccount.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author 김태환
+ * JMH JSON 결과를 기준(baseline) 결과와 비교하여 벤치마크별 시간과 할당량(gc.alloc.rate.norm)의 변화를 출력합니다.
+ * 어느 하나라도 허용 비율을 넘어 나빠지면 종료 코드 1 로 끝나므로 CI 에서 성능 회귀 검사로 사용할 수 있습니다.
+ * <p>
+ * 시간은 점수 대신 JMH 가 보고한 99.9% 신뢰 구간(score ± scoreError)을 비교하여, 두 구간 중 가장 유리한 값끼리 비교해도
+ * 허용 비율을 넘어 나빠졌을 때만 회귀로 봅니다. 측정 오차가 허용 비율보다 커서 그만큼의 회귀를 가려낼 수 없는 결과는
+ * NOISY 로 표시하고 종료 코드 3 으로 끝나므로, fork 와 반복 횟수를 늘려 다시 측정해야 합니다.
+ *
+ * <pre>
+ * java BenchmarkComparator baseline.json result.json [threshold]
+ * </pre>
+ */
+public final class BenchmarkComparator {
+	private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+	private static final double DEFAULT_THRESHOLD = 0.10;
+	// 할당량이 매우 작은 벤치마크에서 측정 오차로 회귀가 보고되지 않도록 허용하는 최소 바이트 수입니다.
+	private static final double ALLOCATION_SLACK_BYTES = 16.0;
+
+	private BenchmarkComparator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("usage: BenchmarkComparator <baseline.json> <result.json> [threshold]");
+			System.exit(2);
+		}
+		double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+		Map<String, JsonNode> baseline = read(new File(args[0]));
+		Map<String, JsonNode> current = read(new File(args[1]));
+
+		int regressions = 0;
+		int noisy = 0;
+		System.out.printf("%-90s %24s %24s %8s %12s %12s %8s%n",
+			"benchmark", "baseline", "current", "time", "base B/op", "cur B/op", "alloc");
+		for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+			JsonNode before = baseline.get(entry.getKey());
+			JsonNode after = entry.getValue();
+			if (before == null) {
+				System.out.printf("%-90s %14s %14.3f (new)%n", entry.getKey(), "-", score(after));
+				continue;
+			}
+
+			double timeChange = timeChange(before, after);
+			double allocationBefore = allocation(before);
+			double allocationAfter = allocation(after);
+			double allocationChange = allocationBefore > 0 ? allocationAfter / allocationBefore - 1 : 0;
+			boolean timeNoisy = relativeError(before) > threshold || relativeError(after) > threshold;
+			boolean timeRegressed = !timeNoisy && boundedTimeChange(before, after) > threshold;
+			boolean allocationRegressed = allocationAfter > allocationBefore * (1 + threshold) + ALLOCATION_SLACK_BYTES;
+			if (timeRegressed || allocationRegressed) {
+				regressions++;
+			} else if (timeNoisy) {
+				noisy++;
+			}
+			System.out.printf("%-90s %24s %24s %+7.1f%% %12.1f %12.1f %+7.1f%%%s%n",
+				entry.getKey(), formatScore(before), formatScore(after), timeChange * 100,
+				allocationBefore, allocationAfter, allocationChange * 100,
+				timeRegressed || allocationRegressed ? "  REGRESSION" : timeNoisy ? "  NOISY" : "");
+		}
+
+		if (regressions > 0) {
+			System.out.printf("%d benchmark(s) regressed beyond %.0f%%%n", regressions, threshold * 100);
+			System.exit(1);
+		}
+		if (noisy > 0) {
+			System.out.printf("%d benchmark(s) have a score error above %.0f%%; re-run with more forks and iterations%n",
+				noisy, threshold * 100);
+			System.exit(3);
+		}
+	}
+
+	private static Map<String, JsonNode> read(File file) throws IOException {
+		Map<String, JsonNode> results = new LinkedHashMap<>();
+		for (JsonNode result : new ObjectMapper().readTree(file)) {
+			StringBuilder name = new StringBuilder(result.path("benchmark").asText());
+			result.path("params").fields()
+				.forEachRemaining(param -> name.append(':').append(param.getKey()).append('=')
+					.append(param.getValue().asText()));
+			results.put(name.toString(), result);
+		}
+		return results;
+	}
+
+	private static double score(JsonNode result) {
+		return result.path("primaryMetric").path("score").asDouble();
+	}
+
+	/**
+	 * 반복이 하나뿐이면 JMH 가 오차를 NaN 으로 기록하므로 오차를 알 수 없는 결과로 봅니다.
+	 */
+	private static double scoreError(JsonNode result) {
+		double error = result.path("primaryMetric").path("scoreError").asDouble(Double.NaN);
+		return Double.isNaN(error) ? Double.POSITIVE_INFINITY : error;
+	}
+
+	private static double relativeError(JsonNode result) {
+		return scoreError(result) / score(result);
+	}
+
+	private static String formatScore(JsonNode result) {
+		return String.format("%.3f ± %.3f", score(result), scoreError(result));
+	}
+
+	/**
+	 * 처리량 모드는 값이 클수록, 나머지 모드는 값이 작을수록 좋으므로 방향을 맞춰 나빠진 비율을 반환합니다.
+	 */
+	private static double timeChange(JsonNode before, JsonNode after) {
+		double change = score(after) / score(before) - 1;
+		return "thrpt".equals(after.path("mode").asText()) ? -change : change;
+	}
+
+	/**
+	 * 두 신뢰 구간에서 서로 가장 가까운 값끼리 비교한 나빠진 비율입니다. 구간이 겹치면 0 이하입니다.
+	 */
+	private static double boundedTimeChange(JsonNode before, JsonNode after) {
+		if ("thrpt".equals(after.path("mode").asText())) {
+			return 1 - (score(after) + scoreError(after)) / (score(before) - scoreError(before));
+		}
+		return (score(after) - scoreError(after)) / (score(before) + scoreError(before)) - 1;
+	}
+
+	private static double allocation(JsonNode result) {
+		return result.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score").asDouble(0);
+	}
+}
@@ -0,0 +1,29 @@
+package com.nhnacademy.bookstoreaccount.benchmark;
+
+import java.util.List;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtKeyRing;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKeys;
+
+/**
+ * @author 김태환
+ * 벤치마크가 공통으로 사용하는 키와 토큰 설정입니다.
+ * 운영 환경과 같은 길이의 비밀 키와 같은 기본 HMAC 알고리즘(HS256)으로 측정합니다.
+ */
+public final class BenchmarkFixtures {
+	public static final String SECRET = "33085d3cf14717d13f122979944e1e886636cc19e0f749dfbce423bb0031beae"
+		+ "8b8758243ce109259c32a83a9325ef2c64433bc0339321d9540036a11884f8fc";
+	public static final List<String> ROLES = List.of("ROLE_USER", "ROLE_ADMIN");
+	public static final long ACCESS_TOKEN_EXPIRES_IN = 600_000L;
+	public static final long REFRESH_TOKEN_EXPIRES_IN = 86_400_000L;
+
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * @return 벤치마크용 HMAC 키 링.
+	 */
+	public static JwtKeyRing keyRing() {
+		return new JwtKeyRing(JwtSigningKeys.hmac(SECRET, null), 0L);
+	}
+}
@@ -0,0 +1,96 @@
+package com.nhnacademy.bookstoreaccount.benchmark;
+
+import static com.nhnacademy.bookstoreaccount.benchmark.BenchmarkFixtures.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RedisRefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+
+/**
+ * @author 김태환
+ * 리프레시 토큰 저장 형식(legacy, digest)별로 사용자 한 명당 Redis 에 저장되는 크기를 출력합니다.
+ * 인자가 없으면 저장되는 값의 바이트 수만 계산하고, Redis 주소를 주면 두 형식으로 실제 저장한 뒤
+ * MEMORY USAGE 로 키 하나가 차지하는 메모리(키 이름, 자료 구조, 만료 정보 포함)를 측정합니다.
+ *
+ * <pre>
+ * java RefreshTokenMemoryReport [host port [password]]
+ * </pre>
+ */
+public final class RefreshTokenMemoryReport {
+	private static final long LEGACY_USER_ID = -1L;
+	private static final long DIGEST_USER_ID = -2L;
+
+	private RefreshTokenMemoryReport() {
+	}
+
+	public static void main(String[] args) {
+		String refreshToken = new JwtUtils(keyRing())
+			.generateToken("refresh", 1L, ROLES, REFRESH_TOKEN_EXPIRES_IN);
+
+		int tokenBytes = refreshToken.getBytes(StandardCharsets.UTF_8).length;
+		int legacyBytes = "token".length() + new GenericJackson2JsonRedisSerializer().serialize(refreshToken).length;
+		int digestBytes = 32;
+		System.out.printf("refresh token length            : %6d B%n", tokenBytes);
+		System.out.printf("legacy payload (field + JSON)   : %6d B%n", legacyBytes);
+		System.out.printf("digest payload (SHA-256)        : %6d B%n", digestBytes);
+		System.out.printf("payload saved per key           : %6d B%n", legacyBytes - digestBytes);
+
+		if (args.length >= 2) {
+			reportMemoryUsage(args, refreshToken);
+		}
+	}
+
+	private static void reportMemoryUsage(String[] args, String refreshToken) {
+		RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(args[0],
+			Integer.parseInt(args[1]));
+		if (args.length > 2) {
+			configuration.setPassword(args[2]);
+		}
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		try {
+			RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+			redisTemplate.setConnectionFactory(connectionFactory);
+			redisTemplate.setKeySerializer(new StringRedisSerializer());
+			redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+			redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+			redisTemplate.afterPropertiesSet();
+
+			RedisRefreshTokenStore legacyStore = new RedisRefreshTokenStore(redisTemplate, "legacy");
+			RedisRefreshTokenStore digestStore = new RedisRefreshTokenStore(redisTemplate, "digest");
+			legacyStore.save(LEGACY_USER_ID, null, refreshToken, REFRESH_TOKEN_EXPIRES_IN);
+			digestStore.save(DIGEST_USER_ID, null, refreshToken, REFRESH_TOKEN_EXPIRES_IN);
+
+			long legacyUsage;
+			long digestUsage;
+			try (RedisConnection connection = connectionFactory.getConnection()) {
+				legacyUsage = memoryUsage(connection, "RefreshToken:" + LEGACY_USER_ID);
+				digestUsage = memoryUsage(connection, "RefreshToken:" + DIGEST_USER_ID);
+			}
+			legacyStore.delete(LEGACY_USER_ID, null);
+			digestStore.delete(DIGEST_USER_ID, null);
+
+			System.out.printf("legacy MEMORY USAGE             : %6d B%n", legacyUsage);
+			System.out.printf("digest MEMORY USAGE             : %6d B%n", digestUsage);
+			System.out.printf("memory saved per key            : %6d B (%.1f%%)%n", legacyUsage - digestUsage,
+				100.0 * (legacyUsage - digestUsage) / legacyUsage);
+		} finally {
+			connectionFactory.destroy();
+		}
+	}
+
+	private static long memoryUsage(RedisConnection connection, String key) {
+		Object usage = connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.US_ASCII),
+			key.getBytes(StandardCharsets.UTF_8));
+		return usage instanceof Long value ? value : -1L;
+	}
+}
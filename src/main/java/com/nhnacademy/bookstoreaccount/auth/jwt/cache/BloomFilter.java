@@ -0,0 +1,119 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * @author 김태환
+ * 문자열 집합의 포함 여부를 근사하는 스레드 안전한 Bloom 필터입니다.
+ * {@link #mightContain(String)}이 false 이면 확실히 없는 것이고, true 이면 설정한 확률 이하로 잘못 판단할 수 있습니다.
+ * 비트 배열은 {@link AtomicLongArray}에 저장하여 잠금 없이 여러 스레드가 동시에 추가하고 조회할 수 있습니다.
+ * 항목을 지울 수 없으므로, 지워야 할 항목이 쌓이면 새 필터를 만들어 교체합니다.
+ */
+public class BloomFilter {
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashFunctions;
+	private final AtomicLong setBits = new AtomicLong();
+
+	/**
+	 * 예상 항목 수와 목표 오탐률에 맞는 크기로 필터를 만듭니다.
+	 *
+	 * @param expectedInsertions 예상 항목 수.
+	 * @param falsePositiveProbability 예상 항목 수만큼 추가했을 때의 목표 오탐률 (0 과 1 사이).
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		if (expectedInsertions < 1 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("expectedInsertions must be positive and probability in (0, 1)");
+		}
+		long optimalBits = (long)Math.ceil(
+			-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		long words = Math.max(1L, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+		if (words > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Bloom filter is too large: " + optimalBits + " bits");
+		}
+		this.bits = new AtomicLongArray((int)words);
+		this.bitSize = words * Long.SIZE;
+		this.hashFunctions = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	/**
+	 * 항목을 추가합니다.
+	 *
+	 * @param value 추가할 항목.
+	 */
+	public void put(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashFunctions; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			int word = (int)(index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+			if ((current & mask) == 0) {
+				setBits.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * @param value 확인할 항목.
+	 * @return 항목이 추가되었을 수 있으면 true, 확실히 추가되지 않았으면 false.
+	 */
+	public boolean mightContain(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashFunctions; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			if ((bits.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 채워진 비트 비율로 계산한, 추가되지 않은 항목을 있다고 판단할 확률입니다.
+	 *
+	 * @return 예상 오탐률.
+	 */
+	public double expectedFalsePositiveProbability() {
+		return Math.pow((double)setBits.get() / bitSize, hashFunctions);
+	}
+
+	long bitSize() {
+		return bitSize;
+	}
+
+	int hashFunctions() {
+		return hashFunctions;
+	}
+
+	/**
+	 * UTF-8 바이트의 64 비트 FNV-1a 해시에 MurmurHash3 의 최종 혼합을 적용합니다.
+	 */
+	private static long hash(String value) {
+		long hash = 0xCBF29CE484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xFF;
+			hash *= 0x100000001B3L;
+		}
+		return mix(hash);
+	}
+
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xFF51AFD7ED558CCDL;
+		value ^= value >>> 33;
+		value *= 0xC4CEB9FE1A85EC53L;
+		value ^= value >>> 33;
+		return value;
+	}
+}
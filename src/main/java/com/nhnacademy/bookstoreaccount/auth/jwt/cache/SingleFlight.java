@@ -0,0 +1,118 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @author 김태환
+ * 같은 키에 대한 동시 호출을 하나로 합치는 요청 병합기입니다.
+ * 키마다 진행 중인 호출이 있으면 새 호출을 시작하지 않고 그 호출이 끝나기를 기다려 같은 결과나 같은 예외를 받습니다.
+ * 결과는 보관하지 않으므로, 호출이 끝난 뒤에 들어온 요청은 새로 호출합니다.
+ * 동기 호출과 비동기 호출은 같은 진행 중 호출을 공유합니다.
+ *
+ * @param <K> 키 타입.
+ * @param <V> 결과 타입.
+ */
+public class SingleFlight<K, V> {
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final Counter calls;
+	private final Counter coalesced;
+
+	/**
+	 * @param name 지표 이름. "{name}.calls" 와 "{name}.coalesced" 카운터를 등록합니다.
+	 * @param operation 지표의 operation 태그 값.
+	 * @param meterRegistry 지표를 등록할 {@link MeterRegistry}.
+	 */
+	public SingleFlight(String name, String operation, MeterRegistry meterRegistry) {
+		this.calls = Counter.builder(name + ".calls")
+			.description("Calls actually made after coalescing")
+			.tag("operation", operation)
+			.register(meterRegistry);
+		this.coalesced = Counter.builder(name + ".coalesced")
+			.description("Duplicate concurrent calls that waited for an in-flight call instead")
+			.tag("operation", operation)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 키에 대해 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 호출합니다.
+	 *
+	 * @param key 호출을 구분하는 키.
+	 * @param call 진행 중인 호출이 없을 때 실행할 함수.
+	 * @return 호출 결과.
+	 * @throws RuntimeException 호출이 던진 예외. 기다린 요청도 같은 예외를 받습니다.
+	 */
+	public V execute(K key, Function<K, V> call) {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			coalesced.increment();
+			return await(existing);
+		}
+
+		calls.increment();
+		try {
+			V result = call.apply(key);
+			flight.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * 키에 대해 진행 중인 호출이 있으면 그 결과를, 없으면 새로 시작한 호출의 결과를 기다리지 않고 반환합니다.
+	 *
+	 * @param key 호출을 구분하는 키.
+	 * @param call 진행 중인 호출이 없을 때 실행할 비동기 함수.
+	 * @return 호출 결과로 완료되는 {@link CompletableFuture}. 호출마다 새 사본이므로 완료시키거나 취소해도 다른 요청에 영향이 없습니다.
+	 */
+	public CompletableFuture<V> executeAsync(K key, Function<K, CompletableFuture<V>> call) {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			coalesced.increment();
+			return existing.copy();
+		}
+
+		calls.increment();
+		CompletableFuture<V> result;
+		try {
+			result = call.apply(key);
+		} catch (RuntimeException | Error e) {
+			result = CompletableFuture.failedFuture(e);
+		}
+		result.whenComplete((value, failure) -> {
+			inFlight.remove(key, flight);
+			if (failure == null) {
+				flight.complete(value);
+			} else {
+				flight.completeExceptionally(failure);
+			}
+		});
+		return flight.copy();
+	}
+
+	private static <V> V await(CompletableFuture<V> flight) {
+		try {
+			return flight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
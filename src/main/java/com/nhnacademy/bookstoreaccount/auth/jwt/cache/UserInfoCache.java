@@ -0,0 +1,239 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author 김태환
+ * 로그인할 때 사용자 서비스에서 조회한 사용자 정보를 이메일별로 보관하는 프로세스 내 캐시입니다.
+ * 같은 사용자의 반복 로그인과 잘못된 비밀번호로 다시 시도하는 요청이 매번 사용자 서비스를 호출하지 않게 합니다.
+ * 없는 사용자와 탈퇴한 사용자는 더 짧은 만료 시간으로 "없음" 을 보관합니다.
+ * <p>
+ * 사용자 서비스에서 비밀번호, 역할, 상태가 바뀌면 {@link #invalidate(String)}로 모든 노드의 항목을 지웁니다.
+ * 무효화는 Redis 채널로 전달되므로 메시지를 놓친 노드가 있을 수 있으며, 어떤 항목도 최대 허용 지연 시간을 넘겨 사용되지 않습니다.
+ * 조회 중인 이메일을 다른 요청이 기다리게 하지 않으므로, 같은 이메일의 동시 조회는 loader 에서 하나로 합칩니다.
+ * 그래야 조회가 실패했을 때 기다리던 요청이 차례로 다시 조회하지 않고 같은 예외를 함께 받습니다.
+ */
+@Slf4j
+@Component
+public class UserInfoCache implements MessageListener {
+	public static final String CHANNEL = "jwt:user-info-invalidations";
+	private static final String CACHE_NAME = "jwt.user-info";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final boolean enabled;
+	private final long maxStalenessNanos;
+	private final Ticker ticker;
+	private final Cache<String, Entry> cache;
+	private final Counter negativeHits;
+	/**
+	 * 무효화할 때마다 증가합니다. 조회하는 동안 무효화가 있었으면 조회 결과를 보관하지 않습니다.
+	 */
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * 캐시된 사용자 정보입니다.
+	 *
+	 * @param user 사용자 정보. 없는 사용자나 탈퇴한 사용자이면 null 입니다.
+	 * @param loadedAt 사용자 서비스에서 조회한 시점 ({@link Ticker} 나노초).
+	 */
+	private record Entry(GetUserTokenInfoResponse user, long loadedAt) {
+	}
+
+	/**
+	 * 사용자 정보 캐시를 초기화합니다. 만료 시간은 최대 허용 지연 시간보다 길게 설정할 수 없습니다.
+	 *
+	 * @param redisTemplate 무효화 메시지를 발행할 {@link RedisTemplate}.
+	 * @param enabled false 이면 캐시하지 않고 매번 조회합니다.
+	 * @param maxSize 캐시에 보관할 최대 사용자 수.
+	 * @param ttl 사용자 정보의 만료 시간.
+	 * @param negativeTtl 없는 사용자나 탈퇴한 사용자의 만료 시간.
+	 * @param maxStaleness 사용자 서비스의 변경이 반영되기까지 허용하는 최대 시간.
+	 * @param meterRegistry 적중/실패/축출 지표를 등록할 {@link MeterRegistry}.
+	 */
+	@Autowired
+	public UserInfoCache(
+		RedisTemplate<String, Object> redisTemplate,
+		@Value("${spring.jwt.user-cache.enabled:true}") boolean enabled,
+		@Value("${spring.jwt.user-cache.max-size:10000}") long maxSize,
+		@Value("${spring.jwt.user-cache.ttl:30s}") Duration ttl,
+		@Value("${spring.jwt.user-cache.negative-ttl:5s}") Duration negativeTtl,
+		@Value("${spring.jwt.user-cache.max-staleness:60s}") Duration maxStaleness,
+		MeterRegistry meterRegistry
+	) {
+		this(redisTemplate, enabled, maxSize, ttl, negativeTtl, maxStaleness, meterRegistry, Ticker.systemTicker());
+	}
+
+	UserInfoCache(RedisTemplate<String, Object> redisTemplate, boolean enabled, long maxSize, Duration ttl,
+		Duration negativeTtl, Duration maxStaleness, MeterRegistry meterRegistry, Ticker ticker) {
+		this.redisTemplate = redisTemplate;
+		this.enabled = enabled;
+		this.maxStalenessNanos = maxStaleness.toNanos();
+		this.ticker = ticker;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(new UntilStale(Math.min(ttl.toNanos(), maxStalenessNanos),
+				Math.min(negativeTtl.toNanos(), maxStalenessNanos)))
+			.ticker(ticker)
+			.executor(Runnable::run)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		this.negativeHits = Counter.builder(CACHE_NAME + ".negative-hits")
+			.description("Cache hits for unknown or withdrawn users")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 캐시에서 사용자 정보를 조회하고, 없거나 최대 허용 지연 시간이 지났으면 사용자 서비스에서 조회하여 보관합니다.
+	 * 조회에 실패하면 예외를 그대로 던지고 아무것도 보관하지 않습니다.
+	 *
+	 * @param userEmail 사용자 이메일.
+	 * @param loader 캐시에 없을 때 사용자 정보를 조회하는 함수.
+	 * @return 사용자 정보. 없는 사용자나 탈퇴한 사용자이면 null.
+	 */
+	public GetUserTokenInfoResponse get(String userEmail, Function<String, GetUserTokenInfoResponse> loader) {
+		if (!enabled) {
+			return loader.apply(userEmail);
+		}
+		Entry entry = cached(userEmail);
+		if (entry == null) {
+			entry = load(userEmail, loader);
+		}
+		return entry.user();
+	}
+
+	/**
+	 * {@link #get}과 같지만 캐시에 없으면 비동기로 조회하며, 조회를 기다리지 않고 반환합니다.
+	 *
+	 * @param userEmail 사용자 이메일.
+	 * @param loader 캐시에 없을 때 사용자 정보를 비동기로 조회하는 함수.
+	 * @return 사용자 정보로 완료되는 {@link CompletableFuture}. 없는 사용자나 탈퇴한 사용자이면 null 로 완료됩니다.
+	 */
+	public CompletableFuture<GetUserTokenInfoResponse> getAsync(String userEmail,
+		Function<String, CompletableFuture<GetUserTokenInfoResponse>> loader) {
+		if (!enabled) {
+			return loader.apply(userEmail);
+		}
+		Entry entry = cached(userEmail);
+		if (entry != null) {
+			return CompletableFuture.completedFuture(entry.user());
+		}
+		long epoch = invalidations.get();
+		long loadedAt = ticker.read();
+		return loader.apply(userEmail).thenApply(user -> store(userEmail, user, epoch, loadedAt).user());
+	}
+
+	/**
+	 * 모든 노드에서 사용자의 캐시 항목을 지웁니다. 비밀번호, 역할, 상태가 바뀌었을 때 호출합니다.
+	 *
+	 * @param userEmail 사용자 이메일.
+	 */
+	public void invalidate(String userEmail) {
+		invalidations.incrementAndGet();
+		cache.invalidate(userEmail);
+		try {
+			byte[] message = userEmail.getBytes(StandardCharsets.UTF_8);
+			redisTemplate.execute((RedisCallback<Long>)connection ->
+				connection.publish(CHANNEL.getBytes(StandardCharsets.UTF_8), message));
+		} catch (RuntimeException e) {
+			// 다른 노드는 최대 허용 지연 시간이 지나면 다시 조회합니다.
+			log.warn("Failed to publish user info invalidation", e);
+		}
+	}
+
+	/**
+	 * 이 노드에 보관된 모든 항목을 지웁니다.
+	 */
+	public void invalidateAll() {
+		invalidations.incrementAndGet();
+		cache.invalidateAll();
+	}
+
+	/**
+	 * 다른 노드에서 무효화한 사용자의 항목을 지웁니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		invalidations.incrementAndGet();
+		cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	long estimatedSize() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+	/**
+	 * 최대 허용 지연 시간이 지나지 않은 항목을 반환합니다.
+	 */
+	private Entry cached(String userEmail) {
+		Entry entry = cache.getIfPresent(userEmail);
+		if (entry != null && ticker.read() - entry.loadedAt() >= maxStalenessNanos) {
+			cache.asMap().remove(userEmail, entry);
+			return null;
+		}
+		if (entry != null && entry.user() == null) {
+			negativeHits.increment();
+		}
+		return entry;
+	}
+
+	/**
+	 * 캐시 잠금 밖에서 조회한 뒤, 조회하는 동안 무효화가 없었을 때만 보관합니다.
+	 * 무효화는 카운터를 먼저 올리고 항목을 지우므로, 무효화 전에 조회한 값이 무효화 뒤에 남지 않습니다.
+	 */
+	private Entry load(String userEmail, Function<String, GetUserTokenInfoResponse> loader) {
+		long epoch = invalidations.get();
+		long loadedAt = ticker.read();
+		return store(userEmail, loader.apply(userEmail), epoch, loadedAt);
+	}
+
+	private Entry store(String userEmail, GetUserTokenInfoResponse user, long epoch, long loadedAt) {
+		Entry loaded = new Entry(user == null || "WITHDRAW".equals(user.status()) ? null : user, loadedAt);
+		cache.asMap().compute(userEmail, (key, current) -> invalidations.get() == epoch ? loaded : current);
+		return loaded;
+	}
+
+	/**
+	 * 사용자 정보와 "없음" 항목에 각각의 만료 시간을 적용하는 {@link Expiry} 구현입니다. 읽어도 만료 시점은 늦춰지지 않습니다.
+	 */
+	private record UntilStale(long ttlNanos, long negativeTtlNanos) implements Expiry<String, Entry> {
+		@Override
+		public long expireAfterCreate(String key, Entry value, long currentTime) {
+			return value.user() == null ? negativeTtlNanos : ttlNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * @author 김태환
+ * 서명 검증을 마친 토큰의 파싱 결과를 보관하는 프로세스 내 캐시입니다.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 각 항목은 토큰의 만료 시각(exp)을 넘겨 보관되지 않습니다.
+ * 캐시 적중 시에는 HMAC 검증과 클레임 역직렬화를 모두 건너뜁니다.
+ */
+@Component
+public class VerifiedTokenCache {
+	private static final String CACHE_NAME = "jwt.verified-token";
+
+	private final Cache<ByteBuffer, ParsedToken> cache;
+	private final Clock clock;
+
+	/**
+	 * 검증 토큰 캐시를 초기화합니다.
+	 *
+	 * @param maxSize 캐시에 보관할 최대 토큰 수.
+	 * @param meterRegistry 적중/실패/축출 지표를 등록할 {@link MeterRegistry}.
+	 */
+	@Autowired
+	public VerifiedTokenCache(
+		@Value("${spring.jwt.cache.max-size:10000}") long maxSize, MeterRegistry meterRegistry
+	) {
+		this(maxSize, meterRegistry, Clock.systemUTC(), Ticker.systemTicker());
+	}
+
+	VerifiedTokenCache(long maxSize, MeterRegistry meterRegistry, Clock clock, Ticker ticker) {
+		this.clock = clock;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(new UntilTokenExpiry(clock))
+			.ticker(ticker)
+			.executor(Runnable::run)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * 캐시에서 토큰의 파싱 결과를 조회하고, 없으면 검증 후 유효한 결과만 캐시에 저장합니다.
+	 *
+	 * @param token JWT 토큰.
+	 * @param verifier 캐시에 없을 때 토큰을 검증하고 파싱하는 함수.
+	 * @return 토큰의 파싱 결과.
+	 */
+	public ParsedToken get(String token, Function<String, ParsedToken> verifier) {
+		ByteBuffer key = digest(token);
+		ParsedToken cached = cache.getIfPresent(key);
+		if (cached != null && cached.expiresAt() > clock.millis()) {
+			return cached;
+		}
+
+		ParsedToken parsedToken = verifier.apply(token);
+		if (parsedToken.isValid() && parsedToken.expiresAt() != null) {
+			cache.put(key, parsedToken);
+		}
+		return parsedToken;
+	}
+
+	/**
+	 * 캐시에 보관된 모든 항목을 제거합니다.
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	long estimatedSize() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+	private static ByteBuffer digest(String token) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 항목의 만료 시점을 토큰의 exp 클레임에 맞추는 {@link Expiry} 구현입니다.
+	 */
+	private record UntilTokenExpiry(Clock clock) implements Expiry<ByteBuffer, ParsedToken> {
+		@Override
+		public long expireAfterCreate(ByteBuffer key, ParsedToken value, long currentTime) {
+			long remainingMillis = Math.max(0L, value.expiresAt() - clock.millis());
+			return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+		}
+
+		@Override
+		public long expireAfterUpdate(ByteBuffer key, ParsedToken value, long currentTime,
+			long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(ByteBuffer key, ParsedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
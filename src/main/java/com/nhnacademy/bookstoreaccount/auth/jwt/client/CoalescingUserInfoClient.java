@@ -0,0 +1,127 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.cache.SingleFlight;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetPaycoUserTokenInfoResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @author 김태환
+ * 같은 사용자에 대한 동시 조회를 하나의 {@link UserInfoClient} 호출로 합칩니다.
+ * 로그인 재시도나 중복 클릭으로 같은 이메일이나 Payco ID를 동시에 조회하면, 먼저 들어온 요청만 사용자 서비스를 호출하고
+ * 나머지 요청은 그 결과나 예외를 함께 받습니다. 합쳐진 호출 수는 "jwt.user-info.client.coalesced" 지표로 집계합니다.
+ * 서로 다른 이메일의 조회는 {@link UserInfoBatcher}가 활성화되어 있으면 일괄 조회로 모읍니다.
+ * <p>
+ * Feign 호출은 블로킹이므로, 비동기 조회는 크기가 정해진 조회 전용 스레드 풀에서 호출합니다. 요청 스레드는 기다리지 않으며,
+ * 조회 스레드는 캐시와 요청 병합을 거친 뒤에 남은 호출만 맡으므로 적은 수로 충분합니다.
+ * 리액티브 서버에서는 {@link ReactiveUserInfoClient}가 등록되므로, 비동기 조회는 조회 스레드 없이 논블로킹 클라이언트로 보냅니다.
+ */
+@Component
+public class CoalescingUserInfoClient implements AutoCloseable {
+	private static final String METRIC_NAME = "jwt.user-info.client";
+
+	private final UserInfoClient userInfoClient;
+	private final UserInfoBatcher userInfoBatcher;
+	private final ReactiveUserInfoClient reactiveUserInfoClient;
+	private final SingleFlight<String, GetUserTokenInfoResponse> byEmail;
+	private final SingleFlight<String, ResponseEntity<GetPaycoUserTokenInfoResponse>> byPaycoId;
+	private final ThreadPoolExecutor lookupExecutor;
+
+	/**
+	 * @param userInfoClient 사용자 서비스를 호출할 {@link UserInfoClient}.
+	 * @param userInfoBatcher 이메일 조회를 모아 보낼 {@link UserInfoBatcher}.
+	 * @param reactiveUserInfoClient 등록되어 있으면 비동기 조회에 사용할 {@link ReactiveUserInfoClient}.
+	 * @param lookupThreads 비동기 조회를 실행하는 스레드 수.
+	 * @param lookupQueueCapacity 조회 스레드를 기다릴 수 있는 최대 조회 수. 넘치면 조회가 실패합니다.
+	 * @param meterRegistry 지표를 등록할 {@link MeterRegistry}.
+	 */
+	public CoalescingUserInfoClient(
+		UserInfoClient userInfoClient,
+		UserInfoBatcher userInfoBatcher,
+		ObjectProvider<ReactiveUserInfoClient> reactiveUserInfoClient,
+		@Value("${spring.jwt.async-login.lookup-threads:16}") int lookupThreads,
+		@Value("${spring.jwt.async-login.lookup-queue-capacity:256}") int lookupQueueCapacity,
+		MeterRegistry meterRegistry
+	) {
+		this.userInfoClient = userInfoClient;
+		this.userInfoBatcher = userInfoBatcher;
+		this.reactiveUserInfoClient = reactiveUserInfoClient.getIfAvailable();
+		this.byEmail = new SingleFlight<>(METRIC_NAME, "by-email", meterRegistry);
+		this.byPaycoId = new SingleFlight<>(METRIC_NAME, "by-payco-id", meterRegistry);
+		AtomicInteger threadCount = new AtomicInteger();
+		this.lookupExecutor = new ThreadPoolExecutor(lookupThreads, lookupThreads, 0, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(lookupQueueCapacity), runnable -> {
+				Thread thread = new Thread(runnable, "user-info-lookup-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		Gauge.builder(METRIC_NAME + ".lookup.queue", lookupExecutor, pool -> pool.getQueue().size())
+			.description("Asynchronous user lookups waiting for a lookup thread")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * @param userEmail 사용자 이메일.
+	 * @return 사용자 정보. {@link UserInfoClient#getUserInfoByEmail(String)}와 같습니다.
+	 */
+	public GetUserTokenInfoResponse getUserInfoByEmail(String userEmail) {
+		return byEmail.execute(userEmail, userInfoBatcher::getUserInfoByEmail);
+	}
+
+	/**
+	 * 조회 스레드에서 사용자 정보를 조회합니다. 같은 이메일의 동기 조회와도 합쳐집니다.
+	 * {@link ReactiveUserInfoClient}가 있으면 조회 스레드와 일괄 조회를 거치지 않고 바로 보냅니다.
+	 *
+	 * @param userEmail 사용자 이메일.
+	 * @return 사용자 정보로 완료되는 {@link CompletableFuture}. 조회 대기열이 가득 차면
+	 *         {@link java.util.concurrent.RejectedExecutionException}으로 완료됩니다.
+	 */
+	public CompletableFuture<GetUserTokenInfoResponse> getUserInfoByEmailAsync(String userEmail) {
+		if (reactiveUserInfoClient != null) {
+			return byEmail.executeAsync(userEmail, email -> reactiveUserInfoClient.getUserInfoByEmail(email).toFuture());
+		}
+		return byEmail.executeAsync(userEmail,
+			email -> CompletableFuture.supplyAsync(() -> userInfoBatcher.getUserInfoByEmail(email), lookupExecutor));
+	}
+
+	/**
+	 * @param paycoIdNo Payco 사용자 ID.
+	 * @return Payco 사용자 정보. {@link UserInfoClient#getUserInfoByPaycoId(String)}와 같습니다.
+	 */
+	public ResponseEntity<GetPaycoUserTokenInfoResponse> getUserInfoByPaycoId(String paycoIdNo) {
+		return byPaycoId.execute(paycoIdNo, userInfoClient::getUserInfoByPaycoId);
+	}
+
+	/**
+	 * {@link #getUserInfoByEmailAsync}와 같은 방법으로 Payco 사용자 정보를 조회합니다.
+	 *
+	 * @param paycoIdNo Payco 사용자 ID.
+	 * @return Payco 사용자 정보로 완료되는 {@link CompletableFuture}.
+	 */
+	public CompletableFuture<ResponseEntity<GetPaycoUserTokenInfoResponse>> getUserInfoByPaycoIdAsync(
+		String paycoIdNo) {
+		if (reactiveUserInfoClient != null) {
+			return byPaycoId.executeAsync(paycoIdNo, id -> reactiveUserInfoClient.getUserInfoByPaycoId(id).toFuture());
+		}
+		return byPaycoId.executeAsync(paycoIdNo,
+			id -> CompletableFuture.supplyAsync(() -> userInfoClient.getUserInfoByPaycoId(id), lookupExecutor));
+	}
+
+	@Override
+	public void close() {
+		lookupExecutor.shutdownNow();
+	}
+}
@@ -0,0 +1,178 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @author 김태환
+ * 응답이 늦은 GET 요청을 한 번 더 보내고 먼저 도착한 응답을 사용하는 Feign {@link Client}입니다.
+ * 첫 요청이 지연 시간 안에 끝나지 않으면 같은 요청을 다시 보내며, 늦게 도착한 응답은 닫아 연결을 풀에 돌려줍니다.
+ * 사용자 서비스가 전체적으로 느려졌을 때 요청이 두 배로 늘지 않도록 동시에 보내는 추가 요청 수를 제한하고,
+ * 멱등하지 않은 요청과 전송 스레드가 모자란 요청은 추가 요청 없이 그대로 보냅니다.
+ * <p>
+ * 비활성화하면 모든 요청을 호출한 스레드에서 그대로 보냅니다.
+ */
+public class HedgingClient implements Client, AutoCloseable {
+	private final Client delegate;
+	private final boolean enabled;
+	private final long delayNanos;
+	private final Semaphore hedges;
+	private final ThreadPoolExecutor executor;
+	private final Counter sent;
+	private final Counter won;
+
+	/**
+	 * @param delegate 실제로 요청을 보내는 {@link Client}.
+	 * @param enabled false 이면 추가 요청을 보내지 않습니다.
+	 * @param delay 추가 요청을 보내기 전에 첫 응답을 기다리는 시간. 평소 응답 시간의 상위 백분위수로 설정합니다.
+	 * @param maxHedges 동시에 보낼 수 있는 최대 추가 요청 수.
+	 * @param maxThreads 요청을 보내는 최대 스레드 수.
+	 * @param meterRegistry 추가 요청 지표를 등록할 {@link MeterRegistry}.
+	 */
+	public HedgingClient(Client delegate, boolean enabled, Duration delay, int maxHedges, int maxThreads,
+		MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.enabled = enabled;
+		this.delayNanos = delay.toNanos();
+		this.hedges = new Semaphore(maxHedges);
+		AtomicInteger threads = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+			runnable -> {
+				Thread thread = new Thread(runnable, "user-info-http-" + threads.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		this.sent = Counter.builder("jwt.user-info.http.hedges")
+			.description("Hedged requests sent after the first response was late")
+			.tag("result", "sent")
+			.register(meterRegistry);
+		this.won = Counter.builder("jwt.user-info.http.hedges")
+			.description("Hedged requests that answered before the first request")
+			.tag("result", "won")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) throws IOException {
+		if (!enabled || request.httpMethod() != Request.HttpMethod.GET) {
+			return delegate.execute(request, options);
+		}
+
+		CompletableFuture<Response> primary;
+		try {
+			primary = send(request, options);
+		} catch (RejectedExecutionException e) {
+			return delegate.execute(request, options);
+		}
+		Response first = await(primary, delayNanos);
+		if (first != null) {
+			return first;
+		}
+
+		if (!hedges.tryAcquire()) {
+			return await(primary);
+		}
+		CompletableFuture<Response> hedge;
+		try {
+			hedge = send(request, options);
+		} catch (RejectedExecutionException e) {
+			hedges.release();
+			return await(primary);
+		}
+		hedge.whenComplete((response, error) -> hedges.release());
+		sent.increment();
+
+		Response response = await(firstSuccess(primary, hedge));
+		if (hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.join() == response) {
+			won.increment();
+		}
+		return response;
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private CompletableFuture<Response> send(Request request, Request.Options options) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return delegate.execute(request, options);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, executor);
+	}
+
+	/**
+	 * 먼저 성공한 응답으로 완료되고, 두 요청이 모두 실패하면 나중 예외로 실패합니다. 쓰이지 않은 응답은 닫습니다.
+	 */
+	private static CompletableFuture<Response> firstSuccess(CompletableFuture<Response> first,
+		CompletableFuture<Response> second) {
+		CompletableFuture<Response> result = new CompletableFuture<>();
+		AtomicInteger failures = new AtomicInteger();
+		BiConsumer<Response, Throwable> onComplete = (response, error) -> {
+			if (error == null) {
+				if (!result.complete(response)) {
+					response.close();
+				}
+			} else if (failures.incrementAndGet() == 2) {
+				result.completeExceptionally(
+					error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+			}
+		};
+		first.whenComplete(onComplete);
+		second.whenComplete(onComplete);
+		return result;
+	}
+
+	private static Response await(CompletableFuture<Response> response) throws IOException {
+		return await(response, Long.MAX_VALUE);
+	}
+
+	/**
+	 * @return 응답. 대기 시간 안에 끝나지 않으면 null.
+	 */
+	private static Response await(CompletableFuture<Response> response, long timeoutNanos) throws IOException {
+		try {
+			return response.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			response.thenAccept(Response::close);
+			throw new InterruptedIOException("Interrupted while waiting for the user service");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof UncheckedIOException io) {
+				throw io.getCause();
+			}
+			if (cause instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IOException(cause);
+		}
+	}
+}
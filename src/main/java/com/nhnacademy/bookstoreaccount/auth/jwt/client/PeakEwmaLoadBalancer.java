@@ -0,0 +1,256 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author 김태환
+ * 최근 응답 시간과 처리 중인 요청 수로 인스턴스를 고르는 Peak-EWMA 로드 밸런서입니다.
+ * 인스턴스의 비용은 응답 시간의 지수 가중 이동 평균에 (처리 중인 요청 수 + 1) 을 곱한 값이며,
+ * 평균보다 느린 응답은 바로 평균이 되어 느려진 인스턴스를 즉시 피합니다. 평균은 시간이 지나면 0 으로 줄어들어 다시 시도됩니다.
+ * 무작위로 고른 두 인스턴스 중 비용이 낮은 쪽을 선택하여, 모든 요청이 한 인스턴스로 몰리지 않게 합니다.
+ * <p>
+ * 연속으로 실패 (예외나 5xx 응답) 한 인스턴스는 일정 시간 동안 후보에서 제외합니다.
+ * 모든 인스턴스가 제외되면 전체 인스턴스에서 고릅니다.
+ * 응답 시간과 실패는 {@link LoadBalancerLifecycle} 콜백으로 전달받습니다.
+ */
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+	LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+	/**
+	 * 응답 시간을 아직 모르는 인스턴스에 요청이 몰리지 않도록, 처리 중인 요청이 있으면 더하는 비용입니다.
+	 */
+	private static final double PENALTY_NANOS = Duration.ofSeconds(10).toNanos();
+
+	private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSuppliers;
+	private final double decayNanos;
+	private final int failureThreshold;
+	private final long ejectionNanos;
+	private final LongSupplier nanoTime;
+	private final Counter ejections;
+	private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+	/**
+	 * @param serviceInstanceListSuppliers 인스턴스 목록을 제공하는 {@link ServiceInstanceListSupplier}.
+	 * @param serviceId 서비스 ID.
+	 * @param decay 응답 시간 평균이 반영하는 시간. 이 시간이 지나면 이전 응답 시간의 가중치가 1/e 로 줄어듭니다.
+	 * @param failureThreshold 인스턴스를 제외하는 연속 실패 횟수.
+	 * @param ejection 인스턴스를 제외하는 시간.
+	 * @param meterRegistry 제외 지표를 등록할 {@link MeterRegistry}.
+	 */
+	public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSuppliers,
+		String serviceId, Duration decay, int failureThreshold, Duration ejection, MeterRegistry meterRegistry) {
+		this(serviceInstanceListSuppliers, serviceId, decay, failureThreshold, ejection, meterRegistry,
+			System::nanoTime);
+	}
+
+	PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSuppliers,
+		String serviceId, Duration decay, int failureThreshold, Duration ejection, MeterRegistry meterRegistry,
+		LongSupplier nanoTime) {
+		this.serviceInstanceListSuppliers = serviceInstanceListSuppliers;
+		this.decayNanos = decay.toNanos();
+		this.failureThreshold = failureThreshold;
+		this.ejectionNanos = ejection.toNanos();
+		this.nanoTime = nanoTime;
+		this.ejections = Counter.builder("jwt.user-info.lb.ejections")
+			.description("Instances temporarily ejected after consecutive failures")
+			.tag("service", serviceId)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<Response<ServiceInstance>> choose(Request request) {
+		ServiceInstanceListSupplier supplier = serviceInstanceListSuppliers.getIfAvailable(
+			NoopServiceInstanceListSupplier::new);
+		return supplier.get(request).next().map(this::choose);
+	}
+
+	@Override
+	public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+		return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+	}
+
+	@Override
+	public void onStart(Request<Object> request) {
+	}
+
+	@Override
+	public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+		if (!lbResponse.hasServer()) {
+			return;
+		}
+		if (request.getContext() instanceof TimedRequestContext context) {
+			context.setRequestStartTime(nanoTime.getAsLong());
+		}
+		stats(lbResponse.getServer()).inFlight.incrementAndGet();
+	}
+
+	@Override
+	public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+		if (completionContext.status() == CompletionContext.Status.DISCARD || lbResponse == null
+			|| !lbResponse.hasServer()) {
+			return;
+		}
+		long now = nanoTime.getAsLong();
+		Stats instance = stats(lbResponse.getServer());
+		instance.inFlight.decrementAndGet();
+		if (completionContext.getLoadBalancerRequest() != null
+			&& completionContext.getLoadBalancerRequest().getContext() instanceof TimedRequestContext context
+			&& context.getRequestStartTime() != 0) {
+			instance.observe(now - context.getRequestStartTime(), now);
+		}
+		if (isFailure(completionContext)) {
+			if (instance.fail(now)) {
+				ejections.increment();
+			}
+		} else {
+			instance.succeed();
+		}
+	}
+
+	private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+		if (instances.isEmpty()) {
+			return new EmptyResponse();
+		}
+		long now = nanoTime.getAsLong();
+		List<ServiceInstance> candidates = new ArrayList<>(instances.size());
+		for (ServiceInstance instance : instances) {
+			if (!stats(instance).isEjected(now)) {
+				candidates.add(instance);
+			}
+		}
+		if (candidates.isEmpty()) {
+			candidates = instances;
+		}
+		if (candidates.size() == 1) {
+			return new DefaultResponse(candidates.get(0));
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int first = random.nextInt(candidates.size());
+		int second = random.nextInt(candidates.size() - 1);
+		if (second >= first) {
+			second++;
+		}
+		ServiceInstance a = candidates.get(first);
+		ServiceInstance b = candidates.get(second);
+		return new DefaultResponse(stats(a).cost(now) <= stats(b).cost(now) ? a : b);
+	}
+
+	private Stats stats(ServiceInstance instance) {
+		return stats.computeIfAbsent(instance.getHost() + ":" + instance.getPort(), key -> new Stats());
+	}
+
+	private static boolean isFailure(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		if (completionContext.status() == CompletionContext.Status.FAILED) {
+			return true;
+		}
+		return completionContext.getClientResponse() instanceof ResponseData response
+			&& response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError();
+	}
+
+	/**
+	 * 인스턴스 하나의 응답 시간 평균, 처리 중인 요청 수와 연속 실패 횟수입니다.
+	 */
+	private final class Stats {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private double ewmaNanos;
+		private long updatedAt = nanoTime.getAsLong();
+		private int consecutiveFailures;
+		private boolean ejected;
+		private long ejectedUntil;
+
+		/**
+		 * 평균보다 느린 응답은 바로 평균이 되고, 빠른 응답은 마지막 갱신 이후 지난 시간만큼 가중치를 받아 반영됩니다.
+		 */
+		private void observe(long rttNanos, long now) {
+			lock.lock();
+			try {
+				double weight = Math.exp(-Math.max(now - updatedAt, 0) / decayNanos);
+				updatedAt = now;
+				ewmaNanos = rttNanos > ewmaNanos ? rttNanos : ewmaNanos * weight + rttNanos * (1 - weight);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * 응답이 없던 시간만큼 평균을 0 쪽으로 줄인 뒤 비용을 계산합니다.
+		 */
+		private double cost(long now) {
+			lock.lock();
+			try {
+				observe(0, now);
+				int pending = Math.max(inFlight.get(), 0);
+				if (ewmaNanos == 0 && pending > 0) {
+					return PENALTY_NANOS + pending;
+				}
+				return ewmaNanos * (pending + 1);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * @return 이번 실패로 인스턴스를 제외했으면 true.
+		 */
+		private boolean fail(long now) {
+			lock.lock();
+			try {
+				if (++consecutiveFailures < failureThreshold) {
+					return false;
+				}
+				consecutiveFailures = 0;
+				ejected = true;
+				ejectedUntil = now + ejectionNanos;
+				return true;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void succeed() {
+			lock.lock();
+			try {
+				consecutiveFailures = 0;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private boolean isEjected(long now) {
+			lock.lock();
+			try {
+				return ejected && now - ejectedUntil < 0;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
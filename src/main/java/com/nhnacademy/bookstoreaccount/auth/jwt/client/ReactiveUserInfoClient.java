@@ -0,0 +1,52 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetPaycoUserTokenInfoResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * @author 김태환
+ * {@link UserInfoClient}와 같은 사용자 서비스 API 를 {@link WebClient}로 호출하는 논블로킹 클라이언트입니다.
+ * 리액티브 서버에서만 등록되며, 로드 밸런싱된 {@link WebClient}를 사용하므로 Feign 호출과 같은 {@link PeakEwmaLoadBalancer}로
+ * 인스턴스를 고르고 응답 시간을 반영합니다. 응답 상태가 2xx 가 아니면 Feign 과 같이 예외({@link WebClientResponseException})로 실패합니다.
+ */
+public class ReactiveUserInfoClient {
+	private final WebClient webClient;
+
+	/**
+	 * @param webClient 사용자 서비스를 기본 URL 로 가진 로드 밸런싱된 {@link WebClient}.
+	 */
+	public ReactiveUserInfoClient(WebClient webClient) {
+		this.webClient = webClient;
+	}
+
+	/**
+	 * @param userEmail 사용자 이메일.
+	 * @return 사용자 정보를 내보내는 {@link Mono}. 응답 본문이 없으면 비어 있습니다.
+	 */
+	public Mono<GetUserTokenInfoResponse> getUserInfoByEmail(String userEmail) {
+		return webClient.get()
+			.uri("/api/internal/users/info")
+			.header("X-User-Email", userEmail)
+			.retrieve()
+			.bodyToMono(GetUserTokenInfoResponse.class);
+	}
+
+	/**
+	 * @param paycoIdNo Payco 사용자 ID.
+	 * @return Payco 사용자 정보 응답을 내보내는 {@link Mono}.
+	 */
+	public Mono<ResponseEntity<GetPaycoUserTokenInfoResponse>> getUserInfoByPaycoId(String paycoIdNo) {
+		return webClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/api/internal/users/info-by-payco-id")
+				.queryParam("paycoIdNo", paycoIdNo)
+				.build())
+			.retrieve()
+			.toEntity(GetPaycoUserTokenInfoResponse.class);
+	}
+}
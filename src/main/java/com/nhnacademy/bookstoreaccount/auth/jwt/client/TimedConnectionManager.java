@@ -0,0 +1,94 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * @author 김태환
+ * 커넥션 풀에서 연결을 얻기까지 기다린 시간을 "jwt.user-info.http.connection.wait" 지표로 기록하는 {@link HttpClientConnectionManager}입니다.
+ * 풀이 부족하면 요청이 연결을 기다리는 시간이 늘어나므로, 풀 크기를 정할 때 풀 사용량 지표와 함께 봅니다.
+ * 연결을 얻지 못하고 대기 시간이 끝난 요청은 result=timeout 으로 기록합니다.
+ */
+public class TimedConnectionManager implements HttpClientConnectionManager {
+	private final HttpClientConnectionManager delegate;
+	private final Timer acquired;
+	private final Timer timedOut;
+
+	public TimedConnectionManager(HttpClientConnectionManager delegate, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.acquired = waitTimer("acquired", meterRegistry);
+		this.timedOut = waitTimer("timeout", meterRegistry);
+	}
+
+	@Override
+	public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+		long startedAt = System.nanoTime();
+		LeaseRequest leaseRequest = delegate.lease(id, route, requestTimeout, state);
+		return new LeaseRequest() {
+			@Override
+			public ConnectionEndpoint get(Timeout timeout)
+				throws InterruptedException, ExecutionException, TimeoutException {
+				try {
+					ConnectionEndpoint endpoint = leaseRequest.get(timeout);
+					acquired.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+					return endpoint;
+				} catch (TimeoutException e) {
+					timedOut.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+					throw e;
+				}
+			}
+
+			@Override
+			public boolean cancel() {
+				return leaseRequest.cancel();
+			}
+		};
+	}
+
+	@Override
+	public void release(ConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+		delegate.release(endpoint, newState, validDuration);
+	}
+
+	@Override
+	public void connect(ConnectionEndpoint endpoint, TimeValue connectTimeout, HttpContext context)
+		throws IOException {
+		delegate.connect(endpoint, connectTimeout, context);
+	}
+
+	@Override
+	public void upgrade(ConnectionEndpoint endpoint, HttpContext context) throws IOException {
+		delegate.upgrade(endpoint, context);
+	}
+
+	@Override
+	public void close(CloseMode closeMode) {
+		delegate.close(closeMode);
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	private static Timer waitTimer(String result, MeterRegistry meterRegistry) {
+		return Timer.builder("jwt.user-info.http.connection.wait")
+			.description("Time spent waiting for a pooled connection to the user service")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,155 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @author 김태환
+ * 짧은 시간 동안 들어온 이메일 조회를 모아 사용자 서비스의 일괄 조회 API 한 번으로 보냅니다.
+ * 배치를 연 첫 요청이 대기 시간이 지나거나 배치가 가득 찰 때까지 기다린 뒤 자신의 스레드에서 배치를 보내고,
+ * 같은 배치의 나머지 요청은 각자의 결과를 받을 때까지 기다립니다. 따라서 별도의 전송 스레드가 필요하지 않습니다.
+ * <p>
+ * 일괄 조회 응답에 없는 이메일은 없는 사용자로 처리하며, 일괄 조회가 실패하면 배치의 모든 요청이 같은 예외를 받습니다.
+ * 비활성화하면 매번 {@link UserInfoClient#getUserInfoByEmail(String)}를 호출합니다.
+ * 동시에 들어온 조회가 모두 배치를 여닫는 잠금을 두고 경합합니다. JDK 21 에서는 경합하는 synchronized 가 가상 스레드를
+ * 캐리어 스레드에 고정하므로 {@link ReentrantLock}을 사용합니다.
+ */
+@Component
+public class UserInfoBatcher {
+	private final UserInfoClient userInfoClient;
+	private final boolean enabled;
+	private final long windowNanos;
+	private final int maxSize;
+	private final DistributionSummary batchSizes;
+	private final ReentrantLock lock = new ReentrantLock();
+	private Batch current;
+
+	/**
+	 * @param userInfoClient 일괄 조회 API를 호출할 {@link UserInfoClient}.
+	 * @param enabled false 이면 모으지 않고 매번 조회합니다.
+	 * @param window 배치를 연 요청이 다른 요청을 기다리는 최대 시간.
+	 * @param maxSize 한 배치에 담을 최대 이메일 수. 가득 차면 바로 보냅니다.
+	 * @param meterRegistry 배치 크기 지표를 등록할 {@link MeterRegistry}.
+	 */
+	public UserInfoBatcher(
+		UserInfoClient userInfoClient,
+		@Value("${spring.jwt.user-info-batch.enabled:false}") boolean enabled,
+		@Value("${spring.jwt.user-info-batch.window:2ms}") Duration window,
+		@Value("${spring.jwt.user-info-batch.max-size:64}") int maxSize,
+		MeterRegistry meterRegistry
+	) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("max-size must be positive: " + maxSize);
+		}
+		this.userInfoClient = userInfoClient;
+		this.enabled = enabled;
+		this.windowNanos = window.toNanos();
+		this.maxSize = maxSize;
+		this.batchSizes = DistributionSummary.builder("jwt.user-info.batch.size")
+			.description("Distinct emails per batch lookup")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 이메일로 사용자 정보를 조회합니다. 활성화되어 있으면 다른 요청과 함께 일괄 조회합니다.
+	 *
+	 * @param userEmail 사용자 이메일.
+	 * @return 사용자 정보. 없는 사용자이면 null.
+	 */
+	public GetUserTokenInfoResponse getUserInfoByEmail(String userEmail) {
+		if (!enabled) {
+			return userInfoClient.getUserInfoByEmail(userEmail);
+		}
+
+		Batch batch;
+		boolean leader;
+		CompletableFuture<GetUserTokenInfoResponse> result;
+		lock.lock();
+		try {
+			leader = current == null;
+			if (leader) {
+				current = new Batch();
+			}
+			batch = current;
+			result = batch.results.computeIfAbsent(userEmail, email -> new CompletableFuture<>());
+			if (batch.results.size() >= maxSize) {
+				current = null;
+				batch.full.countDown();
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (leader) {
+			awaitFull(batch);
+			lock.lock();
+			try {
+				if (current == batch) {
+					current = null;
+				}
+			} finally {
+				lock.unlock();
+			}
+			send(batch);
+		}
+		return join(result);
+	}
+
+	private void awaitFull(Batch batch) {
+		try {
+			batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			// 기다리는 다른 요청이 있으므로 바로 보냅니다.
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 닫힌 배치를 보냅니다. 배치는 잠금 안에서만 바뀌고 닫힌 뒤에는 바뀌지 않으므로 잠금 없이 읽습니다.
+	 */
+	private void send(Batch batch) {
+		batchSizes.record(batch.results.size());
+		try {
+			Map<String, GetUserTokenInfoResponse> users =
+				userInfoClient.getUserInfosByEmail(new ArrayList<>(batch.results.keySet()));
+			batch.results.forEach((email, result) -> result.complete(users == null ? null : users.get(email)));
+		} catch (RuntimeException | Error e) {
+			batch.results.values().forEach(result -> result.completeExceptionally(e));
+			throw e;
+		}
+	}
+
+	private static GetUserTokenInfoResponse join(CompletableFuture<GetUserTokenInfoResponse> result) {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static final class Batch {
+		private final Map<String, CompletableFuture<GetUserTokenInfoResponse>> results = new LinkedHashMap<>();
+		private final CountDownLatch full = new CountDownLatch(1);
+	}
+}
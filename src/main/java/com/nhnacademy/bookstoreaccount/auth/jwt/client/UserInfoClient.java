@@ -1,19 +1,30 @@
 package com.nhnacademy.bookstoreaccount.auth.jwt.client;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetPaycoUserTokenInfoResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
 
-@FeignClient(name="UserInfoService", url="http://localhost:8083")
+@FeignClient(name = "${spring.jwt.user-info.service-id:UserInfoService}", contextId = "UserInfoService")
 public interface UserInfoClient {
 	@GetMapping("/api/internal/users/info")
 	GetUserTokenInfoResponse getUserInfoByEmail(@RequestHeader("X-User-Email") String userEmail);
 
+	@PostMapping("/api/internal/users/info/batch")
+	Map<String, GetUserTokenInfoResponse> getUserInfosByEmail(@RequestBody List<String> userEmails);
+
 	@GetMapping("/api/internal/users/info-by-payco-id")
 	ResponseEntity<GetPaycoUserTokenInfoResponse> getUserInfoByPaycoId(@RequestParam("paycoIdNo") String paycoIdNo);
+
+	@GetMapping("/api/internal/users/ids")
+	List<Long> getUserIdsByRole(@RequestParam("role") String role);
 }
@@ -1,25 +1,33 @@
 package com.nhnacademy.bookstoreaccount.auth.jwt.controller;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.LoginRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.ReissueTokenRequest;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.PaycoLoginResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.ReissueTokensResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.DeviceIds;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.InternalApiAuthenticator;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -32,8 +40,10 @@ import lombok.RequiredArgsConstructor;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class AuthController {
 	private final AuthService authService;
+	private final InternalApiAuthenticator internalApiAuthenticator;
 
 	/**
 	 * 토큰으로부터 사용자 정보 조회
@@ -53,8 +63,56 @@ public class AuthController {
 	}
 
 	/**
-	 * 토큰 재발급
+	 * 로그인한 기기 목록 조회
+	 * @param request HttpServletRequest
+	 * @return 기기별 세션 목록
+	 */
+	@Operation(
+			summary = "로그인한 기기 목록 조회",
+			description = "Access Token의 사용자가 로그인한 기기와 각 세션의 만료 시각을 조회합니다."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "기기 목록을 성공적으로 조회했습니다."),
+			@ApiResponse(responseCode = "401", description = "Access Token이 없거나 유효하지 않습니다."),
+	})
+	@GetMapping("/sessions")
+	public ResponseEntity<List<DeviceSession>> getSessions(HttpServletRequest request) {
+		List<DeviceSession> sessions = authService.getSessions(request);
+		if (sessions == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
+		}
+
+		return ResponseEntity.status(HttpStatus.OK).body(sessions);
+	}
+
+	/**
+	 * 사용자 정보 캐시 무효화
+	 * @param userEmail 사용자 이메일
+	 * @param internalApiSecret 내부 서비스 인증 값
+	 * @return 무효화 성공 또는 인증 실패
+	 */
+	@Operation(
+			summary = "사용자 정보 캐시 무효화",
+			description = "사용자 서비스에서 비밀번호, 역할, 상태가 바뀌었을 때 로그인용 사용자 정보 캐시를 모든 노드에서 지웁니다."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "204", description = "캐시를 성공적으로 무효화했습니다."),
+			@ApiResponse(responseCode = "401", description = "내부 서비스 인증 값이 없거나 올바르지 않습니다."),
+	})
+	@DeleteMapping("/internal/user-cache")
+	public ResponseEntity<Void> invalidateUserInfo(@RequestHeader("X-User-Email") String userEmail,
+			@RequestHeader(value = InternalApiAuthenticator.HEADER, required = false) String internalApiSecret) {
+		if (!internalApiAuthenticator.isAuthorized(internalApiSecret)) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+		authService.invalidateUserInfo(userEmail);
+		return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+	}
+
+	/**
+	 * 토큰 재발급. 리프레시 토큰 교체를 기다리는 동안 요청 스레드를 반환합니다.
 	 * @param reissueTokenRequest Refresh Token
+	 * @param deviceId 기기 ID
 	 * @return 토큰 재발급 응답
 	 */
 	@Operation(
@@ -66,21 +124,23 @@ public class AuthController {
 			@ApiResponse(responseCode = "400", description = "Refresh Token이 유효하지 않습니다."),
 	})
 	@PostMapping("/reissue-with-refresh-token")
-	public ResponseEntity<ReissueTokensResponse> reissueTokensWithRefreshToken(
-		@RequestBody ReissueTokenRequest reissueTokenRequest) {
-		ReissueTokensResponse reissuedTokens = authService.reissueTokensWithRefreshToken(
-			reissueTokenRequest.refreshToken()
-		);
-		if (reissuedTokens == null) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
-		}
+	public CompletableFuture<ResponseEntity<ReissueTokensResponse>> reissueTokensWithRefreshToken(
+		@RequestBody ReissueTokenRequest reissueTokenRequest,
+		@RequestHeader(value = DeviceIds.HEADER, required = false) String deviceId) {
+		return authService.reissueTokensWithRefreshTokenAsync(reissueTokenRequest.refreshToken(), deviceId)
+			.thenApply(reissuedTokens -> {
+				if (reissuedTokens == null) {
+					return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+				}
 
-		return ResponseEntity.status(HttpStatus.CREATED).body(reissuedTokens);
+				return ResponseEntity.status(HttpStatus.CREATED).body(reissuedTokens);
+			});
 	}
 
 	/**
 	 * Payco 사용자 토큰 발급
 	 * @param paycoIdNo Payco 사용자 ID
+	 * @param deviceId 기기 ID
 	 * @return Payco 사용자 토큰 발급 응답
 	 */
 	@Operation(
@@ -92,8 +152,9 @@ public class AuthController {
 			@ApiResponse(responseCode = "400", description = "Payco 사용자 정보가 없거나 유효하지 않습니다."),
 	})
 	@PostMapping("/tokens-for-payco-user")
-	public ResponseEntity<PaycoLoginResponse> getTokensForPaycoUser(@RequestParam String paycoIdNo) {
-		PaycoLoginResponse paycoUserTokens = authService.getTokensForPaycoUser(paycoIdNo);
+	public ResponseEntity<PaycoLoginResponse> getTokensForPaycoUser(@RequestParam String paycoIdNo,
+		@RequestHeader(value = DeviceIds.HEADER, required = false) String deviceId) {
+		PaycoLoginResponse paycoUserTokens = authService.getTokensForPaycoUser(paycoIdNo, deviceId);
 		if (paycoUserTokens == null) {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
 		}
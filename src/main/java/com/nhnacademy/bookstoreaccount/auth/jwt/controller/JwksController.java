@@ -0,0 +1,80 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.controller;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author 김태환
+ * 게이트웨이와 다른 서비스가 토큰을 직접 검증할 수 있도록 공개 키(JWKS)를 제공하는 컨트롤러입니다.
+ */
+@Tag(name = "JWKS", description = "토큰 검증용 공개 키 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth")
+public class JwksController {
+	private static final MediaType JWK_SET_JSON = MediaType.parseMediaType("application/jwk-set+json");
+
+	private final JwtUtils jwtUtils;
+	private final ObjectMapper objectMapper;
+
+	@Setter
+	@Value("${spring.jwt.jwks.max-age:300}")
+	private Long maxAgeSeconds;
+
+	/**
+	 * 공개 키 목록 조회
+	 * 응답에는 Cache-Control 과 ETag 가 포함되며, If-None-Match 가 일치하면 304 를 반환합니다.
+	 * @return JWK Set 응답
+	 * @throws JsonProcessingException JWK Set 직렬화에 실패한 경우
+	 */
+	@Operation(
+			summary = "공개 키 목록 조회",
+			description = "토큰 서명 검증에 사용할 공개 키를 JWK Set 형식으로 조회합니다. HMAC 서명 모드에서는 빈 목록을 반환합니다."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "공개 키 목록을 성공적으로 조회했습니다."),
+			@ApiResponse(responseCode = "304", description = "공개 키 목록이 변경되지 않았습니다."),
+	})
+	@GetMapping("/.well-known/jwks.json")
+	public ResponseEntity<Map<String, List<Map<String, Object>>>> getJwks() throws JsonProcessingException {
+		Map<String, List<Map<String, Object>>> jwks = Map.of("keys", jwtUtils.getPublicJwks());
+		String eTag = "\"" + sha256Hex(objectMapper.writeValueAsBytes(jwks)) + "\"";
+
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+			.eTag(eTag)
+			.contentType(JWK_SET_JSON)
+			.body(jwks);
+	}
+
+	private static String sha256Hex(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
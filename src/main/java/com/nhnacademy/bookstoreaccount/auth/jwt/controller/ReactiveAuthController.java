@@ -0,0 +1,233 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.controller;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.LoginFailure;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.LogoutResult;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.LoginRequest;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.ReissueTokenRequest;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.LoginResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.PaycoLoginResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.ReissueTokensResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.ClientIpResolver;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.DeviceIds;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.InternalApiAuthenticator;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * @author 김태환
+ * 리액티브 서버에서 인증 인가 관련 API 를 제공하는 컨트롤러입니다. 서블릿 서버의 {@link AuthController}, 로그인 필터, 로그아웃 필터와
+ * 같은 경로, 같은 상태 코드, 같은 응답 본문으로 응답하며, 처리는 모두 {@link AuthService}에 맡깁니다.
+ * <p>
+ * 이벤트 루프 스레드는 블로킹하지 않습니다. 토큰 서명과 검증은 토큰 스케줄러에서, 비밀번호 검증은 비밀번호 검증 스레드에서 실행하고,
+ * Redis 와 사용자 서비스 호출은 논블로킹으로 기다립니다. 드물게 호출되는 동기 Redis 연산만 {@link Schedulers#boundedElastic()}에서 실행합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthController {
+	private static final Duration LOGIN_TIMEOUT_RETRY_AFTER = Duration.ofSeconds(1);
+
+	private final AuthService authService;
+	private final Scheduler tokenScheduler;
+	private final ClientIpResolver clientIpResolver;
+	private final InternalApiAuthenticator internalApiAuthenticator;
+	private final Duration loginTimeout;
+
+	/**
+	 * @param authService 인증 인가를 처리하는 {@link AuthService}.
+	 * @param jwtTokenScheduler 토큰을 서명하고 검증할 {@link Scheduler}.
+	 * @param clientIpResolver 게이트웨이가 전달한 클라이언트 IP를 구하는 {@link ClientIpResolver}.
+	 * @param internalApiAuthenticator 내부 API 를 호출한 서비스를 인증하는 {@link InternalApiAuthenticator}.
+	 * @param loginTimeout 응답하지 못한 로그인을 503 으로 끝내기까지의 시간.
+	 */
+	public ReactiveAuthController(AuthService authService, Scheduler jwtTokenScheduler,
+		ClientIpResolver clientIpResolver, InternalApiAuthenticator internalApiAuthenticator,
+		@Value("${spring.jwt.async-login.timeout:5s}") Duration loginTimeout) {
+		this.authService = authService;
+		this.tokenScheduler = jwtTokenScheduler;
+		this.clientIpResolver = clientIpResolver;
+		this.internalApiAuthenticator = internalApiAuthenticator;
+		this.loginTimeout = loginTimeout;
+	}
+
+	/**
+	 * 토큰으로부터 사용자 정보 조회
+	 * @param authorization Authorization 헤더
+	 * @return 사용자 정보 응답
+	 */
+	@GetMapping("/info")
+	public Mono<ResponseEntity<Map<String, Object>>> getUserInfo(
+		@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+		return onTokenScheduler(() -> authService.getUserInfoAsync(authorization))
+			.map(userInfo -> ResponseEntity.status(HttpStatus.OK).body(userInfo))
+			.defaultIfEmpty(ResponseEntity.status(HttpStatus.OK).body(null));
+	}
+
+	/**
+	 * 로그인한 기기 목록 조회
+	 * @param authorization Authorization 헤더
+	 * @return 기기별 세션 목록
+	 */
+	@GetMapping("/sessions")
+	public Mono<ResponseEntity<List<DeviceSession>>> getSessions(
+		@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+		return Mono.fromCallable(() -> authService.getSessions(authorization))
+			.subscribeOn(Schedulers.boundedElastic())
+			.map(sessions -> ResponseEntity.status(HttpStatus.OK).body(sessions))
+			.defaultIfEmpty(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null));
+	}
+
+	/**
+	 * 사용자 정보 캐시 무효화
+	 * @param userEmail 사용자 이메일
+	 * @param internalApiSecret 내부 서비스 인증 값
+	 * @return 무효화 성공 또는 인증 실패
+	 */
+	@DeleteMapping("/internal/user-cache")
+	public Mono<ResponseEntity<Void>> invalidateUserInfo(@RequestHeader("X-User-Email") String userEmail,
+		@RequestHeader(value = InternalApiAuthenticator.HEADER, required = false) String internalApiSecret) {
+		if (!internalApiAuthenticator.isAuthorized(internalApiSecret)) {
+			return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+		}
+		return Mono.fromRunnable(() -> authService.invalidateUserInfo(userEmail))
+			.subscribeOn(Schedulers.boundedElastic())
+			.then(Mono.just(ResponseEntity.status(HttpStatus.NO_CONTENT).build()));
+	}
+
+	/**
+	 * 토큰 재발급
+	 * @param reissueTokenRequest Refresh Token
+	 * @param deviceId 기기 ID
+	 * @return 토큰 재발급 응답
+	 */
+	@PostMapping("/reissue-with-refresh-token")
+	public Mono<ResponseEntity<ReissueTokensResponse>> reissueTokensWithRefreshToken(
+		@RequestBody ReissueTokenRequest reissueTokenRequest,
+		@RequestHeader(value = DeviceIds.HEADER, required = false) String deviceId) {
+		return onTokenScheduler(
+			() -> authService.reissueTokensWithRefreshTokenAsync(reissueTokenRequest.refreshToken(), deviceId))
+			.map(reissuedTokens -> ResponseEntity.status(HttpStatus.CREATED).body(reissuedTokens))
+			.defaultIfEmpty(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null));
+	}
+
+	/**
+	 * Payco 사용자 토큰 발급
+	 * @param paycoIdNo Payco 사용자 ID
+	 * @param deviceId 기기 ID
+	 * @return Payco 사용자 토큰 발급 응답
+	 */
+	@PostMapping("/tokens-for-payco-user")
+	public Mono<ResponseEntity<PaycoLoginResponse>> getTokensForPaycoUser(@RequestParam String paycoIdNo,
+		@RequestHeader(value = DeviceIds.HEADER, required = false) String deviceId) {
+		return Mono.fromFuture(
+				() -> authService.getTokensForPaycoUserAsync(paycoIdNo, deviceId, tokenScheduler::schedule))
+			.map(paycoUserTokens -> ResponseEntity.status(HttpStatus.CREATED).body(paycoUserTokens))
+			.defaultIfEmpty(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null));
+	}
+
+	/**
+	 * 로그인. 제한 시간 안에 끝나지 않으면 503 으로 응답하고 로그인을 취소합니다.
+	 * @param loginRequest 로그인 요청
+	 * @param deviceId 기기 ID
+	 * @param request 요청
+	 * @return 로그인 응답. 실패하면 {@link LoginFailure}의 상태와 메시지
+	 */
+	@PostMapping("/login")
+	public Mono<ResponseEntity<Object>> login(@RequestBody LoginRequest loginRequest,
+		@RequestHeader(value = DeviceIds.HEADER, required = false) String deviceId, ServerHttpRequest request) {
+		String clientIp = clientIpResolver.resolve(request);
+		// 시도 허용량 확인부터 토큰 저장까지 블로킹하지 않으므로 이벤트 루프에서 시작합니다.
+		return Mono.fromFuture(
+				() -> authService.loginAsync(loginRequest.email(), loginRequest.password(), clientIp, deviceId))
+			.timeout(loginTimeout)
+			.map(ReactiveAuthController::loginResponse)
+			.onErrorResume(AuthenticationException.class, e -> Mono.just(failureResponse(LoginFailure.of(e))))
+			.onErrorResume(TimeoutException.class,
+				e -> Mono.just(failureResponse(LoginFailure.unavailable(LOGIN_TIMEOUT_RETRY_AFTER))))
+			.onErrorResume(e -> {
+				log.error("Failed to complete login", e);
+				return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+			});
+	}
+
+	/**
+	 * 로그아웃
+	 * @param refreshToken Refresh Token
+	 * @param authorization Authorization 헤더
+	 * @param deviceId 기기 ID
+	 * @return 로그아웃 결과
+	 */
+	@PostMapping("/logout")
+	public Mono<ResponseEntity<Void>> logout(
+		@RequestHeader(value = "Refresh-Token", required = false) String refreshToken,
+		@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+		@RequestHeader(value = DeviceIds.HEADER, required = false) String deviceId) {
+		return onTokenScheduler(() -> authService.logoutAsync(refreshToken, authorization, deviceId))
+			.map(result -> {
+				ResponseEntity.BodyBuilder response = ResponseEntity.status(result.getStatus());
+				if (result == LogoutResult.LOGGED_OUT) {
+					ResponseCookie cookie = ResponseCookie.from("Refresh-Token", "").maxAge(0).path("/").build();
+					response.header(HttpHeaders.SET_COOKIE, cookie.toString());
+				}
+				return response.build();
+			});
+	}
+
+	/**
+	 * 토큰을 파싱하거나 서명하는 호출을 토큰 스케줄러에서 시작합니다.
+	 */
+	private <T> Mono<T> onTokenScheduler(Supplier<CompletableFuture<T>> call) {
+		return Mono.fromFuture(call).subscribeOn(tokenScheduler);
+	}
+
+	private static ResponseEntity<Object> loginResponse(TokenPair tokenPair) {
+		LoginResponse loginResponse = LoginResponse.builder()
+			.accessToken(tokenPair.accessToken())
+			.refreshToken(tokenPair.refreshToken())
+			.lastLoginAt(LocalDateTime.now())
+			.build();
+		return ResponseEntity.status(HttpStatus.OK).body(loginResponse);
+	}
+
+	private static ResponseEntity<Object> failureResponse(LoginFailure failure) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(failure.status())
+			.contentType(MediaType.APPLICATION_JSON);
+		if (failure.retryAfter() != null) {
+			response.header(HttpHeaders.RETRY_AFTER, failure.retryAfterSeconds());
+		}
+		return response.body(Map.of("message", failure.message()));
+	}
+}
@@ -0,0 +1,153 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.controller;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.SessionRevocationRequest;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.SessionRevocationJobResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.SessionRevocationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author 김태환
+ * 관리자가 여러 사용자의 세션을 일괄 폐기하는 API 를 제공하는 컨트롤러입니다.
+ * 모든 요청은 ROLE_ADMIN 역할을 가진, 폐기되지 않은 액세스 토큰이 필요합니다. 리프레시 토큰이나 토큰 ID 가 없는 토큰은 거부합니다.
+ */
+@Tag(name = "Session Revocation", description = "세션 일괄 폐기 관리자 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth/admin/session-revocations")
+@ConditionalOnProperty(name = "spring.jwt.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SessionRevocationController {
+	private static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+	private final AuthService authService;
+	private final SessionRevocationService sessionRevocationService;
+
+	/**
+	 * 세션 일괄 폐기 작업 시작
+	 * @param request HttpServletRequest
+	 * @param revocationRequest 폐기 대상
+	 * @return 시작한 작업의 진행 상황
+	 */
+	@Operation(
+			summary = "세션 일괄 폐기 작업 시작",
+			description = "사용자 ID 목록, 역할, 또는 전체 사용자의 리프레시 토큰을 백그라운드에서 폐기합니다. "
+				+ "중단된 작업은 마지막 커서를 담아 다시 요청하면 이어서 폐기합니다."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "202", description = "작업을 시작했습니다."),
+			@ApiResponse(responseCode = "400", description = "폐기 대상이 올바르지 않습니다."),
+			@ApiResponse(responseCode = "401", description = "Access Token이 없거나 유효하지 않습니다."),
+			@ApiResponse(responseCode = "403", description = "관리자가 아닙니다."),
+	})
+	@PostMapping
+	public ResponseEntity<SessionRevocationJobResponse> start(HttpServletRequest request,
+		@RequestBody SessionRevocationRequest revocationRequest) {
+		HttpStatus denied = checkAdmin(request);
+		if (denied != null) {
+			return ResponseEntity.status(denied).body(null);
+		}
+
+		SessionRevocationJobResponse job = sessionRevocationService.start(revocationRequest);
+		if (job == null) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+		}
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+	}
+
+	/**
+	 * 세션 일괄 폐기 작업 진행 상황 조회
+	 * @param request HttpServletRequest
+	 * @param jobId 작업 ID
+	 * @return 작업의 진행 상황
+	 */
+	@Operation(
+			summary = "세션 일괄 폐기 작업 조회",
+			description = "작업의 상태, 처리한 사용자 수, 폐기한 세션 수와 이어서 할 커서를 조회합니다."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "진행 상황을 성공적으로 조회했습니다."),
+			@ApiResponse(responseCode = "401", description = "Access Token이 없거나 유효하지 않습니다."),
+			@ApiResponse(responseCode = "403", description = "관리자가 아닙니다."),
+			@ApiResponse(responseCode = "404", description = "작업이 없습니다."),
+	})
+	@GetMapping("/{jobId}")
+	public ResponseEntity<SessionRevocationJobResponse> find(HttpServletRequest request, @PathVariable String jobId) {
+		HttpStatus denied = checkAdmin(request);
+		if (denied != null) {
+			return ResponseEntity.status(denied).body(null);
+		}
+
+		return found(sessionRevocationService.find(jobId));
+	}
+
+	/**
+	 * 세션 일괄 폐기 작업 취소
+	 * @param request HttpServletRequest
+	 * @param jobId 작업 ID
+	 * @return 작업의 진행 상황
+	 */
+	@Operation(
+			summary = "세션 일괄 폐기 작업 취소",
+			description = "진행 중인 배치를 마친 뒤 작업을 멈춥니다."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "작업 취소를 요청했습니다."),
+			@ApiResponse(responseCode = "401", description = "Access Token이 없거나 유효하지 않습니다."),
+			@ApiResponse(responseCode = "403", description = "관리자가 아닙니다."),
+			@ApiResponse(responseCode = "404", description = "작업이 없습니다."),
+	})
+	@DeleteMapping("/{jobId}")
+	public ResponseEntity<SessionRevocationJobResponse> cancel(HttpServletRequest request,
+		@PathVariable String jobId) {
+		HttpStatus denied = checkAdmin(request);
+		if (denied != null) {
+			return ResponseEntity.status(denied).body(null);
+		}
+
+		return found(sessionRevocationService.cancel(jobId));
+	}
+
+	private HttpStatus checkAdmin(HttpServletRequest request) {
+		ParsedToken accessToken = authService.verifyAccessToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+		// 토큰 ID 가 없는 토큰은 로그아웃해도 폐기할 수 없으므로 관리자 API 에 사용할 수 없습니다.
+		if (accessToken == null || accessToken.tokenId() == null) {
+			return HttpStatus.UNAUTHORIZED;
+		}
+		List<String> roles = accessToken.roles();
+		if (roles == null || !roles.contains(ADMIN_ROLE)) {
+			return HttpStatus.FORBIDDEN;
+		}
+		return null;
+	}
+
+	private static ResponseEntity<SessionRevocationJobResponse> found(SessionRevocationJobResponse job) {
+		if (job == null) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+		}
+		return ResponseEntity.status(HttpStatus.OK).body(job);
+	}
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto;
+
+import lombok.Builder;
+
+/**
+ * @author 김태환
+ * 사용자가 로그인한 기기 하나의 세션 정보입니다.
+ *
+ * @param deviceId 기기 ID. 기기 ID 없이 로그인한 세션은 "default" 입니다.
+ * @param expiresAt 세션(리프레시 토큰)의 만료 시각 (epoch 밀리초).
+ */
+@Builder
+public record DeviceSession(
+	String deviceId,
+	long expiresAt
+) {
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginThrottledException;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.PasswordVerificationRejectedException;
+
+import lombok.Builder;
+
+/**
+ * @author 김태환
+ * 실패한 로그인 요청에 보낼 응답입니다. 서블릿 필터와 리액티브 핸들러가 같은 응답을 보내도록 함께 사용합니다.
+ *
+ * @param status 응답 상태.
+ * @param retryAfter 다시 시도할 때까지 기다릴 시간. 없으면 Retry-After 헤더를 보내지 않습니다.
+ * @param message 응답 본문의 메시지.
+ */
+@Builder
+public record LoginFailure(
+	HttpStatus status,
+	Duration retryAfter,
+	String message
+) {
+	/**
+	 * 시도 허용량을 모두 쓴 경우에는 429, 비밀번호 검증이 밀려 거절된 경우에는 503, 그 외에는 401 입니다.
+	 *
+	 * @param failure 인증 실패.
+	 * @return 인증 실패에 해당하는 응답.
+	 */
+	public static LoginFailure of(AuthenticationException failure) {
+		if (failure instanceof LoginThrottledException throttled) {
+			return new LoginFailure(HttpStatus.TOO_MANY_REQUESTS, throttled.getRetryAfter(),
+				"로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요");
+		}
+		if (failure instanceof PasswordVerificationRejectedException rejected) {
+			return unavailable(rejected.getRetryAfter());
+		}
+		return new LoginFailure(HttpStatus.UNAUTHORIZED, null, "비밀번호가 틀렸습니다");
+	}
+
+	/**
+	 * 로그인 요청이 밀려 처리하지 못한 경우의 503 응답입니다.
+	 *
+	 * @param retryAfter 다시 시도할 때까지 기다릴 시간.
+	 * @return 503 응답.
+	 */
+	public static LoginFailure unavailable(Duration retryAfter) {
+		return new LoginFailure(HttpStatus.SERVICE_UNAVAILABLE, retryAfter,
+			"로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요");
+	}
+
+	/**
+	 * Retry-After 헤더는 초 단위 정수이므로 1초 미만은 올려서 1초로 보냅니다.
+	 *
+	 * @return Retry-After 헤더 값. 기다릴 시간이 없으면 null.
+	 */
+	public String retryAfterSeconds() {
+		if (retryAfter == null) {
+			return null;
+		}
+		return String.valueOf(Math.max((retryAfter.toMillis() + 999) / 1000, 1));
+	}
+
+	/**
+	 * @return JSON 응답 본문.
+	 */
+	public String body() {
+		return "{\"message\": \"" + message + "\"}";
+	}
+}
@@ -0,0 +1,37 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author 김태환
+ * 로그아웃 요청의 결과와 그에 해당하는 응답 상태입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LogoutResult {
+	/**
+	 * 기기의 세션을 삭제했습니다.
+	 */
+	LOGGED_OUT(HttpStatus.OK),
+	/**
+	 * Refresh-Token 헤더가 없습니다.
+	 */
+	MISSING_TOKEN(HttpStatus.BAD_REQUEST),
+	/**
+	 * 리프레시 토큰이 유효하지 않습니다.
+	 */
+	INVALID_TOKEN(HttpStatus.BAD_GATEWAY),
+	/**
+	 * 리프레시 토큰이 아닙니다.
+	 */
+	NOT_REFRESH_TOKEN(HttpStatus.BAD_REQUEST),
+	/**
+	 * 기기에 저장된 세션이 없습니다. 이미 로그아웃했거나 만료된 경우입니다.
+	 */
+	SESSION_NOT_FOUND(HttpStatus.BAD_REQUEST);
+
+	private final HttpStatus status;
+}
@@ -0,0 +1,58 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * @author 김태환
+ * 서명 검증을 마친 JWT 토큰의 파싱 결과입니다.
+ * 한 번의 검증으로 얻은 클레임을 담아 필터와 서비스 사이에서 그대로 전달하며, 불변 객체입니다.
+ *
+ * @param tokenType 토큰의 타입("access" 또는 "refresh").
+ * @param userId 사용자 ID.
+ * @param roles 사용자 역할 리스트.
+ * @param issuedAt 발급 시각 (epoch 밀리초).
+ * @param expiresAt 만료 시각 (epoch 밀리초).
+ * @param tokenId 토큰 ID (jti). 폐기 여부를 확인하는 데 사용하며, 토큰 ID 없이 발급된 토큰은 null 입니다.
+ * @param errorMessage 토큰이 유효하지 않을 경우의 에러 메시지. 유효한 경우 null 입니다.
+ */
+@Builder
+public record ParsedToken(
+	String tokenType,
+	Long userId,
+	List<String> roles,
+	Long issuedAt,
+	Long expiresAt,
+	String tokenId,
+	String errorMessage
+) {
+	public ParsedToken {
+		roles = roles == null ? null : List.copyOf(roles);
+	}
+
+	/**
+	 * 검증에 실패한 토큰의 파싱 결과를 생성합니다.
+	 *
+	 * @param errorMessage 검증 실패 사유.
+	 * @return 에러 메시지만 담긴 {@link ParsedToken} 객체.
+	 */
+	public static ParsedToken invalid(String errorMessage) {
+		return ParsedToken.builder().errorMessage(errorMessage).build();
+	}
+
+	/**
+	 * @return 토큰이 유효하면 true, 그렇지 않으면 false 를 반환합니다.
+	 */
+	public boolean isValid() {
+		return errorMessage == null;
+	}
+
+	/**
+	 * @param type 기대하는 토큰 타입.
+	 * @return 토큰이 유효하고 타입이 일치하면 true 를 반환합니다.
+	 */
+	public boolean isTokenType(String type) {
+		return isValid() && type.equals(tokenType);
+	}
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto;
+
+/**
+ * @author 김태환
+ * 세션 일괄 폐기 작업의 상태입니다.
+ */
+public enum SessionRevocationStatus {
+	/**
+	 * 앞선 작업이 끝나기를 기다리고 있습니다. 작업은 한 번에 하나씩 실행됩니다.
+	 */
+	PENDING,
+	RUNNING,
+	COMPLETED,
+	CANCELLED,
+	/**
+	 * 오류로 중단되었습니다. 마지막 커서부터 다시 시작할 수 있습니다.
+	 */
+	FAILED
+}
@@ -0,0 +1,20 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto;
+
+/**
+ * @author 김태환
+ * 세션 일괄 폐기 작업의 대상입니다.
+ */
+public enum SessionRevocationTarget {
+	/**
+	 * 요청에 담은 사용자 ID 목록의 세션을 폐기합니다.
+	 */
+	USERS,
+	/**
+	 * 사용자 서비스에서 조회한, 역할을 가진 사용자들의 세션을 폐기합니다.
+	 */
+	ROLE,
+	/**
+	 * 저장된 모든 세션을 폐기합니다.
+	 */
+	ALL
+}
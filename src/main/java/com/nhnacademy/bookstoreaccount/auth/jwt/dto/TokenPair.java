@@ -0,0 +1,17 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto;
+
+import lombok.Builder;
+
+/**
+ * @author 김태환
+ * 같은 발급 시각으로 함께 발급된 액세스 토큰과 리프레시 토큰입니다.
+ *
+ * @param accessToken "Bearer " 접두사가 붙은 액세스 토큰.
+ * @param refreshToken 리프레시 토큰.
+ */
+@Builder
+public record TokenPair(
+	String accessToken,
+	String refreshToken
+) {
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto.request;
+
+import java.util.List;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.SessionRevocationTarget;
+
+import lombok.Builder;
+
+/**
+ * @author 김태환
+ * 세션 일괄 폐기 요청입니다.
+ *
+ * @param target 폐기 대상.
+ * @param userIds target 이 USERS 일 때 폐기할 사용자 ID 목록.
+ * @param role target 이 ROLE 일 때 폐기할 사용자의 역할 (예: ROLE_USER).
+ * @param cursor 중단된 작업을 이어서 할 때, 그 작업이 보고한 마지막 커서. 비어 있으면 처음부터 시작합니다.
+ */
+@Builder
+public record SessionRevocationRequest(
+	SessionRevocationTarget target,
+	List<Long> userIds,
+	String role,
+	String cursor
+) {
+}
@@ -2,12 +2,16 @@ package com.nhnacademy.bookstoreaccount.auth.jwt.dto.response;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import lombok.Builder;
 
 @Builder
 public record LoginResponse(
 	String accessToken,
 	String refreshToken,
+	// 서블릿 필터와 리액티브 핸들러의 ObjectMapper 설정이 달라도 같은 배열 형식으로 보냅니다.
+	@JsonFormat(shape = JsonFormat.Shape.ARRAY)
 	LocalDateTime lastLoginAt
 ) {
 }
@@ -0,0 +1,34 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.dto.response;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.SessionRevocationStatus;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.SessionRevocationTarget;
+
+import lombok.Builder;
+
+/**
+ * @author 김태환
+ * 세션 일괄 폐기 작업의 진행 상황입니다.
+ *
+ * @param jobId 작업 ID.
+ * @param target 폐기 대상.
+ * @param status 작업 상태.
+ * @param processed 지금까지 확인한 사용자 수.
+ * @param revoked 지금까지 실제로 세션을 삭제한 사용자 수.
+ * @param cursor 마지막으로 끝낸 배치의 커서. 작업이 중단되면 이 커서로 다시 요청하여 이어서 할 수 있습니다.
+ * @param errorMessage 작업이 실패한 이유.
+ * @param startedAt 작업 시작 시각 (epoch 밀리초).
+ * @param finishedAt 작업 종료 시각 (epoch 밀리초). 진행 중이면 null 입니다.
+ */
+@Builder
+public record SessionRevocationJobResponse(
+	String jobId,
+	SessionRevocationTarget target,
+	SessionRevocationStatus status,
+	long processed,
+	long revoked,
+	String cursor,
+	String errorMessage,
+	long startedAt,
+	Long finishedAt
+) {
+}
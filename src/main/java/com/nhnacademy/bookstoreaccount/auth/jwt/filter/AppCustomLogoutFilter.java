@@ -1,12 +1,14 @@
 package com.nhnacademy.bookstoreaccount.auth.jwt.filter;
 
 import java.io.IOException;
-import java.util.Objects;
+import java.util.concurrent.CompletionException;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.web.filter.GenericFilterBean;
 
-import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.LogoutResult;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.AccessTokenDenylist;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.DeviceIds;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,11 +22,13 @@ import lombok.RequiredArgsConstructor;
 /**
  * @author 김태환
  * 사용자 로그아웃 요청을 처리하는 커스텀 필터입니다.
+ * 요청 헤더의 기기 ID에 해당하는 세션만 삭제하므로 다른 기기의 세션은 유지됩니다.
+ * Authorization 헤더로 함께 보낸 액세스 토큰은 만료될 때까지 {@link AccessTokenDenylist}에 등록하여 더 이상 사용할 수 없게 합니다.
+ * 로그아웃은 리액티브 서버와 같은 {@link AuthService#logoutAsync}로 처리하고 결과를 기다려 응답합니다.
  */
 @RequiredArgsConstructor
 public class AppCustomLogoutFilter extends GenericFilterBean {
-	private final RedisTemplate<String, Object> redisTemplate;
-	private final JwtUtils jwtUtils;
+	private final AuthService authService;
 
 	/**
 	 * 요청이 로그아웃 요청인지 확인하고 처리합니다.
@@ -64,39 +68,24 @@ public class AppCustomLogoutFilter extends GenericFilterBean {
 			return;
 		}
 
-		String refreshToken = request.getHeader("Refresh-Token");
-
-		if (Objects.isNull(refreshToken)) {
-			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-			return;
+		LogoutResult result;
+		try {
+			result = authService.logoutAsync(request.getHeader("Refresh-Token"), request.getHeader("Authorization"),
+				request.getHeader(DeviceIds.HEADER)).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
 		}
 
-		if (jwtUtils.validateToken(refreshToken) != null) {
-			response.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
-			return;
-		}
+		if (result == LogoutResult.LOGGED_OUT) {
+			Cookie cookie = new Cookie("Refresh-Token", null);
+			cookie.setMaxAge(0);
+			cookie.setPath("/");
 
-		String tokenType = jwtUtils.getTokenTypeFromToken(refreshToken);
-		if (!"refresh".equals(tokenType)) {
-			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-			return;
+			response.addCookie(cookie);
 		}
-
-		Long userId = jwtUtils.getUserIdFromToken(refreshToken);
-		String redisKey = "RefreshToken:" + userId;
-		boolean refreshTokenExists = redisTemplate.opsForHash().hasKey(redisKey, "token");
-		if (!refreshTokenExists) {
-			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-			return;
-		}
-
-		redisTemplate.opsForHash().delete(redisKey, "token");
-
-		Cookie cookie = new Cookie("Refresh-Token", null);
-		cookie.setMaxAge(0);
-		cookie.setPath("/");
-
-		response.addCookie(cookie);
-		response.setStatus(HttpServletResponse.SC_OK);
+		response.setStatus(result.getStatus().value());
 	}
 }
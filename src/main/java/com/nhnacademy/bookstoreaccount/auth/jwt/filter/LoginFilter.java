@@ -5,8 +5,11 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,52 +20,193 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.LoginFailure;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.LoginRequest;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.LoginResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginRateLimiter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.ClientIpResolver;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.DeviceIds;
 import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * @author 김태환
- * 로그인 요청을 처리하는 필터입니다. 이 필터는 사용자의 로그인 요청을 인증하고, 성공적으로 인증된 경우 JWT 를 생성하여 클라이언트에게 반환하며, 리프레시 토큰을 Redis 에 저장합니다.
+ * 로그인 요청을 처리하는 필터입니다. 이 필터는 사용자의 로그인 요청을 인증하고, 성공적으로 인증된 경우 JWT 를 생성하여 클라이언트에게 반환하며, 리프레시 토큰을 저장소에 저장합니다.
+ * <p>
+ * {@link AuthService}를 설정하면 로그인을 서블릿 비동기 요청으로 처리합니다. 요청 스레드는 요청 본문을 읽고
+ * 비동기 처리를 시작한 뒤 바로 반환되며, 사용자 조회, 비밀번호 검증, 리프레시 토큰 저장이 각자의 스레드에서 이어서 실행됩니다.
+ * 응답은 Redis 클라이언트의 I/O 스레드가 아닌 컨테이너 스레드에서 작성합니다. 따라서 요청 스레드 수보다 많은 로그인을 동시에 처리할 수 있습니다.
+ * 비동기 로그인은 리액티브 서버와 같은 {@link AuthService#loginAsync}로 처리하고, 실패 응답은 {@link LoginFailure}로 만듭니다.
  */
 @Slf4j
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
+	private static final Duration ASYNC_TIMEOUT_RETRY_AFTER = Duration.ofSeconds(1);
+
 	private final AuthenticationManager authenticationManager;
 	private final JwtUtils jwtUtils;
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final RefreshTokenStore refreshTokenStore;
+	private final LoginRateLimiter loginRateLimiter;
+	private final ClientIpResolver clientIpResolver;
 	private final Long accessTokenExpiresIn;
 	private final Long refreshTokenExpiresIn;
 	private final ObjectMapper objectMapper = new ObjectMapper();
+	private AuthService authService;
+	private Duration asyncTimeout;
 
 	/**
 	 * 생성자입니다. 로그인 필터를 설정합니다.
 	 *
 	 * @param authenticationManager 인증을 처리하는 {@link AuthenticationManager} 객체.
 	 * @param jwtUtils JWT 관련 유틸리티를 제공하는 {@link JwtUtils} 객체.
-	 * @param redisTemplate 리프레시 토큰을 저장하기 위한 {@link RedisTemplate} 객체.
+	 * @param refreshTokenStore 리프레시 토큰을 저장하기 위한 {@link RefreshTokenStore} 객체.
+	 * @param loginRateLimiter 계정과 IP 별 로그인 시도 횟수를 제한하는 {@link LoginRateLimiter} 객체.
+	 * @param clientIpResolver 게이트웨이가 전달한 클라이언트 IP를 구하는 {@link ClientIpResolver} 객체.
 	 * @param accessTokenExpiresIn 액세스 토큰의 만료 시간 (밀리초 단위).
 	 * @param refreshTokenExpiresIn 리프레시 토큰의 만료 시간 (밀리초 단위).
 	 */
 	public LoginFilter(
-		AuthenticationManager authenticationManager, JwtUtils jwtUtils, RedisTemplate<String, Object> redisTemplate,
-		Long accessTokenExpiresIn, Long refreshTokenExpiresIn
+		AuthenticationManager authenticationManager, JwtUtils jwtUtils, RefreshTokenStore refreshTokenStore,
+		LoginRateLimiter loginRateLimiter, ClientIpResolver clientIpResolver, Long accessTokenExpiresIn,
+		Long refreshTokenExpiresIn
 	) {
 		this.authenticationManager = authenticationManager;
 		this.jwtUtils = jwtUtils;
-		this.redisTemplate = redisTemplate;
+		this.refreshTokenStore = refreshTokenStore;
+		this.loginRateLimiter = loginRateLimiter;
+		this.clientIpResolver = clientIpResolver;
 		this.accessTokenExpiresIn = accessTokenExpiresIn;
 		this.refreshTokenExpiresIn = refreshTokenExpiresIn;
 		setFilterProcessesUrl("/auth/login");
 	}
 
+	/**
+	 * 로그인을 서블릿 비동기 요청으로 처리하도록 설정합니다.
+	 *
+	 * @param authService 로그인을 비동기로 처리하는 {@link AuthService}.
+	 * @param asyncTimeout 응답하지 못한 비동기 로그인을 503 으로 끝내기까지의 시간.
+	 */
+	public void setAsyncLogin(AuthService authService, Duration asyncTimeout) {
+		this.authService = authService;
+		this.asyncTimeout = asyncTimeout;
+	}
+
+	/**
+	 * 비동기 로그인이 설정되어 있고 컨테이너가 비동기 요청을 지원하면 로그인 요청을 비동기로 처리합니다.
+	 * 그 외의 요청은 {@link UsernamePasswordAuthenticationFilter}와 같이 처리합니다.
+	 */
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		HttpServletRequest httpRequest = (HttpServletRequest)request;
+		HttpServletResponse httpResponse = (HttpServletResponse)response;
+		if (authService == null || !httpRequest.isAsyncSupported()
+			|| !requiresAuthentication(httpRequest, httpResponse)) {
+			super.doFilter(request, response, chain);
+			return;
+		}
+		loginAsync(httpRequest, httpResponse);
+	}
+
+	/**
+	 * 시도 허용량 확인, 인증, 토큰 발급과 저장을 이어서 실행하고, 끝나면 {@link AsyncContext#start}로 컨테이너 스레드에서 응답을 작성합니다.
+	 * 제한 시간이 먼저 지나면 503 으로 응답하고 로그인을 취소하므로, 늦게 끝난 인증으로 토큰을 발급하지 않습니다.
+	 */
+	private void loginAsync(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		LoginRequest loginRequest = objectMapper.readValue(request.getInputStream(), LoginRequest.class);
+		String deviceId = DeviceIds.resolve(request);
+		String clientIp = clientIpResolver.resolve(request);
+
+		AsyncContext asyncContext = request.startAsync(request, response);
+		asyncContext.setTimeout(asyncTimeout.toMillis());
+		AtomicBoolean responded = new AtomicBoolean();
+		CompletableFuture<TokenPair> login = authService.loginAsync(loginRequest.email(), loginRequest.password(),
+			clientIp, deviceId);
+		asyncContext.addListener(new AsyncListener() {
+			@Override
+			public void onTimeout(AsyncEvent event) {
+				if (responded.compareAndSet(false, true)) {
+					login.cancel(false);
+					try {
+						writeFailure(response, LoginFailure.unavailable(ASYNC_TIMEOUT_RETRY_AFTER));
+					} catch (IOException e) {
+						log.warn("Failed to write login timeout response", e);
+					} finally {
+						asyncContext.complete();
+					}
+				}
+			}
+
+			@Override
+			public void onError(AsyncEvent event) {
+				if (responded.compareAndSet(false, true)) {
+					login.cancel(false);
+					asyncContext.complete();
+				}
+			}
+
+			@Override
+			public void onComplete(AsyncEvent event) {
+				// 응답은 마지막 단계나 제한 시간 처리에서 작성합니다.
+			}
+
+			@Override
+			public void onStartAsync(AsyncEvent event) {
+				// 비동기 처리를 다시 시작하지 않습니다.
+			}
+		});
+
+		login.whenComplete((tokenPair, failure) -> {
+			if (responded.get()) {
+				return;
+			}
+			// 마지막 단계는 Lettuce I/O 스레드에서 끝날 수 있으므로 응답은 컨테이너 스레드에서 작성합니다.
+			try {
+				asyncContext.start(() -> respond(request, response, asyncContext, responded, tokenPair, failure));
+			} catch (IllegalStateException e) {
+				log.debug("Login completed after the async request was closed", e);
+			}
+		});
+	}
+
+	private void respond(HttpServletRequest request, HttpServletResponse response, AsyncContext asyncContext,
+		AtomicBoolean responded, TokenPair tokenPair, Throwable failure) {
+		if (!responded.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+				? failure.getCause() : failure;
+			if (cause == null) {
+				writeLoginResponse(response, tokenPair);
+			} else if (cause instanceof AuthenticationException authenticationException) {
+				unsuccessfulAuthentication(request, response, authenticationException);
+			} else {
+				log.error("Failed to complete login", cause);
+				response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+			}
+		} catch (IOException e) {
+			log.warn("Failed to write login response", e);
+		} finally {
+			asyncContext.complete();
+		}
+	}
+
 	/**
 	 * 로그인 요청을 인증합니다.
+	 * 시도 허용량을 모두 쓴 요청은 사용자 조회와 비밀번호 검증 전에 거절합니다.
 	 *
 	 * @param request  클라이언트 요청을 나타내는 {@link HttpServletRequest} 객체.
 	 * @param response 클라이언트 응답을 나타내는 {@link HttpServletResponse} 객체.
@@ -77,6 +221,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 			loginRequest = objectMapper.readValue(request.getInputStream(), LoginRequest.class);
 			String userEmail = loginRequest.email();
 			String password = loginRequest.password();
+			loginRateLimiter.acquire(clientIpResolver.resolve(request), userEmail);
 
 			UsernamePasswordAuthenticationToken authToken
 				= new UsernamePasswordAuthenticationToken(userEmail, password, null);
@@ -89,6 +234,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
 	/**
 	 * 인증에 성공한 후 호출됩니다. JWT 를 생성하고 응답에 작성합니다.
+	 * 리프레시 토큰은 요청 헤더의 기기 ID로 저장하므로 다른 기기의 세션은 유지됩니다.
 	 *
 	 * @param request  클라이언트 요청을 나타내는 {@link HttpServletRequest} 객체.
 	 * @param response 클라이언트 응답을 나타내는 {@link HttpServletResponse} 객체.
@@ -100,17 +246,24 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 	protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
 		Authentication authentication) throws IOException {
 		Long userId = Long.parseLong(authentication.getName());
+		TokenPair tokenPair = generateTokenPair(userId, authentication);
+
+		refreshTokenStore.save(userId, DeviceIds.resolve(request), tokenPair.refreshToken(), refreshTokenExpiresIn);
+
+		writeLoginResponse(response, tokenPair);
+	}
+
+	private TokenPair generateTokenPair(Long userId, Authentication authentication) {
 		Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
 		List<String> roles = authorities.stream().map(GrantedAuthority::getAuthority).toList();
 
-		String accessToken = jwtUtils.generateToken("access", userId, roles, accessTokenExpiresIn);
-		String refreshToken = jwtUtils.generateToken("refresh", userId, roles, refreshTokenExpiresIn);
-
-		saveRefreshToken(userId, refreshToken, refreshTokenExpiresIn);
+		return jwtUtils.generateTokenPair(userId, roles, accessTokenExpiresIn, refreshTokenExpiresIn);
+	}
 
+	private void writeLoginResponse(HttpServletResponse response, TokenPair tokenPair) throws IOException {
 		LoginResponse loginResponse = LoginResponse.builder()
-			.accessToken(accessToken)
-			.refreshToken(refreshToken)
+			.accessToken(tokenPair.accessToken())
+			.refreshToken(tokenPair.refreshToken())
 			.lastLoginAt(LocalDateTime.now())
 			.build();
 
@@ -126,6 +279,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
 	/**
 	 * 인증에 실패한 후 호출됩니다. 오류 메시지를 응답에 작성합니다.
+	 * 시도 허용량을 모두 쓴 경우에는 429, 비밀번호 검증이 밀려 거절된 경우에는 503 으로 Retry-After 헤더와 함께 응답합니다.
 	 *
 	 * @param request  클라이언트 요청을 나타내는 {@link HttpServletRequest} 객체.
 	 * @param response 클라이언트 응답을 나타내는 {@link HttpServletResponse} 객체.
@@ -135,24 +289,16 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 	@Override
 	protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response,
 		AuthenticationException failed) throws IOException {
-		response.setStatus(HttpStatus.UNAUTHORIZED.value());
-		response.setContentType("application/json");
-		response.setCharacterEncoding("UTF-8");
-		String errorMessage = "{\"message\": \"비밀번호가 틀렸습니다\"}";
-		response.getWriter().write(errorMessage);
+		writeFailure(response, LoginFailure.of(failed));
 	}
 
-	/**
-	 * 리프레시 토큰을 Redis 에 저장합니다.
-	 *
-	 * @param userId          사용자 ID.
-	 * @param refreshToken    리프레시 토큰.
-	 * @param expiresIn       리프레시 토큰의 만료 시간 (밀리초 단위).
-	 */
-	private void saveRefreshToken(Long userId, String refreshToken, Long expiresIn) {
-		String redisKey = "RefreshToken:" + userId;
-		redisTemplate.delete(redisKey);
-		redisTemplate.opsForHash().put(redisKey, "token", refreshToken);
-		redisTemplate.expire(redisKey, Duration.ofMillis(expiresIn));
+	private static void writeFailure(HttpServletResponse response, LoginFailure failure) throws IOException {
+		response.setContentType("application/json");
+		response.setCharacterEncoding("UTF-8");
+		response.setStatus(failure.status().value());
+		if (failure.retryAfter() != null) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, failure.retryAfterSeconds());
+		}
+		response.getWriter().write(failure.body());
 	}
 }
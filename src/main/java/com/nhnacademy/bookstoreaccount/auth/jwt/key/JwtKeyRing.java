@@ -0,0 +1,123 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.key;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author 김태환
+ * 서명 키를 kid 로 관리하는 키 링입니다.
+ * 새 토큰은 활성 키로 서명하고, 교체된 이전 키는 유예 기간 동안 검증에만 사용합니다.
+ * 유예 기간을 토큰의 최대 수명 이상으로 두면 키를 교체해도 살아 있는 토큰이 무효화되지 않습니다.
+ */
+@Slf4j
+public class JwtKeyRing {
+	private final Map<String, Entry> keys = new ConcurrentHashMap<>();
+	private final ReentrantLock rotationLock = new ReentrantLock();
+	private final long gracePeriodMillis;
+	private final Clock clock;
+	private final String defaultKeyId;
+	private volatile JwtSigningKey activeKey;
+
+	/**
+	 * 키 링을 초기화합니다.
+	 *
+	 * @param initialKey 최초의 활성 키. kid 헤더가 없는 기존 토큰은 이 키로 검증합니다.
+	 * @param gracePeriodMillis 교체된 키를 검증에 계속 사용할 기간 (밀리초 단위).
+	 */
+	public JwtKeyRing(JwtSigningKey initialKey, long gracePeriodMillis) {
+		this(initialKey, gracePeriodMillis, Clock.systemUTC());
+	}
+
+	JwtKeyRing(JwtSigningKey initialKey, long gracePeriodMillis, Clock clock) {
+		this.gracePeriodMillis = gracePeriodMillis;
+		this.clock = clock;
+		this.defaultKeyId = initialKey.keyId();
+		this.activeKey = initialKey;
+		keys.put(initialKey.keyId(), new Entry(initialKey, Long.MAX_VALUE));
+	}
+
+	/**
+	 * @return 새 토큰 서명에 사용할 활성 키.
+	 */
+	public JwtSigningKey getActiveKey() {
+		return activeKey;
+	}
+
+	/**
+	 * kid 로 검증 키를 조회합니다. kid 가 없으면 최초 키를 조회합니다.
+	 *
+	 * @param keyId 토큰 헤더의 kid. 없으면 null.
+	 * @return 검증 키. 존재하지 않거나 유예 기간이 지난 경우 null.
+	 */
+	public JwtSigningKey find(String keyId) {
+		Entry entry = keys.get(keyId == null ? defaultKeyId : keyId);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.retireAt() <= clock.millis()) {
+			keys.remove(entry.key().keyId(), entry);
+			return null;
+		}
+		return entry.key();
+	}
+
+	/**
+	 * 새 키를 활성 키로 교체합니다. 기존 활성 키는 유예 기간 동안 검증에만 사용됩니다.
+	 * 이미 활성 키인 경우 아무 작업도 하지 않습니다.
+	 *
+	 * @param newKey 새 활성 키.
+	 * @return 키가 교체되었으면 true.
+	 */
+	public boolean rotate(JwtSigningKey newKey) {
+		rotationLock.lock();
+		try {
+			JwtSigningKey previousKey = activeKey;
+			if (previousKey.keyId().equals(newKey.keyId())) {
+				return false;
+			}
+			long now = clock.millis();
+			keys.put(previousKey.keyId(), new Entry(previousKey, now + gracePeriodMillis));
+			keys.put(newKey.keyId(), new Entry(newKey, Long.MAX_VALUE));
+			activeKey = newKey;
+			purgeRetiredKeys(now);
+			log.info("JWT 서명 키를 교체했습니다. kid: {} -> {}", previousKey.keyId(), newKey.keyId());
+			return true;
+		} finally {
+			rotationLock.unlock();
+		}
+	}
+
+	/**
+	 * 검증 전용 키를 추가합니다. 재시작 직후에도 이전 키로 서명된 토큰을 받아들이기 위해 사용합니다.
+	 *
+	 * @param key 검증 전용 키.
+	 */
+	public void addVerificationKey(JwtSigningKey key) {
+		keys.putIfAbsent(key.keyId(), new Entry(key, clock.millis() + gracePeriodMillis));
+	}
+
+	/**
+	 * @return 유예 기간이 지나지 않은 모든 검증 키. 활성 키가 먼저 옵니다.
+	 */
+	public List<JwtSigningKey> getVerificationKeys() {
+		long now = clock.millis();
+		return keys.values().stream()
+			.filter(entry -> entry.retireAt() > now)
+			.sorted(Comparator.comparingLong(Entry::retireAt).reversed())
+			.map(Entry::key)
+			.toList();
+	}
+
+	private void purgeRetiredKeys(long now) {
+		keys.values().removeIf(entry -> entry.retireAt() <= now);
+	}
+
+	private record Entry(JwtSigningKey key, long retireAt) {
+	}
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.key;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nhnacademy.bookstoreaccount.keymanager.service.KeyManagerService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author 김태환
+ * KeyManager 에 저장된 서명 키를 주기적으로 조회하여, 키가 바뀌면 재시작 없이 키 링의 활성 키를 교체합니다.
+ * HMAC 모드에서는 secret-id 를, 비대칭 모드에서는 private-key-id 와 public-key-id 를 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "spring.jwt.key-manager", name = "enabled", havingValue = "true")
+public class JwtKeyRotationScheduler {
+	private final JwtKeyRing keyRing;
+	private final KeyManagerService keyManagerService;
+
+	@Setter
+	@Value("${spring.jwt.algorithm:}")
+	private String algorithm;
+
+	@Setter
+	@Value("${spring.jwt.key-manager.secret-id:}")
+	private String secretId;
+
+	@Setter
+	@Value("${spring.jwt.key-manager.private-key-id:}")
+	private String privateKeyId;
+
+	@Setter
+	@Value("${spring.jwt.key-manager.public-key-id:}")
+	private String publicKeyId;
+
+	/**
+	 * KeyManager 에서 서명 키를 조회하고, 활성 키와 다르면 교체합니다.
+	 * 조회에 실패하면 기존 키를 그대로 사용합니다.
+	 */
+	@Scheduled(
+		initialDelayString = "${spring.jwt.key-manager.initial-delay:0}",
+		fixedDelayString = "${spring.jwt.key-manager.poll-interval:60000}"
+	)
+	public void refreshSigningKey() {
+		String secret = fetch(secretId);
+		String privateKey = fetch(privateKeyId);
+		String publicKey = fetch(publicKeyId);
+		if (secret == null && (privateKey == null || publicKey == null)) {
+			log.warn("KeyManager 에서 JWT 서명 키를 가져오지 못해 기존 키를 유지합니다.");
+			return;
+		}
+
+		try {
+			keyRing.rotate(JwtSigningKeys.of(algorithm, secret, privateKey, publicKey));
+		} catch (RuntimeException e) {
+			log.error("KeyManager 의 JWT 서명 키가 올바르지 않아 기존 키를 유지합니다.", e);
+		}
+	}
+
+	private String fetch(String keyId) {
+		if (keyId == null || keyId.isBlank()) {
+			return null;
+		}
+		return keyManagerService.getSecret(keyId);
+	}
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.key;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+/**
+ * @author 김태환
+ * JWT 서명과 검증에 사용하는 키 한 벌입니다.
+ * HMAC 계열은 서명 키와 검증 키가 같고, ES256/EdDSA 계열은 개인 키로 서명하고 공개 키로 검증합니다.
+ *
+ * @param keyId 키 식별자 (JWT 헤더의 kid).
+ * @param algorithm 서명 알고리즘.
+ * @param signingKey 서명 키.
+ * @param verificationKey 검증 키.
+ */
+public record JwtSigningKey(
+	String keyId,
+	SecureDigestAlgorithm<?, ?> algorithm,
+	Key signingKey,
+	Key verificationKey
+) {
+	/**
+	 * @return 대칭 키(HMAC)이면 true 를 반환합니다.
+	 */
+	public boolean isSymmetric() {
+		return verificationKey instanceof SecretKey;
+	}
+
+	/**
+	 * 이 키로 토큰에 서명하도록 빌더를 설정합니다.
+	 *
+	 * @param builder JWT 빌더.
+	 * @return 서명 키가 설정된 빌더.
+	 */
+	@SuppressWarnings("unchecked")
+	public JwtBuilder sign(JwtBuilder builder) {
+		return builder.signWith(signingKey, (SecureDigestAlgorithm<Key, ?>)algorithm);
+	}
+
+	/**
+	 * 다른 서비스가 토큰을 직접 검증할 수 있도록 공개 키를 JWK 형식으로 반환합니다.
+	 * 대칭 키는 외부에 공개할 수 없으므로 null 을 반환합니다.
+	 *
+	 * @return 공개 키의 JWK 표현. 대칭 키인 경우 null.
+	 */
+	public Map<String, Object> publicJwk() {
+		if (isSymmetric()) {
+			return null;
+		}
+		Map<String, Object> jwk = new LinkedHashMap<>(
+			Jwks.builder().key((PublicKey)verificationKey)
+				.algorithm(algorithm.getId())
+				.id(keyId)
+				.build()
+		);
+		jwk.put("use", "sig");
+		return jwk;
+	}
+}
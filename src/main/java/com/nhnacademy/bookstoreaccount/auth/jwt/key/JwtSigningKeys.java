@@ -0,0 +1,108 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.key;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author 김태환
+ * 설정 값으로부터 {@link JwtSigningKey}를 생성하는 팩토리입니다.
+ */
+@Slf4j
+public final class JwtSigningKeys {
+	private JwtSigningKeys() {
+	}
+
+	/**
+	 * 알고리즘 이름에 따라 HMAC 또는 비대칭 서명 키를 생성합니다.
+	 *
+	 * @param algorithm 알고리즘 이름. 비어 있거나 HS 로 시작하면 HMAC 키를 생성합니다.
+	 * @param secret HMAC 비밀 문자열.
+	 * @param privateKey 비대칭 키의 개인 키.
+	 * @param publicKey 비대칭 키의 공개 키.
+	 * @return 서명 키.
+	 */
+	public static JwtSigningKey of(String algorithm, String secret, String privateKey, String publicKey) {
+		if (isBlank(algorithm) || algorithm.startsWith("HS")) {
+			return hmac(secret, algorithm);
+		}
+		return asymmetric(algorithm, privateKey, publicKey);
+	}
+
+	/**
+	 * 비밀 문자열로 HMAC 서명 키를 생성합니다.
+	 * 알고리즘을 지정하지 않으면 기존 토큰과 호환되도록 HS256 으로 서명합니다.
+	 * 키 식별자는 키의 JWK thumbprint 이므로 비밀 값을 노출하지 않습니다.
+	 *
+	 * @param secret 서명에 사용할 비밀 문자열.
+	 * @param algorithm 알고리즘 이름 (HS256, HS384, HS512). 비어 있으면 HS256 입니다.
+	 * @return HMAC 서명 키.
+	 */
+	public static JwtSigningKey hmac(String secret, String algorithm) {
+		byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+		MacAlgorithm macAlgorithm = isBlank(algorithm)
+			? Jwts.SIG.HS256
+			: (MacAlgorithm)Jwts.SIG.get().forKey(algorithm);
+		SecretKey secretKey = new SecretKeySpec(keyBytes, macAlgorithm.key().build().getAlgorithm());
+		String keyId = Jwks.builder().key(secretKey).idFromThumbprint().build().getId();
+		return new JwtSigningKey(keyId, macAlgorithm, secretKey, secretKey);
+	}
+
+	/**
+	 * PEM 또는 Base64 로 인코딩된 키 쌍으로 비대칭 서명 키를 생성합니다.
+	 * 두 키가 모두 비어 있으면 임시 키 쌍을 생성합니다.
+	 *
+	 * @param algorithm 알고리즘 이름 (ES256, EdDSA).
+	 * @param privateKey PKCS#8 개인 키.
+	 * @param publicKey X.509 공개 키.
+	 * @return 비대칭 서명 키.
+	 */
+	public static JwtSigningKey asymmetric(String algorithm, String privateKey, String publicKey) {
+		SignatureAlgorithm signatureAlgorithm = (SignatureAlgorithm)Jwts.SIG.get().forKey(algorithm);
+		KeyPair keyPair;
+		if (isBlank(privateKey) && isBlank(publicKey)) {
+			log.warn("{} 키가 설정되지 않아 임시 키 쌍을 생성합니다. 여러 인스턴스 환경에서는 키를 설정해야 합니다.", algorithm);
+			keyPair = signatureAlgorithm.keyPair().build();
+		} else {
+			keyPair = decodeKeyPair(signatureAlgorithm, privateKey, publicKey);
+		}
+		String keyId = Jwks.builder().key(keyPair.getPublic()).idFromThumbprint().build().getId();
+		return new JwtSigningKey(keyId, signatureAlgorithm, keyPair.getPrivate(), keyPair.getPublic());
+	}
+
+	private static KeyPair decodeKeyPair(SignatureAlgorithm algorithm, String privateKey, String publicKey) {
+		String keyFactoryAlgorithm = Jwts.SIG.EdDSA.equals(algorithm) ? "Ed25519" : "EC";
+		try {
+			KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm);
+			PrivateKey decodedPrivateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKey)));
+			PublicKey decodedPublicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKey)));
+			return new KeyPair(decodedPublicKey, decodedPrivateKey);
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new IllegalStateException(algorithm.getId() + " 키를 읽을 수 없습니다.", e);
+		}
+	}
+
+	private static byte[] decodePem(String pem) {
+		String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+		return Base64.getDecoder().decode(base64);
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+}
@@ -1,13 +1,15 @@
 package com.nhnacademy.bookstoreaccount.auth.jwt.service;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import com.nhnacademy.bookstoreaccount.auth.jwt.client.UserInfoClient;
+import com.nhnacademy.bookstoreaccount.auth.jwt.cache.UserInfoCache;
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.CoalescingUserInfoClient;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.AppCustomUserDetails;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
 
@@ -17,11 +19,13 @@ import lombok.RequiredArgsConstructor;
  * @author 김태환
  * 사용자 정보를 로드하여 Spring Security 의 {@link UserDetails} 객체를 반환하는 서비스입니다.
  * 사용자 정보를 외부 클라이언트에서 가져와서 {@link UserDetails} 구현체를 반환합니다.
+ * 조회한 사용자 정보는 {@link UserInfoCache}에 보관하여 반복 로그인에서 다시 조회하지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
 public class AppCustomUserDetailsService implements UserDetailsService {
-	private final UserInfoClient userInfoClient;
+	private final CoalescingUserInfoClient userInfoClient;
+	private final UserInfoCache userInfoCache;
 
 	/**
 	 * 사용자 이메일을 기반으로 {@link UserDetails}를 로드합니다.
@@ -33,8 +37,20 @@ public class AppCustomUserDetailsService implements UserDetailsService {
 	 */
 	@Override
 	public UserDetails loadUserByUsername(String userEmail) throws UsernameNotFoundException {
-		GetUserTokenInfoResponse user = userInfoClient.getUserInfoByEmail(userEmail);
+		return toUserDetails(userInfoCache.get(userEmail, userInfoClient::getUserInfoByEmail));
+	}
+
+	/**
+	 * {@link #loadUserByUsername}과 같지만 캐시에 없는 사용자를 조회 스레드에서 조회하며, 조회를 기다리지 않고 반환합니다.
+	 *
+	 * @param userEmail 사용자의 이메일 주소.
+	 * @return {@link UserDetails}로 완료되는 {@link CompletableFuture}. 사용자가 존재하지 않거나 상태가 "WITHDRAW"인 경우 null 로 완료됩니다.
+	 */
+	public CompletableFuture<UserDetails> loadUserByUsernameAsync(String userEmail) {
+		return userInfoCache.getAsync(userEmail, userInfoClient::getUserInfoByEmailAsync).thenApply(this::toUserDetails);
+	}
 
+	private UserDetails toUserDetails(GetUserTokenInfoResponse user) {
 		if (Objects.isNull(user)) {
 			return null;
 		}
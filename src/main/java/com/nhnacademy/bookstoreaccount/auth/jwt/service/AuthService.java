@@ -1,18 +1,34 @@
 package com.nhnacademy.bookstoreaccount.auth.jwt.service;
 
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
-import com.nhnacademy.bookstoreaccount.auth.jwt.client.UserInfoClient;
+import com.nhnacademy.bookstoreaccount.auth.jwt.cache.UserInfoCache;
+import com.nhnacademy.bookstoreaccount.auth.jwt.cache.VerifiedTokenCache;
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.CoalescingUserInfoClient;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.LogoutResult;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetPaycoUserTokenInfoResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.PaycoLoginResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.ReissueTokensResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.AccessTokenDenylist;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginRateLimiter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RotationResult;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.DeviceIds;
 import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,14 +38,22 @@ import lombok.Setter;
 /**
  * @author 김태환
  * 인증 및 토큰 관리를 담당하는 서비스 클래스입니다.
- * JWT 를 사용하여 액세스 토큰과 리프레시 토큰을 생성, 갱신하고, Redis 를 통해 리프레시 토큰을 관리합니다.
+ * JWT 를 사용하여 액세스 토큰과 리프레시 토큰을 생성, 갱신하고, {@link RefreshTokenStore}를 통해 리프레시 토큰을 관리합니다.
+ * <p>
+ * 서블릿과 리액티브 두 서버가 모두 이 서비스로 로그인, 로그아웃, 토큰 재발급을 처리하므로 두 서버의 동작이 같습니다.
+ * 이름이 Async 로 끝나는 메서드는 토큰 검증과 서명만 호출한 스레드에서 하고, 사용자 조회와 Redis 응답은 기다리지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
 public class AuthService {
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final RefreshTokenStore refreshTokenStore;
 	private final JwtUtils jwtUtils;
-	private final UserInfoClient userInfoClient;
+	private final CoalescingUserInfoClient userInfoClient;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final AccessTokenDenylist accessTokenDenylist;
+	private final UserInfoCache userInfoCache;
+	private final LoginAuthenticationService loginAuthenticationService;
+	private final LoginRateLimiter loginRateLimiter;
 
 	@Setter
 	@Value("${spring.jwt.access-token.expires-in}")
@@ -42,37 +66,242 @@ public class AuthService {
 	/**
 	 * HTTP 요청의 액세스 토큰에서 사용자 정보를 추출하여 반환합니다.
 	 * 액세스 토큰이 유효하고 올바른 형식일 경우, 사용자 ID와 역할 정보를 포함하는 맵을 반환합니다.
+	 * 같은 토큰에 대한 반복 조회는 {@link VerifiedTokenCache}에서 서명 검증 없이 처리됩니다.
 	 *
 	 * @param request HTTP 요청 객체.
 	 * @return 사용자 ID와 역할 정보를 포함하는 맵. 액세스 토큰이 없거나 유효하지 않은 경우 null 을 반환합니다.
 	 */
 	public Map<String, Object> getUserInfo(HttpServletRequest request) {
-		String accessToken = request.getHeader("Authorization");
+		ParsedToken accessToken = verifyAccessToken(request.getHeader("Authorization"));
 
-		if (accessToken != null && accessToken.startsWith("Bearer ")) {
-			Long id = jwtUtils.getUserIdFromToken(accessToken);
-			List<String> roles = jwtUtils.getRolesFromToken(accessToken);
+		return accessToken == null ? null : userInfo(accessToken);
+	}
+
+	/**
+	 * Authorization 헤더의 액세스 토큰을 검증합니다. 서명이 유효해도 리프레시 토큰처럼 타입이 다른 토큰은 거부합니다.
+	 * 같은 토큰에 대한 반복 조회는 {@link VerifiedTokenCache}에서 서명 검증 없이 처리되며, 폐기 여부는 매번 확인합니다.
+	 *
+	 * @param authorization Authorization 헤더 값.
+	 * @return 유효하고 폐기되지 않은 액세스 토큰. 액세스 토큰이 없거나 유효하지 않거나 폐기된 경우 null 을 반환합니다.
+	 */
+	public ParsedToken verifyAccessToken(String authorization) {
+		if (authorization == null || !authorization.startsWith("Bearer ")) {
+			return null;
+		}
 
-			Map<String, Object> userInfo = new HashMap<>();
-			userInfo.put("id", id);
-			userInfo.put("roles", roles);
+		ParsedToken accessToken = verifiedTokenCache.get(authorization, jwtUtils::parseToken);
+		if (!accessToken.isTokenType("access") || accessTokenDenylist.isRevoked(accessToken)) {
+			return null;
+		}
+
+		return accessToken;
+	}
+
+	/**
+	 * {@link #getUserInfo(HttpServletRequest)}와 같지만 폐기 여부를 {@link AccessTokenDenylist#isRevokedAsync}로 확인합니다.
+	 *
+	 * @param authorization Authorization 헤더 값.
+	 * @return 사용자 ID와 역할 정보를 포함하는 맵으로 완료되는 {@link CompletableFuture}.
+	 *         액세스 토큰이 없거나 유효하지 않거나 폐기된 경우 null 로 완료됩니다.
+	 */
+	public CompletableFuture<Map<String, Object>> getUserInfoAsync(String authorization) {
+		if (authorization == null || !authorization.startsWith("Bearer ")) {
+			return CompletableFuture.completedFuture(null);
+		}
+		ParsedToken accessToken = verifiedTokenCache.get(authorization, jwtUtils::parseToken);
+		if (!accessToken.isTokenType("access")) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		return accessTokenDenylist.isRevokedAsync(accessToken)
+			.thenApply(revoked -> revoked ? null : userInfo(accessToken));
+	}
+
+	/**
+	 * 파싱된 액세스 토큰에서 사용자 정보를 추출하여 반환합니다.
+	 * 캐시된 토큰도 로그아웃으로 폐기되었을 수 있으므로 {@link AccessTokenDenylist}에서 매번 확인합니다.
+	 *
+	 * @param accessToken 파싱된 액세스 토큰.
+	 * @return 사용자 ID와 역할 정보를 포함하는 맵. 토큰이 유효하지 않거나 폐기된 경우 null 을 반환합니다.
+	 */
+	public Map<String, Object> getUserInfo(ParsedToken accessToken) {
+		if (!accessToken.isTokenType("access") || accessTokenDenylist.isRevoked(accessToken)) {
+			return null;
+		}
+
+		return userInfo(accessToken);
+	}
 
-			return userInfo;
+	private static Map<String, Object> userInfo(ParsedToken accessToken) {
+		Map<String, Object> userInfo = new HashMap<>();
+		userInfo.put("id", accessToken.userId());
+		userInfo.put("roles", accessToken.roles());
+
+		return userInfo;
+	}
+
+	/**
+	 * HTTP 요청의 액세스 토큰에 해당하는 사용자의 기기별 세션 목록을 반환합니다.
+	 *
+	 * @param request HTTP 요청 객체.
+	 * @return 만료 시각이 늦은 순서의 세션 목록. 액세스 토큰이 없거나 유효하지 않거나 폐기된 경우 null 을 반환합니다.
+	 */
+	public List<DeviceSession> getSessions(HttpServletRequest request) {
+		return getSessions(request.getHeader("Authorization"));
+	}
+
+	/**
+	 * Authorization 헤더의 액세스 토큰에 해당하는 사용자의 기기별 세션 목록을 반환합니다.
+	 *
+	 * @param accessToken Authorization 헤더 값.
+	 * @return 만료 시각이 늦은 순서의 세션 목록. 액세스 토큰이 없거나 유효하지 않거나 폐기된 경우 null 을 반환합니다.
+	 */
+	public List<DeviceSession> getSessions(String accessToken) {
+		if (accessToken == null || !accessToken.startsWith("Bearer ")) {
+			return null;
+		}
+
+		ParsedToken parsedToken = verifiedTokenCache.get(accessToken, jwtUtils::parseToken);
+		if (!parsedToken.isValid() || !parsedToken.isTokenType("access")
+			|| accessTokenDenylist.isRevoked(parsedToken)) {
+			return null;
+		}
+
+		return refreshTokenStore.findSessions(parsedToken.userId());
+	}
+
+	/**
+	 * 이메일과 비밀번호로 로그인하고 토큰을 발급합니다.
+	 * 시도 허용량을 먼저 확인하고, {@link LoginAuthenticationService}로 인증한 뒤 리프레시 토큰을 기기 ID로 저장합니다.
+	 * 허용량 확인도 Redis 응답을 기다리지 않으므로 호출한 스레드는 블로킹하지 않습니다.
+	 * 토큰은 비밀번호 검증을 마친 스레드에서 서명하므로 호출한 스레드는 서명하지 않습니다.
+	 * 반환된 {@link CompletableFuture}를 취소하면 진행 중인 인증이나 저장을 함께 취소하고, 인증이 늦게 끝나도 토큰을 발급하거나
+	 * 저장하지 않습니다. 이미 Redis 로 보낸 저장 명령은 되돌리지 않습니다.
+	 *
+	 * @param userEmail 사용자 이메일.
+	 * @param password 사용자가 입력한 비밀번호.
+	 * @param clientIp 요청한 클라이언트의 IP.
+	 * @param deviceId 로그인한 기기의 ID. null 이면 기본 기기입니다.
+	 * @return 발급한 토큰으로 완료되는 {@link CompletableFuture}. 인증에 실패하거나 시도 허용량을 모두 쓴 경우
+	 *         {@link AuthenticationException}으로 완료됩니다.
+	 */
+	public CompletableFuture<TokenPair> loginAsync(String userEmail, String password, String clientIp,
+		String deviceId) {
+		CompletableFuture<TokenPair> login = new CompletableFuture<>();
+		CompletableFuture<Void> acquire = loginRateLimiter.acquireAsync(clientIp, userEmail);
+		AtomicReference<CompletableFuture<?>> pending = new AtomicReference<>(acquire);
+		// 취소는 반환한 future 에만 표시되므로, 진행 중인 단계를 따로 기억해 두었다가 함께 취소합니다.
+		login.whenComplete((tokenPair, failure) -> {
+			if (login.isCancelled()) {
+				pending.get().cancel(false);
+			}
+		});
+		acquire
+			.thenCompose(acquired -> {
+				if (login.isDone()) {
+					return CompletableFuture.failedFuture(new CancellationException("Login cancelled"));
+				}
+				CompletableFuture<Authentication> authentication = loginAuthenticationService.authenticate(userEmail,
+					password);
+				pending.set(authentication);
+				if (login.isCancelled()) {
+					authentication.cancel(false);
+				}
+				return authentication;
+			})
+			.thenCompose(authenticated -> {
+				if (login.isDone()) {
+					return CompletableFuture.failedFuture(new CancellationException("Login cancelled"));
+				}
+				Long userId = Long.parseLong(authenticated.getName());
+				List<String> roles = authenticated.getAuthorities().stream()
+					.map(GrantedAuthority::getAuthority)
+					.toList();
+				TokenPair tokenPair = jwtUtils.generateTokenPair(userId, roles, accessTokenExpiresIn,
+					refreshTokenExpiresIn);
+				if (login.isDone()) {
+					return CompletableFuture.failedFuture(new CancellationException("Login cancelled"));
+				}
+				CompletableFuture<Void> save = refreshTokenStore.saveAsync(userId, DeviceIds.normalize(deviceId),
+					tokenPair.refreshToken(), refreshTokenExpiresIn);
+				pending.set(save);
+				if (login.isCancelled()) {
+					save.cancel(false);
+				}
+				return save.thenApply(saved -> tokenPair);
+			})
+			.whenComplete((tokenPair, failure) -> {
+				if (failure == null) {
+					login.complete(tokenPair);
+				} else {
+					login.completeExceptionally(failure);
+				}
+			});
+		return login;
+	}
+
+	/**
+	 * 리프레시 토큰에 해당하는 기기의 세션을 삭제하여 로그아웃합니다. 다른 기기의 세션은 유지됩니다.
+	 * Authorization 헤더로 함께 보낸 액세스 토큰이 같은 사용자의 유효한 액세스 토큰이면 만료될 때까지 {@link AccessTokenDenylist}에
+	 * 등록하여 더 이상 사용할 수 없게 합니다. 다른 사용자의 토큰은 폐기하지 않습니다.
+	 *
+	 * @param refreshToken Refresh-Token 헤더 값.
+	 * @param authorization Authorization 헤더 값.
+	 * @param deviceId 로그아웃하는 기기의 ID. null 이면 기본 기기입니다.
+	 * @return 로그아웃 결과로 완료되는 {@link CompletableFuture}. 삭제나 폐기에 실패하면 그 예외로 완료됩니다.
+	 */
+	public CompletableFuture<LogoutResult> logoutAsync(String refreshToken, String authorization, String deviceId) {
+		if (refreshToken == null) {
+			return CompletableFuture.completedFuture(LogoutResult.MISSING_TOKEN);
+		}
+		ParsedToken parsedToken = jwtUtils.parseToken(refreshToken);
+		if (!parsedToken.isValid()) {
+			return CompletableFuture.completedFuture(LogoutResult.INVALID_TOKEN);
+		}
+		if (!parsedToken.isTokenType("refresh")) {
+			return CompletableFuture.completedFuture(LogoutResult.NOT_REFRESH_TOKEN);
 		}
 
+		Long userId = parsedToken.userId();
+		ParsedToken accessToken = accessTokenToRevoke(authorization, userId);
+		return refreshTokenStore.deleteAsync(userId, DeviceIds.normalize(deviceId))
+			.thenCompose(deleted -> {
+				if (!deleted) {
+					return CompletableFuture.completedFuture(LogoutResult.SESSION_NOT_FOUND);
+				}
+				if (accessToken == null) {
+					return CompletableFuture.completedFuture(LogoutResult.LOGGED_OUT);
+				}
+				return accessTokenDenylist.revokeAsync(accessToken).thenApply(revoked -> LogoutResult.LOGGED_OUT);
+			});
+	}
+
+	private ParsedToken accessTokenToRevoke(String authorization, Long userId) {
+		if (authorization == null || !authorization.startsWith("Bearer ")) {
+			return null;
+		}
+		ParsedToken accessToken = jwtUtils.parseToken(authorization);
+		if (accessToken.isValid() && accessToken.isTokenType("access") && userId.equals(accessToken.userId())) {
+			return accessToken;
+		}
 		return null;
 	}
 
 	/**
 	 * 리프레시 토큰을 사용하여 새로운 액세스 토큰과 리프레시 토큰을 발급합니다.
-	 * 리프레시 토큰이 유효하지 않거나 Redis 에서 해당 토큰이 존재하지 않으면 null을 반환합니다.
+	 * 리프레시 토큰이 유효하지 않거나 기기에 저장된 리프레시 토큰과 일치하지 않으면 null을 반환합니다.
 	 *
 	 * @param refreshToken 리프레시 토큰.
+	 * @param deviceId 요청한 기기의 ID. null 이면 기본 기기입니다.
 	 * @return 새로운 액세스 토큰과 리프레시 토큰을 포함하는 {@link ReissueTokensResponse} 객체.
 	 *         토큰 발급에 실패한 경우 null 을 반환합니다.
 	 */
-	public ReissueTokensResponse reissueTokensWithRefreshToken(String refreshToken) {
-		Map<String, String> tokens = generateTokens(refreshToken);
+	public ReissueTokensResponse reissueTokensWithRefreshToken(String refreshToken, String deviceId) {
+		if (refreshToken == null) {
+			return null;
+		}
+		Map<String, String> tokens = generateTokens(DeviceIds.normalize(deviceId), refreshToken,
+			jwtUtils.parseToken(refreshToken));
 		if (tokens == null) {
 			return null;
 		}
@@ -86,67 +315,81 @@ public class AuthService {
 	}
 
 	/**
-	 * 리프레시 토큰을 기반으로 새로운 액세스 토큰과 리프레시 토큰을 생성합니다.
-	 * 토큰이 유효하지 않거나 리프레시 토큰이 Redis 에 존재하지 않으면 null 을 반환합니다.
+	 * {@link #reissueTokensWithRefreshToken}과 같지만 리프레시 토큰 교체를 {@link RefreshTokenStore#rotateAsync}로 실행하여
+	 * 저장소의 응답을 기다리지 않고 반환합니다.
 	 *
 	 * @param refreshToken 리프레시 토큰.
-	 * @return 새로운 액세스 토큰과 리프레시 토큰을 포함하는 맵.
-	 *         토큰 생성에 실패한 경우 null 을 반환합니다.
+	 * @param deviceId 요청한 기기의 ID. null 이면 기본 기기입니다.
+	 * @return 새로운 토큰을 포함하는 {@link ReissueTokensResponse}로 완료되는 {@link CompletableFuture}.
+	 *         토큰 발급에 실패한 경우 null 로 완료됩니다.
 	 */
-	private Map<String, String> generateTokens(String refreshToken) {
-		if (refreshToken == null || jwtUtils.validateToken(refreshToken) != null) {
-			return null;
+	public CompletableFuture<ReissueTokensResponse> reissueTokensWithRefreshTokenAsync(String refreshToken,
+		String deviceId) {
+		if (refreshToken == null) {
+			return CompletableFuture.completedFuture(null);
 		}
-
-		String tokenType = jwtUtils.getTokenTypeFromToken(refreshToken);
-		if (!"refresh".equals(tokenType)) {
-			return null;
+		ParsedToken parsedToken = jwtUtils.parseToken(refreshToken);
+		if (!parsedToken.isTokenType("refresh")) {
+			return CompletableFuture.completedFuture(null);
 		}
 
-		if (!isRefreshTokenExists(refreshToken)) {
+		Long id = parsedToken.userId();
+		TokenPair tokenPair = jwtUtils.generateTokenPair(id, parsedToken.roles(), accessTokenExpiresIn,
+			refreshTokenExpiresIn);
+
+		return refreshTokenStore.rotateAsync(id, DeviceIds.normalize(deviceId), refreshToken, issuedAt(parsedToken),
+				tokenPair.refreshToken(), refreshTokenExpiresIn)
+			.thenApply(rotationResult -> {
+				if (rotationResult != RotationResult.ROTATED) {
+					return null;
+				}
+				return ReissueTokensResponse.builder()
+					.accessToken(tokenPair.accessToken())
+					.refreshToken(tokenPair.refreshToken())
+					.build();
+			});
+	}
+
+	/**
+	 * 리프레시 토큰을 기반으로 새로운 액세스 토큰과 리프레시 토큰을 생성합니다.
+	 * 토큰이 유효하지 않거나, 저장된 리프레시 토큰이 제시된 토큰과 다르면 null 을 반환합니다.
+	 * 저장된 토큰의 비교와 교체는 {@link RefreshTokenStore#rotate}로 한 번에 수행되므로,
+	 * 같은 리프레시 토큰으로 동시에 요청해도 하나의 요청만 성공합니다.
+	 *
+	 * @param deviceId 요청한 기기의 ID.
+	 * @param presentedToken 클라이언트가 제시한 리프레시 토큰.
+	 * @param refreshToken 파싱된 리프레시 토큰.
+	 * @return 새로운 액세스 토큰과 리프레시 토큰을 포함하는 맵.
+	 *         토큰 생성에 실패한 경우 null 을 반환합니다.
+	 */
+	private Map<String, String> generateTokens(String deviceId, String presentedToken, ParsedToken refreshToken) {
+		if (!refreshToken.isTokenType("refresh")) {
 			return null;
 		}
 
-		Long id = jwtUtils.getUserIdFromToken(refreshToken);
-		List<String> roles = jwtUtils.getRolesFromToken(refreshToken);
+		Long id = refreshToken.userId();
+		List<String> roles = refreshToken.roles();
 
-		String newAccessToken = jwtUtils.generateToken("access", id, roles, accessTokenExpiresIn);
-		String newRefreshToken = jwtUtils.generateToken("refresh", id, roles, refreshTokenExpiresIn);
+		TokenPair tokenPair = jwtUtils.generateTokenPair(id, roles, accessTokenExpiresIn, refreshTokenExpiresIn);
 
-		saveRefreshToken(id, newRefreshToken, refreshTokenExpiresIn);
+		RotationResult rotationResult = refreshTokenStore.rotate(id, deviceId, presentedToken, issuedAt(refreshToken),
+			tokenPair.refreshToken(), refreshTokenExpiresIn);
+		if (rotationResult != RotationResult.ROTATED) {
+			return null;
+		}
 
 		Map<String, String> tokens = new HashMap<>();
-		tokens.put("access", newAccessToken);
-		tokens.put("refresh", newRefreshToken);
+		tokens.put("access", tokenPair.accessToken());
+		tokens.put("refresh", tokenPair.refreshToken());
 
 		return tokens;
 	}
 
 	/**
-	 * Redis 에서 리프레시 토큰의 존재 여부를 확인합니다.
-	 *
-	 * @param refreshToken 리프레시 토큰.
-	 * @return 리프레시 토큰이 Redis 에 존재하면 true, 그렇지 않으면 false 를 반환합니다.
+	 * 발급 시각을 알 수 없으면 가장 최근에 발급된 토큰으로 취급하여 캐시된 상태로 판단하지 않게 합니다.
 	 */
-	private boolean isRefreshTokenExists(String refreshToken) {
-		Long userId = jwtUtils.getUserIdFromToken(refreshToken);
-		String redisKey = "RefreshToken:" + userId;
-		return redisTemplate.opsForHash().hasKey(redisKey, "token");
-	}
-
-	/**
-	 * Redis 에 새로운 리프레시 토큰을 저장합니다.
-	 * 기존의 리프레시 토큰을 삭제하고 새로운 토큰을 저장한 뒤, 만료 시간을 설정합니다.
-	 *
-	 * @param userId 사용자 ID.
-	 * @param refreshToken 새 리프레시 토큰.
-	 * @param expiresIn 리프레시 토큰의 만료 시간 (밀리초 단위).
-	 */
-	private void saveRefreshToken(Long userId, String refreshToken, Long expiresIn) {
-		String redisKey = "RefreshToken:" + userId;
-		redisTemplate.delete(redisKey);
-		redisTemplate.opsForHash().put(redisKey, "token", refreshToken);
-		redisTemplate.expire(redisKey, Duration.ofMillis(expiresIn));
+	private static long issuedAt(ParsedToken refreshToken) {
+		return refreshToken.issuedAt() == null ? Long.MAX_VALUE : refreshToken.issuedAt();
 	}
 
 	/**
@@ -154,32 +397,74 @@ public class AuthService {
 	 * Payco 사용자 정보가 유효하고 상태가 "ACTIVE"일 경우, 새로운 토큰을 생성하고 반환합니다.
 	 *
 	 * @param paycoIdNo Payco 사용자 ID.
+	 * @param deviceId 로그인한 기기의 ID. null 이면 기본 기기입니다.
 	 * @return 액세스 토큰과 리프레시 토큰을 포함하는 {@link PaycoLoginResponse} 객체.
 	 *         사용자 정보가 없거나 상태가 "ACTIVE"가 아닌 경우 null 을 반환합니다.
 	 */
-	public PaycoLoginResponse getTokensForPaycoUser(String paycoIdNo) {
-		GetPaycoUserTokenInfoResponse paycoUserTokenInfoResponse = userInfoClient.getUserInfoByPaycoId(paycoIdNo)
-			.getBody();
-		if (paycoUserTokenInfoResponse == null) {
+	public PaycoLoginResponse getTokensForPaycoUser(String paycoIdNo, String deviceId) {
+		GetPaycoUserTokenInfoResponse paycoUser = userInfoClient.getUserInfoByPaycoId(paycoIdNo).getBody();
+		TokenPair tokenPair = generatePaycoTokens(paycoUser);
+		if (tokenPair == null) {
 			return null;
 		}
 
-		Long userId = paycoUserTokenInfoResponse.id();
-		List<String> roles = paycoUserTokenInfoResponse.roles();
-		String status = paycoUserTokenInfoResponse.status();
+		refreshTokenStore.save(paycoUser.id(), DeviceIds.normalize(deviceId), tokenPair.refreshToken(),
+			refreshTokenExpiresIn);
+
+		return paycoLoginResponse(tokenPair);
+	}
+
+	/**
+	 * {@link #getTokensForPaycoUser}와 같지만 사용자 조회와 리프레시 토큰 저장을 기다리지 않고 반환합니다.
+	 * 조회는 I/O 스레드에서 끝날 수 있으므로 토큰 서명은 tokenExecutor 에서 실행합니다.
+	 *
+	 * @param paycoIdNo Payco 사용자 ID.
+	 * @param deviceId 로그인한 기기의 ID. null 이면 기본 기기입니다.
+	 * @param tokenExecutor 토큰을 서명할 {@link Executor}.
+	 * @return {@link PaycoLoginResponse}로 완료되는 {@link CompletableFuture}.
+	 *         사용자 정보가 없거나 상태가 "ACTIVE"가 아닌 경우 null 로 완료됩니다.
+	 */
+	public CompletableFuture<PaycoLoginResponse> getTokensForPaycoUserAsync(String paycoIdNo, String deviceId,
+		Executor tokenExecutor) {
+		return userInfoClient.getUserInfoByPaycoIdAsync(paycoIdNo)
+			.thenComposeAsync(response -> {
+				GetPaycoUserTokenInfoResponse paycoUser = response.getBody();
+				TokenPair tokenPair = generatePaycoTokens(paycoUser);
+				if (tokenPair == null) {
+					return CompletableFuture.completedFuture(null);
+				}
+				return refreshTokenStore.saveAsync(paycoUser.id(), DeviceIds.normalize(deviceId),
+					tokenPair.refreshToken(), refreshTokenExpiresIn).thenApply(saved -> paycoLoginResponse(tokenPair));
+			}, tokenExecutor);
+	}
 
-		if (!"ACTIVE".equals(status)) {
+	/**
+	 * 상태가 "ACTIVE"인 Payco 사용자의 토큰을 발급합니다.
+	 *
+	 * @return 발급한 토큰. 사용자 정보가 없거나 상태가 "ACTIVE"가 아닌 경우 null.
+	 */
+	private TokenPair generatePaycoTokens(GetPaycoUserTokenInfoResponse paycoUser) {
+		if (paycoUser == null || !"ACTIVE".equals(paycoUser.status())) {
 			return null;
 		}
 
-		String accessToken = jwtUtils.generateToken("access", userId, roles, accessTokenExpiresIn);
-		String refreshToken = jwtUtils.generateToken("refresh", userId, roles, refreshTokenExpiresIn);
-
-		saveRefreshToken(userId, refreshToken, refreshTokenExpiresIn);
+		return jwtUtils.generateTokenPair(paycoUser.id(), paycoUser.roles(), accessTokenExpiresIn,
+			refreshTokenExpiresIn);
+	}
 
+	private static PaycoLoginResponse paycoLoginResponse(TokenPair tokenPair) {
 		return PaycoLoginResponse.builder()
-			.accessToken(accessToken)
-			.refreshToken(refreshToken)
+			.accessToken(tokenPair.accessToken())
+			.refreshToken(tokenPair.refreshToken())
 			.build();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 사용자 서비스에서 사용자 정보가 바뀌었을 때 모든 노드의 로그인용 사용자 정보 캐시를 지웁니다.
+	 *
+	 * @param userEmail 사용자 이메일.
+	 */
+	public void invalidateUserInfo(String userEmail) {
+		userInfoCache.invalidate(userEmail);
+	}
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.BoundedPasswordEncoder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author 김태환
+ * 이메일과 비밀번호로 로그인하는 사용자를 비동기로 인증하는 서비스입니다.
+ * {@link DaoAuthenticationProvider}와 같은 순서로 사용자를 조회하고 계정 상태와 비밀번호를 확인하지만, 사용자 조회는 조회 스레드에서,
+ * 비밀번호 검증은 {@link BoundedPasswordEncoder}의 검증 스레드에서 실행하므로 호출한 스레드는 결과를 기다리지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoginAuthenticationService {
+	private final AppCustomUserDetailsService userDetailsService;
+	private final BoundedPasswordEncoder passwordEncoder;
+	private final UserDetailsChecker userDetailsChecker = new AccountStatusUserDetailsChecker();
+
+	/**
+	 * 사용자를 인증합니다.
+	 *
+	 * @param userEmail 사용자 이메일.
+	 * @param password 사용자가 입력한 비밀번호.
+	 * @return 인증된 {@link Authentication}으로 완료되는 {@link CompletableFuture}. 인증에 실패하면
+	 *         {@link AuthenticationException}으로 완료되며, 사용자 조회에 실패하면 {@link InternalAuthenticationServiceException}입니다.
+	 */
+	public CompletableFuture<Authentication> authenticate(String userEmail, String password) {
+		if (userEmail == null || password == null) {
+			return CompletableFuture.failedFuture(new BadCredentialsException("Bad credentials"));
+		}
+		return userDetailsService.loadUserByUsernameAsync(userEmail)
+			.exceptionally(failure -> {
+				Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+					? failure.getCause() : failure;
+				if (cause instanceof AuthenticationException authenticationException) {
+					throw authenticationException;
+				}
+				throw new InternalAuthenticationServiceException(cause.getMessage(), cause);
+			})
+			.thenCompose(user -> {
+				if (user == null) {
+					throw new BadCredentialsException("Bad credentials");
+				}
+				userDetailsChecker.check(user);
+				return passwordEncoder.matchesAsync(password, user.getPassword())
+					.thenApply(matched -> authenticated(user, matched));
+			});
+	}
+
+	private static Authentication authenticated(UserDetails user, boolean matched) {
+		if (!matched) {
+			throw new BadCredentialsException("Bad credentials");
+		}
+		return UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+	}
+}
@@ -0,0 +1,285 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.service;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.UserInfoClient;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.SessionRevocationStatus;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.SessionRevocationTarget;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.SessionRevocationRequest;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.SessionRevocationJobResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RedisRefreshTokenRevoker;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author 김태환
+ * 여러 사용자의 세션을 백그라운드에서 일괄 폐기하는 서비스입니다.
+ * 대상 사용자를 배치 크기만큼 나누어 배치마다 UNLINK 한 번으로 삭제하고, 초당 처리량을 설정한 값 이하로 조절하여
+ * 다른 요청의 Redis 명령이 밀리지 않게 합니다. 전체 대상은 SCAN 으로 키를 찾으므로 KEYS 처럼 Redis 를 막지 않습니다.
+ * <p>
+ * 작업은 전용 스레드 하나에서 순서대로 실행되며, 배치를 끝낼 때마다 진행 상황과 커서를 기록합니다.
+ * 사용자 목록과 역할 대상의 커서는 마지막으로 처리한 사용자 ID (목록을 오름차순으로 처리), 전체 대상의 커서는 SCAN 커서입니다.
+ * 작업이 실패하거나 노드가 재시작되면 같은 요청에 마지막 커서를 담아 다시 시작합니다.
+ * <p>
+ * 이미 발급된 액세스 토큰은 만료될 때까지 유효하며, 재발급만 막힙니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "spring.jwt.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class SessionRevocationService implements AutoCloseable {
+	private static final int MAX_FINISHED_JOBS = 100;
+
+	private final RedisRefreshTokenRevoker revoker;
+	private final UserInfoClient userInfoClient;
+	private final int batchSize;
+	private final long keysPerSecond;
+	private final Clock clock;
+	private final ExecutorService executor;
+	private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+	/**
+	 * 일괄 폐기 서비스를 초기화합니다.
+	 *
+	 * @param revoker 리프레시 토큰 키를 찾고 삭제하는 {@link RedisRefreshTokenRevoker}.
+	 * @param userInfoClient 역할을 가진 사용자를 조회할 {@link UserInfoClient}.
+	 * @param batchSize 한 번에 삭제할 사용자 수이자 SCAN 의 COUNT 값.
+	 * @param keysPerSecond 초당 처리할 최대 사용자 수. 0 이하이면 제한하지 않습니다.
+	 */
+	@Autowired
+	public SessionRevocationService(
+		RedisRefreshTokenRevoker revoker,
+		UserInfoClient userInfoClient,
+		@Value("${spring.jwt.refresh-token.revocation.batch-size:100}") int batchSize,
+		@Value("${spring.jwt.refresh-token.revocation.rate:1000}") long keysPerSecond
+	) {
+		this(revoker, userInfoClient, batchSize, keysPerSecond, Clock.systemUTC());
+	}
+
+	SessionRevocationService(RedisRefreshTokenRevoker revoker, UserInfoClient userInfoClient, int batchSize,
+		long keysPerSecond, Clock clock) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batch-size must be positive: " + batchSize);
+		}
+		this.revoker = revoker;
+		this.userInfoClient = userInfoClient;
+		this.batchSize = batchSize;
+		this.keysPerSecond = keysPerSecond;
+		this.clock = clock;
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "session-revocation");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 일괄 폐기 작업을 시작합니다.
+	 *
+	 * @param request 폐기 대상과 이어서 할 커서.
+	 * @return 시작한 작업의 진행 상황. 요청의 대상이 올바르지 않으면 null 을 반환합니다.
+	 */
+	public SessionRevocationJobResponse start(SessionRevocationRequest request) {
+		if (!isValid(request)) {
+			return null;
+		}
+		pruneFinishedJobs();
+		Job job = new Job(UUID.randomUUID().toString(), request, clock.millis());
+		jobs.put(job.id, job);
+		executor.execute(() -> run(job));
+		return job.toResponse();
+	}
+
+	/**
+	 * @param jobId 작업 ID.
+	 * @return 작업의 진행 상황. 작업이 없으면 null.
+	 */
+	public SessionRevocationJobResponse find(String jobId) {
+		Job job = jobs.get(jobId);
+		return job == null ? null : job.toResponse();
+	}
+
+	/**
+	 * 작업을 취소합니다. 진행 중인 배치는 끝까지 실행하고 멈춥니다.
+	 *
+	 * @param jobId 작업 ID.
+	 * @return 작업의 진행 상황. 작업이 없으면 null.
+	 */
+	public SessionRevocationJobResponse cancel(String jobId) {
+		Job job = jobs.get(jobId);
+		if (job == null) {
+			return null;
+		}
+		job.cancelled = true;
+		return job.toResponse();
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private static boolean isValid(SessionRevocationRequest request) {
+		if (request == null || request.target() == null) {
+			return false;
+		}
+		return switch (request.target()) {
+			case USERS -> request.userIds() != null && !request.userIds().isEmpty()
+				&& isCursor(request.cursor(), "-?\\d+");
+			case ROLE -> request.role() != null && !request.role().isBlank() && isCursor(request.cursor(), "-?\\d+");
+			case ALL -> isCursor(request.cursor(), "\\d+");
+		};
+	}
+
+	private static boolean isCursor(String cursor, String pattern) {
+		return cursor == null || cursor.isBlank() || cursor.matches(pattern);
+	}
+
+	private void run(Job job) {
+		if (job.cancelled) {
+			job.finish(SessionRevocationStatus.CANCELLED, null, clock.millis());
+			return;
+		}
+		job.status = SessionRevocationStatus.RUNNING;
+		Pacer pacer = new Pacer(keysPerSecond);
+		try {
+			if (job.target == SessionRevocationTarget.ALL) {
+				revokeAll(job, pacer);
+			} else {
+				List<Long> userIds = job.target == SessionRevocationTarget.USERS ? job.request.userIds()
+					: userInfoClient.getUserIdsByRole(job.request.role());
+				revokeUsers(job, userIds == null ? List.of() : userIds, pacer);
+			}
+			job.finish(job.cancelled ? SessionRevocationStatus.CANCELLED : SessionRevocationStatus.COMPLETED, null,
+				clock.millis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			job.finish(SessionRevocationStatus.CANCELLED, null, clock.millis());
+		} catch (RuntimeException e) {
+			log.warn("Session revocation job {} failed at cursor {}", job.id, job.cursor, e);
+			job.finish(SessionRevocationStatus.FAILED, e.getMessage(), clock.millis());
+		}
+		log.info("Session revocation job {} {}: processed={}, revoked={}, cursor={}", job.id, job.status,
+			job.processed.get(), job.revoked.get(), job.cursor);
+	}
+
+	private void revokeUsers(Job job, List<Long> userIds, Pacer pacer) throws InterruptedException {
+		long after = job.cursor == null ? Long.MIN_VALUE : Long.parseLong(job.cursor);
+		List<Long> remaining = userIds.stream()
+			.filter(userId -> userId != null && userId > after)
+			.distinct()
+			.sorted()
+			.toList();
+		for (int from = 0; from < remaining.size() && !job.cancelled; from += batchSize) {
+			List<Long> batch = remaining.subList(from, Math.min(from + batchSize, remaining.size()));
+			job.revoked.addAndGet(revoker.revoke(batch));
+			job.processed.addAndGet(batch.size());
+			job.cursor = Long.toString(batch.get(batch.size() - 1));
+			pacer.acquire(batch.size());
+		}
+	}
+
+	private void revokeAll(Job job, Pacer pacer) throws InterruptedException {
+		String cursor = job.cursor == null ? RedisRefreshTokenRevoker.INITIAL_CURSOR : job.cursor;
+		do {
+			RedisRefreshTokenRevoker.ScanPage page = revoker.scan(cursor, batchSize);
+			job.revoked.addAndGet(revoker.revoke(page.userIds()));
+			job.processed.addAndGet(page.userIds().size());
+			cursor = page.cursor();
+			job.cursor = cursor;
+			pacer.acquire(page.userIds().size());
+		} while (!RedisRefreshTokenRevoker.INITIAL_CURSOR.equals(cursor) && !job.cancelled);
+	}
+
+	private void pruneFinishedJobs() {
+		List<Job> finished = jobs.values().stream()
+			.filter(job -> job.finishedAt != null)
+			.sorted(Comparator.comparingLong(job -> job.finishedAt))
+			.toList();
+		for (int i = 0; i <= finished.size() - MAX_FINISHED_JOBS; i++) {
+			jobs.remove(finished.get(i).id);
+		}
+	}
+
+	/**
+	 * 처리한 사용자 수가 초당 허용량을 넘지 않도록 배치 사이에 대기합니다.
+	 */
+	private static final class Pacer {
+		private final long nanosPerKey;
+		private long nextBatchAt = System.nanoTime();
+
+		private Pacer(long keysPerSecond) {
+			this.nanosPerKey = keysPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / keysPerSecond : 0;
+		}
+
+		private void acquire(int keys) throws InterruptedException {
+			if (nanosPerKey == 0) {
+				return;
+			}
+			nextBatchAt += nanosPerKey * keys;
+			long wait = nextBatchAt - System.nanoTime();
+			if (wait > 0) {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			}
+		}
+	}
+
+	private static final class Job {
+		private final String id;
+		private final SessionRevocationTarget target;
+		private final SessionRevocationRequest request;
+		private final long startedAt;
+		private final AtomicLong processed = new AtomicLong();
+		private final AtomicLong revoked = new AtomicLong();
+		private volatile SessionRevocationStatus status = SessionRevocationStatus.PENDING;
+		private volatile String cursor;
+		private volatile String errorMessage;
+		private volatile Long finishedAt;
+		private volatile boolean cancelled;
+
+		private Job(String id, SessionRevocationRequest request, long startedAt) {
+			this.id = id;
+			this.target = request.target();
+			this.request = request;
+			this.startedAt = startedAt;
+			this.cursor = request.cursor() == null || request.cursor().isBlank() ? null : request.cursor();
+		}
+
+		private void finish(SessionRevocationStatus status, String errorMessage, long finishedAt) {
+			this.errorMessage = errorMessage;
+			this.status = status;
+			this.finishedAt = finishedAt;
+		}
+
+		/**
+		 * 종료 시각을 가장 먼저 읽으므로, 종료된 작업이면 나머지 필드는 모두 최종 값입니다.
+		 */
+		private SessionRevocationJobResponse toResponse() {
+			Long finished = finishedAt;
+			return SessionRevocationJobResponse.builder()
+				.jobId(id)
+				.target(target)
+				.status(status)
+				.processed(processed.get())
+				.revoked(revoked.get())
+				.cursor(cursor)
+				.errorMessage(errorMessage)
+				.startedAt(startedAt)
+				.finishedAt(finished)
+				.build();
+		}
+	}
+}
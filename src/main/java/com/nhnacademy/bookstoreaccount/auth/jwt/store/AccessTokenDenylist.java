@@ -0,0 +1,305 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.cache.BloomFilter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author 김태환
+ * 로그아웃 등으로 폐기한 액세스 토큰의 토큰 ID (jti) 목록입니다.
+ * 폐기한 토큰 ID는 Redis 키 "RevokedToken:{jti}" 에 토큰의 남은 수명만큼의 만료 시간으로 저장하므로, 토큰이 만료되면 함께 사라집니다.
+ * <p>
+ * 노드마다 폐기한 토큰 ID의 {@link BloomFilter}를 유지하여, 대부분인 "폐기되지 않음" 판단을 네트워크 왕복 없이 내립니다.
+ * 필터가 있다고 답할 때만 Redis 에서 확인하며, 이때 실제로 없으면 오탐으로 집계합니다.
+ * 폐기는 키 저장과 채널 발행을 한 스크립트로 실행하고, 모든 노드는 채널을 구독하여 자신의 필터에 추가합니다.
+ * 구독이 끊긴 동안 놓친 메시지와 만료된 항목을 정리하기 위해 주기적으로 Redis 의 키를 SCAN 하여 필터를 새로 만듭니다.
+ * 클러스터에서는 키가 마스터 노드마다 나뉘어 있으므로 모든 마스터 노드를 SCAN 합니다.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements MessageListener {
+	static final String KEY_PREFIX = "RevokedToken:";
+	public static final String CHANNEL = "jwt:revoked-tokens";
+	private static final String METRIC_PREFIX = "jwt.access-token.denylist";
+
+	static final RedisScript<Long> REVOKE_SCRIPT = RedisScript.of("""
+		redis.call('SET', KEYS[1], '1', 'PX', ARGV[2])
+		redis.call('PUBLISH', ARGV[3], ARGV[1])
+		return 1
+		""", Long.class);
+	private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final AsyncRedisCommands asyncCommands;
+	private final boolean enabled;
+	private final long expectedInsertions;
+	private final double falsePositiveProbability;
+	private final Clock clock;
+	private volatile BloomFilter bloomFilter;
+	private volatile BloomFilter rebuildingFilter;
+
+	private final AtomicLong bloomNegatives = new AtomicLong();
+	private final AtomicLong falsePositives = new AtomicLong();
+	private final Counter negativeChecks;
+	private final Counter revokedChecks;
+	private final Counter falsePositiveChecks;
+
+	/**
+	 * 폐기 목록을 초기화합니다.
+	 *
+	 * @param redisTemplate 폐기한 토큰 ID를 저장할 {@link RedisTemplate}.
+	 * @param enabled false 이면 폐기와 확인을 모두 하지 않습니다.
+	 * @param expectedInsertions 액세스 토큰 수명 동안 폐기될 것으로 예상하는 토큰 수.
+	 * @param falsePositiveProbability 예상 토큰 수만큼 폐기했을 때 필터의 목표 오탐률.
+	 * @param meterRegistry 확인 결과와 오탐률 지표를 등록할 {@link MeterRegistry}.
+	 */
+	@Autowired
+	public AccessTokenDenylist(
+		RedisTemplate<String, Object> redisTemplate,
+		@Value("${spring.jwt.access-token.denylist.enabled:true}") boolean enabled,
+		@Value("${spring.jwt.access-token.denylist.expected-insertions:100000}") long expectedInsertions,
+		@Value("${spring.jwt.access-token.denylist.false-positive-probability:0.01}") double falsePositiveProbability,
+		MeterRegistry meterRegistry
+	) {
+		this(redisTemplate, enabled, expectedInsertions, falsePositiveProbability, meterRegistry, Clock.systemUTC());
+	}
+
+	AccessTokenDenylist(RedisTemplate<String, Object> redisTemplate, boolean enabled, long expectedInsertions,
+		double falsePositiveProbability, MeterRegistry meterRegistry, Clock clock) {
+		this.redisTemplate = redisTemplate;
+		this.asyncCommands = new AsyncRedisCommands(redisTemplate);
+		this.enabled = enabled;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveProbability = falsePositiveProbability;
+		this.clock = clock;
+		this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+
+		this.negativeChecks = checks(meterRegistry, "bloom-negative");
+		this.revokedChecks = checks(meterRegistry, "revoked");
+		this.falsePositiveChecks = checks(meterRegistry, "false-positive");
+		Gauge.builder(METRIC_PREFIX + ".false-positive-rate", this, AccessTokenDenylist::observedFalsePositiveRate)
+			.description("Share of non-revoked tokens that the Bloom filter sent to Redis")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".bloom.expected-false-positive-rate", this,
+				denylist -> denylist.bloomFilter.expectedFalsePositiveProbability())
+			.description("False-positive probability estimated from the Bloom filter fill ratio")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 액세스 토큰을 남은 수명 동안 폐기합니다. 토큰 ID가 없거나 이미 만료된 토큰은 폐기할 필요가 없습니다.
+	 *
+	 * @param accessToken 파싱된 액세스 토큰.
+	 */
+	public void revoke(ParsedToken accessToken) {
+		long remaining = remainingLifetime(accessToken);
+		if (remaining <= 0) {
+			return;
+		}
+		String tokenId = accessToken.tokenId();
+		// 발행한 메시지가 돌아오기 전에도 이 노드에서는 바로 폐기된 것으로 판단합니다.
+		add(tokenId);
+		redisTemplate.execute(REVOKE_SCRIPT, RedisSerializer.byteArray(), RESULT_SERIALIZER,
+			List.of(KEY_PREFIX + tokenId), bytes(tokenId), bytes(Long.toString(remaining)), bytes(CHANNEL));
+	}
+
+	/**
+	 * {@link #revoke}와 같은 스크립트를 Lettuce 비동기 명령으로 실행합니다.
+	 *
+	 * @param accessToken 파싱된 액세스 토큰.
+	 * @return 폐기가 저장되면 완료되는 {@link CompletableFuture}. 저장에 실패하면 그 예외로 완료됩니다.
+	 */
+	public CompletableFuture<Void> revokeAsync(ParsedToken accessToken) {
+		long remaining = remainingLifetime(accessToken);
+		if (remaining <= 0) {
+			return CompletableFuture.completedFuture(null);
+		}
+		String tokenId = accessToken.tokenId();
+		add(tokenId);
+		return asyncCommands.eval(REVOKE_SCRIPT, new byte[][] {bytes(KEY_PREFIX + tokenId)},
+			bytes(tokenId), bytes(Long.toString(remaining)), bytes(CHANNEL)).thenApply(result -> null);
+	}
+
+	/**
+	 * 폐기할 필요가 없는 토큰이면 0 을 반환합니다.
+	 */
+	private long remainingLifetime(ParsedToken accessToken) {
+		if (!enabled || accessToken.tokenId() == null || accessToken.expiresAt() == null) {
+			return 0;
+		}
+		return accessToken.expiresAt() - clock.millis();
+	}
+
+	/**
+	 * 액세스 토큰이 폐기되었는지 확인합니다. 필터에 없으면 Redis 에 묻지 않습니다.
+	 *
+	 * @param accessToken 파싱된 액세스 토큰.
+	 * @return 폐기된 토큰이면 true.
+	 */
+	public boolean isRevoked(ParsedToken accessToken) {
+		if (!mightBeRevoked(accessToken)) {
+			return false;
+		}
+
+		boolean revoked;
+		try {
+			revoked = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + accessToken.tokenId()));
+		} catch (DataAccessException e) {
+			// 필터가 폐기되었을 수 있다고 답한 토큰은 확인할 수 없으면 거부합니다.
+			log.warn("Failed to check revoked access token; treating it as revoked", e);
+			return true;
+		}
+		return recordLookup(revoked);
+	}
+
+	/**
+	 * {@link #isRevoked}와 같지만 필터가 있다고 답한 토큰을 Lettuce 비동기 명령으로 확인합니다.
+	 *
+	 * @param accessToken 파싱된 액세스 토큰.
+	 * @return 폐기된 토큰이면 true 로 완료되는 {@link CompletableFuture}. 필터에 없으면 이미 완료되어 있습니다.
+	 */
+	public CompletableFuture<Boolean> isRevokedAsync(ParsedToken accessToken) {
+		if (!mightBeRevoked(accessToken)) {
+			return CompletableFuture.completedFuture(false);
+		}
+
+		return asyncCommands.execute(commands -> commands.exists(bytes(KEY_PREFIX + accessToken.tokenId())))
+			.handle((count, failure) -> {
+				if (failure != null) {
+					log.warn("Failed to check revoked access token; treating it as revoked", failure);
+					return true;
+				}
+				return recordLookup(count != null && count > 0);
+			});
+	}
+
+	private boolean mightBeRevoked(ParsedToken accessToken) {
+		String tokenId = accessToken.tokenId();
+		if (!enabled || tokenId == null) {
+			return false;
+		}
+		if (!bloomFilter.mightContain(tokenId)) {
+			bloomNegatives.incrementAndGet();
+			negativeChecks.increment();
+			return false;
+		}
+		return true;
+	}
+
+	private boolean recordLookup(boolean revoked) {
+		if (revoked) {
+			revokedChecks.increment();
+		} else {
+			falsePositives.incrementAndGet();
+			falsePositiveChecks.increment();
+		}
+		return revoked;
+	}
+
+	/**
+	 * 다른 노드에서 폐기한 토큰 ID를 필터에 추가합니다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		add(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Redis 에 남아 있는 폐기 키를 SCAN 하여 필터를 새로 만들고 교체합니다.
+	 * 만드는 동안 받은 메시지는 두 필터에 모두 추가하므로 빠지지 않습니다. 시작할 때도 한 번 실행됩니다.
+	 */
+	@Scheduled(
+		initialDelayString = "${spring.jwt.access-token.denylist.initial-delay:0}",
+		fixedDelayString = "${spring.jwt.access-token.denylist.rebuild-interval:60000}"
+	)
+	public void rebuild() {
+		if (!enabled) {
+			return;
+		}
+		BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveProbability);
+		rebuildingFilter = rebuilt;
+		ScanOptions scanOptions = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+		try {
+			redisTemplate.execute((RedisCallback<Void>)connection -> {
+				if (connection instanceof RedisClusterConnection clusterConnection) {
+					for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+						if (node.isMaster()) {
+							scanInto(clusterConnection.scan(node, scanOptions), rebuilt);
+						}
+					}
+				} else {
+					scanInto(connection.keyCommands().scan(scanOptions), rebuilt);
+				}
+				return null;
+			});
+			bloomFilter = rebuilt;
+		} catch (RuntimeException e) {
+			log.warn("Failed to rebuild the revoked access-token filter; keeping the current filter", e);
+		} finally {
+			rebuildingFilter = null;
+		}
+	}
+
+	private static void scanInto(Cursor<byte[]> keys, BloomFilter filter) {
+		try (keys) {
+			while (keys.hasNext()) {
+				filter.put(new String(keys.next(), StandardCharsets.UTF_8).substring(KEY_PREFIX.length()));
+			}
+		}
+	}
+
+	/**
+	 * 만드는 중인 필터에 먼저 추가합니다. 현재 필터에 먼저 추가하면 그 사이에 필터가 교체될 때 새 필터에서 빠집니다.
+	 */
+	private void add(String tokenId) {
+		BloomFilter rebuilding = rebuildingFilter;
+		if (rebuilding != null) {
+			rebuilding.put(tokenId);
+		}
+		bloomFilter.put(tokenId);
+	}
+
+	private double observedFalsePositiveRate() {
+		long positives = falsePositives.get();
+		long total = positives + bloomNegatives.get();
+		return total == 0 ? 0.0 : (double)positives / total;
+	}
+
+	private static Counter checks(MeterRegistry meterRegistry, String result) {
+		return Counter.builder(METRIC_PREFIX + ".checks")
+			.description("Revocation checks of access tokens by outcome")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,120 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+
+/**
+ * @author 김태환
+ * {@link RedisTemplate}이 사용하는 공유 Lettuce 연결에서 명령을 비동기로 실행합니다.
+ * 결과는 Lettuce 의 I/O 스레드에서 완료되므로 이어지는 단계에서 블로킹 호출을 하지 않아야 합니다.
+ * 실패하면 동기 연산과 같은 {@link DataAccessException}으로 완료됩니다.
+ * <p>
+ * 명령은 연결을 닫은 뒤에 완료되므로, 연결을 닫아도 네이티브 연결이 유지되는 공유 연결에서만 보낼 수 있습니다.
+ * 공유 연결을 쓰지 않는 {@link LettuceConnectionFactory}는 생성할 때 거절합니다.
+ */
+final class AsyncRedisCommands {
+	private final LettuceConnectionFactory connectionFactory;
+
+	/**
+	 * @param redisTemplate 공유 연결을 사용하는 {@link LettuceConnectionFactory}로 만든 {@link RedisTemplate}.
+	 * @throws IllegalStateException 연결 팩토리가 Lettuce 가 아니거나 네이티브 연결을 공유하지 않는 경우.
+	 */
+	AsyncRedisCommands(RedisTemplate<String, Object> redisTemplate) {
+		if (!(redisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory lettuceConnectionFactory)
+			|| !lettuceConnectionFactory.getShareNativeConnection()) {
+			throw new IllegalStateException(
+				"Asynchronous Redis commands require a LettuceConnectionFactory with a shared native connection");
+		}
+		this.connectionFactory = lettuceConnectionFactory;
+	}
+
+	/**
+	 * 명령을 실행합니다.
+	 *
+	 * @param command 비동기 명령 인터페이스로 명령을 보내는 함수.
+	 * @return 명령 결과로 완료되는 {@link CompletableFuture}.
+	 */
+	<T> CompletableFuture<T> execute(Function<RedisClusterAsyncCommands<byte[], byte[]>, RedisFuture<T>> command) {
+		RedisClusterAsyncCommands<byte[], byte[]> commands;
+		try {
+			commands = commands();
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		CompletableFuture<T> result = new CompletableFuture<>();
+		command.apply(commands).toCompletableFuture()
+			.whenComplete((value, failure) -> complete(result, value, failure));
+		return result;
+	}
+
+	/**
+	 * 스크립트를 실행합니다. {@link RedisTemplate#execute(RedisScript, java.util.List, Object...)}와 같이 EVALSHA 를 먼저 보내고,
+	 * 서버에 스크립트가 없으면 EVAL 로 다시 보냅니다.
+	 *
+	 * @param script 실행할 스크립트.
+	 * @param keys 스크립트의 키.
+	 * @param args 스크립트의 인자.
+	 * @return 스크립트 결과로 완료되는 {@link CompletableFuture}.
+	 */
+	CompletableFuture<Long> eval(RedisScript<Long> script, byte[][] keys, byte[]... args) {
+		RedisClusterAsyncCommands<byte[], byte[]> commands;
+		try {
+			commands = commands();
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		CompletableFuture<Long> result = new CompletableFuture<>();
+		commands.<Long>evalsha(script.getSha1(), ScriptOutputType.INTEGER, keys, args).toCompletableFuture()
+			.whenComplete((value, failure) -> {
+				if (unwrap(failure) instanceof RedisNoScriptException) {
+					commands.<Long>eval(script.getScriptAsString(), ScriptOutputType.INTEGER, keys, args)
+						.toCompletableFuture()
+						.whenComplete((retried, retryFailure) -> complete(result, retried, retryFailure));
+				} else {
+					complete(result, value, failure);
+				}
+			});
+		return result;
+	}
+
+	/**
+	 * 팩토리의 공유 연결에서 비동기 명령 인터페이스를 꺼냅니다. 공유 연결은 {@link RedisConnection}을 닫아도 닫히지 않으며,
+	 * 팩토리가 공유 연결을 다시 만들 수 있으므로 명령마다 새로 꺼냅니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private RedisClusterAsyncCommands<byte[], byte[]> commands() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			if (!(connection.getNativeConnection() instanceof RedisClusterAsyncCommands<?, ?> nativeCommands)) {
+				throw new IllegalStateException("Asynchronous commands require a Lettuce connection");
+			}
+			return (RedisClusterAsyncCommands<byte[], byte[]>)nativeCommands;
+		}
+	}
+
+	private <T> void complete(CompletableFuture<T> result, T value, Throwable failure) {
+		if (failure == null) {
+			result.complete(value);
+			return;
+		}
+		Throwable cause = unwrap(failure);
+		DataAccessException translated = cause instanceof RuntimeException runtimeException
+			? connectionFactory.translateExceptionIfPossible(runtimeException) : null;
+		result.completeExceptionally(translated == null ? cause : translated);
+	}
+
+	private static Throwable unwrap(Throwable failure) {
+		return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+	}
+}
@@ -0,0 +1,320 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.DeviceIds;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author 김태환
+ * 프로세스 메모리에 리프레시 토큰을 보관하는 {@link RefreshTokenStore} 구현입니다.
+ * Redis 없이 실행해야 하는 단일 노드 배포, 성능 측정, 테스트에서 사용하며, 재시작하면 모든 세션이 사라집니다.
+ * <p>
+ * 사용자별 세션은 {@link ConcurrentHashMap}에 보관하며, 각 연산은 사용자 키에 대한 {@code compute} 안에서 실행되어 원자적입니다.
+ * 맵은 버킷 단위로 잠기므로 서로 다른 사용자의 연산은 경합하지 않습니다. 세션은 {@link RefreshTokenFormat#DEVICE} 형식과 같이
+ * 기기별로 만료 시각과 토큰의 SHA-256 다이제스트만 저장하며, 최대 기기 수를 넘으면 만료 시각이 가장 이른 기기부터 지웁니다.
+ * <p>
+ * 만료는 {@link TimingWheel}로 처리합니다. 저장, 교체, 삭제는 사용자 세션 중 가장 이른 만료 시각으로 휠의 항목을 바꾸기만 하고,
+ * 하나의 스레드가 틱마다 만료된 사용자의 세션을 정리합니다. 휠이 정리하기 전이라도 만료된 세션은 조회와 교체에서 없는 것으로 취급합니다.
+ * 휠에는 사용자마다 항목이 하나뿐이므로 휠의 크기도 세션 수를 넘지 않으며, 전체 세션 수가 상한을 넘으면 만료 시각이 가장 이른
+ * 세션부터 축출합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.jwt.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore, AutoCloseable {
+	private static final String METRIC_PREFIX = "jwt.refresh-token.memory-store";
+	private static final int WHEEL_SIZE = 512;
+	private static final Session[] NO_SESSIONS = new Session[0];
+
+	private final ConcurrentHashMap<Long, Session[]> sessions = new ConcurrentHashMap<>();
+	private final AtomicLong sessionCount = new AtomicLong();
+	private final TimingWheel timingWheel;
+	private final int maxDevices;
+	private final long maxSessions;
+	private final Clock clock;
+	private final Counter expirations;
+	private final Counter evictions;
+	private final ScheduledExecutorService expiryScheduler;
+
+	/**
+	 * @param deviceId 기기 ID.
+	 * @param expiresAt 세션의 만료 시각 (epoch 밀리초).
+	 * @param digest 리프레시 토큰의 SHA-256 다이제스트.
+	 */
+	private record Session(String deviceId, long expiresAt, byte[] digest) {
+	}
+
+	/**
+	 * 메모리 기반 리프레시 토큰 저장소를 초기화하고 만료 처리 스레드를 시작합니다.
+	 *
+	 * @param maxDevices 사용자당 유지하는 최대 세션 수.
+	 * @param maxSessions 저장소 전체에서 유지하는 최대 세션 수.
+	 * @param tick 만료를 확인하는 주기이자 타이밍 휠 슬롯 하나의 크기.
+	 * @param meterRegistry 세션 수, 만료, 축출 지표를 등록할 {@link MeterRegistry}.
+	 */
+	@Autowired
+	public InMemoryRefreshTokenStore(
+		@Value("${spring.jwt.refresh-token.max-devices:" + RedisRefreshTokenStore.DEFAULT_MAX_DEVICES + "}")
+		int maxDevices,
+		@Value("${spring.jwt.refresh-token.memory.max-sessions:1000000}") long maxSessions,
+		@Value("${spring.jwt.refresh-token.memory.tick:1s}") Duration tick,
+		MeterRegistry meterRegistry
+	) {
+		this(maxDevices, maxSessions, tick, meterRegistry, Clock.systemUTC(), true);
+	}
+
+	InMemoryRefreshTokenStore(int maxDevices, long maxSessions, Duration tick, MeterRegistry meterRegistry,
+		Clock clock, boolean startExpiryScheduler) {
+		if (maxDevices < 1 || maxSessions < 1) {
+			throw new IllegalArgumentException("max-devices and max-sessions must be positive");
+		}
+		this.maxDevices = maxDevices;
+		this.maxSessions = maxSessions;
+		this.clock = clock;
+		this.timingWheel = new TimingWheel(WHEEL_SIZE, tick.toMillis(), clock.millis());
+
+		Gauge.builder(METRIC_PREFIX + ".sessions", sessionCount, AtomicLong::get)
+			.description("Refresh-token sessions held in memory")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".users", sessions, ConcurrentHashMap::size)
+			.description("Users with at least one in-memory refresh-token session")
+			.register(meterRegistry);
+		this.expirations = Counter.builder(METRIC_PREFIX + ".expirations")
+			.description("Sessions removed by the timing wheel after they expired")
+			.register(meterRegistry);
+		this.evictions = Counter.builder(METRIC_PREFIX + ".evictions")
+			.description("Sessions evicted because max-sessions was exceeded")
+			.register(meterRegistry);
+
+		if (startExpiryScheduler) {
+			this.expiryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "refresh-token-expiry");
+				thread.setDaemon(true);
+				return thread;
+			});
+			expiryScheduler.scheduleAtFixedRate(this::expireSafely, tick.toMillis(), tick.toMillis(),
+				TimeUnit.MILLISECONDS);
+		} else {
+			this.expiryScheduler = null;
+		}
+	}
+
+	@Override
+	public void save(Long userId, String deviceId, String refreshToken, long expiresIn) {
+		String device = DeviceIds.normalize(deviceId);
+		long now = clock.millis();
+		Session session = new Session(device, now + expiresIn, RedisRefreshTokenStore.digest(refreshToken));
+		sessions.compute(userId, (id, current) -> {
+			List<Session> live = liveSessions(current, now, device);
+			live.add(session);
+			// 만료 시각이 늦은 순서로 정렬하고, 최대 기기 수를 넘는 가장 오래 사용하지 않은 기기를 지웁니다.
+			live.sort(Comparator.comparingLong(Session::expiresAt).reversed());
+			Session[] updated = live.subList(0, Math.min(live.size(), maxDevices)).toArray(NO_SESSIONS);
+			sessionCount.addAndGet(updated.length - length(current));
+			return updated;
+		});
+		scheduleExpiry(userId);
+		enforceMaxSessions();
+	}
+
+	@Override
+	public RotationResult rotate(Long userId, String deviceId, String presentedToken, long presentedIssuedAt,
+		String newToken, long expiresIn) {
+		String device = DeviceIds.normalize(deviceId);
+		long now = clock.millis();
+		byte[] presentedDigest = RedisRefreshTokenStore.digest(presentedToken);
+		Session rotated = new Session(device, now + expiresIn, RedisRefreshTokenStore.digest(newToken));
+		RotationResult[] result = {RotationResult.NOT_FOUND};
+		sessions.computeIfPresent(userId, (id, current) -> {
+			for (int i = 0; i < current.length; i++) {
+				Session session = current[i];
+				if (!session.deviceId().equals(device) || session.expiresAt() <= now) {
+					continue;
+				}
+				if (!Arrays.equals(session.digest(), presentedDigest)) {
+					result[0] = RotationResult.MISMATCH;
+					return current;
+				}
+				Session[] updated = current.clone();
+				updated[i] = rotated;
+				result[0] = RotationResult.ROTATED;
+				return updated;
+			}
+			return current;
+		});
+		if (result[0] == RotationResult.ROTATED) {
+			scheduleExpiry(userId);
+		}
+		return result[0];
+	}
+
+	@Override
+	public boolean delete(Long userId, String deviceId) {
+		String device = DeviceIds.normalize(deviceId);
+		long now = clock.millis();
+		boolean[] deleted = {false};
+		sessions.computeIfPresent(userId, (id, current) -> {
+			List<Session> live = liveSessions(current, now, device);
+			deleted[0] = live.size() < liveCount(current, now);
+			sessionCount.addAndGet(live.size() - current.length);
+			return live.isEmpty() ? null : live.toArray(NO_SESSIONS);
+		});
+		scheduleExpiry(userId);
+		return deleted[0];
+	}
+
+	@Override
+	public List<DeviceSession> findSessions(Long userId) {
+		Session[] current = sessions.get(userId);
+		if (current == null) {
+			return List.of();
+		}
+		long now = clock.millis();
+		List<DeviceSession> deviceSessions = new ArrayList<>(current.length);
+		for (Session session : current) {
+			if (session.expiresAt() > now) {
+				deviceSessions.add(new DeviceSession(session.deviceId(), session.expiresAt()));
+			}
+		}
+		deviceSessions.sort(Comparator.comparingLong(DeviceSession::expiresAt).reversed());
+		return deviceSessions;
+	}
+
+	/**
+	 * 타이밍 휠을 현재 시각까지 진행하여 만료된 세션을 정리합니다.
+	 *
+	 * @return 만료를 확인한 사용자 수.
+	 */
+	int expire() {
+		long now = clock.millis();
+		return timingWheel.advance(now, userId -> {
+			sessions.computeIfPresent(userId, (id, current) -> {
+				List<Session> live = liveSessions(current, now, null);
+				if (live.size() == current.length) {
+					return current;
+				}
+				expirations.increment(current.length - live.size());
+				sessionCount.addAndGet(live.size() - current.length);
+				return live.isEmpty() ? null : live.toArray(NO_SESSIONS);
+			});
+			scheduleExpiry(userId);
+		});
+	}
+
+	long size() {
+		return sessionCount.get();
+	}
+
+	int scheduledExpiries() {
+		return timingWheel.size();
+	}
+
+	@Override
+	public void close() {
+		if (expiryScheduler != null) {
+			expiryScheduler.shutdownNow();
+		}
+	}
+
+	private void expireSafely() {
+		try {
+			expire();
+		} catch (RuntimeException e) {
+			// 예외로 예약된 작업이 취소되지 않도록 기록만 합니다.
+			log.warn("Failed to expire in-memory refresh-token sessions", e);
+		}
+	}
+
+	/**
+	 * 사용자 세션 중 가장 이른 만료 시각으로 휠의 항목을 바꿉니다. 세션이 없으면 항목을 지웁니다.
+	 */
+	private void scheduleExpiry(long userId) {
+		timingWheel.reschedule(userId, () -> earliestExpiry(sessions.get(userId)));
+	}
+
+	private void enforceMaxSessions() {
+		long excess = Math.max(sessionCount.get(), timingWheel.size()) - maxSessions;
+		if (excess <= 0) {
+			return;
+		}
+		long evicted = timingWheel.evict(excess, this::evictEarliest);
+		evictions.increment(evicted);
+	}
+
+	/**
+	 * 사용자의 세션 중 만료 시각이 가장 이른 세션 하나를 지우고, 남은 세션의 만료 시각을 휠에 다시 등록합니다.
+	 * 휠은 사용자의 가장 이른 만료 시각으로 정렬되어 있으므로 지운 세션이 전체에서 만료 시각이 가장 이른 세션입니다.
+	 */
+	private boolean evictEarliest(long userId) {
+		boolean[] evicted = {false};
+		sessions.computeIfPresent(userId, (id, current) -> {
+			int earliest = 0;
+			for (int i = 1; i < current.length; i++) {
+				if (current[i].expiresAt() < current[earliest].expiresAt()) {
+					earliest = i;
+				}
+			}
+			List<Session> remaining = new ArrayList<>(Arrays.asList(current));
+			remaining.remove(earliest);
+			evicted[0] = true;
+			sessionCount.decrementAndGet();
+			return remaining.isEmpty() ? null : remaining.toArray(NO_SESSIONS);
+		});
+		scheduleExpiry(userId);
+		return evicted[0];
+	}
+
+	private static long earliestExpiry(Session[] current) {
+		long earliest = TimingWheel.NO_DEADLINE;
+		if (current != null) {
+			for (Session session : current) {
+				earliest = Math.min(earliest, session.expiresAt());
+			}
+		}
+		return earliest;
+	}
+
+	/**
+	 * 만료되지 않은 세션 중 지정한 기기를 제외한 세션을 반환합니다.
+	 */
+	private static List<Session> liveSessions(Session[] current, long now, String excludedDevice) {
+		List<Session> live = new ArrayList<>(length(current) + 1);
+		if (current != null) {
+			for (Session session : current) {
+				if (session.expiresAt() > now && !session.deviceId().equals(excludedDevice)) {
+					live.add(session);
+				}
+			}
+		}
+		return live;
+	}
+
+	private static int liveCount(Session[] current, long now) {
+		return liveSessions(current, now, null).size();
+	}
+
+	private static int length(Session[] current) {
+		return current == null ? 0 : current.length;
+	}
+}
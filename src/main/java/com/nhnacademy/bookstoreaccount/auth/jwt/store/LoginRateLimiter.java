@@ -0,0 +1,274 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author 김태환
+ * 계정(이메일)과 IP 별로 로그인 시도 횟수를 제한하는 토큰 버킷입니다.
+ * 버킷은 Redis 키 "LoginBucket:{범위}:{식별자}" 에 남은 허용량과 마지막 충전 시각으로 저장하며,
+ * 충전과 차감은 하나의 Lua 스크립트로 실행되어 여러 노드가 동시에 시도해도 허용량을 넘겨 주지 않습니다.
+ * <p>
+ * 시도마다 Redis 를 왕복하지 않도록, 노드는 버킷에서 허용량을 몇 개씩 한꺼번에 빌려 두고 다 쓸 때까지 로컬에서 차감합니다.
+ * 빌린 허용량은 짧은 시간 안에 쓰지 않으면 버리므로, 제한이 느슨해지지 않고 잠시 더 엄격해질 뿐입니다.
+ * Redis 에 연결할 수 없으면 로그인 자체를 막지 않도록 시도를 허용합니다.
+ * <p>
+ * 허용량은 {@link AsyncRedisCommands}로 빌리며, 같은 식별자의 시도는 진행 중인 대여가 끝나기를 기다렸다가 나눠 씁니다.
+ * 잠금은 로컬 허용량을 확인하고 바꾸는 동안에만 잡고 Redis 를 기다리는 동안에는 잡지 않으므로,
+ * 대여 결과를 반영하는 Lettuce I/O 스레드가 잠금을 오래 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+	static final String KEY_PREFIX = "LoginBucket:";
+	private static final String METRIC_PREFIX = "jwt.login.throttle";
+
+	/**
+	 * 버킷을 충전한 뒤 요청한 만큼 (남은 허용량이 적으면 남은 만큼) 빌려 줍니다.
+	 * 빌려 준 허용량을 반환하며, 빌려 줄 허용량이 없으면 다음 허용량이 충전될 때까지 남은 밀리초를 음수로 반환합니다.
+	 * 노드 간 시계 차이가 영향을 주지 않도록 Redis 서버의 시각을 사용합니다.
+	 */
+	static final RedisScript<Long> LEASE_SCRIPT = RedisScript.of("""
+		redis.replicate_commands()
+		local capacity = tonumber(ARGV[1])
+		local interval = tonumber(ARGV[2])
+		local requested = tonumber(ARGV[3])
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+		local tokens = tonumber(bucket[1]) or capacity
+		local ts = tonumber(bucket[2]) or now
+		local refilled = math.floor((now - ts) / interval)
+		tokens = math.min(capacity, tokens + refilled)
+		ts = tokens == capacity and now or ts + refilled * interval
+		local granted = math.min(tokens, requested)
+		tokens = tokens - granted
+		redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', ts)
+		redis.call('PEXPIRE', KEYS[1], (capacity - tokens + 1) * interval)
+		if granted > 0 then
+			return granted
+		end
+		return -(ts + interval - now)
+		""", Long.class);
+
+	private final AsyncRedisCommands asyncCommands;
+	private final boolean enabled;
+	private final LongSupplier nanoTime;
+	private final Limit ipLimit;
+	private final Limit accountLimit;
+	private final Counter errors;
+
+	/**
+	 * @param redisTemplate 버킷을 저장할 {@link RedisTemplate}. 공유 연결을 사용하는 Lettuce 연결 팩토리로 만들어야 합니다.
+	 * @param enabled false 이면 시도 횟수를 제한하지 않습니다.
+	 * @param ipCapacity IP 하나가 연달아 시도할 수 있는 최대 횟수.
+	 * @param ipRefillInterval IP 버킷에 허용량 하나가 충전되는 간격.
+	 * @param ipLeaseSize IP 버킷에서 한 번에 빌리는 허용량.
+	 * @param accountCapacity 계정 하나가 연달아 시도할 수 있는 최대 횟수.
+	 * @param accountRefillInterval 계정 버킷에 허용량 하나가 충전되는 간격.
+	 * @param accountLeaseSize 계정 버킷에서 한 번에 빌리는 허용량.
+	 * @param leaseTtl 빌린 허용량을 쓰지 않고 보관하는 최대 시간.
+	 * @param maxLeases 노드가 보관하는 범위별 최대 대여 수.
+	 * @param meterRegistry 대여와 거절 지표를 등록할 {@link MeterRegistry}.
+	 */
+	@Autowired
+	public LoginRateLimiter(
+		RedisTemplate<String, Object> redisTemplate,
+		@Value("${spring.jwt.login-throttle.enabled:true}") boolean enabled,
+		@Value("${spring.jwt.login-throttle.ip.capacity:100}") int ipCapacity,
+		@Value("${spring.jwt.login-throttle.ip.refill-interval:600ms}") Duration ipRefillInterval,
+		@Value("${spring.jwt.login-throttle.ip.lease-size:10}") int ipLeaseSize,
+		@Value("${spring.jwt.login-throttle.account.capacity:10}") int accountCapacity,
+		@Value("${spring.jwt.login-throttle.account.refill-interval:6s}") Duration accountRefillInterval,
+		@Value("${spring.jwt.login-throttle.account.lease-size:2}") int accountLeaseSize,
+		@Value("${spring.jwt.login-throttle.lease-ttl:1s}") Duration leaseTtl,
+		@Value("${spring.jwt.login-throttle.max-leases:100000}") long maxLeases,
+		MeterRegistry meterRegistry
+	) {
+		this(redisTemplate, enabled, ipCapacity, ipRefillInterval, ipLeaseSize, accountCapacity,
+			accountRefillInterval, accountLeaseSize, leaseTtl, maxLeases, meterRegistry, System::nanoTime);
+	}
+
+	LoginRateLimiter(RedisTemplate<String, Object> redisTemplate, boolean enabled, int ipCapacity,
+		Duration ipRefillInterval, int ipLeaseSize, int accountCapacity, Duration accountRefillInterval,
+		int accountLeaseSize, Duration leaseTtl, long maxLeases, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+		this.asyncCommands = enabled ? new AsyncRedisCommands(redisTemplate) : null;
+		this.enabled = enabled;
+		this.nanoTime = nanoTime;
+		this.ipLimit = new Limit("ip", ipCapacity, ipRefillInterval, ipLeaseSize, leaseTtl, maxLeases,
+			meterRegistry);
+		this.accountLimit = new Limit("account", accountCapacity, accountRefillInterval, accountLeaseSize, leaseTtl,
+			maxLeases, meterRegistry);
+		this.errors = Counter.builder(METRIC_PREFIX + ".errors")
+			.description("Login attempts allowed because the rate limit store was unavailable")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 로그인 시도 하나를 허용할지 확인합니다. 허용량을 새로 빌려야 하면 Redis 응답을 기다립니다.
+	 *
+	 * @param clientIp 요청한 클라이언트의 IP.
+	 * @param email 로그인하려는 계정의 이메일.
+	 * @throws LoginThrottledException 허용량을 모두 쓴 경우.
+	 */
+	public void acquire(String clientIp, String email) {
+		try {
+			acquireAsync(clientIp, email).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * {@link #acquire}와 같지만 Redis 응답을 기다리지 않습니다. IP 제한을 먼저 확인하므로, IP 에서 거절된 시도는 계정의 허용량을 쓰지 않습니다.
+	 * 빌려 둔 허용량이 있으면 이미 완료되어 있고, 새로 빌리면 Lettuce I/O 스레드에서 완료됩니다.
+	 *
+	 * @param clientIp 요청한 클라이언트의 IP.
+	 * @param email 로그인하려는 계정의 이메일.
+	 * @return 시도를 허용하면 완료되는 {@link CompletableFuture}. 허용량을 모두 쓴 경우 {@link LoginThrottledException}으로 완료됩니다.
+	 */
+	public CompletableFuture<Void> acquireAsync(String clientIp, String email) {
+		if (!enabled) {
+			return CompletableFuture.completedFuture(null);
+		}
+		CompletableFuture<Void> ip = ipLimit.acquire(clientIp);
+		if (email == null) {
+			return ip;
+		}
+		String account = email.trim().toLowerCase(Locale.ROOT);
+		return ip.thenCompose(acquired -> accountLimit.acquire(account));
+	}
+
+	/**
+	 * 범위 하나 (IP 또는 계정) 의 제한과 이 노드가 빌려 둔 허용량입니다.
+	 */
+	private final class Limit {
+		private final String scope;
+		private final byte[] capacity;
+		private final byte[] intervalMillis;
+		private final byte[] leaseSize;
+		private final long leaseTtlNanos;
+		private final Cache<String, Lease> leases;
+		private final Counter leased;
+		private final Counter rejected;
+
+		private Limit(String scope, int capacity, Duration refillInterval, int leaseSize, Duration leaseTtl,
+			long maxLeases, MeterRegistry meterRegistry) {
+			this.scope = scope;
+			this.capacity = bytes(Integer.toString(capacity));
+			this.intervalMillis = bytes(Long.toString(Math.max(refillInterval.toMillis(), 1)));
+			this.leaseSize = bytes(Integer.toString(Math.max(Math.min(leaseSize, capacity), 1)));
+			this.leaseTtlNanos = leaseTtl.toNanos();
+			this.leases = Caffeine.newBuilder()
+				.maximumSize(maxLeases)
+				.expireAfterAccess(leaseTtl)
+				.build();
+			this.leased = Counter.builder(METRIC_PREFIX + ".leases")
+				.description("Permit blocks leased from the shared bucket")
+				.tag("scope", scope)
+				.register(meterRegistry);
+			this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+				.description("Login attempts rejected by the rate limit")
+				.tag("scope", scope)
+				.register(meterRegistry);
+		}
+
+		private CompletableFuture<Void> acquire(String id) {
+			Lease lease = leases.get(id, key -> new Lease());
+			CompletableFuture<Long> refill;
+			boolean leasing = false;
+			lease.lock.lock();
+			try {
+				if (lease.remaining > 0 && nanoTime.getAsLong() - lease.expiresAt < 0) {
+					lease.remaining--;
+					return CompletableFuture.completedFuture(null);
+				}
+				if (lease.refill == null) {
+					lease.refill = new CompletableFuture<>();
+					leasing = true;
+				}
+				refill = lease.refill;
+			} finally {
+				lease.lock.unlock();
+			}
+
+			if (!leasing) {
+				// 같은 식별자의 시도는 진행 중인 대여가 끝난 뒤 빌린 허용량을 나눠 씁니다.
+				return refill.thenCompose(result -> acquire(id));
+			}
+			lease(id).thenAccept(result -> refilled(lease, refill, result));
+			return refill.thenAccept(result -> {
+				if (result != null && result <= 0) {
+					rejected.increment();
+					throw new LoginThrottledException("Too many login attempts for " + scope,
+						Duration.ofMillis(-result));
+				}
+			});
+		}
+
+		/**
+		 * 대여 결과를 로컬 허용량에 반영하고 기다리던 시도를 깨웁니다. 대여를 시작한 시도가 허용량 하나를 씁니다.
+		 */
+		private void refilled(Lease lease, CompletableFuture<Long> refill, Long result) {
+			lease.lock.lock();
+			try {
+				lease.remaining = result == null || result <= 0 ? 0 : (int)(result - 1);
+				lease.expiresAt = nanoTime.getAsLong() + leaseTtlNanos;
+				lease.refill = null;
+			} finally {
+				lease.lock.unlock();
+			}
+			refill.complete(result);
+		}
+
+		/**
+		 * @return 빌린 허용량, 또는 다음 허용량까지 남은 밀리초의 음수로 완료되는 {@link CompletableFuture}.
+		 *         Redis 에 연결할 수 없으면 null 로 완료됩니다.
+		 */
+		private CompletableFuture<Long> lease(String id) {
+			return asyncCommands.eval(LEASE_SCRIPT, new byte[][] {bytes(KEY_PREFIX + scope + ":" + id)},
+					capacity, intervalMillis, leaseSize)
+				.handle((result, failure) -> {
+					if (failure != null) {
+						log.warn("Failed to lease login attempts for {}; allowing the attempt", scope, failure);
+						errors.increment();
+						return null;
+					}
+					leased.increment();
+					return result;
+				});
+		}
+	}
+
+	private static final class Lease {
+		private final ReentrantLock lock = new ReentrantLock();
+		private int remaining;
+		private long expiresAt;
+		private CompletableFuture<Long> refill;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.time.Duration;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import lombok.Getter;
+
+/**
+ * @author 김태환
+ * 계정이나 IP 의 로그인 시도 허용량을 모두 써서 로그인 요청을 거절할 때 발생합니다.
+ */
+@Getter
+public class LoginThrottledException extends AuthenticationServiceException {
+	private final transient Duration retryAfter;
+
+	/**
+	 * @param message 거절 사유.
+	 * @param retryAfter 다음 시도가 허용될 때까지 남은 시간.
+	 */
+	public LoginThrottledException(String message, Duration retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+}
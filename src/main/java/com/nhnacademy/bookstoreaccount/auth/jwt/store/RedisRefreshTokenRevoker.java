@@ -0,0 +1,110 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author 김태환
+ * 여러 사용자의 리프레시 토큰 키 "RefreshToken:{userId}" 를 한 번에 삭제합니다.
+ * 삭제는 키 여러 개를 받는 UNLINK 한 번으로 실행되어, 값의 메모리 해제는 Redis 가 백그라운드에서 처리합니다.
+ * 키 전체를 지우므로 저장 형식과 기기 수에 관계없이 사용자의 모든 세션이 사라지며,
+ * 니어 캐시를 쓰는 노드에는 Redis 의 클라이언트 추적이 무효화 메시지를 보냅니다.
+ * <p>
+ * 전체 키 조회는 SCAN 의 커서를 호출자에게 돌려주어, 중단된 작업을 같은 커서부터 다시 시작할 수 있게 합니다.
+ * 클러스터에서는 노드마다 커서가 따로 있으므로 전체 키 조회를 지원하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jwt.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisRefreshTokenRevoker {
+	static final String KEY_PREFIX = "RefreshToken:";
+	/**
+	 * SCAN 을 처음부터 시작하는 커서이자, 모든 키를 조회했음을 나타내는 커서입니다.
+	 */
+	public static final String INITIAL_CURSOR = "0";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+
+	/**
+	 * SCAN 한 번으로 찾은 사용자 ID와 다음 커서입니다.
+	 *
+	 * @param cursor 다음 SCAN 을 시작할 커서. {@link #INITIAL_CURSOR}이면 모든 키를 조회했습니다.
+	 * @param userIds 찾은 키의 사용자 ID.
+	 */
+	public record ScanPage(String cursor, List<Long> userIds) {
+	}
+
+	/**
+	 * 커서부터 리프레시 토큰 키를 한 번 SCAN 합니다. 한 번에 돌려받는 키 수는 count 와 다를 수 있습니다.
+	 *
+	 * @param cursor 시작 커서.
+	 * @param count SCAN 의 COUNT 값.
+	 * @return 찾은 사용자 ID와 다음 커서.
+	 * @throws IllegalStateException 클러스터 모드인 경우.
+	 */
+	public ScanPage scan(String cursor, int count) {
+		return redisTemplate.execute((RedisCallback<ScanPage>)connection -> {
+			if (connection instanceof RedisClusterConnection) {
+				throw new IllegalStateException("Scanning all refresh tokens is not supported in cluster mode");
+			}
+			Object reply = connection.execute("SCAN", bytes(cursor), bytes("MATCH"), bytes(KEY_PREFIX + "*"),
+				bytes("COUNT"), bytes(Integer.toString(count)));
+			return scanPage(reply);
+		});
+	}
+
+	/**
+	 * 사용자들의 리프레시 토큰 키를 한 번에 삭제합니다.
+	 *
+	 * @param userIds 사용자 ID 목록.
+	 * @return 실제로 삭제된 키 수.
+	 */
+	public long revoke(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		byte[][] keys = userIds.stream()
+			.map(userId -> bytes(KEY_PREFIX + userId))
+			.toArray(byte[][]::new);
+		Long unlinked = redisTemplate.execute((RedisCallback<Long>)connection ->
+			connection.keyCommands().unlink(keys));
+		return unlinked == null ? 0 : unlinked;
+	}
+
+	/**
+	 * SCAN 응답 [다음 커서, [키...]] 를 해석합니다. 사용자 ID가 숫자가 아닌 키는 건너뜁니다.
+	 */
+	static ScanPage scanPage(Object reply) {
+		if (!(reply instanceof List<?> parts) || parts.size() != 2 || !(parts.get(1) instanceof List<?> keys)) {
+			throw new IllegalStateException("Unexpected SCAN reply: " + reply);
+		}
+		List<Long> userIds = new ArrayList<>(keys.size());
+		for (Object key : keys) {
+			String userId = string(key).substring(KEY_PREFIX.length());
+			try {
+				userIds.add(Long.parseLong(userId));
+			} catch (NumberFormatException e) {
+				// 다른 용도의 키가 같은 접두사를 쓰는 경우입니다.
+			}
+		}
+		return new ScanPage(string(parts.get(0)), userIds);
+	}
+
+	private static String string(Object value) {
+		return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,675 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.DeviceIds;
+
+/**
+ * @author 김태환
+ * Redis 키 "RefreshToken:{userId}" 에 리프레시 토큰을 저장하는 {@link RefreshTokenStore} 구현입니다.
+ * 저장과 교체는 각각 하나의 Lua 스크립트로 실행되어 Redis 왕복 한 번으로 끝나며, 스크립트 실행 중에는 다른 명령이 끼어들 수 없으므로
+ * 동시 재발급 사이의 경쟁 조건이 없습니다.
+ * <p>
+ * 저장 형식은 {@link RefreshTokenFormat}으로 정합니다. {@link RefreshTokenFormat#LEGACY} 형식은 해시의 "token" 필드에
+ * 해시 값 직렬화기로 직렬화한 토큰 전체를, {@link RefreshTokenFormat#DIGEST} 형식은 같은 키에 토큰의 SHA-256 다이제스트만
+ * 문자열 값으로 저장합니다. 토큰은 비교에만 쓰이므로 다이제스트로 충분하며, 키마다 수백 바이트의 JSON 문자열과 해시 구조가 줄어듭니다.
+ * 두 형식이 같은 키 이름을 쓰므로 {@link RefreshTokenFormat#MIGRATE} 형식은 키의 타입을 보고 어느 형식인지 판단하고,
+ * 교체하거나 다시 저장할 때 다이제스트 형식으로 덮어씁니다. 리프레시 토큰의 만료 시간이 지나면 기존 형식의 키는 모두 사라집니다.
+ * 이 세 형식은 사용자당 하나의 세션만 유지하므로 기기 ID를 무시합니다.
+ * <p>
+ * {@link RefreshTokenFormat#DEVICE} 형식은 같은 키를 해시로 사용하여 기기마다 "device:{deviceId}" 필드에
+ * "{만료 시각(epoch 밀리초)}:{SHA-256 다이제스트}" 값을 저장합니다. 필드마다 만료 시각을 따로 가지며, 키 자체의 만료 시간은
+ * 마지막으로 저장한 세션의 만료 시간이므로 항상 모든 세션보다 늦습니다. 저장하거나 교체할 때 만료된 세션을 지우고, 세션 수가
+ * 최대 기기 수를 넘으면 만료 시각이 가장 이른, 즉 가장 오래 사용하지 않은 기기부터 지웁니다.
+ * 로그인, 교체, 로그아웃, 세션 조회는 모두 스크립트 하나로 실행되어 Redis 왕복 한 번으로 끝납니다.
+ * 복제본 읽기를 설정하면 세션 조회만 읽기 전용 명령으로 복제본에서 실행합니다.
+ * <p>
+ * 비동기 저장과 교체는 같은 스크립트를 공유 Lettuce 연결의 비동기 명령으로 보내므로, 응답을 기다리는 동안 스레드를 붙잡지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jwt.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+	private static final String KEY_PREFIX = "RefreshToken:";
+	private static final String TOKEN_FIELD = "token";
+	private static final String DEVICE_FIELD_PREFIX = "device:";
+	static final int DEFAULT_MAX_DEVICES = 5;
+
+	static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+		redis.call('DEL', KEYS[1])
+		redis.call('HSET', KEYS[1], 'token', ARGV[1])
+		redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	// 반환값: 0 = NOT_FOUND, 1 = MISMATCH, 2 = ROTATED
+	static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+		local current = redis.call('HGET', KEYS[1], 'token')
+		if not current then
+			return 0
+		end
+		if current ~= ARGV[1] then
+			return 1
+		end
+		redis.call('HSET', KEYS[1], 'token', ARGV[2])
+		redis.call('PEXPIRE', KEYS[1], ARGV[3])
+		return 2
+		""", Long.class);
+
+	static final RedisScript<Long> DIGEST_SAVE_SCRIPT = RedisScript.of("""
+		redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+		return 1
+		""", Long.class);
+
+	static final RedisScript<Long> DIGEST_ROTATE_SCRIPT = RedisScript.of("""
+		local current = redis.call('GET', KEYS[1])
+		if not current then
+			return 0
+		end
+		if current ~= ARGV[1] then
+			return 1
+		end
+		redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+		return 2
+		""", Long.class);
+
+	// ARGV: 직렬화한 기존 형식의 토큰, 제시된 토큰의 다이제스트, 새 토큰의 다이제스트, 만료 시간
+	static final RedisScript<Long> MIGRATE_ROTATE_SCRIPT = RedisScript.of("""
+		local type = redis.call('TYPE', KEYS[1])['ok']
+		local current
+		local expected
+		if type == 'string' then
+			current = redis.call('GET', KEYS[1])
+			expected = ARGV[2]
+		elseif type == 'hash' then
+			current = redis.call('HGET', KEYS[1], 'token')
+			expected = ARGV[1]
+		end
+		if not current then
+			return 0
+		end
+		if current ~= expected then
+			return 1
+		end
+		redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4])
+		return 2
+		""", Long.class);
+
+	// 기기별 세션 해시에서 만료된 세션을 지우고, 최대 기기 수를 넘는 세션을 만료 시각이 이른 순서로 지웁니다.
+	private static final String TRIM_FUNCTION = """
+		local function trim(key, now, maxDevices)
+			local entries = redis.call('HGETALL', key)
+			local live = {}
+			for i = 1, #entries, 2 do
+				local field = entries[i]
+				if string.sub(field, 1, 7) == 'device:' then
+					local expiresAt = tonumber(string.match(entries[i + 1], '^(%d+):'))
+					if expiresAt and expiresAt > now then
+						live[#live + 1] = {field, expiresAt}
+					else
+						redis.call('HDEL', key, field)
+					end
+				end
+			end
+			if #live > maxDevices then
+				table.sort(live, function(a, b) return a[2] < b[2] end)
+				for i = 1, #live - maxDevices do
+					redis.call('HDEL', key, live[i][1])
+				end
+			end
+		end
+		""";
+
+	// ARGV: 필드, 값, 만료 시간, 현재 시각, 최대 기기 수
+	// 다이제스트 형식의 세션은 기본 기기의 세션으로 옮깁니다.
+	static final RedisScript<Long> DEVICE_SAVE_SCRIPT = RedisScript.of(TRIM_FUNCTION + """
+		local now = tonumber(ARGV[4])
+		if redis.call('TYPE', KEYS[1])['ok'] == 'string' then
+			local digest = redis.call('GET', KEYS[1])
+			local ttl = redis.call('PTTL', KEYS[1])
+			redis.call('DEL', KEYS[1])
+			if ttl > 0 then
+				redis.call('HSET', KEYS[1], 'device:default', string.format('%.0f', now + ttl) .. ':' .. digest)
+			end
+		end
+		redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+		trim(KEYS[1], now, tonumber(ARGV[5]))
+		redis.call('PEXPIRE', KEYS[1], ARGV[3])
+		return 1
+		""", Long.class);
+
+	// ARGV: 필드, 제시된 토큰의 다이제스트, 직렬화한 기존 형식의 제시된 토큰, 새 값, 만료 시간, 현재 시각, 최대 기기 수
+	// 기기 필드가 없으면 기존 형식의 세션과 비교하고, 일치하면 그 세션을 이 기기의 세션으로 옮깁니다.
+	static final RedisScript<Long> DEVICE_ROTATE_SCRIPT = RedisScript.of(TRIM_FUNCTION + """
+		local now = tonumber(ARGV[6])
+		local type = redis.call('TYPE', KEYS[1])['ok']
+		if type == 'string' then
+			if redis.call('GET', KEYS[1]) ~= ARGV[2] then
+				return 1
+			end
+			redis.call('DEL', KEYS[1])
+		elseif type == 'hash' then
+			local entry = redis.call('HGET', KEYS[1], ARGV[1])
+			if entry then
+				local separator = string.find(entry, ':', 1, true)
+				if not separator or tonumber(string.sub(entry, 1, separator - 1)) <= now then
+					redis.call('HDEL', KEYS[1], ARGV[1])
+					return 0
+				end
+				if string.sub(entry, separator + 1) ~= ARGV[2] then
+					return 1
+				end
+			else
+				local legacy = redis.call('HGET', KEYS[1], 'token')
+				if not legacy then
+					return 0
+				end
+				if legacy ~= ARGV[3] then
+					return 1
+				end
+				redis.call('HDEL', KEYS[1], 'token')
+			end
+		else
+			return 0
+		end
+		redis.call('HSET', KEYS[1], ARGV[1], ARGV[4])
+		trim(KEYS[1], now, tonumber(ARGV[7]))
+		redis.call('PEXPIRE', KEYS[1], ARGV[5])
+		return 2
+		""", Long.class);
+
+	// ARGV: 필드
+	static final RedisScript<Long> DEVICE_DELETE_SCRIPT = RedisScript.of("""
+		local type = redis.call('TYPE', KEYS[1])['ok']
+		if type == 'string' then
+			return redis.call('DEL', KEYS[1])
+		end
+		if type ~= 'hash' then
+			return 0
+		end
+		if redis.call('HDEL', KEYS[1], ARGV[1]) == 1 then
+			return 1
+		end
+		return redis.call('HDEL', KEYS[1], 'token')
+		""", Long.class);
+
+	// ARGV: 현재 시각. 반환값: 기기 ID, 만료 시각을 번갈아 담은 목록
+	@SuppressWarnings("rawtypes")
+	static final RedisScript<List> DEVICE_SESSIONS_SCRIPT = RedisScript.of("""
+		local now = tonumber(ARGV[1])
+		local type = redis.call('TYPE', KEYS[1])['ok']
+		local sessions = {}
+		local function addSingleSession()
+			local ttl = redis.call('PTTL', KEYS[1])
+			if ttl > 0 then
+				sessions[#sessions + 1] = 'default'
+				sessions[#sessions + 1] = string.format('%.0f', now + ttl)
+			end
+		end
+		if type == 'string' then
+			addSingleSession()
+		elseif type == 'hash' then
+			local entries = redis.call('HGETALL', KEYS[1])
+			for i = 1, #entries, 2 do
+				local field = entries[i]
+				if field == 'token' then
+					addSingleSession()
+				elseif string.sub(field, 1, 7) == 'device:' then
+					local expiresAt = string.match(entries[i + 1], '^(%d+):')
+					if expiresAt and tonumber(expiresAt) > now then
+						sessions[#sessions + 1] = string.sub(field, 8)
+						sessions[#sessions + 1] = expiresAt
+					end
+				end
+			end
+		end
+		return sessions
+		""", List.class);
+
+	private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+	// 스크립트가 목록을 반환하면 결과 직렬화기는 목록의 각 요소에 적용됩니다.
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static final RedisSerializer<List> LIST_RESULT_SERIALIZER = (RedisSerializer)RedisSerializer.string();
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final AsyncRedisCommands asyncCommands;
+	private final RefreshTokenFormat format;
+	private final int maxDevices;
+	private final Clock clock;
+	private final RefreshTokenNearCache nearCache;
+	private final boolean replicaReads;
+
+	/**
+	 * 기존 형식으로 저장하는 Redis 리프레시 토큰 저장소를 초기화합니다.
+	 *
+	 * @param redisTemplate 리프레시 토큰을 저장할 {@link RedisTemplate}.
+	 */
+	public RedisRefreshTokenStore(RedisTemplate<String, Object> redisTemplate) {
+		this(redisTemplate, null);
+	}
+
+	/**
+	 * 저장 형식을 지정하여 Redis 리프레시 토큰 저장소를 초기화합니다.
+	 *
+	 * @param redisTemplate 리프레시 토큰을 저장할 {@link RedisTemplate}.
+	 * @param format 저장 형식 (legacy, digest, migrate, device). 비어 있으면 legacy 입니다.
+	 */
+	public RedisRefreshTokenStore(RedisTemplate<String, Object> redisTemplate, String format) {
+		this(redisTemplate, RefreshTokenFormat.of(format), DEFAULT_MAX_DEVICES, Clock.systemUTC(), null);
+	}
+
+	/**
+	 * 저장 형식과 사용자당 최대 기기 수를 지정하여 Redis 리프레시 토큰 저장소를 초기화합니다.
+	 *
+	 * @param redisTemplate 리프레시 토큰을 저장할 {@link RedisTemplate}.
+	 * @param format 저장 형식 (legacy, digest, migrate, device). 비어 있으면 legacy 입니다.
+	 * @param maxDevices device 형식에서 사용자당 유지하는 최대 세션 수.
+	 * @param readFrom Redis 연결의 읽기 대상 (upstream, replicaPreferred 등). 마스터가 아니면 세션 조회를 복제본에서 합니다.
+	 * @param nearCache 설정되어 있으면 사용할 {@link RefreshTokenNearCache}.
+	 */
+	@Autowired
+	public RedisRefreshTokenStore(RedisTemplate<String, Object> redisTemplate,
+		@Value("${spring.jwt.refresh-token.format:legacy}") String format,
+		@Value("${spring.jwt.refresh-token.max-devices:" + DEFAULT_MAX_DEVICES + "}") int maxDevices,
+		@Value("${oritang.redis.read-from:upstream}") String readFrom,
+		ObjectProvider<RefreshTokenNearCache> nearCache) {
+		this(redisTemplate, RefreshTokenFormat.of(format), maxDevices, Clock.systemUTC(), nearCache.getIfAvailable(),
+			isReplicaRead(readFrom));
+	}
+
+	RedisRefreshTokenStore(RedisTemplate<String, Object> redisTemplate, RefreshTokenFormat format, int maxDevices,
+		Clock clock, RefreshTokenNearCache nearCache) {
+		this(redisTemplate, format, maxDevices, clock, nearCache, false);
+	}
+
+	RedisRefreshTokenStore(RedisTemplate<String, Object> redisTemplate, RefreshTokenFormat format, int maxDevices,
+		Clock clock, RefreshTokenNearCache nearCache, boolean replicaReads) {
+		if (maxDevices < 1) {
+			throw new IllegalArgumentException("max-devices must be positive: " + maxDevices);
+		}
+		this.redisTemplate = redisTemplate;
+		this.asyncCommands = new AsyncRedisCommands(redisTemplate);
+		this.format = format;
+		this.maxDevices = maxDevices;
+		this.clock = clock;
+		this.nearCache = nearCache;
+		this.replicaReads = replicaReads;
+	}
+
+	static boolean isReplicaRead(String readFrom) {
+		return readFrom != null && !readFrom.isBlank()
+			&& !"upstream".equalsIgnoreCase(readFrom.trim()) && !"master".equalsIgnoreCase(readFrom.trim());
+	}
+
+	@Override
+	public void save(Long userId, String deviceId, String refreshToken, long expiresIn) {
+		ScriptCall call = saveCall(deviceId, refreshToken, expiresIn);
+		execute(call.script(), userId, call.args());
+	}
+
+	@Override
+	public CompletableFuture<Void> saveAsync(Long userId, String deviceId, String refreshToken, long expiresIn) {
+		ScriptCall call = saveCall(deviceId, refreshToken, expiresIn);
+		return executeAsync(call.script(), userId, call.args()).thenApply(result -> null);
+	}
+
+	private ScriptCall saveCall(String deviceId, String refreshToken, long expiresIn) {
+		return switch (format) {
+			case LEGACY -> new ScriptCall(SAVE_SCRIPT, serializeValue(refreshToken), serializeLong(expiresIn));
+			case DIGEST, MIGRATE -> new ScriptCall(DIGEST_SAVE_SCRIPT, digest(refreshToken), serializeLong(expiresIn));
+			case DEVICE -> {
+				long now = clock.millis();
+				yield new ScriptCall(DEVICE_SAVE_SCRIPT, deviceField(deviceId),
+					deviceEntry(now + expiresIn, refreshToken), serializeLong(expiresIn), serializeLong(now),
+					serializeLong(maxDevices));
+			}
+		};
+	}
+
+	@Override
+	public RotationResult rotate(Long userId, String deviceId, String presentedToken, long presentedIssuedAt,
+		String newToken, long expiresIn) {
+		RotationResult localResult = cachedRotationResult(userId, deviceId, presentedToken, presentedIssuedAt);
+		if (localResult != null) {
+			return localResult;
+		}
+
+		ScriptCall call = rotateCall(deviceId, presentedToken, newToken, expiresIn);
+		return rotationResult(userId, execute(call.script(), userId, call.args()));
+	}
+
+	/**
+	 * 교체 스크립트를 Lettuce 비동기 명령으로 실행합니다. near cache 로 판단할 수 있으면 Redis 에 보내지 않습니다.
+	 */
+	@Override
+	public CompletableFuture<RotationResult> rotateAsync(Long userId, String deviceId, String presentedToken,
+		long presentedIssuedAt, String newToken, long expiresIn) {
+		RotationResult localResult = cachedRotationResult(userId, deviceId, presentedToken, presentedIssuedAt);
+		if (localResult != null) {
+			return CompletableFuture.completedFuture(localResult);
+		}
+
+		ScriptCall call = rotateCall(deviceId, presentedToken, newToken, expiresIn);
+		return executeAsync(call.script(), userId, call.args()).thenApply(result -> rotationResult(userId, result));
+	}
+
+	private RotationResult cachedRotationResult(Long userId, String deviceId, String presentedToken,
+		long presentedIssuedAt) {
+		if (nearCache == null) {
+			return null;
+		}
+		RefreshTokenNearCache.Snapshot snapshot = nearCache.get(key(userId), presentedIssuedAt);
+		return snapshot == null ? null : localRotationResult(snapshot, deviceId, presentedToken);
+	}
+
+	private ScriptCall rotateCall(String deviceId, String presentedToken, String newToken, long expiresIn) {
+		return switch (format) {
+			case LEGACY -> new ScriptCall(ROTATE_SCRIPT,
+				serializeValue(presentedToken), serializeValue(newToken), serializeLong(expiresIn));
+			case DIGEST -> new ScriptCall(DIGEST_ROTATE_SCRIPT,
+				digest(presentedToken), digest(newToken), serializeLong(expiresIn));
+			case MIGRATE -> new ScriptCall(MIGRATE_ROTATE_SCRIPT,
+				serializeValue(presentedToken), digest(presentedToken), digest(newToken), serializeLong(expiresIn));
+			case DEVICE -> {
+				long now = clock.millis();
+				yield new ScriptCall(DEVICE_ROTATE_SCRIPT, deviceField(deviceId), digest(presentedToken),
+					serializeValue(presentedToken), deviceEntry(now + expiresIn, newToken), serializeLong(expiresIn),
+					serializeLong(now), serializeLong(maxDevices));
+			}
+		};
+	}
+
+	private RotationResult rotationResult(Long userId, Long result) {
+		RotationResult rotationResult = result == null || result == 0L ? RotationResult.NOT_FOUND
+			: result == 2L ? RotationResult.ROTATED : RotationResult.MISMATCH;
+		if (nearCache != null && rotationResult != RotationResult.ROTATED) {
+			// 재사용된 토큰은 같은 요청이 반복되는 경우가 많으므로, 다음 요청은 캐시에서 거절할 수 있도록 키를 읽어 둡니다.
+			nearCache.refresh(key(userId));
+		}
+		return rotationResult;
+	}
+
+	/**
+	 * 캐시된 기기별 세션 해시로 세션 목록을 만듭니다.
+	 * 기존 형식의 세션은 키의 남은 만료 시간이 필요하므로 Redis 에서 조회하도록 null 을 반환합니다.
+	 */
+	private static List<DeviceSession> localSessions(RefreshTokenNearCache.Snapshot snapshot, long now) {
+		if (snapshot == null) {
+			return null;
+		}
+		if ("none".equals(snapshot.type())) {
+			return List.of();
+		}
+		if (!"hash".equals(snapshot.type()) || snapshot.fields().containsKey(TOKEN_FIELD)) {
+			return null;
+		}
+		return deviceSessions(snapshot.fields(), now);
+	}
+
+	private static List<DeviceSession> deviceSessions(Map<String, byte[]> fields, long now) {
+		List<DeviceSession> sessions = new ArrayList<>();
+		fields.forEach((field, entry) -> {
+			int separator = indexOf(entry, (byte)':');
+			if (field.startsWith(DEVICE_FIELD_PREFIX) && separator > 0) {
+				long expiresAt = Long.parseLong(new String(entry, 0, separator, StandardCharsets.US_ASCII));
+				if (expiresAt > now) {
+					sessions.add(new DeviceSession(field.substring(DEVICE_FIELD_PREFIX.length()), expiresAt));
+				}
+			}
+		});
+		sessions.sort(Comparator.comparingLong(DeviceSession::expiresAt).reversed());
+		return sessions;
+	}
+
+	/**
+	 * 캐시된 키의 내용으로 교체 스크립트의 결과를 미리 판단합니다.
+	 * 교체에 성공할 때는 Redis 에 써야 하므로, 실패가 확실한 경우에만 결과를 반환합니다.
+	 *
+	 * @return 교체에 실패할 결과. 교체될 수 있거나 판단할 수 없으면 null.
+	 */
+	private RotationResult localRotationResult(RefreshTokenNearCache.Snapshot snapshot, String deviceId,
+		String presentedToken) {
+		switch (snapshot.type()) {
+			case "none" -> {
+				return RotationResult.NOT_FOUND;
+			}
+			case "string" -> {
+				// legacy 형식의 스크립트는 string 키에서 실패하므로 Redis 가 판단하도록 둡니다.
+				if (format == RefreshTokenFormat.LEGACY) {
+					return null;
+				}
+				return Arrays.equals(snapshot.value(), digest(presentedToken)) ? null : RotationResult.MISMATCH;
+			}
+			case "hash" -> {
+				if (format == RefreshTokenFormat.DIGEST) {
+					return null;
+				}
+				if (format == RefreshTokenFormat.DEVICE) {
+					byte[] entry = snapshot.fields().get(DEVICE_FIELD_PREFIX + DeviceIds.normalize(deviceId));
+					if (entry != null) {
+						return localDeviceEntryResult(entry, presentedToken);
+					}
+				}
+				byte[] legacyToken = snapshot.fields().get(TOKEN_FIELD);
+				if (legacyToken == null) {
+					return RotationResult.NOT_FOUND;
+				}
+				return Arrays.equals(legacyToken, serializeValue(presentedToken)) ? null : RotationResult.MISMATCH;
+			}
+			default -> {
+				return null;
+			}
+		}
+	}
+
+	private RotationResult localDeviceEntryResult(byte[] entry, String presentedToken) {
+		int separator = indexOf(entry, (byte)':');
+		if (separator < 0) {
+			return null;
+		}
+		long expiresAt = Long.parseLong(new String(entry, 0, separator, StandardCharsets.US_ASCII));
+		if (expiresAt <= clock.millis()) {
+			return RotationResult.NOT_FOUND;
+		}
+		byte[] digest = Arrays.copyOfRange(entry, separator + 1, entry.length);
+		return Arrays.equals(digest, digest(presentedToken)) ? null : RotationResult.MISMATCH;
+	}
+
+	private static int indexOf(byte[] bytes, byte target) {
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == target) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean delete(Long userId, String deviceId) {
+		return switch (format) {
+			case LEGACY -> {
+				Long deleted = redisTemplate.opsForHash().delete(key(userId), TOKEN_FIELD);
+				yield deleted != null && deleted > 0;
+			}
+			// 다이제스트 형식과 기존 형식 모두 키 전체를 지우면 되므로 타입을 구분하지 않습니다.
+			case DIGEST, MIGRATE -> Boolean.TRUE.equals(redisTemplate.delete(key(userId)));
+			case DEVICE -> {
+				Long deleted = execute(DEVICE_DELETE_SCRIPT, userId, deviceField(deviceId));
+				yield deleted != null && deleted > 0;
+			}
+		};
+	}
+
+	/**
+	 * {@link #delete}와 같은 명령을 Lettuce 비동기 명령으로 실행합니다.
+	 */
+	@Override
+	public CompletableFuture<Boolean> deleteAsync(Long userId, String deviceId) {
+		byte[] key = keyBytes(userId);
+		CompletableFuture<Long> deleted = switch (format) {
+			case LEGACY -> asyncCommands.execute(
+				commands -> commands.hdel(key, TOKEN_FIELD.getBytes(StandardCharsets.UTF_8)));
+			case DIGEST, MIGRATE -> asyncCommands.execute(commands -> commands.del(key));
+			case DEVICE -> executeAsync(DEVICE_DELETE_SCRIPT, userId, deviceField(deviceId));
+		};
+		return deleted.thenApply(count -> count != null && count > 0);
+	}
+
+	@Override
+	public List<DeviceSession> findSessions(Long userId) {
+		long now = clock.millis();
+		if (format != RefreshTokenFormat.DEVICE) {
+			return singleSession(redisTemplate.getExpire(key(userId), TimeUnit.MILLISECONDS), now);
+		}
+
+		if (nearCache != null) {
+			List<DeviceSession> cachedSessions = localSessions(nearCache.getOrLoad(key(userId)), now);
+			if (cachedSessions != null) {
+				return cachedSessions;
+			}
+		}
+
+		if (replicaReads) {
+			return replicaSessions(userId, now);
+		}
+
+		List<?> result = redisTemplate.execute(DEVICE_SESSIONS_SCRIPT, RedisSerializer.byteArray(),
+			LIST_RESULT_SERIALIZER, List.of(key(userId)), serializeLong(now));
+		if (result == null) {
+			return List.of();
+		}
+		List<DeviceSession> sessions = new ArrayList<>(result.size() / 2);
+		for (int i = 0; i + 1 < result.size(); i += 2) {
+			sessions.add(new DeviceSession((String)result.get(i), Long.parseLong((String)result.get(i + 1))));
+		}
+		sessions.sort(Comparator.comparingLong(DeviceSession::expiresAt).reversed());
+		return sessions;
+	}
+
+	/**
+	 * Lua 스크립트는 쓰기 명령으로 취급되어 마스터에서 실행되므로, 복제본에서 읽도록 설정하면 읽기 전용 명령만으로 세션을 조회합니다.
+	 * 복제 지연만큼 직전의 로그인이나 로그아웃이 늦게 보일 수 있지만, 토큰 교체는 항상 마스터에서 판단하므로 안전합니다.
+	 */
+	private List<DeviceSession> replicaSessions(Long userId, long now) {
+		byte[] rawKey = key(userId).getBytes(StandardCharsets.UTF_8);
+		List<DeviceSession> sessions = redisTemplate.execute((RedisCallback<List<DeviceSession>>)connection -> {
+			DataType type = connection.keyCommands().type(rawKey);
+			if (type == DataType.STRING) {
+				return singleSession(connection.keyCommands().pTtl(rawKey), now);
+			}
+			if (type != DataType.HASH) {
+				return List.of();
+			}
+			Map<byte[], byte[]> entries = connection.hashCommands().hGetAll(rawKey);
+			if (entries == null) {
+				return List.of();
+			}
+			Map<String, byte[]> fields = new HashMap<>(entries.size());
+			entries.forEach((field, entry) -> fields.put(new String(field, StandardCharsets.UTF_8), entry));
+			if (fields.containsKey(TOKEN_FIELD)) {
+				return singleSession(connection.keyCommands().pTtl(rawKey), now);
+			}
+			return deviceSessions(fields, now);
+		});
+		return sessions == null ? List.of() : sessions;
+	}
+
+	private static List<DeviceSession> singleSession(Long ttl, long now) {
+		if (ttl == null || ttl <= 0) {
+			return List.of();
+		}
+		return List.of(new DeviceSession(DeviceIds.DEFAULT_DEVICE_ID, now + ttl));
+	}
+
+	/**
+	 * 다이제스트 형식에서 저장하는 값을 계산합니다.
+	 *
+	 * @param token 리프레시 토큰.
+	 * @return 토큰의 SHA-256 다이제스트 (32 바이트).
+	 */
+	static byte[] digest(String token) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private static byte[] deviceField(String deviceId) {
+		return (DEVICE_FIELD_PREFIX + DeviceIds.normalize(deviceId)).getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * device 형식에서 기기 필드에 저장하는 값을 만듭니다.
+	 *
+	 * @param expiresAt 세션의 만료 시각 (epoch 밀리초).
+	 * @param token 리프레시 토큰.
+	 * @return "{만료 시각}:{SHA-256 다이제스트}" 바이트.
+	 */
+	static byte[] deviceEntry(long expiresAt, String token) {
+		byte[] prefix = (expiresAt + ":").getBytes(StandardCharsets.US_ASCII);
+		byte[] digest = digest(token);
+		byte[] entry = Arrays.copyOf(prefix, prefix.length + digest.length);
+		System.arraycopy(digest, 0, entry, prefix.length, digest.length);
+		return entry;
+	}
+
+	private Long execute(RedisScript<Long> script, Long userId, byte[]... args) {
+		return redisTemplate.execute(script, RedisSerializer.byteArray(), RESULT_SERIALIZER, List.of(key(userId)),
+			(Object[])args);
+	}
+
+	/**
+	 * 스크립트를 공유 Lettuce 연결의 비동기 명령으로 실행합니다. 결과는 Lettuce 의 I/O 스레드에서 완료되므로
+	 * 이어지는 단계에서 블로킹 호출을 하지 않아야 합니다.
+	 */
+	private CompletableFuture<Long> executeAsync(RedisScript<Long> script, Long userId, byte[]... args) {
+		return asyncCommands.eval(script, new byte[][] {keyBytes(userId)}, args);
+	}
+
+	private static String key(Long userId) {
+		return KEY_PREFIX + userId;
+	}
+
+	private static byte[] keyBytes(Long userId) {
+		return key(userId).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serializeValue(String value) {
+		return ((RedisSerializer<Object>)redisTemplate.getHashValueSerializer()).serialize(value);
+	}
+
+	private static byte[] serializeLong(long value) {
+		return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * 저장 형식에 따라 고른 스크립트와 인자입니다. 동기 연산과 비동기 연산이 같은 인자를 사용합니다.
+	 */
+	private record ScriptCall(RedisScript<Long> script, byte[]... args) {
+	}
+}
@@ -0,0 +1,38 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+/**
+ * @author 김태환
+ * Redis 에 리프레시 토큰을 저장하는 형식입니다.
+ */
+public enum RefreshTokenFormat {
+	/**
+	 * 해시("token" 필드)에 JSON 직렬화한 토큰 문자열 전체를 저장합니다.
+	 */
+	LEGACY,
+	/**
+	 * 토큰의 SHA-256 다이제스트(32 바이트)만 PX 만료를 가진 문자열 값으로 저장합니다.
+	 */
+	DIGEST,
+	/**
+	 * 두 형식을 모두 읽고, 쓰기는 {@link #DIGEST} 형식으로 합니다. 기존 데이터를 옮기는 동안 사용합니다.
+	 */
+	MIGRATE,
+	/**
+	 * 해시에 기기별 필드("device:{deviceId}")로 만료 시각과 토큰의 SHA-256 다이제스트를 저장하여 여러 기기의 세션을 유지합니다.
+	 * 앞의 두 형식으로 저장된 세션도 읽으며, 교체할 때 기기별 필드로 옮깁니다.
+	 */
+	DEVICE;
+
+	/**
+	 * 설정 값으로부터 저장 형식을 찾습니다. 비어 있으면 {@link #LEGACY}를 반환합니다.
+	 *
+	 * @param value 설정 값 (legacy, digest, migrate, device). 대소문자를 구분하지 않습니다.
+	 * @return 저장 형식.
+	 */
+	public static RefreshTokenFormat of(String value) {
+		if (value == null || value.isBlank()) {
+			return LEGACY;
+		}
+		return valueOf(value.trim().toUpperCase());
+	}
+}
@@ -0,0 +1,269 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.net.SocketAddress;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author 김태환
+ * 리프레시 토큰 키의 내용을 프로세스 안에 보관하는 near cache 입니다.
+ * 전용 RESP3 연결에서 CLIENT TRACKING 을 켜고 그 연결로 키를 읽으므로, 다른 노드가 키를 교체하거나 삭제하면 Redis 가
+ * invalidate 푸시 메시지를 보내고 해당 항목이 바로 제거됩니다. 연결이 끊기면 그동안의 무효화를 받을 수 없으므로 캐시를 비우고,
+ * 다시 연결되어 추적이 켜질 때까지 사용하지 않습니다.
+ * <p>
+ * 무효화 메시지는 비동기로 도착하므로, 다른 노드가 방금 저장한 토큰을 캐시가 아직 모를 수 있습니다. 이런 토큰은 캐시 항목을
+ * 읽은 뒤에 발급되었으므로, 제시된 토큰의 발급 시각이 항목을 읽은 시각보다 앞설 때만 항목을 사용합니다.
+ */
+@Slf4j
+public class RefreshTokenNearCache implements AutoCloseable {
+	private static final String CACHE_NAME = "jwt.refresh-token.near-cache";
+	private static final RedisCodec<String, byte[]> CODEC = RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+	private static final int GENERATION_STRIPES = 64;
+	// iat 클레임은 초 단위이므로 실제 발급 시각보다 최대 1초 이를 수 있습니다.
+	private static final long ISSUED_AT_PRECISION_MILLIS = 1_000L;
+
+	private final StatefulRedisConnection<String, byte[]> connection;
+	private final Cache<String, Snapshot> cache;
+	// 키를 읽는 동안 도착한 무효화를 놓치지 않도록, 읽기 전후의 세대가 같을 때만 캐시에 저장합니다.
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+	private final Counter invalidations;
+	private final long clockSkewMillis;
+	private final Clock clock;
+	private volatile boolean tracking;
+
+	/**
+	 * 키의 내용을 읽은 시점의 사본입니다.
+	 *
+	 * @param type 키의 타입 (none, string, hash).
+	 * @param value string 타입의 값. 그 외에는 null 입니다.
+	 * @param fields hash 타입의 필드. 그 외에는 빈 맵입니다.
+	 * @param loadedAt 키를 읽기 시작한 시각 (epoch 밀리초).
+	 */
+	record Snapshot(String type, byte[] value, Map<String, byte[]> fields, long loadedAt) {
+		Snapshot {
+			fields = fields == null ? Map.of() : Map.copyOf(fields);
+		}
+	}
+
+	/**
+	 * Redis 에 near cache 전용 연결을 열고 추적을 켭니다.
+	 *
+	 * @param redisClient 연결을 만들 {@link RedisClient}. 애플리케이션의 다른 연결과 클라이언트 리소스를 공유합니다.
+	 * @param redisUri 연결할 Redis 주소.
+	 * @param maxSize 캐시에 보관할 최대 키 수.
+	 * @param ttl 무효화 메시지와 관계없이 항목을 보관하는 최대 시간.
+	 * @param clockSkew 노드 사이의 시계 오차와 토큰 발급부터 저장까지의 지연으로 허용하는 시간.
+	 * @param meterRegistry 적중/실패/축출/무효화 지표를 등록할 {@link MeterRegistry}.
+	 * @return near cache.
+	 */
+	public static RefreshTokenNearCache connect(RedisClient redisClient, RedisURI redisUri, long maxSize,
+		Duration ttl, Duration clockSkew, MeterRegistry meterRegistry) {
+		return new RefreshTokenNearCache(redisClient.connect(CODEC, redisUri), maxSize, ttl, clockSkew,
+			meterRegistry, Clock.systemUTC());
+	}
+
+	RefreshTokenNearCache(StatefulRedisConnection<String, byte[]> connection, long maxSize, Duration ttl,
+		Duration clockSkew, MeterRegistry meterRegistry, Clock clock) {
+		this.connection = connection;
+		this.clockSkewMillis = clockSkew.toMillis();
+		this.clock = clock;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+			.executor(Runnable::run)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		this.invalidations = Counter.builder(CACHE_NAME + ".invalidations")
+			.description("Entries invalidated by Redis client-side tracking")
+			.register(meterRegistry);
+
+		connection.addListener((PushListener)this::onPushMessage);
+		connection.addListener(new RedisConnectionStateListener() {
+			@Override
+			public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+				enableTracking();
+			}
+
+			@Override
+			public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+				disableTracking();
+			}
+		});
+		try {
+			connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+			tracking = true;
+		} catch (RuntimeException e) {
+			// RESP2 로 연결되었거나 CLIENT TRACKING 을 지원하지 않는 서버입니다.
+			log.warn("Redis client tracking is unavailable; refresh-token near cache is disabled", e);
+		}
+	}
+
+	/**
+	 * 제시된 토큰을 판단하는 데 사용할 수 있는 캐시 항목을 반환합니다.
+	 *
+	 * @param key Redis 키.
+	 * @param issuedAt 제시된 토큰의 발급 시각 (epoch 밀리초).
+	 * @return 토큰이 항목을 읽기 전에 발급되었다면 그 항목, 항목이 없거나 믿을 수 없으면 null.
+	 */
+	Snapshot get(String key, long issuedAt) {
+		if (!tracking) {
+			return null;
+		}
+		Snapshot snapshot = cache.getIfPresent(key);
+		if (snapshot == null || issuedAt >= snapshot.loadedAt() - ISSUED_AT_PRECISION_MILLIS - clockSkewMillis) {
+			return null;
+		}
+		return snapshot;
+	}
+
+	/**
+	 * 캐시 항목을 반환하고, 없으면 추적 연결로 키를 읽어 저장합니다.
+	 *
+	 * @param key Redis 키.
+	 * @return 캐시 항목. 추적이 꺼져 있거나 읽지 못하면 null.
+	 */
+	Snapshot getOrLoad(String key) {
+		if (!tracking) {
+			return null;
+		}
+		Snapshot snapshot = cache.getIfPresent(key);
+		if (snapshot != null) {
+			return snapshot;
+		}
+		return load(key).join();
+	}
+
+	/**
+	 * 캐시에 항목이 없으면 추적 연결로 키를 비동기로 읽어 저장합니다.
+	 * 원격에서 부정적인 결과를 받은 뒤 같은 요청이 반복될 때 로컬에서 답할 수 있도록 호출합니다.
+	 *
+	 * @param key Redis 키.
+	 */
+	void refresh(String key) {
+		if (tracking && cache.getIfPresent(key) == null) {
+			load(key);
+		}
+	}
+
+	long estimatedSize() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+	@Override
+	public void close() {
+		disableTracking();
+		connection.close();
+	}
+
+	private CompletableFuture<Snapshot> load(String key) {
+		int stripe = stripe(key);
+		long generation = generations.get(stripe);
+		long loadedAt = clock.millis();
+
+		// TYPE 과 HGETALL 을 함께 보내 한 번의 왕복으로 읽습니다. 키가 string 이면 HGETALL 은 실패하고 GET 을 한 번 더 보냅니다.
+		RedisAsyncCommands<String, byte[]> commands = connection.async();
+		CompletableFuture<String> type = commands.type(key).toCompletableFuture();
+		CompletableFuture<Map<String, byte[]>> fields = commands.hgetall(key).toCompletableFuture()
+			.exceptionally(e -> null);
+		return type.thenCompose(keyType -> switch (keyType) {
+				case "hash" -> fields.thenApply(hash -> new Snapshot(keyType, null, hash, loadedAt));
+				case "string" -> commands.get(key).toCompletableFuture()
+					.thenApply(value -> new Snapshot(keyType, value, null, loadedAt));
+				default -> CompletableFuture.completedFuture(new Snapshot("none", null, null, loadedAt));
+			})
+			.thenApply(snapshot -> {
+				if (tracking && generations.get(stripe) == generation && isConsistent(snapshot)) {
+					cache.put(key, snapshot);
+				}
+				return snapshot;
+			})
+			.exceptionally(e -> {
+				log.debug("Failed to load refresh-token key {} into near cache", key, e);
+				return null;
+			});
+	}
+
+	/**
+	 * TYPE 과 값을 읽는 사이에 키가 바뀌어 타입과 값이 맞지 않는 사본은 저장하지 않습니다.
+	 */
+	private static boolean isConsistent(Snapshot snapshot) {
+		return switch (snapshot.type()) {
+			case "hash" -> !snapshot.fields().isEmpty();
+			case "string" -> snapshot.value() != null;
+			default -> true;
+		};
+	}
+
+	private void onPushMessage(PushMessage message) {
+		if (!"invalidate".equals(message.getType())) {
+			return;
+		}
+		List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+		Object keys = content.size() > 1 ? content.get(1) : null;
+		if (!(keys instanceof List<?> invalidatedKeys)) {
+			// 키 목록이 null 이면 FLUSHALL 등으로 모든 키가 무효화된 것입니다.
+			invalidateAll();
+			return;
+		}
+		for (Object key : invalidatedKeys) {
+			String redisKey = String.valueOf(key);
+			generations.incrementAndGet(stripe(redisKey));
+			cache.invalidate(redisKey);
+			invalidations.increment();
+		}
+	}
+
+	private void enableTracking() {
+		connection.async().clientTracking(TrackingArgs.Builder.enabled()).toCompletableFuture()
+			.whenComplete((result, e) -> {
+				if (e != null) {
+					log.warn("Failed to re-enable Redis client tracking", e);
+					return;
+				}
+				tracking = true;
+			});
+	}
+
+	private void disableTracking() {
+		tracking = false;
+		invalidateAll();
+	}
+
+	private void invalidateAll() {
+		for (int i = 0; i < GENERATION_STRIPES; i++) {
+			generations.incrementAndGet(i);
+		}
+		cache.invalidateAll();
+	}
+
+	private static int stripe(String key) {
+		return (key.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+	}
+}
@@ -0,0 +1,101 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
+
+/**
+ * @author 김태환
+ * 사용자와 기기별 리프레시 토큰 저장소입니다.
+ * 각 연산은 저장소에 대해 원자적으로 수행되어야 합니다.
+ * 기기별 세션을 지원하지 않는 구현은 기기 ID를 무시하고 사용자당 하나의 세션만 유지합니다.
+ * <p>
+ * 로그인과 재발급은 요청 스레드를 붙잡지 않도록 비동기 연산을 사용합니다. 저장소 I/O 가 없는 구현은 기본 구현대로
+ * 호출한 스레드에서 동기 연산을 실행하고 완료된 결과를 반환합니다.
+ */
+public interface RefreshTokenStore {
+	/**
+	 * 사용자 기기의 기존 리프레시 토큰을 새 토큰으로 덮어쓰고 만료 시간을 설정합니다.
+	 *
+	 * @param userId 사용자 ID.
+	 * @param deviceId 기기 ID.
+	 * @param refreshToken 새 리프레시 토큰.
+	 * @param expiresIn 리프레시 토큰의 만료 시간 (밀리초 단위).
+	 */
+	void save(Long userId, String deviceId, String refreshToken, long expiresIn);
+
+	/**
+	 * {@link #save}를 비동기로 실행합니다.
+	 *
+	 * @return 저장이 끝나면 완료되는 {@link CompletableFuture}. 저장에 실패하면 그 예외로 완료됩니다.
+	 */
+	default CompletableFuture<Void> saveAsync(Long userId, String deviceId, String refreshToken, long expiresIn) {
+		try {
+			save(userId, deviceId, refreshToken, expiresIn);
+			return CompletableFuture.completedFuture(null);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * 저장된 리프레시 토큰이 제시된 토큰과 같을 때만 새 토큰으로 교체하고 만료 시간을 다시 설정합니다.
+	 * 같은 토큰으로 동시에 재발급을 요청하면 하나의 요청만 {@link RotationResult#ROTATED}를 받습니다.
+	 *
+	 * @param userId 사용자 ID.
+	 * @param deviceId 기기 ID.
+	 * @param presentedToken 클라이언트가 제시한 리프레시 토큰.
+	 * @param presentedIssuedAt 제시된 리프레시 토큰의 발급 시각 (epoch 밀리초). 캐시된 상태를 믿을 수 있는지 판단하는 데 사용합니다.
+	 * @param newToken 새 리프레시 토큰.
+	 * @param expiresIn 새 리프레시 토큰의 만료 시간 (밀리초 단위).
+	 * @return 교체 결과.
+	 */
+	RotationResult rotate(Long userId, String deviceId, String presentedToken, long presentedIssuedAt,
+		String newToken, long expiresIn);
+
+	/**
+	 * {@link #rotate}를 비동기로 실행합니다.
+	 *
+	 * @return 교체 결과로 완료되는 {@link CompletableFuture}. 교체에 실패하면 그 예외로 완료됩니다.
+	 */
+	default CompletableFuture<RotationResult> rotateAsync(Long userId, String deviceId, String presentedToken,
+		long presentedIssuedAt, String newToken, long expiresIn) {
+		try {
+			return CompletableFuture.completedFuture(
+				rotate(userId, deviceId, presentedToken, presentedIssuedAt, newToken, expiresIn));
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * 사용자 기기의 리프레시 토큰을 삭제합니다.
+	 *
+	 * @param userId 사용자 ID.
+	 * @param deviceId 기기 ID.
+	 * @return 삭제할 토큰이 있었다면 true, 없었다면 false.
+	 */
+	boolean delete(Long userId, String deviceId);
+
+	/**
+	 * {@link #delete}를 비동기로 실행합니다.
+	 *
+	 * @return 삭제할 토큰이 있었는지로 완료되는 {@link CompletableFuture}. 삭제에 실패하면 그 예외로 완료됩니다.
+	 */
+	default CompletableFuture<Boolean> deleteAsync(Long userId, String deviceId) {
+		try {
+			return CompletableFuture.completedFuture(delete(userId, deviceId));
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * 사용자의 만료되지 않은 기기 세션 목록을 반환합니다.
+	 *
+	 * @param userId 사용자 ID.
+	 * @return 만료 시각이 늦은(최근에 사용한) 순서의 세션 목록.
+	 */
+	List<DeviceSession> findSessions(Long userId);
+}
@@ -0,0 +1,20 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+/**
+ * @author 김태환
+ * 리프레시 토큰 교체(rotate) 요청의 결과입니다.
+ */
+public enum RotationResult {
+	/**
+	 * 저장된 토큰이 제시된 토큰과 일치하여 새 토큰으로 교체되었습니다.
+	 */
+	ROTATED,
+	/**
+	 * 저장된 토큰이 제시된 토큰과 달라 교체하지 않았습니다. 이미 교체된 토큰이 재사용된 경우입니다.
+	 */
+	MISMATCH,
+	/**
+	 * 저장된 토큰이 없습니다. 로그아웃했거나 만료된 경우입니다.
+	 */
+	NOT_FOUND
+}
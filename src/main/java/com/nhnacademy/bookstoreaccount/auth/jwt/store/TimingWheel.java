@@ -0,0 +1,241 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * @author 김태환
+ * 만료 시각을 틱 단위 슬롯에 나누어 담는 해시 타이밍 휠입니다.
+ * 항목마다 타이머를 두지 않고 하나의 스레드가 틱마다 현재 슬롯만 확인합니다.
+ * 휠 한 바퀴보다 먼 만료 시각은 같은 슬롯에 남아 있다가, 틱마다 만료 시각을 비교하여 해당 바퀴에서 처리됩니다.
+ * <p>
+ * 사용자마다 가장 이른 만료 시각 하나만 등록합니다. 다시 등록하면 이전 항목을 슬롯에서 지우므로, 휠의 항목 수는 토큰 교체 횟수와
+ * 관계없이 세션이 있는 사용자 수를 넘지 않습니다.
+ * <p>
+ * 휠 전체를 잠그지 않습니다. 슬롯은 사용자 ID를 키로 하는 {@link ConcurrentHashMap}이고, 사용자별 현재 항목도
+ * {@link ConcurrentHashMap}에 두어 등록은 해당 사용자 키만 잠급니다. 만료 확인과 축출은 현재 항목에서 조건부로 지운 항목만
+ * 처리하므로, 동시에 다시 등록된 항목을 잘못 처리하지 않습니다. 축출은 현재 틱의 슬롯부터 차례로 확인하며 해당 틱에 속한 항목만
+ * 만료 시각 순으로 꺼내고, 남은 항목이 가장 이른 틱으로 건너뛰어 다음 바퀴를 확인합니다.
+ * <p>
+ * 휠은 만료 시각이 지났을 수 있다는 알림만 보내며, 실제로 만료되었는지는 호출자가 현재 상태로 다시 확인합니다.
+ */
+final class TimingWheel {
+	/**
+	 * 등록할 만료 시각이 없음을 나타냅니다.
+	 */
+	static final long NO_DEADLINE = Long.MAX_VALUE;
+
+	private static final Comparator<Timeout> BY_DEADLINE = Comparator.comparingLong(Timeout::deadline)
+		.thenComparingLong(Timeout::userId);
+
+	private final Map<Long, Timeout>[] slots;
+	private final ConcurrentHashMap<Long, Timeout> scheduled = new ConcurrentHashMap<>();
+	private final int mask;
+	private final long tickMillis;
+	private volatile long nextTick;
+
+	/**
+	 * 사용자 하나의 만료 시각 항목입니다. 같은 만료 시각으로 다시 등록한 항목과 구별하도록 동일성으로 비교합니다.
+	 */
+	private static final class Timeout {
+		private final long userId;
+		private final long deadline;
+		private final long tick;
+
+		/**
+		 * @param userId 만료를 확인할 사용자 ID.
+		 * @param deadline 만료 시각 (epoch 밀리초).
+		 * @param tick 항목을 담은 틱. 이미 지난 만료 시각은 등록할 때 아직 확인하지 않은 틱입니다.
+		 */
+		private Timeout(long userId, long deadline, long tick) {
+			this.userId = userId;
+			this.deadline = deadline;
+			this.tick = tick;
+		}
+
+		long userId() {
+			return userId;
+		}
+
+		long deadline() {
+			return deadline;
+		}
+
+		long tick() {
+			return tick;
+		}
+	}
+
+	/**
+	 * @param wheelSize 슬롯 수. 2의 거듭제곱으로 올림합니다.
+	 * @param tickMillis 슬롯 하나가 담당하는 시간 (밀리초).
+	 * @param now 휠을 시작하는 시각 (epoch 밀리초).
+	 */
+	@SuppressWarnings("unchecked")
+	TimingWheel(int wheelSize, long tickMillis, long now) {
+		if (wheelSize < 1 || tickMillis < 1) {
+			throw new IllegalArgumentException("wheelSize and tickMillis must be positive");
+		}
+		int size = Math.max(Integer.highestOneBit(wheelSize - 1) << 1, 1);
+		this.slots = new Map[size];
+		for (int i = 0; i < size; i++) {
+			slots[i] = new ConcurrentHashMap<>();
+		}
+		this.mask = size - 1;
+		this.tickMillis = tickMillis;
+		this.nextTick = now / tickMillis;
+	}
+
+	/**
+	 * 사용자의 만료 시각을 다시 등록합니다. 만료 시각은 사용자 키를 잠근 뒤 계산하므로, 동시에 등록해도 마지막으로 계산한
+	 * 현재 상태의 만료 시각이 남습니다.
+	 *
+	 * @param userId 사용자 ID.
+	 * @param nextDeadline 사용자의 가장 이른 만료 시각 (epoch 밀리초)을 반환하는 함수. 세션이 없으면 {@link #NO_DEADLINE}.
+	 */
+	void reschedule(long userId, LongSupplier nextDeadline) {
+		scheduled.compute(userId, (id, previous) -> {
+			long deadline = nextDeadline.getAsLong();
+			if (previous != null) {
+				if (previous.deadline() == deadline) {
+					return previous;
+				}
+				slot(previous.tick()).remove(id, previous);
+			}
+			if (deadline == NO_DEADLINE) {
+				return null;
+			}
+			// 이미 지난 만료 시각은 한 바퀴 뒤가 아니라 다음 틱에 처리되도록 아직 확인하지 않은 틱에 담습니다.
+			Timeout timeout = new Timeout(id, deadline, Math.max(deadline / tickMillis, nextTick));
+			slot(timeout.tick()).put(id, timeout);
+			return timeout;
+		});
+	}
+
+	/**
+	 * 마지막으로 처리한 틱부터 현재 시각까지의 슬롯을 돌며 만료 시각이 지난 항목을 꺼내 알립니다.
+	 * 한 번에 한 바퀴를 넘게 밀렸다면 모든 슬롯을 한 번씩만 확인합니다. 하나의 스레드에서만 호출해야 합니다.
+	 * 알림을 받은 호출자는 남은 세션의 만료 시각을 {@link #reschedule}로 다시 등록해야 합니다.
+	 *
+	 * @param now 현재 시각 (epoch 밀리초).
+	 * @param onExpired 만료 시각이 지난 사용자 ID를 받는 함수.
+	 * @return 알린 항목 수.
+	 */
+	int advance(long now, LongConsumer onExpired) {
+		long currentTick = now / tickMillis;
+		long ticks = Math.min(currentTick - nextTick + 1, slots.length);
+		int notified = 0;
+		for (long i = 0; i < ticks; i++) {
+			Map<Long, Timeout> slot = slot(nextTick + i);
+			for (Timeout timeout : slot.values()) {
+				// 다음 바퀴의 항목은 만료 시각이 지나지 않았으므로 그대로 둡니다.
+				if (timeout.deadline() <= now && take(slot, timeout)) {
+					onExpired.accept(timeout.userId());
+					notified++;
+				}
+			}
+		}
+		// 현재 틱의 슬롯에는 아직 만료되지 않은 항목이 더 들어올 수 있으므로 다음에 다시 확인합니다.
+		nextTick = Math.max(nextTick, currentTick);
+		return notified;
+	}
+
+	/**
+	 * 만료 시각이 가장 이른 항목부터 꺼내 강제로 축출합니다. 메모리 상한을 넘었을 때 사용합니다.
+	 * 현재 틱의 슬롯부터 확인하므로 전체 항목을 정렬하지 않으며, 한 바퀴를 돌고도 모자라면 남은 항목이 가장 이른 틱부터 다시 확인합니다.
+	 * 축출 함수는 남은 세션의 만료 시각을 {@link #reschedule}로 다시 등록해야 합니다.
+	 *
+	 * @param count 축출할 항목 수.
+	 * @param evictor 사용자 ID를 받아 세션 하나를 축출하고, 축출할 세션이 없었다면 false 를 반환하는 함수.
+	 * @return 실제로 축출한 항목 수.
+	 */
+	long evict(long count, LongPredicate evictor) {
+		long evicted = 0;
+		long tick = nextTick;
+		// 다른 스레드가 같은 항목을 먼저 꺼내는 경우에도 끝나도록, 꺼낸 항목 없이 두 바퀴를 돌면 멈춥니다.
+		int idlePasses = 0;
+		while (evicted < count && idlePasses < 2) {
+			long earliestRemaining = Long.MAX_VALUE;
+			boolean taken = false;
+			for (int i = 0; i < slots.length && evicted < count; i++, tick++) {
+				Map<Long, Timeout> slot = slot(tick);
+				// 축출 함수가 같은 틱에 다시 등록한 항목도 이 틱에서 처리합니다.
+				boolean takenFromSlot = true;
+				while (takenFromSlot && evicted < count) {
+					takenFromSlot = false;
+					for (Timeout timeout : due(slot, tick)) {
+						if (evicted >= count) {
+							break;
+						}
+						if (!take(slot, timeout)) {
+							continue;
+						}
+						takenFromSlot = true;
+						if (evictor.test(timeout.userId())) {
+							evicted++;
+						}
+						Timeout rescheduled = scheduled.get(timeout.userId());
+						if (rescheduled != null) {
+							earliestRemaining = Math.min(earliestRemaining, rescheduled.tick());
+						}
+					}
+					taken |= takenFromSlot;
+				}
+				for (Timeout timeout : slot.values()) {
+					earliestRemaining = Math.min(earliestRemaining, timeout.tick());
+				}
+			}
+			if (earliestRemaining == Long.MAX_VALUE) {
+				break;
+			}
+			idlePasses = taken ? 0 : idlePasses + 1;
+			// 한 바퀴 안의 항목은 모두 확인했으므로 남은 항목이 가장 이른 틱으로 건너뜁니다.
+			tick = earliestRemaining;
+		}
+		return evicted;
+	}
+
+	/**
+	 * @return 휠에 등록된 항목 수.
+	 */
+	int size() {
+		return scheduled.size();
+	}
+
+	private Map<Long, Timeout> slot(long tick) {
+		return slots[(int)(tick & mask)];
+	}
+
+	/**
+	 * 항목이 아직 사용자의 현재 항목이면 휠에서 지웁니다.
+	 *
+	 * @return 이 호출이 항목을 지웠으면 true. 다시 등록되었거나 다른 스레드가 먼저 꺼냈으면 false.
+	 */
+	private boolean take(Map<Long, Timeout> slot, Timeout timeout) {
+		if (!scheduled.remove(timeout.userId(), timeout)) {
+			return false;
+		}
+		slot.remove(timeout.userId(), timeout);
+		return true;
+	}
+
+	/**
+	 * @return 슬롯에서 지정한 틱 이전에 속한 항목. 만료 시각 순으로 정렬합니다.
+	 */
+	private static List<Timeout> due(Map<Long, Timeout> slot, long tick) {
+		List<Timeout> due = new ArrayList<>();
+		for (Timeout timeout : slot.values()) {
+			if (timeout.tick() <= tick) {
+				due.add(timeout);
+			}
+		}
+		due.sort(BY_DEADLINE);
+		return due;
+	}
+}
@@ -0,0 +1,194 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * @author 김태환
+ * 비밀번호 검증을 크기가 정해진 전용 스레드 풀에서 실행하는 {@link PasswordEncoder}입니다.
+ * BCrypt 검증은 CPU 를 오래 쓰므로, 요청 스레드에서 실행하면 로그인이 몰릴 때 모든 요청 스레드가 해싱에 묶여
+ * 토큰 재발급처럼 가벼운 요청까지 처리하지 못합니다. 검증은 CPU 코어 수만큼의 스레드와 크기가 정해진 대기열에서만 실행하고,
+ * 대기열이 가득 차거나 제한 시간 안에 끝나지 않으면 {@link PasswordVerificationRejectedException} 으로 바로 거절합니다.
+ * 비동기 로그인은 {@link #matchesAsync}로 요청 스레드 없이 검증 결과를 이어 받습니다.
+ * 요청을 가상 스레드로 처리할 때도 검증 스레드는 플랫폼 스레드로 만들어, 해싱이 가상 스레드의 캐리어 스레드를 차지하지 않게 합니다.
+ * <p>
+ * 대기열 길이, 대기 시간, 해싱 시간과 거절 횟수를 지표로 기록합니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+	private final PasswordEncoder delegate;
+	private final long deadlineNanos;
+	private final Duration retryAfter;
+	private final ThreadPoolExecutor executor;
+	private final Timer waitTime;
+	private final Timer hashTime;
+	private final Counter queueFull;
+	private final Counter deadlineExceeded;
+
+	/**
+	 * @param delegate 실제로 비밀번호를 검증하는 {@link PasswordEncoder}.
+	 * @param threads 검증 스레드 수. 0 이하이면 CPU 코어 수를 사용합니다.
+	 * @param queueCapacity 검증을 기다릴 수 있는 최대 요청 수.
+	 * @param deadline 대기 시간을 포함해 검증 결과를 기다리는 최대 시간.
+	 * @param retryAfter 거절한 요청에 알려줄 재시도 대기 시간.
+	 * @param meterRegistry 지표를 등록할 {@link MeterRegistry}.
+	 */
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration deadline,
+		Duration retryAfter, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.deadlineNanos = deadline.toNanos();
+		this.retryAfter = retryAfter;
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+				Thread thread = new Thread(runnable, "password-encoder-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		Gauge.builder("jwt.password.verify.queue", executor, pool -> pool.getQueue().size())
+			.description("Password verifications waiting for a hashing thread")
+			.register(meterRegistry);
+		this.waitTime = Timer.builder("jwt.password.verify.wait")
+			.description("Time a password verification waited in the queue")
+			.register(meterRegistry);
+		this.hashTime = Timer.builder("jwt.password.verify.hash")
+			.description("Time spent hashing a password")
+			.register(meterRegistry);
+		this.queueFull = Counter.builder("jwt.password.verify.rejected")
+			.description("Password verifications rejected before hashing")
+			.tag("reason", "queue-full")
+			.register(meterRegistry);
+		this.deadlineExceeded = Counter.builder("jwt.password.verify.rejected")
+			.description("Password verifications rejected before hashing")
+			.tag("reason", "deadline")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 비밀번호 생성은 로그인 경로가 아니므로 호출한 스레드에서 그대로 처리합니다.
+	 */
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return delegate.encode(rawPassword);
+	}
+
+	/**
+	 * 검증 스레드에서 비밀번호를 검증하고 결과를 기다립니다.
+	 *
+	 * @throws PasswordVerificationRejectedException 대기열이 가득 찼거나 제한 시간이 지난 경우.
+	 */
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		long submittedAt = System.nanoTime();
+		FutureTask<Boolean> result = new FutureTask<>(() -> verify(rawPassword, encodedPassword, submittedAt));
+		try {
+			executor.execute(result);
+		} catch (RejectedExecutionException e) {
+			queueFull.increment();
+			throw new PasswordVerificationRejectedException("Password verification queue is full", retryAfter);
+		}
+
+		try {
+			return result.get(deadlineNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			// 아직 대기열에 있는 검증은 실행하지 않고 대기열에서 빼서 다른 요청이 들어올 자리를 만듭니다.
+			result.cancel(false);
+			executor.remove(result);
+			deadlineExceeded.increment();
+			throw new PasswordVerificationRejectedException("Password verification deadline exceeded", retryAfter);
+		} catch (InterruptedException e) {
+			result.cancel(false);
+			executor.remove(result);
+			Thread.currentThread().interrupt();
+			throw new PasswordVerificationRejectedException("Password verification interrupted", retryAfter);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * 검증 스레드에서 비밀번호를 검증하고, 결과를 기다리지 않고 반환합니다.
+	 * 제한 시간이 지나도록 대기열에 남아 있는 검증은 실행하지 않고 대기열에서 뺍니다.
+	 *
+	 * @return 검증 결과로 완료되는 {@link CompletableFuture}. 대기열이 가득 찼거나 제한 시간이 지나면
+	 *         {@link PasswordVerificationRejectedException}으로 완료됩니다.
+	 */
+	public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword) {
+		long submittedAt = System.nanoTime();
+		CompletableFuture<Boolean> result = new CompletableFuture<>();
+		Runnable task = () -> {
+			if (result.isDone()) {
+				return;
+			}
+			try {
+				result.complete(verify(rawPassword, encodedPassword, submittedAt));
+			} catch (RuntimeException | Error e) {
+				result.completeExceptionally(e);
+			}
+		};
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			queueFull.increment();
+			return CompletableFuture.failedFuture(
+				new PasswordVerificationRejectedException("Password verification queue is full", retryAfter));
+		}
+
+		return result.orTimeout(deadlineNanos, TimeUnit.NANOSECONDS).handle((matched, failure) -> {
+			if (failure == null) {
+				return matched;
+			}
+			if (failure instanceof TimeoutException) {
+				executor.remove(task);
+				deadlineExceeded.increment();
+				throw new PasswordVerificationRejectedException("Password verification deadline exceeded", retryAfter);
+			}
+			if (failure instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw (Error)failure;
+		});
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private boolean verify(CharSequence rawPassword, String encodedPassword, long submittedAt) {
+		long startedAt = System.nanoTime();
+		waitTime.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+		try {
+			return delegate.matches(rawPassword, encodedPassword);
+		} finally {
+			hashTime.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+}
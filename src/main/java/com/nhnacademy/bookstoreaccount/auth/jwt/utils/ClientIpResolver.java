@@ -0,0 +1,101 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * @author 김태환
+ * 로그인 시도 제한에 사용할 클라이언트 IP를 구합니다. 서블릿 서버와 리액티브 서버가 같은 규칙을 사용합니다.
+ * <p>
+ * 이 서비스는 게이트웨이 뒤에서 실행되므로 연결의 원격 주소는 게이트웨이의 주소입니다. 원격 주소가 신뢰하는 프록시이면
+ * 전달 헤더(기본 X-Forwarded-For)를 오른쪽부터 읽어 신뢰하는 프록시가 아닌 첫 주소를 클라이언트 IP로 사용합니다.
+ * 헤더의 왼쪽 값은 클라이언트가 임의로 보낼 수 있으므로, 신뢰하는 프록시가 붙인 값까지만 믿습니다.
+ * 원격 주소가 신뢰하는 프록시가 아니면 헤더를 무시합니다.
+ */
+@Component
+public class ClientIpResolver {
+	private static final String UNKNOWN = "unknown";
+
+	private final Pattern trustedProxies;
+	private final String forwardedHeader;
+
+	/**
+	 * @param trustedProxies 신뢰하는 프록시 주소의 정규식. 비어 있으면 전달 헤더를 사용하지 않습니다.
+	 * @param forwardedHeader 프록시가 클라이언트 주소를 덧붙이는 헤더 이름.
+	 */
+	public ClientIpResolver(
+		@Value("${spring.jwt.login-throttle.ip.trusted-proxies:}") String trustedProxies,
+		@Value("${spring.jwt.login-throttle.ip.forwarded-header:X-Forwarded-For}") String forwardedHeader
+	) {
+		this.trustedProxies = StringUtils.hasText(trustedProxies) ? Pattern.compile(trustedProxies) : null;
+		this.forwardedHeader = forwardedHeader;
+	}
+
+	/**
+	 * @param request 서블릿 요청.
+	 * @return 클라이언트 IP.
+	 */
+	public String resolve(HttpServletRequest request) {
+		List<String> forwarded = new ArrayList<>();
+		request.getHeaders(forwardedHeader).asIterator().forEachRemaining(forwarded::add);
+		return resolve(request.getRemoteAddr(), forwarded);
+	}
+
+	/**
+	 * @param request 리액티브 요청.
+	 * @return 클라이언트 IP.
+	 */
+	public String resolve(ServerHttpRequest request) {
+		InetSocketAddress remoteAddress = request.getRemoteAddress();
+		String remoteIp = null;
+		if (remoteAddress != null) {
+			remoteIp = remoteAddress.getAddress() != null
+				? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+		}
+		List<String> forwarded = request.getHeaders().get(forwardedHeader);
+		return resolve(remoteIp, forwarded == null ? List.of() : forwarded);
+	}
+
+	/**
+	 * @param remoteIp 연결의 원격 주소.
+	 * @param forwardedValues 전달 헤더 값. 헤더가 여러 줄이면 도착한 순서대로 이어 붙인 것으로 봅니다.
+	 * @return 클라이언트 IP. 원격 주소를 모르면 "unknown".
+	 */
+	String resolve(String remoteIp, List<String> forwardedValues) {
+		if (remoteIp == null) {
+			return UNKNOWN;
+		}
+		if (!isTrusted(remoteIp)) {
+			return remoteIp;
+		}
+		List<String> hops = new ArrayList<>();
+		for (String value : forwardedValues) {
+			for (String hop : StringUtils.commaDelimitedListToStringArray(value)) {
+				if (StringUtils.hasText(hop)) {
+					hops.add(hop.trim());
+				}
+			}
+		}
+		String clientIp = remoteIp;
+		for (int i = hops.size() - 1; i >= 0; i--) {
+			clientIp = hops.get(i);
+			if (!isTrusted(clientIp)) {
+				break;
+			}
+		}
+		return clientIp;
+	}
+
+	private boolean isTrusted(String address) {
+		return trustedProxies != null && trustedProxies.matcher(address).matches();
+	}
+}
@@ -0,0 +1,44 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import java.util.regex.Pattern;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * @author 김태환
+ * 요청 헤더에서 클라이언트 기기 ID를 읽습니다.
+ * 헤더가 없거나 형식이 맞지 않으면 {@link #DEFAULT_DEVICE_ID}를 사용하므로, 기기 ID를 보내지 않는 클라이언트는 하나의 세션을 공유합니다.
+ */
+public final class DeviceIds {
+	public static final String HEADER = "X-Device-Id";
+	public static final String DEFAULT_DEVICE_ID = "default";
+
+	// Redis 해시 필드 이름에 그대로 사용되므로 길이와 문자를 제한합니다.
+	private static final Pattern DEVICE_ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+	private DeviceIds() {
+	}
+
+	/**
+	 * 요청 헤더의 기기 ID를 반환합니다.
+	 *
+	 * @param request HTTP 요청 객체.
+	 * @return 기기 ID. 헤더가 없거나 유효하지 않으면 {@link #DEFAULT_DEVICE_ID}.
+	 */
+	public static String resolve(HttpServletRequest request) {
+		return normalize(request.getHeader(HEADER));
+	}
+
+	/**
+	 * 기기 ID를 검사합니다.
+	 *
+	 * @param deviceId 기기 ID.
+	 * @return 유효하면 기기 ID, 그렇지 않으면 {@link #DEFAULT_DEVICE_ID}.
+	 */
+	public static String normalize(String deviceId) {
+		if (deviceId == null || !DEVICE_ID_PATTERN.matcher(deviceId).matches()) {
+			return DEFAULT_DEVICE_ID;
+		}
+		return deviceId;
+	}
+}
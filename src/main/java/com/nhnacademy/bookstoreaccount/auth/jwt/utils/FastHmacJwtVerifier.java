@@ -0,0 +1,459 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.crypto.Mac;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtKeyRing;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKey;
+
+/**
+ * @author 김태환
+ * 이 서비스가 발급하는 고정된 형식의 토큰(HMAC 서명, 알려진 클레임)에 특화된 JWT 검증기입니다.
+ * 풀에서 키가 적용된 {@link Mac}과 버퍼를 꺼내 재사용하고, 디코딩한 서명 바이트를 상수 시간으로 비교하며,
+ * 사용하는 클레임만 직접 읽어 jjwt 의 범용 파싱 비용을 피합니다.
+ * 형식이 예상과 조금이라도 다르거나 검증에 성공하지 못한 토큰은 null 을 반환하여 jjwt 경로가 최종 판정을 내리도록 하므로,
+ * 판정 결과는 항상 jjwt 와 같습니다.
+ */
+public class FastHmacJwtVerifier {
+	private static final byte[] BASE64URL_VALUES = new byte[128];
+	private static final int HEADER_ALG = 1;
+	private static final int HEADER_KID = 1 << 1;
+	private static final int CLAIM_TOKEN_TYPE = 1;
+	private static final int CLAIM_USER_ID = 1 << 1;
+	private static final int CLAIM_ROLES = 1 << 2;
+	private static final int CLAIM_IAT = 1 << 3;
+	private static final int CLAIM_EXP = 1 << 4;
+	private static final int CLAIM_JTI = 1 << 5;
+
+	static {
+		Arrays.fill(BASE64URL_VALUES, (byte)-1);
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+		for (int i = 0; i < alphabet.length(); i++) {
+			BASE64URL_VALUES[alphabet.charAt(i)] = (byte)i;
+		}
+	}
+
+	private final JwtKeyRing keyRing;
+	private final Clock clock;
+	private final HmacPool hmacPool;
+	private final StripedPool<Scratch> scratches = new StripedPool<>(Scratch::new);
+
+	/**
+	 * 빠른 검증기를 초기화합니다.
+	 *
+	 * @param keyRing 검증 키를 조회할 키 링.
+	 */
+	public FastHmacJwtVerifier(JwtKeyRing keyRing) {
+		this(keyRing, Clock.systemUTC());
+	}
+
+	FastHmacJwtVerifier(JwtKeyRing keyRing, Clock clock) {
+		this.keyRing = keyRing;
+		this.clock = clock;
+		this.hmacPool = new HmacPool(keyRing);
+	}
+
+	/**
+	 * 토큰을 검증하고 클레임을 추출합니다.
+	 *
+	 * @param token JWT 토큰.
+	 * @param offset 토큰 문자열에서 JWT 가 시작하는 위치 ("Bearer " 접두사를 건너뛰기 위해 사용합니다).
+	 * @return 검증에 성공한 토큰의 파싱 결과. 빠른 경로로 판정할 수 없으면 null.
+	 */
+	public ParsedToken verify(String token, int offset) {
+		if (token == null) {
+			return null;
+		}
+		int firstDot = token.indexOf('.', offset);
+		int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+		if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+			return null;
+		}
+
+		Scratch scratch = scratches.acquire();
+		try {
+			return verify(token, offset, firstDot, secondDot, scratch);
+		} finally {
+			scratches.release(scratch);
+		}
+	}
+
+	private ParsedToken verify(String token, int offset, int firstDot, int secondDot, Scratch scratch) {
+		Header header = readHeader(token, offset, firstDot, scratch);
+		if (header == null) {
+			return null;
+		}
+		JwtSigningKey signingKey = keyRing.find(header.keyId());
+		if (signingKey == null || !signingKey.isSymmetric()
+			|| !signingKey.algorithm().getId().equals(header.algorithm())) {
+			return null;
+		}
+		if (!verifySignature(token, offset, secondDot, signingKey, scratch)) {
+			return null;
+		}
+
+		int payloadLength = decode(token, firstDot + 1, secondDot, scratch.ensurePayload(secondDot - firstDot));
+		if (payloadLength < 0) {
+			return null;
+		}
+		return readClaims(scratch.payload, payloadLength);
+	}
+
+	private Header readHeader(String token, int start, int end, Scratch scratch) {
+		byte[] buffer = scratch.ensurePayload(end - start);
+		int length = decode(token, start, end, buffer);
+		if (length < 0) {
+			return null;
+		}
+		JsonReader reader = new JsonReader(buffer, length);
+		String algorithm = null;
+		String keyId = null;
+		int seen = 0;
+		if (!reader.beginObject()) {
+			return null;
+		}
+		while (reader.hasNextField()) {
+			String name = reader.nextName();
+			if ("alg".equals(name) && (seen & HEADER_ALG) == 0) {
+				seen |= HEADER_ALG;
+				algorithm = reader.nextString();
+			} else if ("kid".equals(name) && (seen & HEADER_KID) == 0) {
+				seen |= HEADER_KID;
+				keyId = reader.nextString();
+			} else {
+				return null;
+			}
+			if (reader.failed()) {
+				return null;
+			}
+		}
+		if (!reader.endObject() || algorithm == null) {
+			return null;
+		}
+		return new Header(algorithm, keyId);
+	}
+
+	private boolean verifySignature(String token, int start, int signingInputEnd, JwtSigningKey signingKey,
+		Scratch scratch) {
+		int inputLength = signingInputEnd - start;
+		byte[] input = scratch.ensureInput(inputLength);
+		for (int i = 0; i < inputLength; i++) {
+			char c = token.charAt(start + i);
+			if (c >= 128) {
+				return false;
+			}
+			input[i] = (byte)c;
+		}
+
+		Mac mac = hmacPool.acquire(signingKey);
+		if (mac == null) {
+			return false;
+		}
+		try {
+			return verifySignature(token, signingInputEnd, input, inputLength, mac, scratch);
+		} finally {
+			hmacPool.release(signingKey, mac);
+		}
+	}
+
+	private boolean verifySignature(String token, int signingInputEnd, byte[] input, int inputLength, Mac mac,
+		Scratch scratch) {
+		int macLength = mac.getMacLength();
+		byte[] signature = scratch.ensureSignature(token.length() - signingInputEnd);
+		int signatureLength = decode(token, signingInputEnd + 1, token.length(), signature);
+		if (signatureLength != macLength) {
+			return false;
+		}
+
+		byte[] expected = scratch.ensureMac(macLength);
+		mac.update(input, 0, inputLength);
+		try {
+			mac.doFinal(expected, 0);
+		} catch (GeneralSecurityException e) {
+			mac.reset();
+			return false;
+		}
+
+		// 타이밍 공격을 막기 위해 길이 전체를 항상 비교합니다.
+		int difference = 0;
+		for (int i = 0; i < macLength; i++) {
+			difference |= expected[i] ^ signature[i];
+		}
+		return difference == 0;
+	}
+
+	private ParsedToken readClaims(byte[] payload, int length) {
+		JsonReader reader = new JsonReader(payload, length);
+		ParsedToken.ParsedTokenBuilder builder = ParsedToken.builder().roles(List.of());
+		long expiresAt = -1L;
+		int seen = 0;
+		if (!reader.beginObject()) {
+			return null;
+		}
+		while (reader.hasNextField()) {
+			String name = reader.nextName();
+			int claim = claimOf(name);
+			if (claim == 0 || (seen & claim) != 0) {
+				return null;
+			}
+			seen |= claim;
+			switch (claim) {
+				case CLAIM_TOKEN_TYPE -> builder.tokenType(reader.nextString());
+				case CLAIM_USER_ID -> builder.userId(reader.nextLong());
+				case CLAIM_ROLES -> builder.roles(reader.nextStringArray());
+				case CLAIM_IAT -> builder.issuedAt(reader.nextLong() * 1000L);
+				case CLAIM_JTI -> builder.tokenId(reader.nextString());
+				default -> {
+					expiresAt = reader.nextLong() * 1000L;
+					builder.expiresAt(expiresAt);
+				}
+			}
+			if (reader.failed()) {
+				return null;
+			}
+		}
+		// 만료된 토큰의 판정과 메시지는 jjwt 경로에 맡깁니다.
+		if (!reader.endObject() || (seen & CLAIM_EXP) == 0 || clock.millis() > expiresAt) {
+			return null;
+		}
+		return builder.build();
+	}
+
+	private static int claimOf(String name) {
+		if (name == null) {
+			return 0;
+		}
+		return switch (name) {
+			case "token-type" -> CLAIM_TOKEN_TYPE;
+			case "userId" -> CLAIM_USER_ID;
+			case "roles" -> CLAIM_ROLES;
+			case "iat" -> CLAIM_IAT;
+			case "exp" -> CLAIM_EXP;
+			case "jti" -> CLAIM_JTI;
+			default -> 0;
+		};
+	}
+
+	/**
+	 * 패딩 없는 Base64URL 문자열 구간을 버퍼에 디코딩합니다.
+	 * 남는 비트가 0 이 아닌 비정규 인코딩은 jjwt 와의 판정 차이를 피하기 위해 거부합니다.
+	 *
+	 * @return 디코딩된 바이트 수. 디코딩할 수 없으면 -1.
+	 */
+	private static int decode(String source, int start, int end, byte[] target) {
+		int length = end - start;
+		if (length == 0 || length % 4 == 1) {
+			return -1;
+		}
+		int written = 0;
+		int accumulator = 0;
+		int bits = 0;
+		for (int i = start; i < end; i++) {
+			char c = source.charAt(i);
+			int value = c < 128 ? BASE64URL_VALUES[c] : -1;
+			if (value < 0) {
+				return -1;
+			}
+			accumulator = (accumulator << 6) | value;
+			bits += 6;
+			if (bits >= 8) {
+				bits -= 8;
+				target[written++] = (byte)(accumulator >> bits);
+				accumulator &= (1 << bits) - 1;
+			}
+		}
+		return accumulator == 0 ? written : -1;
+	}
+
+	private record Header(String algorithm, String keyId) {
+	}
+
+	/**
+	 * 토큰 하나를 검증하는 동안 한 스레드가 사용하는 디코딩 버퍼입니다.
+	 */
+	private static final class Scratch {
+		private byte[] input = new byte[512];
+		private byte[] payload = new byte[512];
+		private byte[] signature = new byte[128];
+		private byte[] mac = new byte[64];
+
+		byte[] ensureInput(int size) {
+			if (input.length < size) {
+				input = new byte[size];
+			}
+			return input;
+		}
+
+		byte[] ensurePayload(int size) {
+			if (payload.length < size) {
+				payload = new byte[size];
+			}
+			return payload;
+		}
+
+		byte[] ensureSignature(int size) {
+			if (signature.length < size) {
+				signature = new byte[size];
+			}
+			return signature;
+		}
+
+		byte[] ensureMac(int size) {
+			if (mac.length < size) {
+				mac = new byte[size];
+			}
+			return mac;
+		}
+	}
+
+	/**
+	 * 평평한 JSON 객체만 읽는 최소한의 리더입니다.
+	 * 이스케이프 문자, 비 ASCII 문자, 소수, 중첩 객체처럼 예상하지 않은 입력을 만나면 실패 상태가 됩니다.
+	 */
+	private static final class JsonReader {
+		private final byte[] buffer;
+		private final int length;
+		private int position;
+		private boolean failed;
+		private boolean first = true;
+
+		JsonReader(byte[] buffer, int length) {
+			this.buffer = buffer;
+			this.length = length;
+		}
+
+		boolean failed() {
+			return failed;
+		}
+
+		boolean beginObject() {
+			return consume('{');
+		}
+
+		boolean hasNextField() {
+			if (failed) {
+				return false;
+			}
+			skipWhitespace();
+			if (position < length && buffer[position] == '}') {
+				return false;
+			}
+			if (!first && !consume(',')) {
+				failed = true;
+				return false;
+			}
+			first = false;
+			return true;
+		}
+
+		boolean endObject() {
+			if (failed || !consume('}')) {
+				return false;
+			}
+			skipWhitespace();
+			return position == length;
+		}
+
+		String nextName() {
+			String name = nextString();
+			if (!consume(':')) {
+				failed = true;
+			}
+			return failed ? null : name;
+		}
+
+		String nextString() {
+			if (!consume('"')) {
+				failed = true;
+				return null;
+			}
+			int start = position;
+			while (position < length) {
+				byte b = buffer[position];
+				if (b == '"') {
+					return new String(buffer, start, position++ - start, StandardCharsets.ISO_8859_1);
+				}
+				if (b == '\\' || b < 0x20) {
+					break;
+				}
+				position++;
+			}
+			failed = true;
+			return null;
+		}
+
+		long nextLong() {
+			skipWhitespace();
+			boolean negative = position < length && buffer[position] == '-';
+			if (negative) {
+				position++;
+			}
+			int start = position;
+			long value = 0L;
+			while (position < length && buffer[position] >= '0' && buffer[position] <= '9') {
+				if (value > (Long.MAX_VALUE - 9) / 10) {
+					failed = true;
+					return 0L;
+				}
+				value = value * 10 + (buffer[position++] - '0');
+			}
+			int digits = position - start;
+			boolean leadingZero = digits > 1 && buffer[start] == '0';
+			boolean fraction = position < length
+				&& (buffer[position] == '.' || buffer[position] == 'e' || buffer[position] == 'E');
+			if (digits == 0 || leadingZero || fraction) {
+				failed = true;
+			}
+			return negative ? -value : value;
+		}
+
+		List<String> nextStringArray() {
+			if (!consume('[')) {
+				failed = true;
+				return List.of();
+			}
+			List<String> values = new ArrayList<>(2);
+			skipWhitespace();
+			if (position < length && buffer[position] == ']') {
+				position++;
+				return values;
+			}
+			do {
+				values.add(nextString());
+				if (failed) {
+					return List.of();
+				}
+			} while (consume(','));
+			if (!consume(']')) {
+				failed = true;
+			}
+			return values;
+		}
+
+		private boolean consume(char expected) {
+			skipWhitespace();
+			if (position < length && buffer[position] == expected) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (position < length) {
+				byte b = buffer[position];
+				if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+					return;
+				}
+				position++;
+			}
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtKeyRing;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKey;
+
+/**
+ * @author 김태환
+ * 서명 키(kid)별로 초기화된 {@link Mac}을 {@link StripedPool}에 보관하여 재사용합니다.
+ * {@link Mac}은 스레드 안전하지 않지만 doFinal 후 자동으로 초기 상태로 돌아가므로, 한 스레드가 꺼내 쓴 뒤 돌려놓으면 계속 재사용할 수 있습니다.
+ * 스레드별로 보관하지 않으므로 가상 스레드에서도 요청마다 {@link Mac}을 새로 초기화하지 않습니다.
+ */
+class HmacPool {
+	private final JwtKeyRing keyRing;
+	private final Map<String, StripedPool<Mac>> macs = new ConcurrentHashMap<>();
+
+	HmacPool(JwtKeyRing keyRing) {
+		this.keyRing = keyRing;
+	}
+
+	/**
+	 * 서명 키로 초기화된 {@link Mac}을 꺼냅니다. 다 쓰면 {@link #release}로 돌려놓습니다.
+	 *
+	 * @param signingKey HMAC 서명 키.
+	 * @return 서명 키로 초기화된 {@link Mac}. 초기화할 수 없으면 null.
+	 */
+	Mac acquire(JwtSigningKey signingKey) {
+		StripedPool<Mac> pool = macs.get(signingKey.keyId());
+		if (pool == null) {
+			// 교체되어 유예 기간이 끝난 키의 Mac 은 더 이상 필요하지 않으므로 함께 정리합니다.
+			macs.keySet().removeIf(keyId -> keyRing.find(keyId) == null);
+			pool = macs.computeIfAbsent(signingKey.keyId(), keyId -> new StripedPool<>(() -> newMac(signingKey)));
+		}
+		return pool.acquire();
+	}
+
+	/**
+	 * 다 쓴 {@link Mac}을 돌려놓습니다. 그 사이 키가 정리되었으면 버립니다.
+	 *
+	 * @param signingKey {@link Mac}을 꺼낼 때 사용한 서명 키.
+	 * @param mac 초기 상태의 {@link Mac}.
+	 */
+	void release(JwtSigningKey signingKey, Mac mac) {
+		StripedPool<Mac> pool = macs.get(signingKey.keyId());
+		if (pool != null) {
+			pool.release(mac);
+		}
+	}
+
+	private static Mac newMac(JwtSigningKey signingKey) {
+		try {
+			Mac mac = Mac.getInstance(signingKey.verificationKey().getAlgorithm());
+			mac.init(signingKey.verificationKey());
+			return mac;
+		} catch (GeneralSecurityException e) {
+			return null;
+		}
+	}
+}
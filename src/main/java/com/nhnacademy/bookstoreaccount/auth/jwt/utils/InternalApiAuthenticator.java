@@ -0,0 +1,38 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * @author 김태환
+ * /auth/internal 경로의 내부 API 를 호출한 서비스를 인증합니다. 서블릿 서버와 리액티브 서버가 같은 규칙을 사용합니다.
+ * <p>
+ * 내부 서비스는 설정한 비밀 값을 {@link #HEADER} 헤더로 보내야 합니다. 비교는 일정한 시간에 끝나며,
+ * 비밀 값이 설정되지 않았으면 모든 요청을 거절합니다.
+ */
+@Component
+public class InternalApiAuthenticator {
+	public static final String HEADER = "X-Internal-Api-Secret";
+
+	private final byte[] secret;
+
+	/**
+	 * @param secret 내부 서비스와 공유하는 비밀 값. 비어 있으면 내부 API 를 사용할 수 없습니다.
+	 */
+	public InternalApiAuthenticator(@Value("${spring.jwt.internal-api.secret:}") String secret) {
+		this.secret = StringUtils.hasText(secret) ? secret.getBytes(StandardCharsets.UTF_8) : null;
+	}
+
+	/**
+	 * @param presentedSecret 요청의 {@link #HEADER} 헤더 값.
+	 * @return 내부 서비스의 요청이면 true.
+	 */
+	public boolean isAuthorized(String presentedSecret) {
+		return secret != null && presentedSecret != null
+			&& MessageDigest.isEqual(secret, presentedSecret.getBytes(StandardCharsets.UTF_8));
+	}
+}
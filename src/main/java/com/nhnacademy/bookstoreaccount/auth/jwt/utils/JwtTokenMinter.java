@@ -0,0 +1,314 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtKeyRing;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKey;
+
+/**
+ * @author 김태환
+ * HMAC 서명 토큰을 jjwt 빌더 없이 직접 조립하는 발급기입니다.
+ * 키(kid)별로 Base64URL 인코딩한 헤더 세그먼트를 캐싱하고, 클레임은 풀에서 꺼내 재사용하는 버퍼에 바로 기록하며,
+ * 서명은 풀에서 꺼내 재사용하는 {@link Mac}으로 계산합니다.
+ * 생성되는 토큰은 같은 클레임으로 jjwt 가 만드는 토큰과 바이트 단위로 같습니다.
+ */
+public class JwtTokenMinter {
+	private static final byte[] BASE64URL_ALPHABET =
+		"ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] BEARER_PREFIX = "Bearer ".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] ACCESS = jsonString("access");
+	private static final byte[] REFRESH = jsonString("refresh");
+
+	private final HmacPool hmacPool;
+	private final Map<String, byte[]> headerSegments = new ConcurrentHashMap<>();
+	private final StripedPool<Buffers> buffers = new StripedPool<>(Buffers::new);
+
+	/**
+	 * 토큰 발급기를 초기화합니다.
+	 *
+	 * @param keyRing 서명 키가 속한 키 링.
+	 */
+	public JwtTokenMinter(JwtKeyRing keyRing) {
+		this.hmacPool = new HmacPool(keyRing);
+	}
+
+	/**
+	 * 토큰 하나를 발급합니다.
+	 *
+	 * @param signingKey 서명 키.
+	 * @param tokenType 토큰의 타입("access" 또는 "refresh").
+	 * @param userId 사용자 ID.
+	 * @param roles 사용자 역할 리스트.
+	 * @param issuedAt 발급 시각 (epoch 밀리초).
+	 * @param expiresIn 토큰의 만료 시간(밀리초 단위).
+	 * @param tokenId 토큰 ID (jti). null 이면 넣지 않습니다.
+	 * @return 발급된 토큰. 액세스 토큰에는 "Bearer " 접두사가 붙습니다. HMAC 키가 아니면 null.
+	 */
+	public String mint(JwtSigningKey signingKey, String tokenType, Long userId, List<String> roles, long issuedAt,
+		long expiresIn, String tokenId) {
+		if (!signingKey.isSymmetric()) {
+			return null;
+		}
+		byte[] tokenTypeJson = "access".equals(tokenType) ? ACCESS
+			: "refresh".equals(tokenType) ? REFRESH : tokenType == null ? null : jsonString(tokenType);
+		return mint(signingKey, "access".equals(tokenType), tokenTypeJson, userId, rolesJson(roles), issuedAt,
+			expiresIn, tokenId);
+	}
+
+	/**
+	 * 같은 발급 시각과 역할 인코딩을 공유하는 액세스 토큰과 리프레시 토큰을 한 번에 발급합니다.
+	 *
+	 * @param signingKey 서명 키.
+	 * @param userId 사용자 ID.
+	 * @param roles 사용자 역할 리스트.
+	 * @param issuedAt 발급 시각 (epoch 밀리초).
+	 * @param accessTokenExpiresIn 액세스 토큰의 만료 시간(밀리초 단위).
+	 * @param refreshTokenExpiresIn 리프레시 토큰의 만료 시간(밀리초 단위).
+	 * @param accessTokenId 액세스 토큰의 토큰 ID (jti). 리프레시 토큰에는 넣지 않습니다.
+	 * @return 발급된 토큰 쌍. HMAC 키가 아니면 null.
+	 */
+	public TokenPair mintPair(JwtSigningKey signingKey, Long userId, List<String> roles, long issuedAt,
+		long accessTokenExpiresIn, long refreshTokenExpiresIn, String accessTokenId) {
+		if (!signingKey.isSymmetric()) {
+			return null;
+		}
+		byte[] rolesJson = rolesJson(roles);
+		String accessToken = mint(signingKey, true, ACCESS, userId, rolesJson, issuedAt, accessTokenExpiresIn,
+			accessTokenId);
+		String refreshToken = mint(signingKey, false, REFRESH, userId, rolesJson, issuedAt, refreshTokenExpiresIn,
+			null);
+		if (accessToken == null || refreshToken == null) {
+			return null;
+		}
+		return new TokenPair(accessToken, refreshToken);
+	}
+
+	private String mint(JwtSigningKey signingKey, boolean bearer, byte[] tokenTypeJson, Long userId,
+		byte[] rolesJson, long issuedAt, long expiresIn, String tokenId) {
+		Mac mac = hmacPool.acquire(signingKey);
+		if (mac == null) {
+			return null;
+		}
+		Buffers current = buffers.acquire();
+		try {
+			return sign(signingKey, mac, current, bearer, tokenTypeJson, userId, rolesJson, issuedAt, expiresIn,
+				tokenId);
+		} finally {
+			buffers.release(current);
+			hmacPool.release(signingKey, mac);
+		}
+	}
+
+	private String sign(JwtSigningKey signingKey, Mac mac, Buffers current, boolean bearer, byte[] tokenTypeJson,
+		Long userId, byte[] rolesJson, long issuedAt, long expiresIn, String tokenId) {
+		ByteSink payload = current.payload.reset();
+		payload.append('{');
+		if (tokenTypeJson != null) {
+			payload.append("\"token-type\":").append(tokenTypeJson);
+		}
+		if (userId != null) {
+			payload.separator().append("\"userId\":").appendLong(userId);
+		}
+		if (rolesJson != null) {
+			payload.separator().append("\"roles\":").append(rolesJson);
+		}
+		payload.separator().append("\"iat\":").appendLong(issuedAt / 1000L)
+			.append(",\"exp\":").appendLong((issuedAt + expiresIn) / 1000L);
+		if (tokenId != null) {
+			payload.append(",\"jti\":").append(jsonString(tokenId));
+		}
+		payload.append('}');
+
+		ByteSink token = current.token.reset();
+		if (bearer) {
+			token.append(BEARER_PREFIX);
+		}
+		int signingInputStart = token.length;
+		token.append(headerSegments.computeIfAbsent(signingKey.keyId(), keyId -> headerSegment(signingKey)))
+			.append('.')
+			.appendBase64Url(payload.bytes, 0, payload.length);
+
+		byte[] signature = current.signature(mac.getMacLength());
+		mac.update(token.bytes, signingInputStart, token.length - signingInputStart);
+		try {
+			mac.doFinal(signature, 0);
+		} catch (GeneralSecurityException e) {
+			mac.reset();
+			return null;
+		}
+		token.append('.').appendBase64Url(signature, 0, mac.getMacLength());
+		return new String(token.bytes, 0, token.length, StandardCharsets.ISO_8859_1);
+	}
+
+	private static byte[] headerSegment(JwtSigningKey signingKey) {
+		ByteSink header = new ByteSink(128).append('{');
+		if (signingKey.keyId() != null) {
+			header.append("\"kid\":").append(jsonString(signingKey.keyId())).append(',');
+		}
+		header.append("\"alg\":").append(jsonString(signingKey.algorithm().getId())).append('}');
+		ByteSink segment = new ByteSink(header.length * 4 / 3 + 4).appendBase64Url(header.bytes, 0, header.length);
+		return Arrays.copyOf(segment.bytes, segment.length);
+	}
+
+	private static byte[] rolesJson(List<String> roles) {
+		if (roles == null) {
+			return null;
+		}
+		ByteSink json = new ByteSink(16 * roles.size() + 2).append('[');
+		for (int i = 0; i < roles.size(); i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			String role = roles.get(i);
+			json.append(role == null ? "null".getBytes(StandardCharsets.US_ASCII) : jsonString(role));
+		}
+		json.append(']');
+		return Arrays.copyOf(json.bytes, json.length);
+	}
+
+	/**
+	 * 문자열을 Jackson 과 같은 규칙으로 이스케이프한 UTF-8 JSON 문자열로 인코딩합니다.
+	 */
+	private static byte[] jsonString(String value) {
+		StringBuilder escaped = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> escaped.append("\\\"");
+				case '\\' -> escaped.append("\\\\");
+				case '\b' -> escaped.append("\\b");
+				case '\f' -> escaped.append("\\f");
+				case '\n' -> escaped.append("\\n");
+				case '\r' -> escaped.append("\\r");
+				case '\t' -> escaped.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						escaped.append("\\u00").append((char)HEX_DIGITS[c >> 4]).append((char)HEX_DIGITS[c & 0xF]);
+					} else {
+						escaped.append(c);
+					}
+				}
+			}
+		}
+		return escaped.append('"').toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 토큰 하나를 발급하는 동안 한 스레드가 사용하는 버퍼입니다.
+	 */
+	private static final class Buffers {
+		private final ByteSink payload = new ByteSink(256);
+		private final ByteSink token = new ByteSink(512);
+		private byte[] signature = new byte[64];
+
+		byte[] signature(int size) {
+			if (signature.length < size) {
+				signature = new byte[size];
+			}
+			return signature;
+		}
+	}
+
+	/**
+	 * 크기가 자동으로 늘어나는 바이트 버퍼입니다.
+	 */
+	private static final class ByteSink {
+		private byte[] bytes;
+		private int length;
+
+		ByteSink(int capacity) {
+			this.bytes = new byte[capacity];
+		}
+
+		ByteSink reset() {
+			length = 0;
+			return this;
+		}
+
+		ByteSink separator() {
+			return length > 1 ? append(',') : this;
+		}
+
+		ByteSink append(char c) {
+			ensure(1);
+			bytes[length++] = (byte)c;
+			return this;
+		}
+
+		ByteSink append(String ascii) {
+			ensure(ascii.length());
+			for (int i = 0; i < ascii.length(); i++) {
+				bytes[length++] = (byte)ascii.charAt(i);
+			}
+			return this;
+		}
+
+		ByteSink append(byte[] source) {
+			ensure(source.length);
+			System.arraycopy(source, 0, bytes, length, source.length);
+			length += source.length;
+			return this;
+		}
+
+		ByteSink appendLong(long value) {
+			if (value == Long.MIN_VALUE) {
+				return append(Long.toString(value));
+			}
+			if (value < 0) {
+				append('-');
+				value = -value;
+			}
+			int digits = 1;
+			for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+				digits++;
+			}
+			ensure(digits);
+			for (int i = length + digits - 1; i >= length; i--) {
+				bytes[i] = (byte)('0' + value % 10);
+				value /= 10;
+			}
+			length += digits;
+			return this;
+		}
+
+		ByteSink appendBase64Url(byte[] source, int offset, int count) {
+			ensure((count + 2) / 3 * 4);
+			int end = offset + count;
+			int i = offset;
+			for (; i + 2 < end; i += 3) {
+				int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8 | (source[i + 2] & 0xFF);
+				bytes[length++] = BASE64URL_ALPHABET[bits >>> 18];
+				bytes[length++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+				bytes[length++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3F];
+				bytes[length++] = BASE64URL_ALPHABET[bits & 0x3F];
+			}
+			int remaining = end - i;
+			if (remaining == 1) {
+				int bits = (source[i] & 0xFF) << 16;
+				bytes[length++] = BASE64URL_ALPHABET[bits >>> 18];
+				bytes[length++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+			} else if (remaining == 2) {
+				int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8;
+				bytes[length++] = BASE64URL_ALPHABET[bits >>> 18];
+				bytes[length++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+				bytes[length++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3F];
+			}
+			return this;
+		}
+
+		private void ensure(int additional) {
+			if (length + additional > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+			}
+		}
+	}
+}
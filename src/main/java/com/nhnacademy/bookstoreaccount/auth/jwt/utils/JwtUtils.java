@@ -1,21 +1,35 @@
 package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.security.Key;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtKeyRing;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKey;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKeys;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.ProtectedHeader;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -25,16 +39,64 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component
 public class JwtUtils {
-	private final SecretKey secretKey;
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String FAST_VERIFIER = "fast";
+	private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private final JwtKeyRing keyRing;
+	private final JwtParser jwtParser;
+	private final FastHmacJwtVerifier fastVerifier;
+	private final JwtTokenMinter tokenMinter;
 
 	/**
-	 * JWT 유틸리티를 초기화합니다.
+	 * HMAC 비밀 키로 JWT 유틸리티를 초기화합니다.
 	 * @param secret JWT 서명에 사용할 비밀 키.
 	 */
-	public JwtUtils(@Value("${spring.jwt.secret}") String secret) {
-		secretKey = new SecretKeySpec(
-			secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm()
-		);
+	public JwtUtils(String secret) {
+		this(JwtSigningKeys.hmac(secret, null));
+	}
+
+	/**
+	 * 단일 서명 키로 JWT 유틸리티를 초기화합니다.
+	 * @param signingKey JWT 서명과 검증에 사용할 키.
+	 */
+	public JwtUtils(JwtSigningKey signingKey) {
+		this(new JwtKeyRing(signingKey, 0L));
+	}
+
+	/**
+	 * 키 링으로 JWT 유틸리티를 초기화합니다.
+	 * 토큰은 활성 키로 서명하고, 검증 시에는 헤더의 kid 로 키 링에서 키를 찾습니다.
+	 * @param keyRing JWT 서명과 검증에 사용할 키 링.
+	 */
+	public JwtUtils(JwtKeyRing keyRing) {
+		this(keyRing, null);
+	}
+
+	/**
+	 * 키 링과 검증 엔진으로 JWT 유틸리티를 초기화합니다.
+	 * @param keyRing JWT 서명과 검증에 사용할 키 링.
+	 * @param verifier 검증 엔진. "fast" 이면 {@link FastHmacJwtVerifier}를 먼저 시도하고, 그 외에는 jjwt 만 사용합니다.
+	 */
+	@Autowired
+	public JwtUtils(JwtKeyRing keyRing, @Value("${spring.jwt.verifier:jjwt}") String verifier) {
+		this.keyRing = keyRing;
+		// JwtParser 는 불변이며 스레드 안전하므로 한 번만 생성하여 재사용합니다.
+		this.jwtParser = Jwts.parser().keyLocator(new KeyRingLocator(keyRing)).build();
+		this.fastVerifier = FAST_VERIFIER.equalsIgnoreCase(verifier) ? new FastHmacJwtVerifier(keyRing) : null;
+		this.tokenMinter = new JwtTokenMinter(keyRing);
+	}
+
+	/**
+	 * 다른 서비스가 토큰을 직접 검증할 수 있도록 공개 키 목록을 JWK 형식으로 반환합니다.
+	 * 유예 기간 중인 이전 키도 포함하며, HMAC 키는 공개할 수 없으므로 제외합니다.
+	 * @return 공개 JWK 목록.
+	 */
+	public List<Map<String, Object>> getPublicJwks() {
+		return keyRing.getVerificationKeys().stream()
+			.map(JwtSigningKey::publicJwk)
+			.filter(Objects::nonNull)
+			.toList();
 	}
 
 	/**
@@ -43,11 +105,67 @@ public class JwtUtils {
 	 * @return 토큰에서 추출한 클레임.
 	 */
 	private Claims getClaims(String token) {
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(token.replace("Bearer ", ""))
-			.getPayload();
+		return jwtParser.parseSignedClaims(stripBearerPrefix(token)).getPayload();
+	}
+
+	/**
+	 * 토큰 앞의 "Bearer " 접두사를 제거합니다.
+	 * @param token JWT 토큰.
+	 * @return 접두사가 제거된 토큰.
+	 */
+	private static String stripBearerPrefix(String token) {
+		return token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+	}
+
+	/**
+	 * JWT 토큰을 한 번만 검증하고 필요한 클레임을 모두 추출합니다.
+	 * 토큰이 유효하지 않은 경우 예외를 던지지 않고 에러 메시지를 담은 결과를 반환합니다.
+	 * 빠른 검증기가 켜져 있으면 먼저 시도하고, 판정하지 못한 토큰만 jjwt 로 검증합니다.
+	 * @param token JWT 토큰.
+	 * @return 토큰의 파싱 결과.
+	 */
+	public ParsedToken parseToken(String token) {
+		if (fastVerifier != null && token != null) {
+			ParsedToken parsedToken = fastVerifier.verify(token,
+				token.startsWith(BEARER_PREFIX) ? BEARER_PREFIX.length() : 0);
+			if (parsedToken != null) {
+				return parsedToken;
+			}
+		}
+		try {
+			Claims claims = getClaims(token);
+			return ParsedToken.builder()
+				.tokenType(claims.get("token-type", String.class))
+				.userId(claims.get("userId", Long.class))
+				.roles(toRoles(claims))
+				.issuedAt(claims.getIssuedAt() == null ? null : claims.getIssuedAt().getTime())
+				.expiresAt(claims.getExpiration() == null ? null : claims.getExpiration().getTime())
+				.tokenId(claims.getId())
+				.build();
+		} catch (SecurityException | MalformedJwtException e) {
+			return invalid("유효하지 않은 토큰입니다.", e);
+		} catch (ExpiredJwtException e) {
+			return invalid("만료된 토큰입니다.", e);
+		} catch (UnsupportedJwtException e) {
+			return invalid("지원하지 않는 토큰입니다.", e);
+		} catch (IllegalArgumentException e) {
+			return invalid("토큰 값이 비어있습니다.", e);
+		}
+	}
+
+	private static ParsedToken invalid(String errorMessage, Exception e) {
+		log.info(errorMessage, e);
+		return ParsedToken.invalid(errorMessage);
+	}
+
+	private static List<String> toRoles(Claims claims) {
+		List<?> roles = claims.get("roles", List.class);
+		if (roles == null) {
+			return List.of();
+		}
+		return roles.stream()
+			.map(Object::toString)
+			.toList();
 	}
 
 	/**
@@ -65,10 +183,7 @@ public class JwtUtils {
 	 * @return 토큰에서 추출한 역할 리스트.
 	 */
 	public List<String> getRolesFromToken(String token) {
-		Claims claims = getClaims(token);
-		return ((List<?>)claims.get("roles")).stream()
-			.map(Object::toString)
-			.toList();
+		return toRoles(getClaims(token));
 	}
 
 	/**
@@ -86,23 +201,7 @@ public class JwtUtils {
 	 * @return 토큰이 유효하지 않을 경우의 에러 메시지. 유효한 경우 null을 반환합니다.
 	 */
 	public String validateToken(String token) {
-		String errorMessage = null;
-		try {
-			Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token.replace("Bearer ", ""));
-		} catch (SecurityException | MalformedJwtException e) {
-			errorMessage = "유효하지 않은 토큰입니다.";
-			log.info(errorMessage, e);
-		} catch (ExpiredJwtException e) {
-			errorMessage = "만료된 토큰입니다.";
-			log.info(errorMessage, e);
-		} catch (UnsupportedJwtException e) {
-			errorMessage = "지원하지 않는 토큰입니다.";
-			log.info(errorMessage, e);
-		} catch (IllegalArgumentException e) {
-			errorMessage = "토큰 값이 비어있습니다.";
-			log.info(errorMessage, e);
-		}
-		return errorMessage;
+		return parseToken(token).errorMessage();
 	}
 
 	/**
@@ -114,14 +213,86 @@ public class JwtUtils {
 	 * @return 생성된 JWT 토큰.
 	 */
 	public String generateToken(String tokenType, Long userId, List<String> roles, Long expiresIn) {
-		String tokenTypePrefix = "access".equals(tokenType) ? "Bearer " : "";
-		return tokenTypePrefix + Jwts.builder()
+		JwtSigningKey signingKey = keyRing.getActiveKey();
+		long issuedAt = System.currentTimeMillis();
+		String tokenId = "access".equals(tokenType) ? newTokenId() : null;
+		String token = tokenMinter.mint(signingKey, tokenType, userId, roles, issuedAt, expiresIn, tokenId);
+		if (token != null) {
+			return token;
+		}
+		return buildToken(signingKey, tokenType, userId, roles, issuedAt, expiresIn, tokenId);
+	}
+
+	/**
+	 * 같은 발급 시각으로 액세스 토큰과 리프레시 토큰을 함께 생성합니다.
+	 * @param userId 사용자 ID.
+	 * @param roles 사용자 역할 리스트.
+	 * @param accessTokenExpiresIn 액세스 토큰의 만료 시간(밀리초 단위).
+	 * @param refreshTokenExpiresIn 리프레시 토큰의 만료 시간(밀리초 단위).
+	 * @return 생성된 토큰 쌍.
+	 */
+	public TokenPair generateTokenPair(Long userId, List<String> roles, Long accessTokenExpiresIn,
+		Long refreshTokenExpiresIn) {
+		JwtSigningKey signingKey = keyRing.getActiveKey();
+		long issuedAt = System.currentTimeMillis();
+		String accessTokenId = newTokenId();
+		TokenPair tokenPair = tokenMinter.mintPair(signingKey, userId, roles, issuedAt, accessTokenExpiresIn,
+			refreshTokenExpiresIn, accessTokenId);
+		if (tokenPair != null) {
+			return tokenPair;
+		}
+		return TokenPair.builder()
+			.accessToken(buildToken(signingKey, "access", userId, roles, issuedAt, accessTokenExpiresIn,
+				accessTokenId))
+			.refreshToken(buildToken(signingKey, "refresh", userId, roles, issuedAt, refreshTokenExpiresIn, null))
+			.build();
+	}
+
+	/**
+	 * 액세스 토큰을 폐기할 때 사용하는 토큰 ID (jti)를 만듭니다.
+	 * 토큰은 서명으로 보호되므로 ID는 예측할 수 없을 필요가 없고 겹치지만 않으면 되어, 보안 난수 대신 128 비트 스레드 로컬 난수를 사용합니다.
+	 * @return Base64URL 로 인코딩한 22 자의 토큰 ID.
+	 */
+	private static String newTokenId() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		ByteBuffer bytes = ByteBuffer.allocate(16).putLong(random.nextLong()).putLong(random.nextLong());
+		return TOKEN_ID_ENCODER.encodeToString(bytes.array());
+	}
+
+	/**
+	 * jjwt 빌더로 토큰을 생성합니다. 직접 조립할 수 없는 비대칭 키 서명에 사용합니다.
+	 */
+	private static String buildToken(JwtSigningKey signingKey, String tokenType, Long userId, List<String> roles,
+		long issuedAt, long expiresIn, String tokenId) {
+		String tokenTypePrefix = "access".equals(tokenType) ? BEARER_PREFIX : "";
+		return tokenTypePrefix + signingKey.sign(Jwts.builder()
+			.header().keyId(signingKey.keyId()).and()
 			.claim("token-type", tokenType)
 			.claim("userId", userId)
 			.claim("roles", roles)
-			.issuedAt(new Date(System.currentTimeMillis()))
-			.expiration(new Date(System.currentTimeMillis() + expiresIn))
-			.signWith(secretKey)
+			.issuedAt(new Date(issuedAt))
+			.expiration(new Date(issuedAt + expiresIn))
+			.id(tokenId))
 			.compact();
 	}
+
+	/**
+	 * 토큰 헤더의 kid 로 키 링에서 검증 키를 찾는 {@link io.jsonwebtoken.Locator} 구현입니다.
+	 */
+	private static class KeyRingLocator extends LocatorAdapter<Key> {
+		private final JwtKeyRing keyRing;
+
+		KeyRingLocator(JwtKeyRing keyRing) {
+			this.keyRing = keyRing;
+		}
+
+		@Override
+		protected Key locate(ProtectedHeader header) {
+			JwtSigningKey signingKey = keyRing.find(header.getKeyId());
+			if (signingKey == null) {
+				throw new InvalidKeyException("알 수 없는 서명 키입니다. kid: " + header.getKeyId());
+			}
+			return signingKey.verificationKey();
+		}
+	}
 }
@@ -0,0 +1,26 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import java.time.Duration;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import lombok.Getter;
+
+/**
+ * @author 김태환
+ * 비밀번호 검증 대기열이 가득 찼거나 제한 시간 안에 검증하지 못해 로그인 요청을 거절할 때 발생합니다.
+ * 비밀번호가 틀린 것이 아니므로, 클라이언트에게 {@link #getRetryAfter()} 뒤에 다시 시도하도록 알립니다.
+ */
+@Getter
+public class PasswordVerificationRejectedException extends AuthenticationServiceException {
+	private final transient Duration retryAfter;
+
+	/**
+	 * @param message 거절 사유.
+	 * @param retryAfter 클라이언트가 다시 시도하기까지 기다릴 시간.
+	 */
+	public PasswordVerificationRejectedException(String message, Duration retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+}
@@ -0,0 +1,72 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * @author 김태환
+ * 스레드 ID 로 고른 슬롯에 객체를 하나씩 보관하는 작은 객체 풀입니다.
+ * {@link ThreadLocal} 캐시는 스레드가 오래 살아 있어야 효과가 있어서, 요청마다 새로 만들어지는 가상 스레드에서는 요청마다 객체를 새로 만듭니다.
+ * 이 풀은 스레드 종류와 관계없이 객체를 재사용하고 보관하는 객체 수를 슬롯 수로 제한하며,
+ * 플랫폼 스레드는 대부분 자기 슬롯만 사용하므로 서로 경합하지 않습니다.
+ * 꺼낼 슬롯이 비어 있으면 새로 만들고, 돌려놓을 슬롯이 차 있으면 버립니다.
+ *
+ * @param <T> 보관하는 객체. 한 번에 한 스레드만 사용합니다.
+ */
+final class StripedPool<T> {
+	private static final int DEFAULT_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+	private final AtomicReferenceArray<T> slots;
+	private final int mask;
+	private final Supplier<T> factory;
+
+	/**
+	 * CPU 코어 수의 두 배만큼 슬롯을 가진 풀을 만듭니다.
+	 *
+	 * @param factory 슬롯이 비어 있을 때 객체를 만드는 함수. null 을 반환하면 그대로 반환하고 보관하지 않습니다.
+	 */
+	StripedPool(Supplier<T> factory) {
+		this(DEFAULT_SIZE, factory);
+	}
+
+	/**
+	 * @param size 슬롯 수. 2의 거듭제곱으로 올림합니다.
+	 * @param factory 슬롯이 비어 있을 때 객체를 만드는 함수. null 을 반환하면 그대로 반환하고 보관하지 않습니다.
+	 */
+	StripedPool(int size, Supplier<T> factory) {
+		if (size < 1) {
+			throw new IllegalArgumentException("size must be positive: " + size);
+		}
+		int slotCount = Math.max(Integer.highestOneBit(size - 1) << 1, 1);
+		this.slots = new AtomicReferenceArray<>(slotCount);
+		this.mask = slotCount - 1;
+		this.factory = factory;
+	}
+
+	/**
+	 * 현재 스레드의 슬롯에서 객체를 꺼냅니다. 다 쓰면 {@link #release}로 돌려놓아야 다시 사용됩니다.
+	 *
+	 * @return 보관하던 객체, 또는 새로 만든 객체.
+	 */
+	T acquire() {
+		T pooled = slots.getAndSet(index(), null);
+		return pooled != null ? pooled : factory.get();
+	}
+
+	/**
+	 * 객체를 현재 스레드의 슬롯에 돌려놓습니다.
+	 *
+	 * @param value {@link #acquire}로 꺼낸 객체.
+	 */
+	void release(T value) {
+		if (value != null) {
+			slots.compareAndSet(index(), null, value);
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	private int index() {
+		// Thread#threadId 는 Java 19 부터 제공되므로 같은 값을 반환하는 getId 를 사용합니다.
+		return (int)Thread.currentThread().getId() & mask;
+	}
+}
@@ -0,0 +1,58 @@
+package com.nhnacademy.bookstoreaccount.global.config;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.HttpClientBuilderCustomizer;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.LoadBalancerFeignRequestTransformer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.HedgingClient;
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.TimedConnectionManager;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = UserInfoLoadBalancerConfig.class)
+public class FeignConfig {
+
+	@Bean
+	public HttpClientBuilderCustomizer timedConnectionManagerCustomizer(
+		HttpClientConnectionManager connectionManager, MeterRegistry meterRegistry) {
+		if (connectionManager instanceof PoolingHttpClientConnectionManager pool) {
+			new PoolingHttpClientConnectionManagerMetricsBinder(pool, "user-info").bindTo(meterRegistry);
+		}
+		TimedConnectionManager timedConnectionManager = new TimedConnectionManager(connectionManager, meterRegistry);
+		return builder -> builder.setConnectionManager(timedConnectionManager);
+	}
+
+	@Bean
+	public Client feignClient(
+		CloseableHttpClient httpClient5,
+		LoadBalancerClient loadBalancerClient,
+		LoadBalancerClientFactory loadBalancerClientFactory,
+		ObjectProvider<LoadBalancerFeignRequestTransformer> transformers,
+		@Value("${spring.jwt.user-info-http.hedging.enabled:false}") boolean hedgingEnabled,
+		@Value("${spring.jwt.user-info-http.hedging.delay:50ms}") Duration hedgingDelay,
+		@Value("${spring.jwt.user-info-http.hedging.max-in-flight:10}") int maxHedges,
+		@Value("${spring.cloud.openfeign.httpclient.max-connections:200}") int maxThreads,
+		MeterRegistry meterRegistry
+	) {
+		// 추가 요청도 로드 밸런서를 거치므로, 느린 인스턴스 대신 다른 인스턴스로 갈 수 있습니다.
+		Client loadBalanced = new FeignBlockingLoadBalancerClient(new ApacheHttp5Client(httpClient5),
+			loadBalancerClient, loadBalancerClientFactory, transformers.orderedStream().toList());
+		return new HedgingClient(loadBalanced, hedgingEnabled, hedgingDelay, maxHedges, maxThreads, meterRegistry);
+	}
+}
@@ -0,0 +1,39 @@
+package com.nhnacademy.bookstoreaccount.global.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtKeyRing;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKeys;
+
+@Configuration
+public class JwtConfig {
+	@Value("${spring.jwt.secret}")
+	private String secret;
+	@Value("${spring.jwt.previous-secrets:}")
+	private List<String> previousSecrets;
+	@Value("${spring.jwt.algorithm:}")
+	private String algorithm;
+	@Value("${spring.jwt.private-key:}")
+	private String privateKey;
+	@Value("${spring.jwt.public-key:}")
+	private String publicKey;
+	@Value("${spring.jwt.refresh-token.expires-in}")
+	private Long refreshTokenExpiresIn;
+
+	@Bean
+	public JwtKeyRing jwtKeyRing() {
+		// 교체된 키는 가장 긴 토큰 수명(리프레시 토큰) 동안 검증에 사용합니다.
+		JwtKeyRing jwtKeyRing = new JwtKeyRing(
+			JwtSigningKeys.of(algorithm, secret, privateKey, publicKey), refreshTokenExpiresIn
+		);
+		previousSecrets.stream()
+			.filter(previousSecret -> !previousSecret.isBlank())
+			.map(previousSecret -> JwtSigningKeys.hmac(previousSecret, null))
+			.forEach(jwtKeyRing::addVerificationKey);
+		return jwtKeyRing;
+	}
+}
@@ -0,0 +1,31 @@
+package com.nhnacademy.bookstoreaccount.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class PasswordEncoderConfig {
+	@Value("${spring.jwt.password-encoder.threads:0}")
+	private int passwordEncoderThreads;
+	@Value("${spring.jwt.password-encoder.queue-capacity:64}")
+	private int passwordEncoderQueueCapacity;
+	@Value("${spring.jwt.password-encoder.deadline:2s}")
+	private Duration passwordEncoderDeadline;
+	@Value("${spring.jwt.password-encoder.retry-after:1s}")
+	private Duration passwordEncoderRetryAfter;
+
+	// 서블릿과 리액티브 서버가 모두 같은 검증 스레드에서 비밀번호를 검증합니다.
+	@Bean
+	public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordEncoderThreads,
+			passwordEncoderQueueCapacity, passwordEncoderDeadline, passwordEncoderRetryAfter, meterRegistry);
+	}
+}
@@ -0,0 +1,83 @@
+package com.nhnacademy.bookstoreaccount.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.ReactiveUserInfoClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+	@Override
+	public void configureContentTypeResolver(RequestedContentTypeResolverBuilder builder) {
+		builder.parameterResolver()
+			.parameterName("format")
+			.mediaType("json", MediaType.APPLICATION_JSON)
+			.mediaType("xml", MediaType.APPLICATION_XML);
+		builder.fixedResolver(MediaType.APPLICATION_JSON);
+	}
+
+	// 서블릿 API 도 클래스패스에 있어 Tomcat 이 먼저 선택되므로 Netty 를 직접 등록합니다.
+	@Bean
+	public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+
+	// 토큰 서명과 검증은 CPU 작업이므로 코어 수만큼의 스레드에서 실행하고, 이벤트 루프는 I/O 만 처리합니다.
+	@Bean(destroyMethod = "dispose")
+	public Scheduler jwtTokenScheduler(@Value("${spring.jwt.reactive.token-threads:0}") int threads) {
+		int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		return Schedulers.newParallel("jwt-token", parallelism);
+	}
+
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider userInfoConnectionProvider(
+		@Value("${spring.cloud.openfeign.httpclient.max-connections:200}") int maxConnections,
+		@Value("${spring.cloud.openfeign.httpclient.hc5.connection-request-timeout:500}") long pendingAcquireTimeout
+	) {
+		return ConnectionProvider.builder("user-info")
+			.maxConnections(maxConnections)
+			.pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeout))
+			.metrics(true)
+			.build();
+	}
+
+	// Feign 클라이언트와 같은 서비스 ID, 타임아웃, 로드 밸런서를 사용합니다.
+	@Bean
+	public ReactiveUserInfoClient reactiveUserInfoClient(
+		WebClient.Builder webClientBuilder,
+		LoadBalancedExchangeFilterFunction loadBalancedExchangeFilterFunction,
+		ConnectionProvider userInfoConnectionProvider,
+		@Value("${spring.jwt.user-info.service-id:UserInfoService}") String serviceId,
+		@Value("${spring.cloud.openfeign.client.config.UserInfoService.connect-timeout:1000}") int connectTimeout,
+		@Value("${spring.cloud.openfeign.client.config.UserInfoService.read-timeout:2000}") long readTimeout
+	) {
+		HttpClient httpClient = HttpClient.create(userInfoConnectionProvider)
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+			.responseTimeout(Duration.ofMillis(readTimeout));
+		WebClient webClient = webClientBuilder
+			.baseUrl("http://" + serviceId)
+			.filter(loadBalancedExchangeFilterFunction)
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
+			.build();
+		return new ReactiveUserInfoClient(webClient);
+	}
+}
@@ -1,18 +1,38 @@
 package com.nhnacademy.bookstoreaccount.global.config;
 
+import java.time.Duration;
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
+import com.nhnacademy.bookstoreaccount.auth.jwt.cache.UserInfoCache;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.AccessTokenDenylist;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RefreshTokenNearCache;
+import com.nhnacademy.bookstoreaccount.keymanager.property.RedisMode;
 import com.nhnacademy.bookstoreaccount.keymanager.property.RedisProperty;
 import com.nhnacademy.bookstoreaccount.keymanager.service.KeyManagerService;
 
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -22,14 +42,67 @@ public class RedisConfig {
 	private final KeyManagerService keyManagerService;
 
 	@Bean
-	public RedisConnectionFactory redisConnectionFactory() {
+	public LettuceConnectionFactory redisConnectionFactory() {
+		// 읽기 전용 명령(HGETALL, PTTL 등)만 복제본으로 가고, 토큰을 교체하는 스크립트는 항상 마스터에서 실행됩니다.
+		LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfigurationBuilder =
+			LettuceClientConfiguration.builder();
+		if (usesReadFrom()) {
+			clientConfigurationBuilder.readFrom(ReadFrom.valueOf(redisProperty.getReadFrom()));
+		}
+		LettuceClientConfiguration clientConfiguration = clientConfigurationBuilder.build();
+		return switch (redisProperty.getMode()) {
+			case STANDALONE -> new LettuceConnectionFactory(standaloneConfiguration(), clientConfiguration);
+			case SENTINEL -> new LettuceConnectionFactory(sentinelConfiguration(), clientConfiguration);
+			case CLUSTER -> new LettuceConnectionFactory(clusterConfiguration(), clientConfiguration);
+		};
+	}
+
+	/**
+	 * 단일 서버에 readFrom 을 지정하면 Lettuce 가 마스터-복제본 연결로 토폴로지를 조회하므로,
+	 * 단일 서버 모드에서는 복제본 읽기를 설정했을 때만 지정하여 기본 연결 방식을 유지합니다.
+	 */
+	private boolean usesReadFrom() {
+		if (redisProperty.getMode() != RedisMode.STANDALONE) {
+			return true;
+		}
+		String readFrom = redisProperty.getReadFrom();
+		return !"upstream".equalsIgnoreCase(readFrom) && !"master".equalsIgnoreCase(readFrom);
+	}
+
+	RedisStandaloneConfiguration standaloneConfiguration() {
 		RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
 		redisStandaloneConfiguration.setHostName(keyManagerService.getSecret(redisProperty.getHost()));
 		redisStandaloneConfiguration.setPort(Integer.parseInt(keyManagerService.getSecret(redisProperty.getPort())));
 		redisStandaloneConfiguration.setPassword(keyManagerService.getSecret(redisProperty.getPassword()));
 		redisStandaloneConfiguration.setDatabase(
 			Integer.parseInt(keyManagerService.getSecret(redisProperty.getDatabase())));
-		return new LettuceConnectionFactory(redisStandaloneConfiguration);
+		return redisStandaloneConfiguration;
+	}
+
+	RedisSentinelConfiguration sentinelConfiguration() {
+		RedisSentinelConfiguration redisSentinelConfiguration = new RedisSentinelConfiguration(
+			keyManagerService.getSecret(redisProperty.getMaster()), nodes());
+		String password = keyManagerService.getSecret(redisProperty.getPassword());
+		redisSentinelConfiguration.setPassword(password);
+		redisSentinelConfiguration.setSentinelPassword(password);
+		redisSentinelConfiguration.setDatabase(
+			Integer.parseInt(keyManagerService.getSecret(redisProperty.getDatabase())));
+		return redisSentinelConfiguration;
+	}
+
+	RedisClusterConfiguration clusterConfiguration() {
+		RedisClusterConfiguration redisClusterConfiguration = new RedisClusterConfiguration(nodes());
+		redisClusterConfiguration.setPassword(keyManagerService.getSecret(redisProperty.getPassword()));
+		return redisClusterConfiguration;
+	}
+
+	private Set<String> nodes() {
+		String nodes = keyManagerService.getSecret(redisProperty.getNodes());
+		if (nodes == null || nodes.isBlank()) {
+			throw new IllegalStateException("oritang.redis.nodes must resolve to host:port[,host:port...] for "
+				+ redisProperty.getMode() + " mode");
+		}
+		return StringUtils.commaDelimitedListToSet(nodes.replace(" ", ""));
 	}
 
 	@Bean
@@ -42,4 +115,63 @@ public class RedisConfig {
 		sessionRedisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
 		return sessionRedisTemplate;
 	}
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		AccessTokenDenylist accessTokenDenylist,
+		UserInfoCache userInfoCache,
+		@Value("${spring.jwt.access-token.denylist.enabled:true}") boolean denylistEnabled
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		if (denylistEnabled) {
+			container.addMessageListener(accessTokenDenylist, new ChannelTopic(AccessTokenDenylist.CHANNEL));
+		}
+		container.addMessageListener(userInfoCache, new ChannelTopic(UserInfoCache.CHANNEL));
+		return container;
+	}
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(name = "spring.jwt.refresh-token.near-cache.enabled", havingValue = "true")
+	public RefreshTokenNearCache refreshTokenNearCache(
+		LettuceConnectionFactory redisConnectionFactory,
+		MeterRegistry meterRegistry,
+		@Value("${spring.jwt.refresh-token.near-cache.max-size:100000}") long maxSize,
+		@Value("${spring.jwt.refresh-token.near-cache.ttl:60s}") Duration ttl,
+		@Value("${spring.jwt.refresh-token.near-cache.clock-skew:2s}") Duration clockSkew
+	) {
+		// 애플리케이션의 연결과 같은 클라이언트 리소스(이벤트 루프)를 공유하는 전용 연결을 사용합니다.
+		RedisClient redisClient = (RedisClient)redisConnectionFactory.getRequiredNativeClient();
+		return RefreshTokenNearCache.connect(redisClient, nearCacheUri(redisConnectionFactory), maxSize, ttl,
+			clockSkew, meterRegistry);
+	}
+
+	/**
+	 * 니어 캐시의 추적 연결은 키를 쓰는 마스터에 연결해야 무효화 메시지를 받을 수 있습니다.
+	 * 클러스터에서는 노드마다 추적 연결이 필요하므로 지원하지 않습니다.
+	 */
+	static RedisURI nearCacheUri(LettuceConnectionFactory redisConnectionFactory) {
+		if (redisConnectionFactory.getClusterConfiguration() != null) {
+			throw new IllegalStateException("refresh-token near cache is not supported in cluster mode");
+		}
+		RedisSentinelConfiguration sentinelConfiguration = redisConnectionFactory.getSentinelConfiguration();
+		RedisURI.Builder builder = RedisURI.builder();
+		RedisPassword password;
+		if (sentinelConfiguration != null) {
+			builder.withSentinelMasterId(sentinelConfiguration.getMaster().getName());
+			RedisPassword sentinelPassword = sentinelConfiguration.getSentinelPassword();
+			for (RedisNode sentinel : sentinelConfiguration.getSentinels()) {
+				builder.withSentinel(sentinel.getHost(), sentinel.getPort(),
+					sentinelPassword.isPresent() ? new String(sentinelPassword.get()) : null);
+			}
+			password = sentinelConfiguration.getPassword();
+		} else {
+			RedisStandaloneConfiguration configuration = redisConnectionFactory.getStandaloneConfiguration();
+			builder.withHost(configuration.getHostName()).withPort(configuration.getPort());
+			password = configuration.getPassword();
+		}
+		password.toOptional().ifPresent(builder::withPassword);
+		return builder.withDatabase(redisConnectionFactory.getDatabase()).build();
+	}
 }
@@ -1,16 +1,17 @@
 package com.nhnacademy.bookstoreaccount.global.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
@@ -18,26 +19,49 @@ import org.springframework.security.web.authentication.logout.LogoutFilter;
 import com.nhnacademy.bookstoreaccount.auth.jwt.filter.AppCustomLogoutFilter;
 import com.nhnacademy.bookstoreaccount.auth.jwt.filter.LoginFilter;
 import com.nhnacademy.bookstoreaccount.auth.jwt.service.AppCustomUserDetailsService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginRateLimiter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.ClientIpResolver;
 import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
 
 import lombok.RequiredArgsConstructor;
 
 @EnableWebSecurity
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
 	private final AuthenticationConfiguration authenticationConfiguration;
 	private final JwtUtils jwtUtils;
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final RefreshTokenStore refreshTokenStore;
 	private final AppCustomUserDetailsService userDetailsService;
+	private final LoginRateLimiter loginRateLimiter;
+	private final ClientIpResolver clientIpResolver;
 
 	@Value("${spring.jwt.access-token.expires-in}")
 	private Long accessTokenExpiresIn;
 	@Value("${spring.jwt.refresh-token.expires-in}")
 	private Long refreshTokenExpiresIn;
+	@Value("${spring.jwt.async-login.enabled:true}")
+	private boolean asyncLoginEnabled;
+	@Value("${spring.jwt.async-login.timeout:5s}")
+	private Duration asyncLoginTimeout;
 
 	@Bean
-	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthService authService) throws Exception {
+		LoginFilter loginFilter = new LoginFilter(
+			authenticationManager(authenticationConfiguration),
+			jwtUtils,
+			refreshTokenStore,
+			loginRateLimiter,
+			clientIpResolver,
+			accessTokenExpiresIn,
+			refreshTokenExpiresIn
+		);
+		if (asyncLoginEnabled) {
+			loginFilter.setAsyncLogin(authService, asyncLoginTimeout);
+		}
 		return http
 			.csrf(AbstractHttpConfigurer::disable)
 			.formLogin(AbstractHttpConfigurer::disable)
@@ -47,16 +71,8 @@ public class SecurityConfig {
 				.anyRequest().permitAll()
 			)
 			// .addFilterBefore(new JwtFilter(jwtUtils), LoginFilter.class)
-			.addFilterAt(
-				new LoginFilter(
-					authenticationManager(authenticationConfiguration),
-					jwtUtils,
-					redisTemplate,
-					accessTokenExpiresIn,
-					refreshTokenExpiresIn
-				),
-				UsernamePasswordAuthenticationFilter.class)
-			.addFilterBefore(new AppCustomLogoutFilter(redisTemplate, jwtUtils), LogoutFilter.class)
+			.addFilterAt(loginFilter, UsernamePasswordAuthenticationFilter.class)
+			.addFilterBefore(new AppCustomLogoutFilter(authService), LogoutFilter.class)
 			.sessionManagement((session) -> session
 				.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
 			)
@@ -64,11 +80,6 @@ public class SecurityConfig {
 			.build();
 	}
 
-	@Bean
-	public BCryptPasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
-
 	@Bean
 	public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
 		return configuration.getAuthenticationManager();
@@ -0,0 +1,33 @@
+package com.nhnacademy.bookstoreaccount.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.PeakEwmaLoadBalancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// @LoadBalancerClients 의 서비스별 컨텍스트에서만 쓰이므로 @Configuration 으로 스캔되지 않게 합니다.
+public class UserInfoLoadBalancerConfig {
+
+	@Bean
+	public PeakEwmaLoadBalancer peakEwmaLoadBalancer(
+		Environment environment,
+		LoadBalancerClientFactory loadBalancerClientFactory,
+		@Value("${spring.jwt.user-info-lb.decay:10s}") String decay,
+		@Value("${spring.jwt.user-info-lb.failure-threshold:5}") int failureThreshold,
+		@Value("${spring.jwt.user-info-lb.ejection:30s}") String ejection,
+		MeterRegistry meterRegistry
+	) {
+		String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		// 서비스별 컨텍스트에는 Spring Boot 의 변환 서비스가 없어 "10s" 같은 값을 직접 변환합니다.
+		return new PeakEwmaLoadBalancer(
+			loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), serviceId,
+			DurationStyle.detectAndParse(decay), failureThreshold, DurationStyle.detectAndParse(ejection),
+			meterRegistry);
+	}
+}
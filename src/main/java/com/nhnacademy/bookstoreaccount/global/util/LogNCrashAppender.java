@@ -8,17 +8,29 @@ import org.slf4j.LoggerFactory;
 import org.springframework.web.client.RestTemplate;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
 
 /**
  * @author 이경헌
- * LogNCrashAppender 클래스는 Logback의 AppenderBase를 확장하여 로그 이벤트가 발생할 때마다 외부 서비스로 로그를 전송하는 기능을 제공합니다.
+ * LogNCrashAppender 클래스는 Logback의 UnsynchronizedAppenderBase를 확장하여 로그 이벤트가 발생할 때마다 외부 서비스로 로그를 전송하는 기능을 제공합니다.
  * 이 클래스는 프로덕션 환경에서만 작동하도록 설정됩니다.
+ * AppenderBase 와 달리 전송하는 동안 appender 의 모니터를 잡지 않으므로, 느린 전송 하나가 다른 스레드의 로그를 기다리게 하지 않습니다.
  */
-public class LogNCrashAppender extends AppenderBase<ILoggingEvent> {
-	private final RestTemplate restTemplate = new RestTemplate();
+public class LogNCrashAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+	private final RestTemplate restTemplate;
 	private static final Logger logger = LoggerFactory.getLogger(LogNCrashAppender.class);
 
+	public LogNCrashAppender() {
+		this(new RestTemplate());
+	}
+
+	/**
+	 * @param restTemplate 로그를 전송할 {@link RestTemplate}.
+	 */
+	public LogNCrashAppender(RestTemplate restTemplate) {
+		this.restTemplate = restTemplate;
+	}
+
 	@Override
 	protected void append(ILoggingEvent loggingEvent) {
 		Map<String, Object> logData = new HashMap<>();
@@ -0,0 +1,20 @@
+package com.nhnacademy.bookstoreaccount.keymanager.property;
+
+/**
+ * @author 김태환
+ * Redis 배포 구성입니다.
+ */
+public enum RedisMode {
+	/**
+	 * 단일 노드에 연결합니다. 복제본 읽기를 설정하면 노드의 복제 정보로 복제본을 찾습니다.
+	 */
+	STANDALONE,
+	/**
+	 * Sentinel 이 알려주는 마스터에 연결하며, 장애 조치 후에는 새 마스터로 다시 연결합니다.
+	 */
+	SENTINEL,
+	/**
+	 * 클러스터의 슬롯 배치에 따라 키마다 해당 노드로 명령을 보냅니다.
+	 */
+	CLUSTER
+}
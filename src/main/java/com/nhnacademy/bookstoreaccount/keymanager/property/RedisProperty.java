@@ -13,4 +13,8 @@ public class RedisProperty {
 	private String port;
 	private String password;
 	private String database;
+	private RedisMode mode = RedisMode.STANDALONE;
+	private String nodes;
+	private String master;
+	private String readFrom = "upstream";
 }
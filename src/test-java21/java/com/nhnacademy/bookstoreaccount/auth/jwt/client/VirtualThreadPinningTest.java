@@ -0,0 +1,470 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.filter.LoginFilter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtKeyRing;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKeys;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginRateLimiter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RedisRefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.ClientIpResolver;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+import com.nhnacademy.bookstoreaccount.global.config.RedisConfig;
+import com.nhnacademy.bookstoreaccount.global.util.LogNCrashAppender;
+import com.nhnacademy.bookstoreaccount.keymanager.service.KeyManagerService;
+import com.sun.net.httpserver.HttpServer;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+
+import feign.Client;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * 가상 스레드에서 요청 처리 경로의 블로킹 호출이 캐리어 스레드를 고정(pinning)하지 않는지 JFR 의 jdk.VirtualThreadPinned 이벤트로 확인합니다.
+ * 사용자 조회, 가상 스레드로 요청을 처리하는 Tomcat 의 로그인, Lettuce 를 쓰는 RedisTemplate, 키 매니저의 RestTemplate,
+ * 로그 전송 appender 를 확인합니다. 외부 서비스는 로컬 스텁 서버로 대신합니다.
+ * 가상 스레드 API 를 사용하므로 JDK 21 에서 활성화되는 java21 프로필의 테스트 소스에 둡니다.
+ */
+class VirtualThreadPinningTest {
+	private static final String PINNED = "jdk.VirtualThreadPinned";
+	private static final String SERVICE_ID = "UserInfoService";
+	private static final int VIRTUAL_THREADS = 200;
+	private static final String SECRET = "virtual-thread-pinning-test-secret-key";
+
+	private final List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+	private final AtomicInteger stubRequests = new AtomicInteger();
+	private RecordingStream recording;
+
+	@BeforeEach
+	void startRecording() {
+		recording = new RecordingStream();
+		recording.enable(PINNED).withThreshold(Duration.ZERO).withStackTrace();
+		recording.onEvent(PINNED, pinned::add);
+		recording.startAsync();
+	}
+
+	@AfterEach
+	void closeRecording() {
+		recording.close();
+	}
+
+	@Test
+	void batchedUserLookupsDoNotPin() throws Exception {
+		UserInfoBatcher batcher = new UserInfoBatcher(new StubUserInfoClient(Duration.ofMillis(20), 4), true,
+			Duration.ofMillis(2), 16, new SimpleMeterRegistry());
+
+		runOnVirtualThreads(i -> assertThat(batcher.getUserInfoByEmail("user" + i + "@test.com")).isNotNull());
+
+		assertNoPinning();
+	}
+
+	@Test
+	void loadBalancedHttpCallsWaitingForPooledConnectionsDoNotPin() throws Exception {
+		HttpServer server = stubServer(Duration.ofMillis(5), "{}");
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		// 가상 스레드보다 커넥션이 훨씬 적어, 대부분의 호출이 커넥션 풀에서 기다립니다.
+		PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(4)
+			.setMaxConnPerRoute(4)
+			.build();
+		ServiceInstance instance = new DefaultServiceInstance("first", SERVICE_ID, "localhost",
+			server.getAddress().getPort(), false);
+		PeakEwmaLoadBalancer loadBalancer = new PeakEwmaLoadBalancer(
+			ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instance), SERVICE_ID, Duration.ofSeconds(10), 3,
+			Duration.ofSeconds(30), meterRegistry);
+
+		try (CloseableHttpClient httpClient = HttpClients.custom()
+			.setConnectionManager(new TimedConnectionManager(pool, meterRegistry))
+			.build()) {
+			Client client = new ApacheHttp5Client(httpClient);
+			runOnVirtualThreads(i -> {
+				DefaultRequest<Object> request = new DefaultRequest<>(new RequestDataContext());
+				Response<ServiceInstance> lbResponse = loadBalancer.choose(request).block();
+				loadBalancer.onStartRequest(request, lbResponse);
+				Request httpRequest = Request.create(Request.HttpMethod.GET,
+					lbResponse.getServer().getUri() + "/api/internal/users/info", Map.of(), null,
+					StandardCharsets.UTF_8, null);
+				try (feign.Response response = client.execute(httpRequest, new Request.Options())) {
+					assertThat(response.status()).isEqualTo(200);
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+				loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request,
+					lbResponse));
+			});
+		} finally {
+			stop(server);
+		}
+
+		assertNoPinning();
+	}
+
+	@Test
+	void recordingDetectsPinnedMonitor() throws Exception {
+		Object monitor = new Object();
+
+		// 모니터를 잡은 채 잠들면 고정되므로, 기록이 고정을 실제로 잡아내는지 확인합니다.
+		runOnVirtualThreads(i -> {
+			synchronized (monitor) {
+				sleep(Duration.ofMillis(1));
+			}
+		});
+
+		recording.stop();
+		assertThat(pinned).isNotEmpty();
+	}
+
+	@Test
+	void redisTemplateCommandsDoNotPin() throws Exception {
+		try (StubRedis redis = new StubRedis()) {
+			RedisRefreshTokenStore refreshTokenStore = new RedisRefreshTokenStore(redis.redisTemplate());
+
+			runOnVirtualThreads(i -> {
+				redis.redisTemplate().opsForValue().set("pinning:" + i, "value");
+				assertThat(redis.redisTemplate().opsForValue().get("pinning:" + i)).isNull();
+				refreshTokenStore.save((long)i, "phone", "refreshToken", 60_000L);
+			});
+			assertThat(redis.scripts()).hasValue(VIRTUAL_THREADS);
+		}
+
+		assertNoPinning();
+	}
+
+	@Test
+	void tomcatLoginRequestsOnVirtualThreadsDoNotPin() throws Exception {
+		try (StubRedis redis = new StubRedis()) {
+			LoginRateLimiter loginRateLimiter = new LoginRateLimiter(redis.redisTemplate(), true, 100,
+				Duration.ofMillis(600), 10, 10, Duration.ofSeconds(6), 2, Duration.ofSeconds(1), 100_000L,
+				new SimpleMeterRegistry());
+			// 비밀번호 검증 대신 잠시 블로킹합니다.
+			AuthenticationManager authenticationManager = authentication -> {
+				assertThat(Thread.currentThread().isVirtual()).isTrue();
+				sleep(Duration.ofMillis(5));
+				return new UsernamePasswordAuthenticationToken("1", null,
+					List.of(new SimpleGrantedAuthority("ROLE_USER")));
+			};
+			LoginFilter loginFilter = new LoginFilter(authenticationManager,
+				new JwtUtils(new JwtKeyRing(JwtSigningKeys.hmac(SECRET, null), 0L)),
+				new RedisRefreshTokenStore(redis.redisTemplate()), loginRateLimiter,
+				new ClientIpResolver("", "X-Forwarded-For"), 3_600_000L, 7_200_000L);
+			Tomcat tomcat = virtualThreadTomcat(loginFilter);
+			try {
+				HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+				URI uri = URI.create("http://localhost:" + tomcat.getConnector().getLocalPort() + "/auth/login");
+				runOnVirtualThreads(i -> {
+					HttpResponse<String> response = send(client, HttpRequest.newBuilder(uri)
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(
+							"{\"email\":\"user" + i + "@test.com\",\"password\":\"password\"}"))
+						.build());
+					assertThat(response.statusCode()).isEqualTo(200);
+					assertThat(response.body()).contains("accessToken");
+				});
+			} finally {
+				tomcat.stop();
+				tomcat.destroy();
+			}
+			assertThat(redis.scripts()).hasValueGreaterThanOrEqualTo(VIRTUAL_THREADS);
+		}
+
+		assertNoPinning();
+	}
+
+	@Test
+	void keyManagerRestTemplateCallsDoNotPin() throws Exception {
+		HttpServer server = stubServer(Duration.ofMillis(5), "{\"body\":{\"secret\":\"secret\"}}");
+		try {
+			KeyManagerService keyManagerService = new KeyManagerService(redirectedTo(server, new RestTemplate()));
+
+			runOnVirtualThreads(i -> assertThat(keyManagerService.getSecret("key" + i)).isEqualTo("secret"));
+		} finally {
+			stop(server);
+		}
+
+		assertNoPinning();
+	}
+
+	@Test
+	void logNCrashAppenderDoesNotPin() throws Exception {
+		HttpServer server = stubServer(Duration.ofMillis(5), "{}");
+		LoggerContext loggerContext = new LoggerContext();
+		LogNCrashAppender appender = new LogNCrashAppender(redirectedTo(server, new RestTemplate()));
+		appender.setContext(loggerContext);
+		appender.start();
+		Logger logger = loggerContext.getLogger(VirtualThreadPinningTest.class);
+		logger.setAdditive(false);
+		logger.addAppender(appender);
+		try {
+			runOnVirtualThreads(i -> logger.error("pinning check {}", i));
+		} finally {
+			appender.stop();
+			loggerContext.stop();
+			stop(server);
+		}
+
+		assertThat(stubRequests).hasValue(VIRTUAL_THREADS);
+		assertNoPinning();
+	}
+
+	private void assertNoPinning() {
+		// 기록된 이벤트를 모두 전달받은 뒤에 확인합니다.
+		recording.stop();
+		assertThat(pinned).as("virtual threads pinned to their carrier").isEmpty();
+	}
+
+	private static void runOnVirtualThreads(IntConsumer task) throws Exception {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> futures = IntStream.range(0, VIRTUAL_THREADS)
+				.<Future<?>>mapToObj(i -> executor.submit(() -> task.accept(i)))
+				.toList();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		}
+	}
+
+	private HttpServer stubServer(Duration latency, String responseBody) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(Executors.newFixedThreadPool(8));
+		server.createContext("/", exchange -> {
+			stubRequests.incrementAndGet();
+			exchange.getRequestBody().readAllBytes();
+			sleep(latency);
+			byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		return server;
+	}
+
+	private static void stop(HttpServer server) {
+		server.stop(0);
+		((ExecutorService)server.getExecutor()).shutdownNow();
+	}
+
+	/**
+	 * 외부 서비스의 주소로 보내는 요청을 스텁 서버로 보냅니다. 요청은 원래의 요청 팩토리가 만듭니다.
+	 */
+	private static RestTemplate redirectedTo(HttpServer server, RestTemplate restTemplate) {
+		restTemplate.getInterceptors().add((request, body, execution) -> execution.execute(
+			new HttpRequestWrapper(request) {
+				@Override
+				public URI getURI() {
+					return UriComponentsBuilder.fromUri(request.getURI())
+						.scheme("http")
+						.host("localhost")
+						.port(server.getAddress().getPort())
+						.build(true)
+						.toUri();
+				}
+			}, body));
+		return restTemplate;
+	}
+
+	private static Tomcat virtualThreadTomcat(LoginFilter loginFilter) throws Exception {
+		Tomcat tomcat = new Tomcat();
+		tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+		tomcat.setPort(0);
+		// spring.threads.virtual.enabled 를 켰을 때 Spring Boot 가 설정하는 것과 같은 실행기입니다.
+		tomcat.getConnector().getProtocolHandler().setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+		Context context = tomcat.addContext("", null);
+		Tomcat.addServlet(context, "default", new HttpServlet() {
+		});
+		context.addServletMappingDecoded("/", "default");
+		FilterDef filterDef = new FilterDef();
+		filterDef.setFilterName("login");
+		filterDef.setFilter(loginFilter);
+		context.addFilterDef(filterDef);
+		FilterMap filterMap = new FilterMap();
+		filterMap.setFilterName("login");
+		filterMap.addURLPattern("/*");
+		context.addFilterMap(filterMap);
+		tomcat.start();
+		return tomcat;
+	}
+
+	private static HttpResponse<String> send(HttpClient client, HttpRequest request) {
+		try {
+			return client.send(request, HttpResponse.BodyHandlers.ofString());
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 명령마다 정해진 응답을 돌려주는 RESP2 스텁 서버와, 이 서버에 연결한 애플리케이션 설정의 {@link RedisTemplate}입니다.
+	 * HELLO 를 거절하여 Lettuce 가 RESP2 로 연결하게 하고, 스크립트는 모두 10 을 반환합니다.
+	 */
+	private static final class StubRedis implements AutoCloseable {
+		private final ExecutorService executor = Executors.newCachedThreadPool();
+		private final AtomicInteger scripts = new AtomicInteger();
+		private final ServerSocket serverSocket;
+		private final LettuceConnectionFactory connectionFactory;
+		private final RedisTemplate<String, Object> redisTemplate;
+
+		private StubRedis() throws IOException {
+			serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+			executor.execute(this::accept);
+			connectionFactory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration("localhost", serverSocket.getLocalPort()));
+			connectionFactory.afterPropertiesSet();
+			connectionFactory.start();
+			redisTemplate = new RedisConfig(null, null).redisTemplate(connectionFactory);
+			redisTemplate.afterPropertiesSet();
+		}
+
+		private RedisTemplate<String, Object> redisTemplate() {
+			return redisTemplate;
+		}
+
+		private AtomicInteger scripts() {
+			return scripts;
+		}
+
+		private void accept() {
+			while (!serverSocket.isClosed()) {
+				try {
+					Socket socket = serverSocket.accept();
+					executor.execute(() -> serve(socket));
+				} catch (IOException e) {
+					return;
+				}
+			}
+		}
+
+		private void serve(Socket socket) {
+			try (socket) {
+				DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+				OutputStream out = socket.getOutputStream();
+				for (List<String> command = readCommand(in); command != null; command = readCommand(in)) {
+					String reply = switch (command.get(0).toUpperCase(Locale.ROOT)) {
+						case "HELLO" -> "-ERR unknown command 'HELLO'\r\n";
+						case "EVALSHA", "EVAL" -> {
+							scripts.incrementAndGet();
+							yield ":10\r\n";
+						}
+						case "GET" -> "$-1\r\n";
+						default -> "+OK\r\n";
+					};
+					out.write(reply.getBytes(StandardCharsets.US_ASCII));
+					out.flush();
+				}
+			} catch (IOException e) {
+				// 클라이언트가 연결을 닫았습니다.
+			}
+		}
+
+		private static List<String> readCommand(DataInputStream in) throws IOException {
+			String header = readLine(in);
+			if (header == null) {
+				return null;
+			}
+			int count = Integer.parseInt(header.substring(1));
+			List<String> command = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				byte[] argument = new byte[Integer.parseInt(readLine(in).substring(1))];
+				in.readFully(argument);
+				in.skipNBytes(2);
+				command.add(new String(argument, StandardCharsets.UTF_8));
+			}
+			return command;
+		}
+
+		private static String readLine(InputStream in) throws IOException {
+			StringBuilder line = new StringBuilder();
+			for (int b = in.read(); b != '\r'; b = in.read()) {
+				if (b < 0) {
+					return null;
+				}
+				line.append((char)b);
+			}
+			in.read();
+			return line.toString();
+		}
+
+		@Override
+		public void close() throws IOException {
+			connectionFactory.destroy();
+			serverSocket.close();
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void addedValuesAreAlwaysFound() {
+		BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+		for (int i = 0; i < 1_000; i++) {
+			bloomFilter.put("token-" + i);
+		}
+
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(bloomFilter.mightContain("token-" + i)).isTrue();
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+		BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			bloomFilter.put("revoked-" + i);
+		}
+
+		long falsePositives = IntStream.range(0, 100_000)
+			.filter(i -> bloomFilter.mightContain("active-" + i))
+			.count();
+
+		assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+		assertThat(bloomFilter.expectedFalsePositiveProbability()).isBetween(0.005, 0.02);
+	}
+
+	@Test
+	void sizingFollowsExpectedInsertionsAndProbability() {
+		BloomFilter bloomFilter = new BloomFilter(100_000, 0.01);
+
+		// m = -n ln p / (ln 2)^2 ≈ 9.59 비트/항목, k = m/n ln 2 ≈ 7
+		assertThat(bloomFilter.bitSize()).isBetween(958_506L, 958_506L + Long.SIZE);
+		assertThat(bloomFilter.hashFunctions()).isEqualTo(7);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter bloomFilter = new BloomFilter(100, 0.01);
+
+		assertThat(bloomFilter.mightContain("token")).isFalse();
+		assertThat(bloomFilter.expectedFalsePositiveProbability()).isZero();
+	}
+
+	@Test
+	void concurrentPutsAreNotLost() {
+		BloomFilter bloomFilter = new BloomFilter(40_000, 0.01);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int thread = 0; thread < 4; thread++) {
+			int offset = thread * 10_000;
+			futures.add(CompletableFuture.runAsync(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					bloomFilter.put("token-" + (offset + i));
+				}
+			}));
+		}
+		futures.forEach(CompletableFuture::join);
+
+		for (int i = 0; i < 40_000; i++) {
+			assertThat(bloomFilter.mightContain("token-" + i)).isTrue();
+		}
+	}
+
+	@Test
+	void invalidArgumentsAreRejected() {
+		assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,144 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+	private static final int CALLERS = 8;
+
+	private final AtomicInteger calls = new AtomicInteger();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private SimpleMeterRegistry meterRegistry;
+	private SingleFlight<String, String> singleFlight;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		singleFlight = new SingleFlight<>("test", "lookup", meterRegistry);
+	}
+
+	@Test
+	void concurrentCallsForSameKeyShareOneResult() throws Exception {
+		List<CompletableFuture<String>> results = callConcurrently(key -> {
+			calls.incrementAndGet();
+			await();
+			return "value-" + key;
+		});
+
+		assertThat(results).allSatisfy(result -> assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value-key"));
+		assertThat(calls.get()).isEqualTo(1);
+		assertThat(meterRegistry.get("test.calls").tag("operation", "lookup").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void concurrentCallsForSameKeyShareOneError() {
+		IllegalStateException failure = new IllegalStateException("user service unavailable");
+		List<CompletableFuture<String>> results = callConcurrently(key -> {
+			calls.incrementAndGet();
+			await();
+			throw failure;
+		});
+
+		assertThat(results).allSatisfy(result -> assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+			.hasCause(failure));
+		assertThat(calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void callsAfterCompletionAreNotCoalesced() {
+		Function<String, String> call = key -> "value-" + calls.incrementAndGet();
+
+		assertThat(singleFlight.execute("key", call)).isEqualTo("value-1");
+		assertThatThrownBy(() -> singleFlight.execute("key", key -> {
+			throw new IllegalStateException("failed");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(singleFlight.execute("key", call)).isEqualTo("value-2");
+		assertThat(coalesced()).isZero();
+	}
+
+	@Test
+	void differentKeysAreNotCoalesced() {
+		singleFlight.execute("a", key -> key);
+		singleFlight.execute("b", key -> key);
+
+		assertThat(meterRegistry.get("test.calls").counter().count()).isEqualTo(2.0);
+		assertThat(coalesced()).isZero();
+	}
+
+	@Test
+	void asyncCallsShareInFlightCallWithoutBlocking() {
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		Function<String, CompletableFuture<String>> call = key -> {
+			calls.incrementAndGet();
+			return pending;
+		};
+
+		CompletableFuture<String> first = singleFlight.executeAsync("key", call);
+		CompletableFuture<String> second = singleFlight.executeAsync("key", call);
+		second.cancel(false);
+		assertThat(first).isNotDone();
+
+		pending.complete("value");
+		assertThat(first).isCompletedWithValue("value");
+		assertThat(calls.get()).isEqualTo(1);
+		assertThat(coalesced()).isEqualTo(1.0);
+		assertThat(singleFlight.executeAsync("key", call)).isCompletedWithValue("value");
+		assertThat(calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	void syncCallWaitsForAsyncCallOfSameKey() {
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		singleFlight.executeAsync("key", key -> pending);
+
+		CompletableFuture<String> sync = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", key -> "other"),
+			runnable -> new Thread(runnable).start());
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (coalesced() < 1 && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		pending.completeExceptionally(new IllegalStateException("user service unavailable"));
+
+		assertThatThrownBy(() -> sync.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	/**
+	 * 첫 호출이 진행 중인 동안 나머지 호출이 모두 합류한 것을 확인한 뒤 첫 호출을 끝냅니다.
+	 */
+	private List<CompletableFuture<String>> callConcurrently(Function<String, String> call) {
+		List<CompletableFuture<String>> results = IntStream.range(0, CALLERS)
+			.mapToObj(i -> CompletableFuture.supplyAsync(() -> singleFlight.execute("key", call),
+				runnable -> new Thread(runnable).start()))
+			.toList();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (coalesced() < CALLERS - 1 && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+		return results;
+	}
+
+	private double coalesced() {
+		return meterRegistry.get("test.coalesced").tag("operation", "lookup").counter().count();
+	}
+
+	private void await() {
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,213 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserInfoCacheTest {
+	private static final String EMAIL = "user@example.com";
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final AtomicInteger loads = new AtomicInteger();
+	private RedisTemplate<String, Object> redisTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private UserInfoCache userInfoCache;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		meterRegistry = new SimpleMeterRegistry();
+		userInfoCache = cache(true, Duration.ofSeconds(30), Duration.ofSeconds(60));
+	}
+
+	@Test
+	void get_cacheHitSkipsUserService() {
+		Function<String, GetUserTokenInfoResponse> loader = loader(user("ACTIVE"));
+
+		GetUserTokenInfoResponse first = userInfoCache.get(EMAIL, loader);
+		GetUserTokenInfoResponse second = userInfoCache.get(EMAIL, loader);
+
+		assertThat(second).isEqualTo(first);
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void get_unknownAndWithdrawnUsersAreCachedForNegativeTtl() {
+		Function<String, GetUserTokenInfoResponse> unknown = loader(null);
+		Function<String, GetUserTokenInfoResponse> withdrawn = loader(user("WITHDRAW"));
+
+		assertThat(userInfoCache.get("unknown@example.com", unknown)).isNull();
+		assertThat(userInfoCache.get("unknown@example.com", unknown)).isNull();
+		assertThat(userInfoCache.get("withdrawn@example.com", withdrawn)).isNull();
+		assertThat(userInfoCache.get("withdrawn@example.com", withdrawn)).isNull();
+		assertThat(loads.get()).isEqualTo(2);
+		assertThat(meterRegistry.get("jwt.user-info.negative-hits").counter().count()).isEqualTo(2.0);
+
+		now.addAndGet(5_000L);
+		userInfoCache.get("unknown@example.com", unknown);
+		assertThat(loads.get()).isEqualTo(3);
+	}
+
+	@Test
+	void get_entryExpiresAfterTtl() {
+		Function<String, GetUserTokenInfoResponse> loader = loader(user("ACTIVE"));
+
+		userInfoCache.get(EMAIL, loader);
+		now.addAndGet(29_999L);
+		userInfoCache.get(EMAIL, loader);
+		assertThat(loads.get()).isEqualTo(1);
+
+		now.addAndGet(1L);
+		userInfoCache.get(EMAIL, loader);
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void get_ttlIsCappedByMaxStaleness() {
+		userInfoCache = cache(true, Duration.ofMinutes(10), Duration.ofSeconds(60));
+		Function<String, GetUserTokenInfoResponse> loader = loader(user("ACTIVE"));
+
+		userInfoCache.get(EMAIL, loader);
+		now.addAndGet(60_000L);
+		userInfoCache.get(EMAIL, loader);
+
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void get_failedLoadIsNotCached() {
+		Function<String, GetUserTokenInfoResponse> failing = email -> {
+			loads.incrementAndGet();
+			throw new IllegalStateException("user service unavailable");
+		};
+
+		assertThatThrownBy(() -> userInfoCache.get(EMAIL, failing)).isInstanceOf(IllegalStateException.class);
+		assertThat(userInfoCache.get(EMAIL, loader(user("ACTIVE")))).isNotNull();
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void invalidate_removesEntryAndPublishesToOtherNodes() throws Exception {
+		RedisConnection connection = mock(RedisConnection.class);
+		when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(
+			invocation -> ((RedisCallback<?>)invocation.getArgument(0)).doInRedis(connection));
+		Function<String, GetUserTokenInfoResponse> loader = loader(user("ACTIVE"));
+		userInfoCache.get(EMAIL, loader);
+
+		userInfoCache.invalidate(EMAIL);
+		userInfoCache.get(EMAIL, loader);
+
+		assertThat(loads.get()).isEqualTo(2);
+		verify(connection).publish(UserInfoCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			EMAIL.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void get_loadRacingWithInvalidationIsNotCached() {
+		Function<String, GetUserTokenInfoResponse> racing = email -> {
+			loads.incrementAndGet();
+			userInfoCache.onMessage(new DefaultMessage(UserInfoCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+			return user("ACTIVE");
+		};
+
+		assertThat(userInfoCache.get(EMAIL, racing)).isNotNull();
+		assertThat(userInfoCache.estimatedSize()).isZero();
+	}
+
+	@Test
+	void onMessage_removesEntryInvalidatedByOtherNode() {
+		Function<String, GetUserTokenInfoResponse> loader = loader(user("ACTIVE"));
+		userInfoCache.get(EMAIL, loader);
+
+		userInfoCache.onMessage(new DefaultMessage(UserInfoCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+
+		assertThat(userInfoCache.estimatedSize()).isZero();
+	}
+
+	@Test
+	void getAsync_sharesEntriesWithSyncLookups() {
+		CompletableFuture<GetUserTokenInfoResponse> pending = new CompletableFuture<>();
+
+		CompletableFuture<GetUserTokenInfoResponse> result = userInfoCache.getAsync(EMAIL, email -> {
+			loads.incrementAndGet();
+			return pending;
+		});
+		assertThat(result).isNotDone();
+		pending.complete(user("ACTIVE"));
+
+		assertThat(result.join()).isNotNull();
+		assertThat(userInfoCache.get(EMAIL, loader(user("ACTIVE")))).isEqualTo(result.join());
+		assertThat(userInfoCache.getAsync(EMAIL, email -> CompletableFuture.failedFuture(
+			new IllegalStateException("not called")))).isCompletedWithValue(result.join());
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	void getAsync_withdrawnUserCompletesWithNullAndFailureIsNotCached() {
+		assertThat(userInfoCache.getAsync("withdrawn@example.com",
+			email -> CompletableFuture.completedFuture(user("WITHDRAW")))).isCompletedWithValue(null);
+
+		CompletableFuture<GetUserTokenInfoResponse> failed = userInfoCache.getAsync(EMAIL,
+			email -> CompletableFuture.failedFuture(new IllegalStateException("user service unavailable")));
+
+		assertThat(failed).isCompletedExceptionally();
+		assertThat(userInfoCache.estimatedSize()).isEqualTo(1);
+	}
+
+	@Test
+	void disabledCacheAlwaysLoads() {
+		userInfoCache = cache(false, Duration.ofSeconds(30), Duration.ofSeconds(60));
+		Function<String, GetUserTokenInfoResponse> loader = loader(user("ACTIVE"));
+
+		userInfoCache.get(EMAIL, loader);
+		userInfoCache.get(EMAIL, loader);
+
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	private UserInfoCache cache(boolean enabled, Duration ttl, Duration maxStaleness) {
+		return new UserInfoCache(redisTemplate, enabled, 100, ttl, Duration.ofSeconds(5), maxStaleness,
+			meterRegistry, () -> TimeUnit.MILLISECONDS.toNanos(now.get()));
+	}
+
+	private Function<String, GetUserTokenInfoResponse> loader(GetUserTokenInfoResponse user) {
+		return email -> {
+			loads.incrementAndGet();
+			return user;
+		};
+	}
+
+	private static GetUserTokenInfoResponse user(String status) {
+		return GetUserTokenInfoResponse.builder()
+			.id(1L)
+			.password("password")
+			.roles(List.of("ROLE_USER"))
+			.status(status)
+			.build();
+	}
+}
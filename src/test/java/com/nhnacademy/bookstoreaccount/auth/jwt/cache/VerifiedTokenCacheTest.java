@@ -0,0 +1,112 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final AtomicInteger verifications = new AtomicInteger();
+	private SimpleMeterRegistry meterRegistry;
+	private VerifiedTokenCache verifiedTokenCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		Clock clock = new Clock() {
+			@Override
+			public ZoneOffset getZone() {
+				return ZoneOffset.UTC;
+			}
+
+			@Override
+			public Clock withZone(java.time.ZoneId zone) {
+				return this;
+			}
+
+			@Override
+			public Instant instant() {
+				return Instant.ofEpochMilli(now.get());
+			}
+		};
+		verifiedTokenCache = new VerifiedTokenCache(2, meterRegistry, clock,
+			() -> TimeUnit.MILLISECONDS.toNanos(now.get()));
+	}
+
+	@Test
+	void get_cacheHitSkipsVerification() {
+		Function<String, ParsedToken> verifier = verifier(validToken(60_000L));
+
+		ParsedToken first = verifiedTokenCache.get("Bearer token", verifier);
+		ParsedToken second = verifiedTokenCache.get("Bearer token", verifier);
+
+		assertThat(second).isEqualTo(first);
+		assertThat(verifications.get()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void get_invalidTokenIsNotCached() {
+		Function<String, ParsedToken> verifier = verifier(ParsedToken.invalid("만료된 토큰입니다."));
+
+		verifiedTokenCache.get("Bearer token", verifier);
+		verifiedTokenCache.get("Bearer token", verifier);
+
+		assertThat(verifications.get()).isEqualTo(2);
+		assertThat(verifiedTokenCache.estimatedSize()).isZero();
+	}
+
+	@Test
+	void get_entryNeverOutlivesTokenExpiry() {
+		Function<String, ParsedToken> verifier = verifier(validToken(1_000L));
+
+		verifiedTokenCache.get("Bearer token", verifier);
+		now.addAndGet(1_000L);
+		verifiedTokenCache.get("Bearer token", verifier);
+
+		assertThat(verifications.get()).isEqualTo(2);
+	}
+
+	@Test
+	void get_evictsBeyondMaxSize() {
+		Function<String, ParsedToken> verifier = verifier(validToken(60_000L));
+
+		verifiedTokenCache.get("Bearer token-1", verifier);
+		verifiedTokenCache.get("Bearer token-2", verifier);
+		verifiedTokenCache.get("Bearer token-3", verifier);
+
+		assertThat(verifiedTokenCache.estimatedSize()).isEqualTo(2);
+		assertThat(meterRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(1.0);
+	}
+
+	private ParsedToken validToken(long expiresIn) {
+		return ParsedToken.builder()
+			.tokenType("access")
+			.userId(1L)
+			.roles(List.of("ROLE_USER"))
+			.issuedAt(now.get())
+			.expiresAt(now.get() + expiresIn)
+			.build();
+	}
+
+	private Function<String, ParsedToken> verifier(ParsedToken result) {
+		return token -> {
+			verifications.incrementAndGet();
+			return result;
+		};
+	}
+}
@@ -0,0 +1,161 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HedgingClientTest {
+	private static final Request.Options OPTIONS = new Request.Options();
+
+	private final AtomicInteger calls = new AtomicInteger();
+	private final AtomicBoolean slowResponseClosed = new AtomicBoolean();
+	private SimpleMeterRegistry meterRegistry;
+	private HedgingClient hedgingClient;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (hedgingClient != null) {
+			hedgingClient.close();
+		}
+	}
+
+	@Test
+	void fastResponseIsNotHedged() throws Exception {
+		hedgingClient = hedging(true, (request, options) -> {
+			calls.incrementAndGet();
+			return response(request, "first", null);
+		});
+
+		Response response = hedgingClient.execute(request(Request.HttpMethod.GET), OPTIONS);
+
+		assertThat(body(response)).isEqualTo("first");
+		assertThat(calls.get()).isEqualTo(1);
+		assertThat(hedges("sent")).isZero();
+	}
+
+	@Test
+	void slowResponseIsHedgedAndLateResponseIsClosed() throws Exception {
+		hedgingClient = hedging(true, slowFirstCall());
+
+		Response response = hedgingClient.execute(request(Request.HttpMethod.GET), OPTIONS);
+
+		assertThat(body(response)).isEqualTo("call-2");
+		assertThat(calls.get()).isEqualTo(2);
+		assertThat(hedges("sent")).isEqualTo(1.0);
+		assertThat(hedges("won")).isEqualTo(1.0);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!slowResponseClosed.get() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(slowResponseClosed).isTrue();
+	}
+
+	@Test
+	void nonIdempotentRequestIsNotHedged() throws Exception {
+		hedgingClient = hedging(true, slowFirstCall());
+
+		Response response = hedgingClient.execute(request(Request.HttpMethod.POST), OPTIONS);
+
+		assertThat(body(response)).isEqualTo("call-1");
+		assertThat(calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void failureOfBothRequestsIsThrown() {
+		hedgingClient = hedging(true, (request, options) -> {
+			calls.incrementAndGet();
+			sleep(200);
+			throw new IOException("connection reset");
+		});
+
+		assertThatThrownBy(() -> hedgingClient.execute(request(Request.HttpMethod.GET), OPTIONS))
+			.isInstanceOf(IOException.class)
+			.hasMessage("connection reset");
+		assertThat(calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	void disabledClientSendsOnce() throws Exception {
+		hedgingClient = hedging(false, slowFirstCall());
+
+		Response response = hedgingClient.execute(request(Request.HttpMethod.GET), OPTIONS);
+
+		assertThat(body(response)).isEqualTo("call-1");
+		assertThat(calls.get()).isEqualTo(1);
+	}
+
+	private HedgingClient hedging(boolean enabled, Client delegate) {
+		return new HedgingClient(delegate, enabled, Duration.ofMillis(20), 10, 10, meterRegistry);
+	}
+
+	private Client slowFirstCall() {
+		return (request, options) -> {
+			int call = calls.incrementAndGet();
+			if (call == 1) {
+				sleep(500);
+				return response(request, "call-1", slowResponseClosed);
+			}
+			return response(request, "call-" + call, null);
+		};
+	}
+
+	private double hedges(String result) {
+		return meterRegistry.get("jwt.user-info.http.hedges").tag("result", result).counter().count();
+	}
+
+	private static Request request(Request.HttpMethod method) {
+		return Request.create(method, "http://localhost:8083/api/internal/users/info", Map.of(), null,
+			StandardCharsets.UTF_8, null);
+	}
+
+	private static Response response(Request request, String body, AtomicBoolean closed) {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		ByteArrayInputStream stream = new ByteArrayInputStream(bytes) {
+			@Override
+			public void close() {
+				if (closed != null) {
+					closed.set(true);
+				}
+			}
+		};
+		return Response.builder()
+			.status(200)
+			.request(request)
+			.headers(Map.of())
+			.body(stream, bytes.length)
+			.build();
+	}
+
+	private static String body(Response response) throws IOException {
+		return new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
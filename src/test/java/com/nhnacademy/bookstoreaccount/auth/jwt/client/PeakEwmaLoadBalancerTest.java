@@ -0,0 +1,208 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.util.LinkedMultiValueMap;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PeakEwmaLoadBalancerTest {
+	private static final String SERVICE_ID = "UserInfoService";
+	private static final ServiceInstance FIRST = instance("first", 8081);
+	private static final ServiceInstance SECOND = instance("second", 8082);
+
+	private final AtomicLong now = new AtomicLong(1_000_000_000L);
+	private SimpleMeterRegistry meterRegistry;
+	private PeakEwmaLoadBalancer loadBalancer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		loadBalancer = loadBalancer(now::get, FIRST, SECOND);
+	}
+
+	@Test
+	void slowInstanceIsAvoided() {
+		complete(FIRST, Duration.ofMillis(200), HttpStatus.OK);
+		complete(SECOND, Duration.ofMillis(5), HttpStatus.OK);
+
+		for (int i = 0; i < 20; i++) {
+			assertThat(choose()).isEqualTo(SECOND);
+		}
+	}
+
+	@Test
+	void inFlightRequestsRaiseCost() {
+		complete(FIRST, Duration.ofMillis(10), HttpStatus.OK);
+		complete(SECOND, Duration.ofMillis(10), HttpStatus.OK);
+		for (int i = 0; i < 3; i++) {
+			loadBalancer.onStartRequest(request(), new DefaultResponse(FIRST));
+		}
+
+		assertThat(choose()).isEqualTo(SECOND);
+	}
+
+	@Test
+	void slowLatencyDecaysSoInstanceIsRetried() {
+		complete(FIRST, Duration.ofMillis(200), HttpStatus.OK);
+		complete(SECOND, Duration.ofMillis(5), HttpStatus.OK);
+
+		now.addAndGet(Duration.ofSeconds(60).toNanos());
+		complete(SECOND, Duration.ofMillis(5), HttpStatus.OK);
+
+		assertThat(choose()).isEqualTo(FIRST);
+	}
+
+	@Test
+	void consecutiveFailuresEjectInstanceUntilEjectionEnds() {
+		for (int i = 0; i < 3; i++) {
+			complete(FIRST, Duration.ofMillis(1), HttpStatus.SERVICE_UNAVAILABLE);
+		}
+		complete(SECOND, Duration.ofMillis(100), HttpStatus.OK);
+
+		for (int i = 0; i < 20; i++) {
+			assertThat(choose()).isEqualTo(SECOND);
+		}
+		assertThat(meterRegistry.get("jwt.user-info.lb.ejections").counter().count()).isEqualTo(1.0);
+
+		now.addAndGet(Duration.ofSeconds(31).toNanos());
+		assertThat(choose()).isEqualTo(FIRST);
+	}
+
+	@Test
+	void successResetsConsecutiveFailures() {
+		complete(FIRST, Duration.ofMillis(1), HttpStatus.INTERNAL_SERVER_ERROR);
+		complete(FIRST, Duration.ofMillis(1), HttpStatus.INTERNAL_SERVER_ERROR);
+		complete(FIRST, Duration.ofMillis(1), HttpStatus.OK);
+		complete(FIRST, Duration.ofMillis(1), HttpStatus.INTERNAL_SERVER_ERROR);
+
+		assertThat(meterRegistry.get("jwt.user-info.lb.ejections").counter().count()).isZero();
+	}
+
+	@Test
+	void allEjectedInstancesAreStillChosen() {
+		for (int i = 0; i < 3; i++) {
+			complete(FIRST, Duration.ofMillis(1), HttpStatus.BAD_GATEWAY);
+			complete(SECOND, Duration.ofMillis(1), HttpStatus.BAD_GATEWAY);
+		}
+
+		assertThat(choose()).isIn(FIRST, SECOND);
+	}
+
+	@Test
+	void routesAwayFromSlowLocalStubServer() throws Exception {
+		HttpServer fast = stubServer(Duration.ZERO);
+		HttpServer slow = stubServer(Duration.ofMillis(30));
+		try {
+			ServiceInstance fastInstance = instance("fast", fast.getAddress().getPort());
+			ServiceInstance slowInstance = instance("slow", slow.getAddress().getPort());
+			HttpClient httpClient = HttpClient.newHttpClient();
+			// 첫 요청의 연결과 클래스 로딩 비용이 응답 시간으로 기록되지 않도록 별도의 로드 밸런서로 미리 요청합니다.
+			route(loadBalancer(System::nanoTime, fastInstance, slowInstance), httpClient, 4);
+
+			Map<ServiceInstance, Integer> chosen = route(loadBalancer(System::nanoTime, fastInstance, slowInstance),
+				httpClient, 40);
+
+			assertThat(chosen.getOrDefault(fastInstance, 0)).isGreaterThan(30);
+		} finally {
+			fast.stop(0);
+			slow.stop(0);
+		}
+	}
+
+	private static Map<ServiceInstance, Integer> route(PeakEwmaLoadBalancer loadBalancer, HttpClient httpClient,
+		int requests) throws Exception {
+		Map<ServiceInstance, Integer> chosen = new HashMap<>();
+		for (int i = 0; i < requests; i++) {
+			Request<Object> request = request();
+			Response<ServiceInstance> lbResponse = loadBalancer.choose(request).block();
+			ServiceInstance instance = lbResponse.getServer();
+			loadBalancer.onStartRequest(request, lbResponse);
+			HttpResponse<Void> response = send(httpClient, instance);
+			loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, lbResponse,
+				responseData(HttpStatusCode.valueOf(response.statusCode()))));
+			chosen.merge(instance, 1, Integer::sum);
+		}
+		return chosen;
+	}
+
+	private PeakEwmaLoadBalancer loadBalancer(LongSupplier nanoTime,
+		ServiceInstance... instances) {
+		return new PeakEwmaLoadBalancer(ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances), SERVICE_ID,
+			Duration.ofSeconds(10), 3, Duration.ofSeconds(30), meterRegistry, nanoTime);
+	}
+
+	private ServiceInstance choose() {
+		return loadBalancer.choose(request()).block().getServer();
+	}
+
+	private void complete(ServiceInstance instance, Duration latency, HttpStatus status) {
+		Request<Object> request = request();
+		Response<ServiceInstance> lbResponse = new DefaultResponse(instance);
+		loadBalancer.onStartRequest(request, lbResponse);
+		now.addAndGet(latency.toNanos());
+		loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, lbResponse,
+			responseData(status)));
+	}
+
+	private static Request<Object> request() {
+		return new DefaultRequest<>(new RequestDataContext());
+	}
+
+	private static ResponseData responseData(HttpStatusCode status) {
+		return new ResponseData(status, new HttpHeaders(), new LinkedMultiValueMap<>(), null);
+	}
+
+	private static HttpResponse<Void> send(HttpClient httpClient, ServiceInstance instance) throws Exception {
+		return httpClient.send(HttpRequest.newBuilder(URI.create(instance.getUri() + "/api/internal/users/info")).build(),
+			HttpResponse.BodyHandlers.discarding());
+	}
+
+	private static ServiceInstance instance(String instanceId, int port) {
+		return new DefaultServiceInstance(instanceId, SERVICE_ID, "localhost", port, false);
+	}
+
+	private static HttpServer stubServer(Duration latency) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			try {
+				Thread.sleep(latency.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		server.start();
+		return server;
+	}
+}
@@ -0,0 +1,72 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetPaycoUserTokenInfoResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+import reactor.core.publisher.Mono;
+
+class ReactiveUserInfoClientTest {
+	private final AtomicReference<ClientRequest> lastRequest = new AtomicReference<>();
+
+	@Test
+	void getUserInfoByEmail_sendsEmailHeader() {
+		ReactiveUserInfoClient client = client(HttpStatus.OK,
+			"{\"id\":1,\"password\":\"encoded\",\"status\":\"ACTIVE\",\"roles\":[\"ROLE_USER\"]}");
+
+		GetUserTokenInfoResponse userInfo = client.getUserInfoByEmail("test@test.com").block();
+
+		assertThat(userInfo.id()).isEqualTo(1L);
+		assertThat(userInfo.roles()).isEqualTo(List.of("ROLE_USER"));
+		assertThat(lastRequest.get().url().getPath()).isEqualTo("/api/internal/users/info");
+		assertThat(lastRequest.get().headers().getFirst("X-User-Email")).isEqualTo("test@test.com");
+	}
+
+	@Test
+	void getUserInfoByEmail_failsOnErrorStatus() {
+		ReactiveUserInfoClient client = client(HttpStatus.NOT_FOUND, "{}");
+
+		assertThatThrownBy(() -> client.getUserInfoByEmail("missing@test.com").block())
+			.isInstanceOf(WebClientResponseException.NotFound.class);
+	}
+
+	@Test
+	void getUserInfoByPaycoId_sendsQueryParameter() {
+		ReactiveUserInfoClient client = client(HttpStatus.OK,
+			"{\"id\":1,\"status\":\"ACTIVE\",\"roles\":[\"ROLE_USER\"]}");
+
+		ResponseEntity<GetPaycoUserTokenInfoResponse> response = client.getUserInfoByPaycoId("payco-1").block();
+
+		assertThat(response.getBody().status()).isEqualTo("ACTIVE");
+		assertThat(lastRequest.get().url().getPath()).isEqualTo("/api/internal/users/info-by-payco-id");
+		assertThat(lastRequest.get().url().getQuery()).isEqualTo("paycoIdNo=payco-1");
+	}
+
+	private ReactiveUserInfoClient client(HttpStatus status, String body) {
+		WebClient webClient = WebClient.builder()
+			.baseUrl("http://UserInfoService")
+			.exchangeFunction(request -> {
+				lastRequest.set(request);
+				return Mono.just(ClientResponse.create(status)
+					.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+					.body(body)
+					.build());
+			})
+			.build();
+		return new ReactiveUserInfoClient(webClient);
+	}
+}
@@ -0,0 +1,113 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.ResponseEntity;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetPaycoUserTokenInfoResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+/**
+ * @author 김태환
+ * 테스트와 벤치마크에서 사용자 서비스를 대신하는 {@link UserInfoClient} 구현입니다.
+ * 요청마다 네트워크 왕복 시간만큼 대기하고, 동시에 처리하는 요청 수를 커넥션 풀 크기로 제한합니다.
+ * "unknown" 으로 시작하는 이메일은 없는 사용자이고, 나머지 이메일은 활성 사용자입니다.
+ */
+public class StubUserInfoClient implements UserInfoClient {
+	private final Duration latency;
+	private final Semaphore connections;
+	private final AtomicInteger requests = new AtomicInteger();
+	private volatile RuntimeException failure;
+
+	/**
+	 * @param latency 요청 하나의 왕복 시간.
+	 * @param maxConnections 동시에 처리하는 최대 요청 수.
+	 */
+	public StubUserInfoClient(Duration latency, int maxConnections) {
+		this.latency = latency;
+		this.connections = new Semaphore(maxConnections);
+	}
+
+	@Override
+	public GetUserTokenInfoResponse getUserInfoByEmail(String userEmail) {
+		request();
+		return user(userEmail);
+	}
+
+	@Override
+	public Map<String, GetUserTokenInfoResponse> getUserInfosByEmail(List<String> userEmails) {
+		request();
+		Map<String, GetUserTokenInfoResponse> users = new LinkedHashMap<>();
+		for (String userEmail : userEmails) {
+			GetUserTokenInfoResponse user = user(userEmail);
+			if (user != null) {
+				users.put(userEmail, user);
+			}
+		}
+		return users;
+	}
+
+	@Override
+	public ResponseEntity<GetPaycoUserTokenInfoResponse> getUserInfoByPaycoId(String paycoIdNo) {
+		request();
+		return ResponseEntity.ok(GetPaycoUserTokenInfoResponse.builder()
+			.id((long)paycoIdNo.hashCode())
+			.roles(List.of("ROLE_USER"))
+			.status("ACTIVE")
+			.build());
+	}
+
+	@Override
+	public List<Long> getUserIdsByRole(String role) {
+		request();
+		return List.of();
+	}
+
+	/**
+	 * @return 지금까지 받은 요청 수.
+	 */
+	public int requests() {
+		return requests.get();
+	}
+
+	/**
+	 * @param failure 이후 모든 요청이 던질 예외. null 이면 정상 응답합니다.
+	 */
+	public void failWith(RuntimeException failure) {
+		this.failure = failure;
+	}
+
+	private void request() {
+		requests.incrementAndGet();
+		connections.acquireUninterruptibly();
+		try {
+			TimeUnit.NANOSECONDS.sleep(latency.toNanos());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			connections.release();
+		}
+		RuntimeException current = failure;
+		if (current != null) {
+			throw current;
+		}
+	}
+
+	private static GetUserTokenInfoResponse user(String userEmail) {
+		if (userEmail.startsWith("unknown")) {
+			return null;
+		}
+		return GetUserTokenInfoResponse.builder()
+			.id((long)userEmail.hashCode())
+			.password("{noop}password")
+			.roles(List.of("ROLE_USER"))
+			.status("ACTIVE")
+			.build();
+	}
+}
@@ -0,0 +1,64 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TimedConnectionManagerTest {
+	private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("localhost", 8083));
+
+	private HttpClientConnectionManager delegate;
+	private LeaseRequest leaseRequest;
+	private SimpleMeterRegistry meterRegistry;
+	private TimedConnectionManager connectionManager;
+
+	@BeforeEach
+	void setUp() {
+		delegate = mock(HttpClientConnectionManager.class);
+		leaseRequest = mock(LeaseRequest.class);
+		when(delegate.lease(anyString(), any(HttpRoute.class), any(Timeout.class), any())).thenReturn(leaseRequest);
+		meterRegistry = new SimpleMeterRegistry();
+		connectionManager = new TimedConnectionManager(delegate, meterRegistry);
+	}
+
+	@Test
+	void acquiredConnectionRecordsWaitTime() throws Exception {
+		ConnectionEndpoint endpoint = mock(ConnectionEndpoint.class);
+		when(leaseRequest.get(any(Timeout.class))).thenReturn(endpoint);
+
+		ConnectionEndpoint leased = connectionManager.lease("id", ROUTE, Timeout.ofSeconds(1), null)
+			.get(Timeout.ofSeconds(1));
+
+		assertThat(leased).isSameAs(endpoint);
+		assertThat(waitCount("acquired")).isEqualTo(1);
+		assertThat(waitCount("timeout")).isZero();
+	}
+
+	@Test
+	void poolTimeoutIsRecordedSeparately() throws Exception {
+		when(leaseRequest.get(any(Timeout.class))).thenThrow(new TimeoutException("pool exhausted"));
+
+		LeaseRequest lease = connectionManager.lease("id", ROUTE, Timeout.ofSeconds(1), null);
+
+		assertThatThrownBy(() -> lease.get(Timeout.ofMilliseconds(500))).isInstanceOf(TimeoutException.class);
+		assertThat(waitCount("timeout")).isEqualTo(1);
+		assertThat(waitCount("acquired")).isZero();
+	}
+
+	private long waitCount(String result) {
+		return meterRegistry.get("jwt.user-info.http.connection.wait").tag("result", result).timer().count();
+	}
+}
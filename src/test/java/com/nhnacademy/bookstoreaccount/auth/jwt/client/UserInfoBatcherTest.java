@@ -0,0 +1,101 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserInfoBatcherTest {
+	private StubUserInfoClient userService;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		userService = new StubUserInfoClient(Duration.ofMillis(1), 4);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void disabledBatcherCallsUserServicePerLookup() {
+		UserInfoBatcher batcher = batcher(false, Duration.ofSeconds(5), 64);
+
+		batcher.getUserInfoByEmail("a@example.com");
+		batcher.getUserInfoByEmail("b@example.com");
+
+		assertThat(userService.requests()).isEqualTo(2);
+	}
+
+	@Test
+	void fullBatchIsSentInOneRequestWithoutWaitingForWindow() throws Exception {
+		UserInfoBatcher batcher = batcher(true, Duration.ofSeconds(30), 4);
+
+		List<CompletableFuture<GetUserTokenInfoResponse>> results = lookupConcurrently(batcher,
+			List.of("a@example.com", "b@example.com", "c@example.com", "unknown@example.com"));
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(results.get(i).get(5, TimeUnit.SECONDS).status()).isEqualTo("ACTIVE");
+		}
+		assertThat(results.get(3).get(5, TimeUnit.SECONDS)).isNull();
+		assertThat(results.get(0).get().id()).isEqualTo((long)"a@example.com".hashCode());
+		assertThat(userService.requests()).isEqualTo(1);
+		assertThat(meterRegistry.get("jwt.user-info.batch.size").summary().max()).isEqualTo(4.0);
+	}
+
+	@Test
+	void partialBatchIsSentAfterWindow() {
+		UserInfoBatcher batcher = batcher(true, Duration.ofMillis(20), 64);
+
+		long startedAt = System.nanoTime();
+		GetUserTokenInfoResponse user = batcher.getUserInfoByEmail("a@example.com");
+
+		assertThat(user).isNotNull();
+		assertThat(System.nanoTime() - startedAt).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+		assertThat(userService.requests()).isEqualTo(1);
+	}
+
+	@Test
+	void failedBatchFailsEveryCaller() {
+		IllegalStateException failure = new IllegalStateException("user service unavailable");
+		userService.failWith(failure);
+		UserInfoBatcher batcher = batcher(true, Duration.ofSeconds(30), 3);
+
+		List<CompletableFuture<GetUserTokenInfoResponse>> results = lookupConcurrently(batcher,
+			List.of("a@example.com", "b@example.com", "c@example.com"));
+
+		assertThat(results).allSatisfy(result -> assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+			.hasCause(failure));
+		assertThat(userService.requests()).isEqualTo(1);
+	}
+
+	@Test
+	void nextLookupAfterFullBatchStartsNewBatch() throws Exception {
+		UserInfoBatcher batcher = batcher(true, Duration.ofSeconds(30), 1);
+
+		batcher.getUserInfoByEmail("a@example.com");
+		batcher.getUserInfoByEmail("b@example.com");
+
+		assertThat(userService.requests()).isEqualTo(2);
+	}
+
+	private UserInfoBatcher batcher(boolean enabled, Duration window, int maxSize) {
+		return new UserInfoBatcher(userService, enabled, window, maxSize, meterRegistry);
+	}
+
+	private static List<CompletableFuture<GetUserTokenInfoResponse>> lookupConcurrently(UserInfoBatcher batcher,
+		List<String> userEmails) {
+		return IntStream.range(0, userEmails.size())
+			.mapToObj(i -> CompletableFuture.supplyAsync(() -> batcher.getUserInfoByEmail(userEmails.get(i)),
+				runnable -> new Thread(runnable).start()))
+			.toList();
+	}
+}
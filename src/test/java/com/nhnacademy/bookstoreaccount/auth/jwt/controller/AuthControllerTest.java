@@ -7,31 +7,38 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.bookstoreaccount.auth.jwt.controller.AuthController;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.ReissueTokenRequest;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.PaycoLoginResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.ReissueTokensResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.InternalApiAuthenticator;
 
 import jakarta.servlet.http.HttpServletRequest;
 
 @WebMvcTest(AuthController.class)
+@Import(InternalApiAuthenticator.class)
 @ContextConfiguration
 class AuthControllerTest {
 
@@ -68,17 +75,24 @@ class AuthControllerTest {
 		ReissueTokenRequest request = new ReissueTokenRequest("dummy-refresh-token");
 		ReissueTokensResponse response = new ReissueTokensResponse("new-access-token", "new-refresh-token");
 
-		given(authService.reissueTokensWithRefreshToken(anyString())).willReturn(response);
+		given(authService.reissueTokensWithRefreshTokenAsync(anyString(), any()))
+			.willReturn(CompletableFuture.completedFuture(response));
 
 		MockHttpServletRequestBuilder requestBuilder = post("/auth/reissue-with-refresh-token")
 			.contentType(MediaType.APPLICATION_JSON)
 			.content(objectMapper.writeValueAsString(request))
+			.header("X-Device-Id", "phone")
 			.with(csrf());
 
-		mockMvc.perform(requestBuilder)
+		MvcResult result = mockMvc.perform(requestBuilder)
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
 			.andExpect(status().isCreated())
 			.andExpect(jsonPath("$.accessToken").value("new-access-token"))
 			.andExpect(jsonPath("$.refreshToken").value("new-refresh-token"));
+		verify(authService).reissueTokensWithRefreshTokenAsync("dummy-refresh-token", "phone");
 	}
 
 	@Test
@@ -86,14 +100,19 @@ class AuthControllerTest {
 	void reissueTokensWithRefreshToken_badRequest() throws Exception {
 		ReissueTokenRequest request = new ReissueTokenRequest("invalid-refresh-token");
 
-		given(authService.reissueTokensWithRefreshToken(anyString())).willReturn(null);
+		given(authService.reissueTokensWithRefreshTokenAsync(anyString(), any()))
+			.willReturn(CompletableFuture.completedFuture(null));
 
 		MockHttpServletRequestBuilder requestBuilder = post("/auth/reissue-with-refresh-token")
 			.contentType(MediaType.APPLICATION_JSON)
 			.content(objectMapper.writeValueAsString(request))
 			.with(csrf());
 
-		mockMvc.perform(requestBuilder)
+		MvcResult result = mockMvc.perform(requestBuilder)
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
 			.andExpect(status().isBadRequest());
 	}
 
@@ -102,7 +121,7 @@ class AuthControllerTest {
 	void getTokensForPaycoUser() throws Exception {
 		PaycoLoginResponse response = new PaycoLoginResponse("payco-access-token", "payco-refresh-token");
 
-		given(authService.getTokensForPaycoUser(anyString())).willReturn(response);
+		given(authService.getTokensForPaycoUser(anyString(), any())).willReturn(response);
 
 		MockHttpServletRequestBuilder requestBuilder = post("/auth/tokens-for-payco-user")
 			.param("paycoIdNo", "123456")
@@ -117,7 +136,7 @@ class AuthControllerTest {
 	@Test
 	@WithMockUser
 	void getTokensForPaycoUser_badRequest() throws Exception {
-		given(authService.getTokensForPaycoUser(anyString())).willReturn(null);
+		given(authService.getTokensForPaycoUser(anyString(), any())).willReturn(null);
 
 		MockHttpServletRequestBuilder requestBuilder = post("/auth/tokens-for-payco-user")
 			.param("paycoIdNo", "invalid-id")
@@ -126,4 +145,52 @@ class AuthControllerTest {
 		mockMvc.perform(requestBuilder)
 			.andExpect(status().isBadRequest());
 	}
+
+	@Test
+	@WithMockUser
+	void getSessions() throws Exception {
+		given(authService.getSessions(any(HttpServletRequest.class))).willReturn(
+			List.of(new DeviceSession("phone", 2000L), new DeviceSession("laptop", 1000L)));
+
+		mockMvc.perform(get("/auth/sessions"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].deviceId").value("phone"))
+			.andExpect(jsonPath("$[0].expiresAt").value(2000L))
+			.andExpect(jsonPath("$[1].deviceId").value("laptop"));
+	}
+
+	@Test
+	@WithMockUser
+	void getSessions_unauthorized() throws Exception {
+		given(authService.getSessions(any(HttpServletRequest.class))).willReturn(null);
+
+		mockMvc.perform(get("/auth/sessions"))
+			.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@WithMockUser
+	void invalidateUserInfo() throws Exception {
+		mockMvc.perform(delete("/auth/internal/user-cache")
+				.header("X-User-Email", "user@example.com")
+				.header(InternalApiAuthenticator.HEADER, "test-internal-secret")
+				.with(csrf()))
+			.andExpect(status().isNoContent());
+		verify(authService).invalidateUserInfo("user@example.com");
+	}
+
+	@Test
+	@WithMockUser
+	void invalidateUserInfo_rejectsCallerWithoutInternalSecret() throws Exception {
+		mockMvc.perform(delete("/auth/internal/user-cache")
+				.header("X-User-Email", "user@example.com")
+				.with(csrf()))
+			.andExpect(status().isUnauthorized());
+		mockMvc.perform(delete("/auth/internal/user-cache")
+				.header("X-User-Email", "user@example.com")
+				.header(InternalApiAuthenticator.HEADER, "guessed-secret")
+				.with(csrf()))
+			.andExpect(status().isUnauthorized());
+		verify(authService, never()).invalidateUserInfo(any());
+	}
 }
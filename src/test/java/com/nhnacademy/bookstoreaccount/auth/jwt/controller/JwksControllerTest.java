@@ -0,0 +1,59 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKey;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKeys;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+
+class JwksControllerTest {
+	private static final String SECRET = "MySuperSecretKeyForJwt12345MySuperSecretKeyForJwt12345";
+
+	private MockMvc mockMvc(JwtSigningKey signingKey) {
+		JwksController jwksController = new JwksController(new JwtUtils(signingKey), new ObjectMapper());
+		jwksController.setMaxAgeSeconds(300L);
+		return MockMvcBuilders.standaloneSetup(jwksController).build();
+	}
+
+	@Test
+	void getJwks_asymmetricKey() throws Exception {
+		JwtSigningKey signingKey = JwtSigningKeys.asymmetric("ES256", null, null);
+
+		mockMvc(signingKey).perform(get("/auth/.well-known/jwks.json"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andExpect(jsonPath("$.keys[0].kid").value(signingKey.keyId()))
+			.andExpect(jsonPath("$.keys[0].kty").value("EC"))
+			.andExpect(jsonPath("$.keys[0].alg").value("ES256"))
+			.andExpect(jsonPath("$.keys[0].use").value("sig"))
+			.andExpect(jsonPath("$.keys[0].d").doesNotExist());
+	}
+
+	@Test
+	void getJwks_notModified() throws Exception {
+		MockMvc mockMvc = mockMvc(JwtSigningKeys.asymmetric("EdDSA", null, null));
+		MvcResult result = mockMvc.perform(get("/auth/.well-known/jwks.json")).andReturn();
+		String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+		assertThat(eTag).isNotBlank();
+		mockMvc.perform(get("/auth/.well-known/jwks.json").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void getJwks_hmacKeyIsNeverPublished() throws Exception {
+		mockMvc(JwtSigningKeys.hmac(SECRET, null)).perform(get("/auth/.well-known/jwks.json"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.keys").isEmpty());
+	}
+}
@@ -0,0 +1,243 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.LogoutResult;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.LoginRequest;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.ReissueTokenRequest;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.PaycoLoginResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.ReissueTokensResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginThrottledException;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.ClientIpResolver;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.InternalApiAuthenticator;
+
+import reactor.core.scheduler.Schedulers;
+
+class ReactiveAuthControllerTest {
+	private AuthService authService;
+	private WebTestClient webTestClient;
+
+	@BeforeEach
+	void setUp() {
+		authService = mock(AuthService.class);
+		webTestClient = WebTestClient.bindToController(
+			new ReactiveAuthController(authService, Schedulers.immediate(),
+				new ClientIpResolver("10\\.\\d+\\.\\d+\\.\\d+", "X-Forwarded-For"),
+				new InternalApiAuthenticator("internal-secret"), Duration.ofMillis(200))).build();
+	}
+
+	@Test
+	void getUserInfo() {
+		given(authService.getUserInfoAsync("Bearer accessToken"))
+			.willReturn(CompletableFuture.completedFuture(Map.of("id", 1, "roles", List.of("ROLE_USER"))));
+
+		webTestClient.get().uri("/auth/info")
+			.header(HttpHeaders.AUTHORIZATION, "Bearer accessToken")
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.jsonPath("$.id").isEqualTo(1)
+			.jsonPath("$.roles[0]").isEqualTo("ROLE_USER");
+	}
+
+	@Test
+	void getUserInfo_invalidTokenIsOkWithoutBody() {
+		given(authService.getUserInfoAsync(any())).willReturn(CompletableFuture.completedFuture(null));
+
+		webTestClient.get().uri("/auth/info")
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody().isEmpty();
+	}
+
+	@Test
+	void getSessions_invalidTokenIsUnauthorized() {
+		given(authService.getSessions("Bearer accessToken")).willReturn(null);
+
+		webTestClient.get().uri("/auth/sessions")
+			.header(HttpHeaders.AUTHORIZATION, "Bearer accessToken")
+			.exchange()
+			.expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void getSessions() {
+		given(authService.getSessions("Bearer accessToken")).willReturn(List.of(new DeviceSession("phone", 2000L)));
+
+		webTestClient.get().uri("/auth/sessions")
+			.header(HttpHeaders.AUTHORIZATION, "Bearer accessToken")
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.jsonPath("$[0].deviceId").isEqualTo("phone");
+	}
+
+	@Test
+	void invalidateUserInfo() {
+		webTestClient.delete().uri("/auth/internal/user-cache")
+			.header("X-User-Email", "test@test.com")
+			.header(InternalApiAuthenticator.HEADER, "internal-secret")
+			.exchange()
+			.expectStatus().isNoContent();
+
+		verify(authService).invalidateUserInfo("test@test.com");
+	}
+
+	@Test
+	void invalidateUserInfo_rejectsCallerWithoutInternalSecret() {
+		webTestClient.delete().uri("/auth/internal/user-cache")
+			.header("X-User-Email", "test@test.com")
+			.exchange()
+			.expectStatus().isUnauthorized();
+		webTestClient.delete().uri("/auth/internal/user-cache")
+			.header("X-User-Email", "test@test.com")
+			.header(InternalApiAuthenticator.HEADER, "guessed-secret")
+			.exchange()
+			.expectStatus().isUnauthorized();
+
+		verify(authService, never()).invalidateUserInfo(any());
+	}
+
+	@Test
+	void reissueTokensWithRefreshToken() {
+		given(authService.reissueTokensWithRefreshTokenAsync("refreshToken", "phone"))
+			.willReturn(CompletableFuture.completedFuture(new ReissueTokensResponse("newAccess", "newRefresh")));
+
+		webTestClient.post().uri("/auth/reissue-with-refresh-token")
+			.header("X-Device-Id", "phone")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new ReissueTokenRequest("refreshToken"))
+			.exchange()
+			.expectStatus().isCreated()
+			.expectBody()
+			.jsonPath("$.accessToken").isEqualTo("newAccess");
+	}
+
+	@Test
+	void reissueTokensWithRefreshToken_rejected() {
+		given(authService.reissueTokensWithRefreshTokenAsync(anyString(), any()))
+			.willReturn(CompletableFuture.completedFuture(null));
+
+		webTestClient.post().uri("/auth/reissue-with-refresh-token")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new ReissueTokenRequest("refreshToken"))
+			.exchange()
+			.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void getTokensForPaycoUser() {
+		given(authService.getTokensForPaycoUserAsync(eq("paycoIdNo"), any(), any()))
+			.willReturn(CompletableFuture.completedFuture(new PaycoLoginResponse("access", "refresh")));
+
+		webTestClient.post().uri("/auth/tokens-for-payco-user?paycoIdNo=paycoIdNo")
+			.exchange()
+			.expectStatus().isCreated()
+			.expectBody()
+			.jsonPath("$.refreshToken").isEqualTo("refresh");
+	}
+
+	@Test
+	void login() {
+		given(authService.loginAsync(eq("test@test.com"), eq("password"), anyString(), eq("phone")))
+			.willReturn(CompletableFuture.completedFuture(new TokenPair("accessToken", "refreshToken")));
+
+		webTestClient.post().uri("/auth/login")
+			.header("X-Device-Id", "phone")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new LoginRequest("test@test.com", "password"))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.jsonPath("$.accessToken").isEqualTo("accessToken")
+			.jsonPath("$.refreshToken").isEqualTo("refreshToken")
+			.jsonPath("$.lastLoginAt").isArray();
+	}
+
+	@Test
+	void login_badCredentialsIsUnauthorized() {
+		given(authService.loginAsync(anyString(), anyString(), anyString(), any()))
+			.willReturn(CompletableFuture.failedFuture(new BadCredentialsException("Bad credentials")));
+
+		webTestClient.post().uri("/auth/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new LoginRequest("test@test.com", "wrong"))
+			.exchange()
+			.expectStatus().isUnauthorized()
+			.expectHeader().doesNotExist(HttpHeaders.RETRY_AFTER)
+			.expectBody()
+			.jsonPath("$.message").isEqualTo("비밀번호가 틀렸습니다");
+	}
+
+	@Test
+	void login_throttledIsTooManyRequests() {
+		given(authService.loginAsync(anyString(), anyString(), anyString(), any()))
+			.willReturn(CompletableFuture.failedFuture(
+				new LoginThrottledException("Too many login attempts for ip", Duration.ofMillis(1500))));
+
+		webTestClient.post().uri("/auth/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new LoginRequest("test@test.com", "password"))
+			.exchange()
+			.expectStatus().isEqualTo(429)
+			.expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "2");
+	}
+
+	@Test
+	void login_timeoutIsUnavailableAndCancelsLogin() {
+		CompletableFuture<TokenPair> login = new CompletableFuture<>();
+		given(authService.loginAsync(anyString(), anyString(), anyString(), any())).willReturn(login);
+
+		webTestClient.post().uri("/auth/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(new LoginRequest("test@test.com", "password"))
+			.exchange()
+			.expectStatus().isEqualTo(503)
+			.expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1");
+
+		assertThat(login).isCancelled();
+	}
+
+	@Test
+	void logout() {
+		given(authService.logoutAsync("refreshToken", "Bearer accessToken", "laptop"))
+			.willReturn(CompletableFuture.completedFuture(LogoutResult.LOGGED_OUT));
+
+		webTestClient.post().uri("/auth/logout")
+			.header("Refresh-Token", "refreshToken")
+			.header(HttpHeaders.AUTHORIZATION, "Bearer accessToken")
+			.header("X-Device-Id", "laptop")
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().valueMatches(HttpHeaders.SET_COOKIE, "Refresh-Token=; Path=/; Max-Age=0.*");
+	}
+
+	@Test
+	void logout_invalidTokenIsBadGatewayWithoutCookie() {
+		given(authService.logoutAsync(any(), any(), any()))
+			.willReturn(CompletableFuture.completedFuture(LogoutResult.INVALID_TOKEN));
+
+		webTestClient.post().uri("/auth/logout")
+			.header("Refresh-Token", "invalidToken")
+			.exchange()
+			.expectStatus().isEqualTo(502)
+			.expectHeader().doesNotExist(HttpHeaders.SET_COOKIE);
+	}
+}
@@ -0,0 +1,173 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.SessionRevocationStatus;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.SessionRevocationTarget;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.SessionRevocationRequest;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.SessionRevocationJobResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.SessionRevocationService;
+
+@WebMvcTest(SessionRevocationController.class)
+class SessionRevocationControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockBean
+	private AuthService authService;
+
+	@MockBean
+	private SessionRevocationService sessionRevocationService;
+
+	@Test
+	@WithMockUser
+	void start() throws Exception {
+		SessionRevocationRequest request = SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.ROLE)
+			.role("ROLE_USER")
+			.build();
+		given(authService.verifyAccessToken(any())).willReturn(accessToken("ROLE_ADMIN"));
+		given(sessionRevocationService.start(request)).willReturn(job(SessionRevocationStatus.PENDING));
+
+		mockMvc.perform(post("/auth/admin/session-revocations")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request))
+				.with(csrf()))
+			.andExpect(status().isAccepted())
+			.andExpect(jsonPath("$.jobId").value("job-1"))
+			.andExpect(jsonPath("$.status").value("PENDING"));
+	}
+
+	@Test
+	@WithMockUser
+	void start_badRequest() throws Exception {
+		given(authService.verifyAccessToken(any())).willReturn(accessToken("ROLE_ADMIN"));
+		given(sessionRevocationService.start(any())).willReturn(null);
+
+		mockMvc.perform(post("/auth/admin/session-revocations")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"target\":\"USERS\"}")
+				.with(csrf()))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@WithMockUser
+	void start_forbiddenForNonAdmin() throws Exception {
+		given(authService.verifyAccessToken(any())).willReturn(accessToken("ROLE_USER"));
+
+		mockMvc.perform(post("/auth/admin/session-revocations")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"target\":\"ALL\"}")
+				.with(csrf()))
+			.andExpect(status().isForbidden());
+		verifyNoInteractions(sessionRevocationService);
+	}
+
+	@Test
+	@WithMockUser
+	void find_unauthorized() throws Exception {
+		given(authService.verifyAccessToken(any())).willReturn(null);
+
+		mockMvc.perform(get("/auth/admin/session-revocations/job-1"))
+			.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@WithMockUser
+	void find() throws Exception {
+		given(authService.verifyAccessToken(any())).willReturn(accessToken("ROLE_ADMIN"));
+		given(sessionRevocationService.find("job-1")).willReturn(job(SessionRevocationStatus.FAILED));
+
+		mockMvc.perform(get("/auth/admin/session-revocations/job-1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value("FAILED"))
+			.andExpect(jsonPath("$.cursor").value("42"))
+			.andExpect(jsonPath("$.processed").value(42));
+	}
+
+	@Test
+	@WithMockUser
+	void cancel_notFound() throws Exception {
+		given(authService.verifyAccessToken(any())).willReturn(accessToken("ROLE_ADMIN"));
+		given(sessionRevocationService.cancel("missing")).willReturn(null);
+
+		mockMvc.perform(delete("/auth/admin/session-revocations/missing").with(csrf()))
+			.andExpect(status().isNotFound());
+	}
+
+	@Test
+	@WithMockUser
+	void start_unauthorizedForRefreshToken() throws Exception {
+		given(authService.verifyAccessToken("Bearer refreshToken")).willReturn(null);
+
+		mockMvc.perform(post("/auth/admin/session-revocations")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer refreshToken")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"target\":\"ALL\"}")
+				.with(csrf()))
+			.andExpect(status().isUnauthorized());
+		verify(authService).verifyAccessToken("Bearer refreshToken");
+		verifyNoInteractions(sessionRevocationService);
+	}
+
+	@Test
+	@WithMockUser
+	void start_unauthorizedForTokenWithoutTokenId() throws Exception {
+		given(authService.verifyAccessToken(any())).willReturn(ParsedToken.builder()
+			.tokenType("access")
+			.userId(1L)
+			.roles(List.of("ROLE_ADMIN"))
+			.build());
+
+		mockMvc.perform(post("/auth/admin/session-revocations")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"target\":\"ALL\"}")
+				.with(csrf()))
+			.andExpect(status().isUnauthorized());
+		verifyNoInteractions(sessionRevocationService);
+	}
+
+	private ParsedToken accessToken(String role) {
+		return ParsedToken.builder()
+			.tokenType("access")
+			.userId(1L)
+			.roles(List.of(role))
+			.tokenId("jti-1")
+			.build();
+	}
+
+	private SessionRevocationJobResponse job(SessionRevocationStatus status) {
+		return SessionRevocationJobResponse.builder()
+			.jobId("job-1")
+			.target(SessionRevocationTarget.ROLE)
+			.status(status)
+			.processed(42L)
+			.revoked(40L)
+			.cursor("42")
+			.startedAt(1000L)
+			.build();
+	}
+}
@@ -4,18 +4,22 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
 import com.nhnacademy.bookstoreaccount.auth.jwt.filter.AppCustomLogoutFilter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.AccessTokenDenylist;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RefreshTokenStore;
 import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
 
 import jakarta.servlet.FilterChain;
@@ -27,22 +31,23 @@ class AppCustomLogoutFilterTest {
 	private AppCustomLogoutFilter logoutFilter;
 
 	@Mock
-	private RedisTemplate<String, Object> redisTemplate;
+	private RefreshTokenStore refreshTokenStore;
 
 	@Mock
 	private JwtUtils jwtUtils;
 
 	@Mock
-	private FilterChain filterChain;
+	private AccessTokenDenylist accessTokenDenylist;
 
 	@Mock
-	private HashOperations<String, Object, Object> hashOperations;
+	private FilterChain filterChain;
 
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		logoutFilter = new AppCustomLogoutFilter(redisTemplate, jwtUtils);
-		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		AuthService authService = new AuthService(refreshTokenStore, jwtUtils, null, null, accessTokenDenylist, null,
+			null, null);
+		logoutFilter = new AppCustomLogoutFilter(authService);
 	}
 
 	@Test
@@ -81,7 +86,7 @@ class AppCustomLogoutFilterTest {
 		request.addHeader("Refresh-Token", "invalidToken");
 		MockHttpServletResponse response = new MockHttpServletResponse();
 
-		when(jwtUtils.validateToken("invalidToken")).thenReturn("Invalid token");
+		when(jwtUtils.parseToken("invalidToken")).thenReturn(ParsedToken.invalid("Invalid token"));
 
 		logoutFilter.doFilter(request, response, filterChain);
 
@@ -94,8 +99,7 @@ class AppCustomLogoutFilterTest {
 		request.addHeader("Refresh-Token", "refreshToken");
 		MockHttpServletResponse response = new MockHttpServletResponse();
 
-		when(jwtUtils.validateToken("refreshToken")).thenReturn(null);
-		when(jwtUtils.getTokenTypeFromToken("refreshToken")).thenReturn("access");
+		when(jwtUtils.parseToken("refreshToken")).thenReturn(parsedToken("access", 1L));
 
 		logoutFilter.doFilter(request, response, filterChain);
 
@@ -108,10 +112,8 @@ class AppCustomLogoutFilterTest {
 		request.addHeader("Refresh-Token", "refreshToken");
 		MockHttpServletResponse response = new MockHttpServletResponse();
 
-		when(jwtUtils.validateToken("refreshToken")).thenReturn(null);
-		when(jwtUtils.getTokenTypeFromToken("refreshToken")).thenReturn("refresh");
-		when(jwtUtils.getUserIdFromToken("refreshToken")).thenReturn(1L);
-		when(hashOperations.hasKey("RefreshToken:1", "token")).thenReturn(false);
+		when(jwtUtils.parseToken("refreshToken")).thenReturn(parsedToken("refresh", 1L));
+		when(refreshTokenStore.deleteAsync(1L, "default")).thenReturn(CompletableFuture.completedFuture(false));
 
 		logoutFilter.doFilter(request, response, filterChain);
 
@@ -124,16 +126,87 @@ class AppCustomLogoutFilterTest {
 		request.addHeader("Refresh-Token", "refreshToken");
 		MockHttpServletResponse response = new MockHttpServletResponse();
 
-		when(jwtUtils.validateToken("refreshToken")).thenReturn(null);
-		when(jwtUtils.getTokenTypeFromToken("refreshToken")).thenReturn("refresh");
-		when(jwtUtils.getUserIdFromToken("refreshToken")).thenReturn(1L);
-		when(hashOperations.hasKey("RefreshToken:1", "token")).thenReturn(true);
+		when(jwtUtils.parseToken("refreshToken")).thenReturn(parsedToken("refresh", 1L));
+		when(refreshTokenStore.deleteAsync(1L, "default")).thenReturn(CompletableFuture.completedFuture(true));
 
 		logoutFilter.doFilter(request, response, filterChain);
 
-		verify(hashOperations).delete("RefreshToken:1", "token");
+		verify(refreshTokenStore).deleteAsync(1L, "default");
 		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
 		assertTrue(response.getCookies().length > 0);
 		assertEquals(0, response.getCookies()[0].getMaxAge());
 	}
+
+	@Test
+	void doFilter_logoutDeletesOnlyRequestingDevice() throws IOException, ServletException {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/logout");
+		request.addHeader("Refresh-Token", "refreshToken");
+		request.addHeader("X-Device-Id", "laptop");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(jwtUtils.parseToken("refreshToken")).thenReturn(parsedToken("refresh", 1L));
+		when(refreshTokenStore.deleteAsync(1L, "laptop")).thenReturn(CompletableFuture.completedFuture(true));
+
+		logoutFilter.doFilter(request, response, filterChain);
+
+		verify(refreshTokenStore).deleteAsync(1L, "laptop");
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+	}
+
+	@Test
+	void doFilter_logoutRevokesAccessToken() throws IOException, ServletException {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/logout");
+		request.addHeader("Refresh-Token", "refreshToken");
+		request.addHeader("Authorization", "Bearer accessToken");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ParsedToken accessToken = parsedToken("access", 1L);
+
+		when(jwtUtils.parseToken("refreshToken")).thenReturn(parsedToken("refresh", 1L));
+		when(jwtUtils.parseToken("Bearer accessToken")).thenReturn(accessToken);
+		when(refreshTokenStore.deleteAsync(1L, "default")).thenReturn(CompletableFuture.completedFuture(true));
+		when(accessTokenDenylist.revokeAsync(accessToken)).thenReturn(CompletableFuture.completedFuture(null));
+
+		logoutFilter.doFilter(request, response, filterChain);
+
+		verify(accessTokenDenylist).revokeAsync(accessToken);
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+	}
+
+	@Test
+	void doFilter_logoutKeepsAccessTokenOfOtherUser() throws IOException, ServletException {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/logout");
+		request.addHeader("Refresh-Token", "refreshToken");
+		request.addHeader("Authorization", "Bearer accessToken");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(jwtUtils.parseToken("refreshToken")).thenReturn(parsedToken("refresh", 1L));
+		when(jwtUtils.parseToken("Bearer accessToken")).thenReturn(parsedToken("access", 2L));
+		when(refreshTokenStore.deleteAsync(1L, "default")).thenReturn(CompletableFuture.completedFuture(true));
+
+		logoutFilter.doFilter(request, response, filterChain);
+
+		verifyNoInteractions(accessTokenDenylist);
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+	}
+
+	@Test
+	void doFilter_storeFailureIsRethrown() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/logout");
+		request.addHeader("Refresh-Token", "refreshToken");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(jwtUtils.parseToken("refreshToken")).thenReturn(parsedToken("refresh", 1L));
+		when(refreshTokenStore.deleteAsync(1L, "default"))
+			.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Redis is down")));
+
+		assertThrows(IllegalStateException.class, () -> logoutFilter.doFilter(request, response, filterChain));
+	}
+
+	private ParsedToken parsedToken(String tokenType, Long userId) {
+		return ParsedToken.builder()
+			.tokenType(tokenType)
+			.userId(userId)
+			.roles(List.of("ROLE_USER"))
+			.build();
+	}
 }
@@ -0,0 +1,140 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.filter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.LoginAuthenticationService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginRateLimiter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.ClientIpResolver;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+
+import jakarta.servlet.http.HttpServlet;
+
+/**
+ * 요청 스레드가 4 개인 내장 Tomcat 에 인증마다 200ms 가 걸리는 로그인을 동시에 보내,
+ * 비동기 로그인이 요청 스레드 수보다 많은 로그인을 동시에 처리하는지 확인합니다.
+ */
+class LoginFilterLoadTest {
+	private static final int REQUEST_THREADS = 4;
+	private static final int CONCURRENT_LOGINS = 64;
+	private static final Duration AUTHENTICATION_TIME = Duration.ofMillis(200);
+
+	private Tomcat tomcat;
+	private LoginAuthenticationService loginAuthenticationService;
+	private RefreshTokenStore refreshTokenStore;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		loginAuthenticationService = mock(LoginAuthenticationService.class);
+		refreshTokenStore = mock(RefreshTokenStore.class);
+		JwtUtils jwtUtils = mock(JwtUtils.class);
+		Authentication authentication = new UsernamePasswordAuthenticationToken("1", null,
+			List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		when(loginAuthenticationService.authenticate(anyString(), anyString())).thenAnswer(
+			invocation -> CompletableFuture.supplyAsync(() -> authentication,
+				CompletableFuture.delayedExecutor(AUTHENTICATION_TIME.toMillis(), TimeUnit.MILLISECONDS)));
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong()))
+			.thenReturn(new TokenPair("accessToken", "refreshToken"));
+		when(refreshTokenStore.saveAsync(anyLong(), anyString(), anyString(), anyLong()))
+			.thenReturn(CompletableFuture.completedFuture(null));
+
+		LoginRateLimiter loginRateLimiter = mock(LoginRateLimiter.class);
+		when(loginRateLimiter.acquireAsync(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+		LoginFilter loginFilter = new LoginFilter(mock(AuthenticationManager.class), jwtUtils, refreshTokenStore,
+			loginRateLimiter, new ClientIpResolver("", "X-Forwarded-For"), 3600000L, 7200000L);
+		AuthService authService = new AuthService(refreshTokenStore, jwtUtils, null, null, null, null,
+			loginAuthenticationService, loginRateLimiter);
+		authService.setAccessTokenExpiresIn(3600000L);
+		authService.setRefreshTokenExpiresIn(7200000L);
+		loginFilter.setAsyncLogin(authService, Duration.ofSeconds(10));
+
+		tomcat = new Tomcat();
+		tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+		tomcat.setPort(0);
+		tomcat.getConnector().setProperty("maxThreads", String.valueOf(REQUEST_THREADS));
+		Context context = tomcat.addContext("", null);
+		Tomcat.addServlet(context, "default", new HttpServlet() {
+		}).setAsyncSupported(true);
+		context.addServletMappingDecoded("/", "default");
+		FilterDef filterDef = new FilterDef();
+		filterDef.setFilterName("login");
+		filterDef.setFilter(loginFilter);
+		filterDef.setAsyncSupported("true");
+		context.addFilterDef(filterDef);
+		FilterMap filterMap = new FilterMap();
+		filterMap.setFilterName("login");
+		filterMap.addURLPattern("/*");
+		context.addFilterMap(filterMap);
+		tomcat.start();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		tomcat.stop();
+		tomcat.destroy();
+	}
+
+	@Test
+	void concurrentLoginsAreNotLimitedByRequestThreads() {
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		URI uri = URI.create("http://localhost:" + tomcat.getConnector().getLocalPort() + "/auth/login");
+
+		// 연결과 JIT 준비 시간이 측정에 섞이지 않도록 한 번 먼저 보냅니다.
+		login(client, uri, CONCURRENT_LOGINS);
+		clearInvocations(refreshTokenStore);
+
+		long start = System.nanoTime();
+		List<HttpResponse<String>> responses = login(client, uri, CONCURRENT_LOGINS);
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+		assertThat(responses).allSatisfy(response -> {
+			assertThat(response.statusCode()).isEqualTo(200);
+			assertThat(response.body()).contains("accessToken");
+		});
+		// 요청 스레드가 인증을 기다렸다면 64 / 4 * 200ms = 3.2초 이상 걸립니다.
+		Duration blockingBound = AUTHENTICATION_TIME.multipliedBy(CONCURRENT_LOGINS / REQUEST_THREADS);
+		assertThat(elapsed).isLessThan(blockingBound.dividedBy(2));
+		verify(refreshTokenStore, times(CONCURRENT_LOGINS)).saveAsync(eq(1L), anyString(), eq("refreshToken"),
+			eq(7200000L));
+	}
+
+	private static List<HttpResponse<String>> login(HttpClient client, URI uri, int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> client.sendAsync(HttpRequest.newBuilder(uri)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(
+					"{\"email\":\"user" + i + "@test.com\",\"password\":\"password\"}"))
+				.build(), HttpResponse.BodyHandlers.ofString()))
+			.toList()
+			.stream()
+			.map(CompletableFuture::join)
+			.toList();
+	}
+}
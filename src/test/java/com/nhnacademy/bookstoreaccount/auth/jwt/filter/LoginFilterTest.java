@@ -6,19 +6,22 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -26,10 +29,23 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.LoginRequest;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.service.LoginAuthenticationService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginRateLimiter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginThrottledException;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.ClientIpResolver;
 import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.PasswordVerificationRejectedException;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 
 class LoginFilterTest {
 	@InjectMocks
@@ -42,10 +58,10 @@ class LoginFilterTest {
 	private JwtUtils jwtUtils;
 
 	@Mock
-	private RedisTemplate<String, Object> redisTemplate;
+	private RefreshTokenStore refreshTokenStore;
 
 	@Mock
-	private HashOperations<String, Object, Object> hashOperations;
+	private LoginRateLimiter loginRateLimiter;
 
 	private ObjectMapper objectMapper;
 
@@ -53,8 +69,9 @@ class LoginFilterTest {
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
 		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
-		loginFilter = new LoginFilter(authenticationManager, jwtUtils, redisTemplate, 3600000L, 7200000L);
-		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(loginRateLimiter.acquireAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+		loginFilter = new LoginFilter(authenticationManager, jwtUtils, refreshTokenStore, loginRateLimiter,
+			new ClientIpResolver("10\\.\\d+\\.\\d+\\.\\d+", "X-Forwarded-For"), 3600000L, 7200000L);
 	}
 
 	@Test
@@ -77,6 +94,20 @@ class LoginFilterTest {
 		assertEquals("1", result.getName());
 	}
 
+	@Test
+	void attemptAuthentication_throttledBeforeAuthenticating() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr("10.0.0.1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.setContent(objectMapper.writeValueAsBytes(new LoginRequest("test@test.com", "password")));
+		doThrow(new LoginThrottledException("Too many login attempts for account", Duration.ofSeconds(3)))
+			.when(loginRateLimiter).acquire("10.0.0.1", "test@test.com");
+
+		assertThrows(LoginThrottledException.class, () -> loginFilter.attemptAuthentication(request, response));
+
+		verifyNoInteractions(authenticationManager);
+	}
+
 	@Test
 	void successfulAuthentication() throws IOException {
 		MockHttpServletRequest request = new MockHttpServletRequest();
@@ -85,8 +116,8 @@ class LoginFilterTest {
 		Authentication authentication = new UsernamePasswordAuthenticationToken("1", "password",
 			List.of(new SimpleGrantedAuthority("ROLE_USER")));
 
-		when(jwtUtils.generateToken(eq("access"), anyLong(), anyList(), anyLong())).thenReturn("accessToken");
-		when(jwtUtils.generateToken(eq("refresh"), anyLong(), anyList(), anyLong())).thenReturn("refreshToken");
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong()))
+			.thenReturn(new TokenPair("accessToken", "refreshToken"));
 
 		loginFilter.successfulAuthentication(request, response, chain, authentication);
 
@@ -96,9 +127,23 @@ class LoginFilterTest {
 		assertTrue(response.getContentAsString().contains("refreshToken"));
 		assertTrue(response.getContentAsString().contains(LocalDateTime.now().getYear() + ""));
 
-		verify(redisTemplate).delete("RefreshToken:1");
-		verify(hashOperations).put("RefreshToken:1", "token", "refreshToken");
-		verify(redisTemplate).expire("RefreshToken:1", Duration.ofMillis(7200000L));
+		verify(refreshTokenStore).save(1L, "default", "refreshToken", 7200000L);
+	}
+
+	@Test
+	void successfulAuthentication_savesPerDevice() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("X-Device-Id", "phone");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		Authentication authentication = new UsernamePasswordAuthenticationToken("1", "password",
+			List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong()))
+			.thenReturn(new TokenPair("accessToken", "refreshToken"));
+
+		loginFilter.successfulAuthentication(request, response, mock(FilterChain.class), authentication);
+
+		verify(refreshTokenStore).save(1L, "phone", "refreshToken", 7200000L);
 	}
 
 	@Test
@@ -114,6 +159,33 @@ class LoginFilterTest {
 		assertTrue(response.getContentAsString().contains("비밀번호가 틀렸습니다"));
 	}
 
+	@Test
+	void unsuccessfulAuthentication_verificationRejected() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AuthenticationException exception = new PasswordVerificationRejectedException(
+			"Password verification queue is full", Duration.ofSeconds(2));
+
+		loginFilter.unsuccessfulAuthentication(request, response, exception);
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+		assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+		assertFalse(response.getContentAsString().contains("비밀번호가 틀렸습니다"));
+	}
+
+	@Test
+	void unsuccessfulAuthentication_throttled() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AuthenticationException exception = new LoginThrottledException("Too many login attempts for ip",
+			Duration.ofMillis(1500));
+
+		loginFilter.unsuccessfulAuthentication(request, response, exception);
+
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+		assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+	}
+
 	@Test
 	void attemptAuthentication_ioException() throws IOException {
 		MockHttpServletRequest request = mock(MockHttpServletRequest.class);
@@ -127,4 +199,204 @@ class LoginFilterTest {
 
 		assertEquals("java.io.IOException: Test IOException", exception.getMessage());
 	}
+
+	@Test
+	void doFilter_asyncLoginReleasesRequestThreadUntilAuthenticated() throws Exception {
+		LoginAuthenticationService loginAuthenticationService = mock(LoginAuthenticationService.class);
+		loginFilter.setAsyncLogin(asyncAuthService(loginAuthenticationService), Duration.ofSeconds(5));
+		MockHttpServletRequest request = asyncLoginRequest();
+		request.addHeader("X-Device-Id", "phone");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CompletableFuture<Authentication> authentication = new CompletableFuture<>();
+		when(loginAuthenticationService.authenticate("test@test.com", "password")).thenReturn(authentication);
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong()))
+			.thenReturn(new TokenPair("accessToken", "refreshToken"));
+		when(refreshTokenStore.saveAsync(1L, "phone", "refreshToken", 7200000L))
+			.thenReturn(CompletableFuture.completedFuture(null));
+
+		loginFilter.doFilter(request, response, mock(FilterChain.class));
+
+		assertTrue(request.isAsyncStarted());
+		assertEquals("", response.getContentAsString());
+
+		authentication.complete(new UsernamePasswordAuthenticationToken("1", null,
+			List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+		assertFalse(request.isAsyncStarted());
+		assertEquals(HttpStatus.OK.value(), response.getStatus());
+		assertTrue(response.getContentAsString().contains("accessToken"));
+		verifyNoInteractions(authenticationManager);
+		verify(refreshTokenStore, never()).save(anyLong(), anyString(), anyString(), anyLong());
+	}
+
+	@Test
+	void doFilter_asyncLoginWritesResponseOnContainerThread() throws Exception {
+		LoginAuthenticationService loginAuthenticationService = mock(LoginAuthenticationService.class);
+		loginFilter.setAsyncLogin(asyncAuthService(loginAuthenticationService), Duration.ofSeconds(5));
+		List<Runnable> containerTasks = new ArrayList<>();
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login") {
+			@Override
+			public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+				super.startAsync(servletRequest, servletResponse);
+				MockAsyncContext asyncContext = new MockAsyncContext(servletRequest, servletResponse) {
+					@Override
+					public void start(Runnable runnable) {
+						containerTasks.add(runnable);
+					}
+				};
+				setAsyncContext(asyncContext);
+				return asyncContext;
+			}
+		};
+		request.setServletPath("/auth/login");
+		request.setAsyncSupported(true);
+		request.setContent(objectMapper.writeValueAsBytes(new LoginRequest("test@test.com", "password")));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CompletableFuture<Void> save = new CompletableFuture<>();
+		when(loginAuthenticationService.authenticate("test@test.com", "password"))
+			.thenReturn(CompletableFuture.completedFuture(new UsernamePasswordAuthenticationToken("1", null,
+				List.of(new SimpleGrantedAuthority("ROLE_USER")))));
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong()))
+			.thenReturn(new TokenPair("accessToken", "refreshToken"));
+		when(refreshTokenStore.saveAsync(1L, "default", "refreshToken", 7200000L)).thenReturn(save);
+
+		loginFilter.doFilter(request, response, mock(FilterChain.class));
+		// Redis 응답을 받은 I/O 스레드는 응답을 작성하지 않고 컨테이너에 넘깁니다.
+		save.complete(null);
+
+		assertTrue(request.isAsyncStarted());
+		assertEquals("", response.getContentAsString());
+		assertEquals(1, containerTasks.size());
+
+		containerTasks.get(0).run();
+
+		assertFalse(request.isAsyncStarted());
+		assertTrue(response.getContentAsString().contains("accessToken"));
+	}
+
+	@Test
+	void doFilter_asyncLoginFailureIsUnauthorized() throws Exception {
+		LoginAuthenticationService loginAuthenticationService = mock(LoginAuthenticationService.class);
+		loginFilter.setAsyncLogin(asyncAuthService(loginAuthenticationService), Duration.ofSeconds(5));
+		MockHttpServletRequest request = asyncLoginRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		when(loginAuthenticationService.authenticate("test@test.com", "password"))
+			.thenReturn(CompletableFuture.failedFuture(new BadCredentialsException("Bad credentials")));
+
+		loginFilter.doFilter(request, response, mock(FilterChain.class));
+
+		assertFalse(request.isAsyncStarted());
+		assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+		verifyNoInteractions(refreshTokenStore);
+	}
+
+	@Test
+	void doFilter_asyncLoginThrottledBeforeAuthenticating() throws Exception {
+		LoginAuthenticationService loginAuthenticationService = mock(LoginAuthenticationService.class);
+		loginFilter.setAsyncLogin(asyncAuthService(loginAuthenticationService), Duration.ofSeconds(5));
+		MockHttpServletRequest request = asyncLoginRequest();
+		request.setRemoteAddr("10.0.0.1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		when(loginRateLimiter.acquireAsync("10.0.0.1", "test@test.com")).thenReturn(CompletableFuture.failedFuture(
+			new LoginThrottledException("Too many login attempts for ip", Duration.ofSeconds(3))));
+
+		loginFilter.doFilter(request, response, mock(FilterChain.class));
+
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+		assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+		verifyNoInteractions(loginAuthenticationService);
+		verify(loginRateLimiter, never()).acquire(anyString(), anyString());
+	}
+
+	@Test
+	void doFilter_asyncLoginThrottlesForwardedClientIpsSeparately() throws Exception {
+		LoginAuthenticationService loginAuthenticationService = mock(LoginAuthenticationService.class);
+		loginFilter.setAsyncLogin(asyncAuthService(loginAuthenticationService), Duration.ofSeconds(5));
+		when(loginAuthenticationService.authenticate("test@test.com", "password"))
+			.thenReturn(new CompletableFuture<>());
+		when(loginRateLimiter.acquireAsync("203.0.113.7", "test@test.com")).thenReturn(CompletableFuture.failedFuture(
+			new LoginThrottledException("Too many login attempts for ip", Duration.ofSeconds(3))));
+
+		MockHttpServletRequest throttledRequest = asyncLoginRequest();
+		throttledRequest.setRemoteAddr("10.0.0.1");
+		throttledRequest.addHeader("X-Forwarded-For", "203.0.113.7");
+		MockHttpServletResponse throttledResponse = new MockHttpServletResponse();
+		loginFilter.doFilter(throttledRequest, throttledResponse, mock(FilterChain.class));
+
+		MockHttpServletRequest otherRequest = asyncLoginRequest();
+		otherRequest.setRemoteAddr("10.0.0.1");
+		otherRequest.addHeader("X-Forwarded-For", "198.51.100.2");
+		MockHttpServletResponse otherResponse = new MockHttpServletResponse();
+		loginFilter.doFilter(otherRequest, otherResponse, mock(FilterChain.class));
+
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), throttledResponse.getStatus());
+		verify(loginRateLimiter).acquireAsync("198.51.100.2", "test@test.com");
+		verify(loginRateLimiter, never()).acquireAsync(eq("10.0.0.1"), anyString());
+		verify(loginAuthenticationService).authenticate("test@test.com", "password");
+	}
+
+	@Test
+	void doFilter_asyncLoginTimeoutIsUnavailableAndLateResultIsDropped() throws Exception {
+		LoginAuthenticationService loginAuthenticationService = mock(LoginAuthenticationService.class);
+		loginFilter.setAsyncLogin(asyncAuthService(loginAuthenticationService), Duration.ofMillis(100));
+		MockHttpServletRequest request = asyncLoginRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CompletableFuture<Authentication> authentication = new CompletableFuture<>();
+		when(loginAuthenticationService.authenticate("test@test.com", "password")).thenReturn(authentication);
+
+		loginFilter.doFilter(request, response, mock(FilterChain.class));
+		MockAsyncContext asyncContext = (MockAsyncContext)request.getAsyncContext();
+		assertEquals(100L, asyncContext.getTimeout());
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+		authentication.complete(new UsernamePasswordAuthenticationToken("1", null,
+			List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+		assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+		verifyNoInteractions(jwtUtils, refreshTokenStore);
+	}
+
+	@Test
+	void doFilter_asyncLoginTimeoutWhileSavingCancelsSave() throws Exception {
+		LoginAuthenticationService loginAuthenticationService = mock(LoginAuthenticationService.class);
+		loginFilter.setAsyncLogin(asyncAuthService(loginAuthenticationService), Duration.ofMillis(100));
+		MockHttpServletRequest request = asyncLoginRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		when(loginAuthenticationService.authenticate("test@test.com", "password"))
+			.thenReturn(CompletableFuture.completedFuture(new UsernamePasswordAuthenticationToken("1", null,
+				List.of(new SimpleGrantedAuthority("ROLE_USER")))));
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong()))
+			.thenReturn(new TokenPair("accessToken", "refreshToken"));
+		CompletableFuture<Void> save = new CompletableFuture<>();
+		when(refreshTokenStore.saveAsync(1L, "default", "refreshToken", 7200000L)).thenReturn(save);
+
+		loginFilter.doFilter(request, response, mock(FilterChain.class));
+		MockAsyncContext asyncContext = (MockAsyncContext)request.getAsyncContext();
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+		save.complete(null);
+
+		assertTrue(save.isCancelled());
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+		assertFalse(response.getContentAsString().contains("accessToken"));
+	}
+
+	private AuthService asyncAuthService(LoginAuthenticationService loginAuthenticationService) {
+		AuthService authService = new AuthService(refreshTokenStore, jwtUtils, null, null, null, null,
+			loginAuthenticationService, loginRateLimiter);
+		authService.setAccessTokenExpiresIn(3600000L);
+		authService.setRefreshTokenExpiresIn(7200000L);
+		return authService;
+	}
+
+	private MockHttpServletRequest asyncLoginRequest() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+		request.setServletPath("/auth/login");
+		request.setAsyncSupported(true);
+		request.setContent(objectMapper.writeValueAsBytes(new LoginRequest("test@test.com", "password")));
+		return request;
+	}
 }
@@ -0,0 +1,122 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.key;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
+import com.nhnacademy.bookstoreaccount.keymanager.service.KeyManagerService;
+
+class JwtKeyRingTest {
+	private static final String OLD_SECRET = "MySuperSecretKeyForJwt12345MySuperSecretKeyForJwt12345";
+	private static final String NEW_SECRET = "AnotherSecretKeyForJwt12345AnotherSecretKeyForJwt12345";
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private JwtSigningKey oldKey;
+	private JwtSigningKey newKey;
+	private JwtKeyRing keyRing;
+
+	@BeforeEach
+	void setUp() {
+		oldKey = JwtSigningKeys.hmac(OLD_SECRET, null);
+		newKey = JwtSigningKeys.hmac(NEW_SECRET, null);
+		keyRing = new JwtKeyRing(oldKey, 10_000L, new Clock() {
+			@Override
+			public ZoneOffset getZone() {
+				return ZoneOffset.UTC;
+			}
+
+			@Override
+			public Clock withZone(ZoneId zone) {
+				return this;
+			}
+
+			@Override
+			public Instant instant() {
+				return Instant.ofEpochMilli(now.get());
+			}
+		});
+	}
+
+	@Test
+	void find_missingKeyIdFallsBackToInitialKey() {
+		keyRing.rotate(newKey);
+
+		assertThat(keyRing.find(null)).isEqualTo(oldKey);
+		assertThat(keyRing.find(newKey.keyId())).isEqualTo(newKey);
+		assertThat(keyRing.find("unknown")).isNull();
+	}
+
+	@Test
+	void rotate_previousKeyVerifiesOnlyDuringGracePeriod() {
+		assertThat(keyRing.rotate(newKey)).isTrue();
+		assertThat(keyRing.getActiveKey()).isEqualTo(newKey);
+		assertThat(keyRing.getVerificationKeys()).containsExactly(newKey, oldKey);
+
+		now.addAndGet(10_000L);
+
+		assertThat(keyRing.find(oldKey.keyId())).isNull();
+		assertThat(keyRing.getVerificationKeys()).containsExactly(newKey);
+	}
+
+	@Test
+	void rotate_sameKeyIsNoop() {
+		assertThat(keyRing.rotate(JwtSigningKeys.hmac(OLD_SECRET, null))).isFalse();
+		assertThat(keyRing.getVerificationKeys()).containsExactly(oldKey);
+	}
+
+	@Test
+	void rotate_liveTokensStayValid() {
+		JwtUtils jwtUtils = new JwtUtils(keyRing);
+		String oldToken = jwtUtils.generateToken("refresh", 1L, List.of("ROLE_USER"), 3_600_000L);
+
+		keyRing.rotate(newKey);
+		String newToken = jwtUtils.generateToken("refresh", 1L, List.of("ROLE_USER"), 3_600_000L);
+
+		assertThat(jwtUtils.parseToken(oldToken).isValid()).isTrue();
+		assertThat(jwtUtils.parseToken(newToken).isValid()).isTrue();
+		assertThat(new JwtUtils(OLD_SECRET).parseToken(newToken).isValid()).isFalse();
+
+		now.addAndGet(10_000L);
+		ParsedToken retired = jwtUtils.parseToken(oldToken);
+		assertThat(retired.errorMessage()).isEqualTo("유효하지 않은 토큰입니다.");
+	}
+
+	@Test
+	void refreshSigningKey_rotatesToKeyManagerSecret() {
+		KeyManagerService keyManagerService = mock(KeyManagerService.class);
+		when(keyManagerService.getSecret("jwt-secret")).thenReturn(NEW_SECRET);
+		JwtKeyRotationScheduler scheduler = new JwtKeyRotationScheduler(keyRing, keyManagerService);
+		scheduler.setAlgorithm("");
+		scheduler.setSecretId("jwt-secret");
+
+		scheduler.refreshSigningKey();
+		scheduler.refreshSigningKey();
+
+		assertThat(keyRing.getActiveKey().keyId()).isEqualTo(newKey.keyId());
+		assertThat(keyRing.getVerificationKeys()).hasSize(2);
+	}
+
+	@Test
+	void refreshSigningKey_keepsKeyWhenKeyManagerFails() {
+		KeyManagerService keyManagerService = mock(KeyManagerService.class);
+		when(keyManagerService.getSecret("jwt-secret")).thenReturn(null);
+		JwtKeyRotationScheduler scheduler = new JwtKeyRotationScheduler(keyRing, keyManagerService);
+		scheduler.setAlgorithm("");
+		scheduler.setSecretId("jwt-secret");
+
+		scheduler.refreshSigningKey();
+
+		assertThat(keyRing.getActiveKey()).isEqualTo(oldKey);
+	}
+}
@@ -3,25 +3,35 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
-import com.nhnacademy.bookstoreaccount.auth.jwt.client.UserInfoClient;
+import com.nhnacademy.bookstoreaccount.auth.jwt.cache.UserInfoCache;
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.CoalescingUserInfoClient;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.AppCustomUserDetails;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.service.AppCustomUserDetailsService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class AppCustomUserDetailsServiceTest {
 
 	@Mock
-	private UserInfoClient userInfoClient;
+	private CoalescingUserInfoClient userInfoClient;
+
+	@Spy
+	private UserInfoCache userInfoCache = new UserInfoCache(null, true, 100, Duration.ofSeconds(30),
+		Duration.ofSeconds(5), Duration.ofSeconds(60), new SimpleMeterRegistry());
 
 	@InjectMocks
 	private AppCustomUserDetailsService appCustomUserDetailsService;
@@ -77,4 +87,43 @@ class AppCustomUserDetailsServiceTest {
 		assertThat(userDetails).isInstanceOf(AppCustomUserDetails.class);
 		assertThat(userDetails.getUsername()).isEqualTo(String.valueOf(activeUser.id()));
 	}
+
+	@Test
+	void testLoadUserByUsername_RepeatedLoginUsesCache() {
+		String userEmail = "repeat@example.com";
+		GetUserTokenInfoResponse activeUser = GetUserTokenInfoResponse.builder()
+			.id(1L)
+			.password("password")
+			.roles(List.of("ROLE_USER"))
+			.status("ACTIVE")
+			.build();
+
+		when(userInfoClient.getUserInfoByEmail(userEmail)).thenReturn(activeUser);
+
+		appCustomUserDetailsService.loadUserByUsername(userEmail);
+		UserDetails userDetails = appCustomUserDetailsService.loadUserByUsername(userEmail);
+
+		assertThat(userDetails.getPassword()).isEqualTo("password");
+		verify(userInfoClient, times(1)).getUserInfoByEmail(userEmail);
+	}
+
+	@Test
+	void testLoadUserByUsernameAsync_UsesAsyncLookupAndCache() {
+		String userEmail = "async@example.com";
+		GetUserTokenInfoResponse activeUser = GetUserTokenInfoResponse.builder()
+			.id(2L)
+			.password("password")
+			.roles(List.of("ROLE_USER"))
+			.status("ACTIVE")
+			.build();
+
+		when(userInfoClient.getUserInfoByEmailAsync(userEmail)).thenReturn(CompletableFuture.completedFuture(activeUser));
+
+		UserDetails userDetails = appCustomUserDetailsService.loadUserByUsernameAsync(userEmail).join();
+		appCustomUserDetailsService.loadUserByUsername(userEmail);
+
+		assertThat(userDetails.getUsername()).isEqualTo("2");
+		verify(userInfoClient, times(1)).getUserInfoByEmailAsync(userEmail);
+		verify(userInfoClient, never()).getUserInfoByEmail(userEmail);
+	}
 }
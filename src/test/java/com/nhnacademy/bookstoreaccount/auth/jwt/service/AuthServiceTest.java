@@ -5,56 +5,76 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.mockito.Spy;
 import org.springframework.http.ResponseEntity;
-
-import com.nhnacademy.bookstoreaccount.auth.jwt.client.UserInfoClient;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.cache.VerifiedTokenCache;
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.CoalescingUserInfoClient;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.LogoutResult;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetPaycoUserTokenInfoResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.PaycoLoginResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.ReissueTokensResponse;
 import com.nhnacademy.bookstoreaccount.auth.jwt.service.AuthService;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.AccessTokenDenylist;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginRateLimiter;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.LoginThrottledException;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RefreshTokenStore;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RotationResult;
 import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 
 class AuthServiceTest {
 
 	@Mock
-	private RedisTemplate<String, Object> redisTemplate;
+	private RefreshTokenStore refreshTokenStore;
 
 	@Mock
 	private JwtUtils jwtUtils;
 
 	@Mock
-	private UserInfoClient userInfoClient;
+	private CoalescingUserInfoClient userInfoClient;
 
-	@InjectMocks
-	private AuthService authService;
+	@Spy
+	private VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
 
 	@Mock
-	private HttpServletRequest request;
+	private AccessTokenDenylist accessTokenDenylist;
+
+	@Mock
+	private LoginAuthenticationService loginAuthenticationService;
 
 	@Mock
-	private ValueOperations<String, Object> valueOperations;
+	private LoginRateLimiter loginRateLimiter;
+
+	@InjectMocks
+	private AuthService authService;
 
 	@Mock
-	private HashOperations<String, Object, Object> hashOperations;
+	private HttpServletRequest request;
 
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(loginRateLimiter.acquireAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
 
 		// Set values for accessTokenExpiresIn and refreshTokenExpiresIn
 		authService.setAccessTokenExpiresIn(3600000L); // 1 hour in milliseconds
@@ -65,8 +85,7 @@ class AuthServiceTest {
 	void testGetUserInfo() {
 		String token = "Bearer testToken";
 		when(request.getHeader("Authorization")).thenReturn(token);
-		when(jwtUtils.getUserIdFromToken(token)).thenReturn(1L);
-		when(jwtUtils.getRolesFromToken(token)).thenReturn(List.of("ROLE_USER"));
+		when(jwtUtils.parseToken(token)).thenReturn(parsedToken("access", 1L, List.of("ROLE_USER")));
 
 		Map<String, Object> userInfo = authService.getUserInfo(request);
 
@@ -82,8 +101,7 @@ class AuthServiceTest {
 		List<String> roles = List.of("ROLE_USER");
 
 		when(request.getHeader("Authorization")).thenReturn(accessToken);
-		when(jwtUtils.getUserIdFromToken(accessToken)).thenReturn(userId);
-		when(jwtUtils.getRolesFromToken(accessToken)).thenReturn(roles);
+		when(jwtUtils.parseToken(accessToken)).thenReturn(parsedToken("access", userId, roles));
 
 		Map<String, Object> userInfo = authService.getUserInfo(request);
 
@@ -92,6 +110,57 @@ class AuthServiceTest {
 		assertThat(userInfo.get("roles")).isEqualTo(roles);
 	}
 
+	@Test
+	void testGetUserInfo_CachedTokenIsParsedOnce() {
+		String accessToken = "Bearer cachedAccessToken";
+		when(request.getHeader("Authorization")).thenReturn(accessToken);
+		when(jwtUtils.parseToken(accessToken)).thenReturn(parsedToken("access", 1L, List.of("ROLE_USER")));
+
+		authService.getUserInfo(request);
+		Map<String, Object> userInfo = authService.getUserInfo(request);
+
+		assertThat(userInfo.get("id")).isEqualTo(1L);
+		verify(jwtUtils, times(1)).parseToken(accessToken);
+	}
+
+	@Test
+	void testGetUserInfo_RevokedCachedToken() {
+		String accessToken = "Bearer revokedAccessToken";
+		ParsedToken parsedToken = parsedToken("access", 1L, List.of("ROLE_USER"));
+		when(request.getHeader("Authorization")).thenReturn(accessToken);
+		when(jwtUtils.parseToken(accessToken)).thenReturn(parsedToken);
+
+		assertThat(authService.getUserInfo(request)).isNotNull();
+		when(accessTokenDenylist.isRevoked(parsedToken)).thenReturn(true);
+
+		assertThat(authService.getUserInfo(request)).isNull();
+		verify(jwtUtils, times(1)).parseToken(accessToken);
+	}
+
+	@Test
+	void testGetUserInfo_RejectsRefreshToken() {
+		String refreshToken = "Bearer refreshToken";
+		when(request.getHeader("Authorization")).thenReturn(refreshToken);
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_ADMIN")));
+
+		assertThat(authService.getUserInfo(request)).isNull();
+		assertThat(authService.verifyAccessToken(refreshToken)).isNull();
+		assertThat(authService.getUserInfoAsync(refreshToken).join()).isNull();
+	}
+
+	@Test
+	void testVerifyAccessToken() {
+		String accessToken = "Bearer adminAccessToken";
+		ParsedToken parsedToken = parsedToken("access", 1L, List.of("ROLE_ADMIN"));
+		when(jwtUtils.parseToken(accessToken)).thenReturn(parsedToken);
+
+		assertThat(authService.verifyAccessToken(accessToken)).isSameAs(parsedToken);
+		when(accessTokenDenylist.isRevoked(parsedToken)).thenReturn(true);
+
+		assertThat(authService.verifyAccessToken(accessToken)).isNull();
+		assertThat(authService.verifyAccessToken("adminAccessToken")).isNull();
+	}
+
 	@Test
 	void testGetUserInfo_WithInvalidToken() {
 		when(request.getHeader("Authorization")).thenReturn(null);
@@ -116,22 +185,19 @@ class AuthServiceTest {
 		String newAccessToken = "newAccessToken";
 		String newRefreshToken = "newRefreshToken";
 
-		when(jwtUtils.validateToken(refreshToken)).thenReturn(null);
-		when(jwtUtils.getTokenTypeFromToken(refreshToken)).thenReturn("refresh");
-		when(jwtUtils.getUserIdFromToken(refreshToken)).thenReturn(1L);
-		when(jwtUtils.getRolesFromToken(refreshToken)).thenReturn(List.of("ROLE_USER"));
-		when(hashOperations.hasKey(anyString(), eq("token"))).thenReturn(true);
-		when(jwtUtils.generateToken(anyString(), anyLong(), anyList(), anyLong())).thenReturn(newAccessToken,
-			newRefreshToken);
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(refreshTokenStore.rotate(eq(1L), eq("default"), eq(refreshToken), anyLong(), anyString(), anyLong()))
+			.thenReturn(RotationResult.ROTATED);
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong())).thenReturn(
+			new TokenPair(newAccessToken, newRefreshToken));
 
-		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken);
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, null);
 
 		assertThat(response).isNotNull();
 		assertThat(response.accessToken()).isEqualTo(newAccessToken);
 		assertThat(response.refreshToken()).isEqualTo(newRefreshToken);
 
-		verify(redisTemplate, times(1)).delete("RefreshToken:1");
-		verify(hashOperations, times(1)).put(eq("RefreshToken:1"), eq("token"), eq(newRefreshToken));
+		verify(refreshTokenStore, times(1)).rotate(eq(1L), eq("default"), eq(refreshToken), anyLong(), eq(newRefreshToken), eq(7200000L));
 	}
 
 	@Test
@@ -140,90 +206,157 @@ class AuthServiceTest {
 		String newAccessToken = "newAccessToken";
 		String newRefreshToken = "newRefreshToken";
 
-		when(jwtUtils.validateToken(refreshToken)).thenReturn(null);
-		when(jwtUtils.getTokenTypeFromToken(refreshToken)).thenReturn("refresh");
-		when(jwtUtils.getUserIdFromToken(refreshToken)).thenReturn(1L);
-		when(jwtUtils.getRolesFromToken(refreshToken)).thenReturn(List.of("ROLE_USER"));
-		when(redisTemplate.opsForHash().hasKey(anyString(), eq("token"))).thenReturn(true);
-		when(jwtUtils.generateToken(anyString(), anyLong(), anyList(), anyLong())).thenReturn(newAccessToken,
-			newRefreshToken);
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(refreshTokenStore.rotate(eq(1L), eq("default"), eq(refreshToken), anyLong(), anyString(), anyLong()))
+			.thenReturn(RotationResult.ROTATED);
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong())).thenReturn(
+			new TokenPair(newAccessToken, newRefreshToken));
 
-		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken);
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, null);
 
 		assertThat(response).isNotNull();
 		assertThat(response.accessToken()).isEqualTo(newAccessToken);
 		assertThat(response.refreshToken()).isEqualTo(newRefreshToken);
 
-		verify(redisTemplate, times(1)).delete("RefreshToken:1");
-		verify(hashOperations, times(1)).put(eq("RefreshToken:1"), eq("token"), eq(newRefreshToken));
+		verify(refreshTokenStore, times(1)).rotate(eq(1L), eq("default"), eq(refreshToken), anyLong(), eq(newRefreshToken), eq(7200000L));
 	}
 
 	@Test
 	void testReissueTokensWithRefreshToken_InvalidRefreshToken() {
 		String refreshToken = "invalidRefreshToken";
 
-		when(jwtUtils.validateToken(refreshToken)).thenReturn("Invalid token");
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(ParsedToken.invalid("Invalid token"));
 
-		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken);
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, null);
 
 		assertThat(response).isNull();
-		verify(redisTemplate, never()).delete(anyString());
-		verify(redisTemplate.opsForValue(), never()).set(anyString(), any(), anyLong(), any());
+		verifyNoInteractions(refreshTokenStore);
 	}
 
 	@Test
 	void testReissueTokensWithRefreshToken_NonRefreshTokenType() {
 		String refreshToken = "validRefreshToken";
 
-		when(jwtUtils.validateToken(refreshToken)).thenReturn(null);
-		when(jwtUtils.getTokenTypeFromToken(refreshToken)).thenReturn("access");
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("access", 1L, List.of("ROLE_USER")));
 
-		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken);
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, null);
 
 		assertThat(response).isNull();
-		verify(redisTemplate, never()).delete(anyString());
-		verify(redisTemplate.opsForValue(), never()).set(anyString(), any(), anyLong(), any());
+		verifyNoInteractions(refreshTokenStore);
 	}
 
 	@Test
 	void testReissueTokensWithRefreshToken_TokenNotExistsInRedis() {
 		String refreshToken = "validRefreshToken";
 
-		when(jwtUtils.validateToken(refreshToken)).thenReturn(null);
-		when(jwtUtils.getTokenTypeFromToken(refreshToken)).thenReturn("refresh");
-		when(jwtUtils.getUserIdFromToken(refreshToken)).thenReturn(1L);
-		when(redisTemplate.opsForHash().hasKey(anyString(), eq("token"))).thenReturn(false);
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong())).thenReturn(
+			new TokenPair("newAccessToken", "newRefreshToken"));
+		when(refreshTokenStore.rotate(eq(1L), eq("default"), eq(refreshToken), anyLong(), anyString(), anyLong()))
+			.thenReturn(RotationResult.NOT_FOUND);
+
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, null);
+
+		assertThat(response).isNull();
+		verify(refreshTokenStore, never()).save(anyLong(), anyString(), anyString(), anyLong());
+	}
+
+	@Test
+	void testReissueTokensWithRefreshToken_ReusedRefreshToken() {
+		String refreshToken = "alreadyRotatedRefreshToken";
+
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong())).thenReturn(
+			new TokenPair("newAccessToken", "newRefreshToken"));
+		when(refreshTokenStore.rotate(eq(1L), eq("default"), eq(refreshToken), anyLong(), anyString(), anyLong()))
+			.thenReturn(RotationResult.MISMATCH);
 
-		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken);
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, null);
 
 		assertThat(response).isNull();
-		verify(redisTemplate, never()).delete(anyString());
-		verify(redisTemplate.opsForValue(), never()).set(anyString(), any(), anyLong(), any());
 	}
 
 	@Test
 	void testReissueTokensWithNullRefreshToken() {
 		String refreshToken = null;
 
-		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken);
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, null);
 
 		assertThat(response).isNull();
-		verify(jwtUtils, never()).validateToken(anyString());
-		verify(jwtUtils, never()).getTokenTypeFromToken(anyString());
-		verify(redisTemplate, never()).opsForHash();
+		verify(jwtUtils, never()).parseToken(anyString());
+		verifyNoInteractions(refreshTokenStore);
 	}
 
 	@Test
 	void testReissueTokensWithInvalidRefreshToken() {
 		String refreshToken = "invalidRefreshToken";
 
-		when(jwtUtils.validateToken(refreshToken)).thenReturn("Invalid Token");
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(ParsedToken.invalid("Invalid Token"));
 
-		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken);
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, null);
 
 		assertThat(response).isNull();
 	}
 
+	@Test
+	void testReissueTokensWithRefreshToken_ParsesTokenOnce() {
+		String refreshToken = "validRefreshToken";
+
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(refreshTokenStore.rotate(eq(1L), eq("default"), eq(refreshToken), anyLong(), anyString(), anyLong()))
+			.thenReturn(RotationResult.ROTATED);
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong())).thenReturn(
+			new TokenPair("access", "refresh"));
+
+		authService.reissueTokensWithRefreshToken(refreshToken, null);
+
+		verify(jwtUtils, times(1)).parseToken(refreshToken);
+		verify(jwtUtils, never()).validateToken(anyString());
+		verify(jwtUtils, never()).getUserIdFromToken(anyString());
+		verify(jwtUtils, never()).getRolesFromToken(anyString());
+		verify(jwtUtils, never()).getTokenTypeFromToken(anyString());
+	}
+
+	@Test
+	void testReissueTokensWithRefreshTokenAsync() {
+		String refreshToken = "validRefreshToken";
+
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(refreshTokenStore.rotateAsync(eq(1L), eq("phone"), eq(refreshToken), anyLong(), anyString(), anyLong()))
+			.thenReturn(CompletableFuture.completedFuture(RotationResult.ROTATED));
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong())).thenReturn(
+			new TokenPair("newAccessToken", "newRefreshToken"));
+
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshTokenAsync(refreshToken, "phone").join();
+
+		assertThat(response.accessToken()).isEqualTo("newAccessToken");
+		assertThat(response.refreshToken()).isEqualTo("newRefreshToken");
+		verify(refreshTokenStore, never()).rotate(anyLong(), anyString(), anyString(), anyLong(), anyString(), anyLong());
+	}
+
+	@Test
+	void testReissueTokensWithRefreshTokenAsync_ReusedToken() {
+		String refreshToken = "reusedRefreshToken";
+
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(refreshTokenStore.rotateAsync(eq(1L), eq("default"), eq(refreshToken), anyLong(), anyString(), anyLong()))
+			.thenReturn(CompletableFuture.completedFuture(RotationResult.MISMATCH));
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong())).thenReturn(
+			new TokenPair("newAccessToken", "newRefreshToken"));
+
+		assertThat(authService.reissueTokensWithRefreshTokenAsync(refreshToken, null).join()).isNull();
+	}
+
+	@Test
+	void testReissueTokensWithRefreshTokenAsync_InvalidRefreshToken() {
+		String refreshToken = "invalidRefreshToken";
+
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(ParsedToken.invalid("Invalid token"));
+
+		assertThat(authService.reissueTokensWithRefreshTokenAsync(refreshToken, null).join()).isNull();
+		verifyNoInteractions(refreshTokenStore);
+	}
+
 	@Test
 	void testGetTokensForPaycoUser() {
 		String paycoIdNo = "paycoIdNo";
@@ -235,17 +368,16 @@ class AuthServiceTest {
 
 		when(userInfoClient.getUserInfoByPaycoId(anyString())).thenReturn(
 			ResponseEntity.ok(paycoUserTokenInfoResponse));
-		when(jwtUtils.generateToken(anyString(), anyLong(), anyList(), anyLong())).thenReturn("accessToken",
-			"refreshToken");
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong())).thenReturn(
+			new TokenPair("accessToken", "refreshToken"));
 
-		PaycoLoginResponse response = authService.getTokensForPaycoUser(paycoIdNo);
+		PaycoLoginResponse response = authService.getTokensForPaycoUser(paycoIdNo, null);
 
 		assertThat(response).isNotNull();
 		assertThat(response.accessToken()).isEqualTo("accessToken");
 		assertThat(response.refreshToken()).isEqualTo("refreshToken");
 
-		verify(redisTemplate, times(1)).delete("RefreshToken:1");
-		verify(hashOperations, times(1)).put(eq("RefreshToken:1"), eq("token"), eq("refreshToken"));
+		verify(refreshTokenStore, times(1)).save(1L, "default", "refreshToken", 7200000L);
 	}
 
 	@Test
@@ -260,8 +392,243 @@ class AuthServiceTest {
 		when(userInfoClient.getUserInfoByPaycoId(anyString())).thenReturn(
 			ResponseEntity.ok(paycoUserTokenInfoResponse));
 
-		PaycoLoginResponse response = authService.getTokensForPaycoUser(paycoIdNo);
+		PaycoLoginResponse response = authService.getTokensForPaycoUser(paycoIdNo, null);
 
 		assertThat(response).isNull();
 	}
+
+	@Test
+	void testReissueTokensWithRefreshToken_RotatesOnlyRequestingDevice() {
+		String refreshToken = "phoneRefreshToken";
+
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(refreshTokenStore.rotate(eq(1L), eq("phone"), eq(refreshToken), anyLong(), anyString(), anyLong()))
+			.thenReturn(RotationResult.ROTATED);
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong())).thenReturn(
+			new TokenPair("newAccessToken", "newRefreshToken"));
+
+		ReissueTokensResponse response = authService.reissueTokensWithRefreshToken(refreshToken, "phone");
+
+		assertThat(response).isNotNull();
+		verify(refreshTokenStore).rotate(eq(1L), eq("phone"), eq(refreshToken), anyLong(), eq("newRefreshToken"), eq(7200000L));
+	}
+
+	@Test
+	void testGetSessions() {
+		String accessToken = "Bearer sessionsAccessToken";
+		List<DeviceSession> sessions = List.of(new DeviceSession("phone", 2000L));
+		when(request.getHeader("Authorization")).thenReturn(accessToken);
+		when(jwtUtils.parseToken(accessToken)).thenReturn(parsedToken("access", 1L, List.of("ROLE_USER")));
+		when(refreshTokenStore.findSessions(1L)).thenReturn(sessions);
+
+		assertThat(authService.getSessions(request)).isEqualTo(sessions);
+	}
+
+	@Test
+	void testGetSessions_WithRefreshToken() {
+		String refreshToken = "Bearer sessionsRefreshToken";
+		when(request.getHeader("Authorization")).thenReturn(refreshToken);
+		when(jwtUtils.parseToken(refreshToken)).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+
+		assertThat(authService.getSessions(request)).isNull();
+		verifyNoInteractions(refreshTokenStore);
+	}
+
+	@Test
+	void testGetSessions_WithRevokedToken() {
+		String accessToken = "Bearer revokedSessionsAccessToken";
+		ParsedToken parsedToken = parsedToken("access", 1L, List.of("ROLE_USER"));
+		when(request.getHeader("Authorization")).thenReturn(accessToken);
+		when(jwtUtils.parseToken(accessToken)).thenReturn(parsedToken);
+		when(accessTokenDenylist.isRevoked(parsedToken)).thenReturn(true);
+
+		assertThat(authService.getSessions(request)).isNull();
+		verifyNoInteractions(refreshTokenStore);
+	}
+
+	@Test
+	void testGetUserInfoAsync() {
+		String accessToken = "Bearer asyncAccessToken";
+		ParsedToken parsedToken = parsedToken("access", 1L, List.of("ROLE_USER"));
+		when(jwtUtils.parseToken(accessToken)).thenReturn(parsedToken);
+		when(accessTokenDenylist.isRevokedAsync(parsedToken)).thenReturn(CompletableFuture.completedFuture(false));
+
+		Map<String, Object> userInfo = authService.getUserInfoAsync(accessToken).join();
+
+		assertThat(userInfo.get("id")).isEqualTo(1L);
+		verify(accessTokenDenylist, never()).isRevoked(any());
+	}
+
+	@Test
+	void testGetUserInfoAsync_WithRevokedToken() {
+		String accessToken = "Bearer revokedAsyncAccessToken";
+		ParsedToken parsedToken = parsedToken("access", 1L, List.of("ROLE_USER"));
+		when(jwtUtils.parseToken(accessToken)).thenReturn(parsedToken);
+		when(accessTokenDenylist.isRevokedAsync(parsedToken)).thenReturn(CompletableFuture.completedFuture(true));
+
+		assertThat(authService.getUserInfoAsync(accessToken).join()).isNull();
+	}
+
+	@Test
+	void testGetUserInfoAsync_WithoutBearerToken() {
+		assertThat(authService.getUserInfoAsync(null).join()).isNull();
+		verifyNoInteractions(jwtUtils, accessTokenDenylist);
+	}
+
+	@Test
+	void testLoginAsync() {
+		Authentication authentication = new UsernamePasswordAuthenticationToken("1", null,
+			List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		when(loginAuthenticationService.authenticate("test@test.com", "password"))
+			.thenReturn(CompletableFuture.completedFuture(authentication));
+		when(jwtUtils.generateTokenPair(1L, List.of("ROLE_USER"), 3600000L, 7200000L))
+			.thenReturn(new TokenPair("accessToken", "refreshToken"));
+		when(refreshTokenStore.saveAsync(1L, "phone", "refreshToken", 7200000L))
+			.thenReturn(CompletableFuture.completedFuture(null));
+
+		TokenPair tokenPair = authService.loginAsync("test@test.com", "password", "10.0.0.1", "phone").join();
+
+		assertThat(tokenPair.accessToken()).isEqualTo("accessToken");
+		verify(loginRateLimiter).acquireAsync("10.0.0.1", "test@test.com");
+		verify(loginRateLimiter, never()).acquire(anyString(), anyString());
+	}
+
+	@Test
+	void testLoginAsync_Throttled() {
+		when(loginRateLimiter.acquireAsync("10.0.0.1", "test@test.com")).thenReturn(CompletableFuture.failedFuture(
+			new LoginThrottledException("Too many login attempts for ip", Duration.ofSeconds(3))));
+
+		assertThat(authService.loginAsync("test@test.com", "password", "10.0.0.1", null))
+			.failsWithin(Duration.ZERO)
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(LoginThrottledException.class);
+		verifyNoInteractions(loginAuthenticationService);
+	}
+
+	@Test
+	void testLoginAsync_CancelledWhileLeasingPermitsDoesNotAuthenticate() {
+		CompletableFuture<Void> acquire = new CompletableFuture<>();
+		when(loginRateLimiter.acquireAsync("10.0.0.1", "test@test.com")).thenReturn(acquire);
+
+		CompletableFuture<TokenPair> login = authService.loginAsync("test@test.com", "password", "10.0.0.1", null);
+		login.cancel(false);
+		acquire.complete(null);
+
+		assertThat(acquire.isCancelled()).isTrue();
+		verifyNoInteractions(loginAuthenticationService, jwtUtils, refreshTokenStore);
+	}
+
+	@Test
+	void testLoginAsync_CancelledBeforeAuthenticatedIssuesNoTokens() {
+		CompletableFuture<Authentication> authentication = new CompletableFuture<>();
+		when(loginAuthenticationService.authenticate("test@test.com", "password")).thenReturn(authentication);
+
+		authService.loginAsync("test@test.com", "password", "10.0.0.1", null).cancel(false);
+		authentication.complete(new UsernamePasswordAuthenticationToken("1", null,
+			List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+		assertThat(authentication).isCancelled();
+		verifyNoInteractions(jwtUtils, refreshTokenStore);
+	}
+
+	@Test
+	void testLoginAsync_CancelledWhileSavingCancelsSave() {
+		Authentication authentication = new UsernamePasswordAuthenticationToken("1", null,
+			List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		when(loginAuthenticationService.authenticate("test@test.com", "password"))
+			.thenReturn(CompletableFuture.completedFuture(authentication));
+		when(jwtUtils.generateTokenPair(1L, List.of("ROLE_USER"), 3600000L, 7200000L))
+			.thenReturn(new TokenPair("accessToken", "refreshToken"));
+		CompletableFuture<Void> save = new CompletableFuture<>();
+		when(refreshTokenStore.saveAsync(1L, "phone", "refreshToken", 7200000L)).thenReturn(save);
+
+		CompletableFuture<TokenPair> login = authService.loginAsync("test@test.com", "password", "10.0.0.1", "phone");
+		// 저장이 제한 시간보다 늦어 호출자가 로그인을 취소한 경우입니다.
+		login.cancel(false);
+		save.complete(null);
+
+		assertThat(save).isCancelled();
+		assertThat(login).isCancelled();
+	}
+
+	@Test
+	void testLogoutAsync() {
+		ParsedToken accessToken = parsedToken("access", 1L, List.of("ROLE_USER"));
+		when(jwtUtils.parseToken("refreshToken")).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(jwtUtils.parseToken("Bearer accessToken")).thenReturn(accessToken);
+		when(refreshTokenStore.deleteAsync(1L, "laptop")).thenReturn(CompletableFuture.completedFuture(true));
+		when(accessTokenDenylist.revokeAsync(accessToken)).thenReturn(CompletableFuture.completedFuture(null));
+
+		LogoutResult result = authService.logoutAsync("refreshToken", "Bearer accessToken", "laptop").join();
+
+		assertThat(result).isEqualTo(LogoutResult.LOGGED_OUT);
+		verify(accessTokenDenylist).revokeAsync(accessToken);
+	}
+
+	@Test
+	void testLogoutAsync_SessionNotFound() {
+		when(jwtUtils.parseToken("refreshToken")).thenReturn(parsedToken("refresh", 1L, List.of("ROLE_USER")));
+		when(jwtUtils.parseToken("Bearer accessToken")).thenReturn(parsedToken("access", 1L, List.of("ROLE_USER")));
+		when(refreshTokenStore.deleteAsync(1L, "default")).thenReturn(CompletableFuture.completedFuture(false));
+
+		LogoutResult result = authService.logoutAsync("refreshToken", "Bearer accessToken", null).join();
+
+		assertThat(result).isEqualTo(LogoutResult.SESSION_NOT_FOUND);
+		verifyNoInteractions(accessTokenDenylist);
+	}
+
+	@Test
+	void testLogoutAsync_InvalidTokens() {
+		when(jwtUtils.parseToken("invalidToken")).thenReturn(ParsedToken.invalid("Invalid token"));
+		when(jwtUtils.parseToken("accessToken")).thenReturn(parsedToken("access", 1L, List.of("ROLE_USER")));
+
+		assertThat(authService.logoutAsync(null, null, null).join()).isEqualTo(LogoutResult.MISSING_TOKEN);
+		assertThat(authService.logoutAsync("invalidToken", null, null).join()).isEqualTo(LogoutResult.INVALID_TOKEN);
+		assertThat(authService.logoutAsync("accessToken", null, null).join())
+			.isEqualTo(LogoutResult.NOT_REFRESH_TOKEN);
+		verifyNoInteractions(refreshTokenStore);
+	}
+
+	@Test
+	void testGetTokensForPaycoUserAsync() {
+		GetPaycoUserTokenInfoResponse paycoUser = GetPaycoUserTokenInfoResponse.builder()
+			.id(1L)
+			.roles(List.of("ROLE_USER"))
+			.status("ACTIVE")
+			.build();
+		when(userInfoClient.getUserInfoByPaycoIdAsync("paycoIdNo"))
+			.thenReturn(CompletableFuture.completedFuture(ResponseEntity.ok(paycoUser)));
+		when(jwtUtils.generateTokenPair(anyLong(), anyList(), anyLong(), anyLong()))
+			.thenReturn(new TokenPair("accessToken", "refreshToken"));
+		when(refreshTokenStore.saveAsync(1L, "default", "refreshToken", 7200000L))
+			.thenReturn(CompletableFuture.completedFuture(null));
+
+		PaycoLoginResponse response = authService.getTokensForPaycoUserAsync("paycoIdNo", null, Runnable::run).join();
+
+		assertThat(response.accessToken()).isEqualTo("accessToken");
+		verify(refreshTokenStore, never()).save(anyLong(), anyString(), anyString(), anyLong());
+	}
+
+	@Test
+	void testGetTokensForInactivePaycoUserAsync() {
+		GetPaycoUserTokenInfoResponse paycoUser = GetPaycoUserTokenInfoResponse.builder()
+			.id(1L)
+			.roles(List.of("ROLE_USER"))
+			.status("INACTIVE")
+			.build();
+		when(userInfoClient.getUserInfoByPaycoIdAsync("paycoIdNo"))
+			.thenReturn(CompletableFuture.completedFuture(ResponseEntity.ok(paycoUser)));
+
+		assertThat(authService.getTokensForPaycoUserAsync("paycoIdNo", null, Runnable::run).join()).isNull();
+		verifyNoInteractions(refreshTokenStore);
+	}
+
+	private ParsedToken parsedToken(String tokenType, Long userId, List<String> roles) {
+		return ParsedToken.builder()
+			.tokenType(tokenType)
+			.userId(userId)
+			.roles(roles)
+			.expiresAt(System.currentTimeMillis() + 3600000L)
+			.build();
+	}
 }
@@ -0,0 +1,97 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.AppCustomUserDetails;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.GetUserTokenInfoResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.BoundedPasswordEncoder;
+import com.nhnacademy.bookstoreaccount.auth.jwt.utils.PasswordVerificationRejectedException;
+
+class LoginAuthenticationServiceTest {
+	private static final String EMAIL = "test@test.com";
+
+	private AppCustomUserDetailsService userDetailsService;
+	private BoundedPasswordEncoder passwordEncoder;
+	private LoginAuthenticationService loginAuthenticationService;
+
+	@BeforeEach
+	void setUp() {
+		userDetailsService = mock(AppCustomUserDetailsService.class);
+		passwordEncoder = mock(BoundedPasswordEncoder.class);
+		loginAuthenticationService = new LoginAuthenticationService(userDetailsService, passwordEncoder);
+	}
+
+	@Test
+	void authenticate_success() {
+		when(userDetailsService.loadUserByUsernameAsync(EMAIL)).thenReturn(
+			CompletableFuture.completedFuture(new AppCustomUserDetails(user())));
+		when(passwordEncoder.matchesAsync("password", "encoded")).thenReturn(CompletableFuture.completedFuture(true));
+
+		Authentication authentication = loginAuthenticationService.authenticate(EMAIL, "password").join();
+
+		assertThat(authentication.isAuthenticated()).isTrue();
+		assertThat(authentication.getName()).isEqualTo("1");
+		assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+	}
+
+	@Test
+	void authenticate_wrongPassword() {
+		when(userDetailsService.loadUserByUsernameAsync(EMAIL)).thenReturn(
+			CompletableFuture.completedFuture(new AppCustomUserDetails(user())));
+		when(passwordEncoder.matchesAsync("wrong", "encoded")).thenReturn(CompletableFuture.completedFuture(false));
+
+		assertThatThrownBy(() -> loginAuthenticationService.authenticate(EMAIL, "wrong").join())
+			.hasCauseInstanceOf(BadCredentialsException.class);
+	}
+
+	@Test
+	void authenticate_unknownUserIsNotVerified() {
+		when(userDetailsService.loadUserByUsernameAsync(EMAIL)).thenReturn(CompletableFuture.completedFuture(null));
+
+		assertThatThrownBy(() -> loginAuthenticationService.authenticate(EMAIL, "password").join())
+			.hasCauseInstanceOf(BadCredentialsException.class);
+		verifyNoInteractions(passwordEncoder);
+	}
+
+	@Test
+	void authenticate_lookupFailure() {
+		when(userDetailsService.loadUserByUsernameAsync(EMAIL)).thenReturn(
+			CompletableFuture.failedFuture(new IllegalStateException("user service unavailable")));
+
+		assertThatThrownBy(() -> loginAuthenticationService.authenticate(EMAIL, "password").join())
+			.hasCauseInstanceOf(InternalAuthenticationServiceException.class)
+			.hasRootCauseMessage("user service unavailable");
+	}
+
+	@Test
+	void authenticate_verificationRejected() {
+		when(userDetailsService.loadUserByUsernameAsync(EMAIL)).thenReturn(
+			CompletableFuture.completedFuture(new AppCustomUserDetails(user())));
+		when(passwordEncoder.matchesAsync("password", "encoded")).thenReturn(CompletableFuture.failedFuture(
+			new PasswordVerificationRejectedException("Password verification queue is full", Duration.ofSeconds(1))));
+
+		assertThatThrownBy(() -> loginAuthenticationService.authenticate(EMAIL, "password").join())
+			.hasCauseInstanceOf(PasswordVerificationRejectedException.class);
+	}
+
+	private static GetUserTokenInfoResponse user() {
+		return GetUserTokenInfoResponse.builder()
+			.id(1L)
+			.password("encoded")
+			.roles(List.of("ROLE_USER"))
+			.status("ACTIVE")
+			.build();
+	}
+}
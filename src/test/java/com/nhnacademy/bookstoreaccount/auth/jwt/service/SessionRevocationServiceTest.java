@@ -0,0 +1,198 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.client.UserInfoClient;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.SessionRevocationStatus;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.SessionRevocationTarget;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.request.SessionRevocationRequest;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.response.SessionRevocationJobResponse;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RedisRefreshTokenRevoker;
+import com.nhnacademy.bookstoreaccount.auth.jwt.store.RedisRefreshTokenRevoker.ScanPage;
+
+class SessionRevocationServiceTest {
+	private RedisRefreshTokenRevoker revoker;
+	private UserInfoClient userInfoClient;
+	private SessionRevocationService service;
+	private final List<List<Long>> batches = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		revoker = mock(RedisRefreshTokenRevoker.class);
+		userInfoClient = mock(UserInfoClient.class);
+		when(revoker.revoke(anyCollection())).thenAnswer(invocation -> {
+			List<Long> batch = List.copyOf(invocation.getArgument(0));
+			synchronized (batches) {
+				batches.add(batch);
+			}
+			return (long)batch.size();
+		});
+		service = service(0L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.close();
+	}
+
+	@Test
+	void start_revokesUserListInSortedBatches() {
+		SessionRevocationJobResponse job = service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.USERS)
+			.userIds(List.of(5L, 1L, 3L, 2L, 4L, 3L))
+			.build());
+
+		SessionRevocationJobResponse finished = await(job.jobId());
+		assertThat(finished.status()).isEqualTo(SessionRevocationStatus.COMPLETED);
+		assertThat(finished.processed()).isEqualTo(5L);
+		assertThat(finished.revoked()).isEqualTo(5L);
+		assertThat(finished.cursor()).isEqualTo("5");
+		assertThat(batches).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+	}
+
+	@Test
+	void start_resumesUserListAfterCursor() {
+		SessionRevocationJobResponse job = service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.USERS)
+			.userIds(List.of(1L, 2L, 3L, 4L, 5L))
+			.cursor("2")
+			.build());
+
+		assertThat(await(job.jobId()).processed()).isEqualTo(3L);
+		assertThat(batches).containsExactly(List.of(3L, 4L), List.of(5L));
+	}
+
+	@Test
+	void start_resolvesRoleThroughUserService() {
+		when(userInfoClient.getUserIdsByRole("ROLE_SELLER")).thenReturn(List.of(7L, 8L));
+
+		SessionRevocationJobResponse job = service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.ROLE)
+			.role("ROLE_SELLER")
+			.build());
+
+		assertThat(await(job.jobId()).status()).isEqualTo(SessionRevocationStatus.COMPLETED);
+		assertThat(batches).containsExactly(List.of(7L, 8L));
+	}
+
+	@Test
+	void start_scansAllKeysUntilCursorReturnsToZero() {
+		when(revoker.scan("0", 2)).thenReturn(new ScanPage("17", List.of(1L, 2L)));
+		when(revoker.scan("17", 2)).thenReturn(new ScanPage("9", List.of()));
+		when(revoker.scan("9", 2)).thenReturn(new ScanPage("0", List.of(3L)));
+
+		SessionRevocationJobResponse job = service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.ALL)
+			.build());
+
+		SessionRevocationJobResponse finished = await(job.jobId());
+		assertThat(finished.status()).isEqualTo(SessionRevocationStatus.COMPLETED);
+		assertThat(finished.processed()).isEqualTo(3L);
+		assertThat(finished.cursor()).isEqualTo("0");
+	}
+
+	@Test
+	void start_failedScanReportsLastCursorForResume() {
+		when(revoker.scan("0", 2)).thenReturn(new ScanPage("17", List.of(1L, 2L)));
+		when(revoker.scan("17", 2)).thenThrow(new QueryTimeoutException("timeout"));
+
+		SessionRevocationJobResponse failed = await(service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.ALL)
+			.build()).jobId());
+		assertThat(failed.status()).isEqualTo(SessionRevocationStatus.FAILED);
+		assertThat(failed.cursor()).isEqualTo("17");
+		assertThat(failed.errorMessage()).isEqualTo("timeout");
+
+		reset(revoker);
+		when(revoker.scan("17", 2)).thenReturn(new ScanPage("0", List.of(3L)));
+		SessionRevocationJobResponse resumed = await(service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.ALL)
+			.cursor(failed.cursor())
+			.build()).jobId());
+		assertThat(resumed.status()).isEqualTo(SessionRevocationStatus.COMPLETED);
+		verify(revoker, never()).scan(eq("0"), anyInt());
+	}
+
+	@Test
+	void start_limitsRate() {
+		service.close();
+		service = service(100L);
+
+		long started = System.nanoTime();
+		SessionRevocationJobResponse job = service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.USERS)
+			.userIds(LongStream.rangeClosed(1, 20).boxed().toList())
+			.build());
+
+		assertThat(await(job.jobId()).processed()).isEqualTo(20L);
+		// 초당 100명이면 20명을 처리하는 데 약 200ms 가 걸립니다.
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+	}
+
+	@Test
+	void cancel_stopsAfterCurrentBatch() throws Exception {
+		CountDownLatch firstBatch = new CountDownLatch(1);
+		CountDownLatch cancelled = new CountDownLatch(1);
+		when(revoker.revoke(anyCollection())).thenAnswer(invocation -> {
+			firstBatch.countDown();
+			cancelled.await(5, TimeUnit.SECONDS);
+			return 2L;
+		});
+		SessionRevocationJobResponse job = service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.USERS)
+			.userIds(List.of(1L, 2L, 3L, 4L))
+			.build());
+
+		assertThat(firstBatch.await(5, TimeUnit.SECONDS)).isTrue();
+		service.cancel(job.jobId());
+		cancelled.countDown();
+
+		SessionRevocationJobResponse finished = await(job.jobId());
+		assertThat(finished.status()).isEqualTo(SessionRevocationStatus.CANCELLED);
+		assertThat(finished.cursor()).isEqualTo("2");
+		verify(revoker, times(1)).revoke(anyCollection());
+	}
+
+	@Test
+	void start_rejectsInvalidRequests() {
+		assertThat(service.start(SessionRevocationRequest.builder().build())).isNull();
+		assertThat(service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.USERS).userIds(List.of()).build())).isNull();
+		assertThat(service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.ROLE).role(" ").build())).isNull();
+		assertThat(service.start(SessionRevocationRequest.builder()
+			.target(SessionRevocationTarget.ALL).cursor("abc").build())).isNull();
+		assertThat(service.find("missing")).isNull();
+		assertThat(service.cancel("missing")).isNull();
+	}
+
+	private SessionRevocationService service(long keysPerSecond) {
+		return new SessionRevocationService(revoker, userInfoClient, 2, keysPerSecond, Clock.systemUTC());
+	}
+
+	private SessionRevocationJobResponse await(String jobId) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		SessionRevocationJobResponse job = service.find(jobId);
+		while (job.finishedAt() == null && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+			job = service.find(jobId);
+		}
+		assertThat(job.finishedAt()).as("job finished").isNotNull();
+		return job;
+	}
+}
@@ -0,0 +1,282 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AccessTokenDenylistTest {
+	private static final long NOW = 1_000_000L;
+
+	private RedisTemplate<String, Object> redisTemplate;
+	private LettuceConnectionFactory connectionFactory;
+	private SimpleMeterRegistry meterRegistry;
+	private AccessTokenDenylist denylist;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		connectionFactory = mock(LettuceConnectionFactory.class);
+		when(connectionFactory.getShareNativeConnection()).thenReturn(true);
+		when(redisTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+		meterRegistry = new SimpleMeterRegistry();
+		denylist = denylist(true);
+	}
+
+	@Test
+	void revoke_storesTokenIdForRemainingLifetimeAndPublishes() {
+		denylist.revoke(accessToken("jti-1", NOW + 60_000L));
+
+		verify(redisTemplate).execute(eq(AccessTokenDenylist.REVOKE_SCRIPT), any(RedisSerializer.class),
+			any(RedisSerializer.class),
+			eq(List.of("RevokedToken:jti-1")), argThat(arg -> "jti-1".equals(string(arg))),
+			argThat(arg -> "60000".equals(string(arg))),
+			argThat(arg -> AccessTokenDenylist.CHANNEL.equals(string(arg))));
+	}
+
+	@Test
+	void revoke_skipsExpiredTokensAndTokensWithoutId() {
+		denylist.revoke(accessToken("jti-1", NOW));
+		denylist.revoke(accessToken(null, NOW + 60_000L));
+
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	void isRevoked_bloomMissAnswersWithoutRedis() {
+		assertThat(denylist.isRevoked(accessToken("jti-1", NOW + 60_000L))).isFalse();
+
+		verifyNoInteractions(redisTemplate);
+		assertThat(meterRegistry.get("jwt.access-token.denylist.checks").tag("result", "bloom-negative")
+			.counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void isRevoked_revokedTokenIsConfirmedInRedis() {
+		ParsedToken accessToken = accessToken("jti-1", NOW + 60_000L);
+		denylist.revoke(accessToken);
+		when(redisTemplate.hasKey("RevokedToken:jti-1")).thenReturn(true);
+
+		assertThat(denylist.isRevoked(accessToken)).isTrue();
+		assertThat(meterRegistry.get("jwt.access-token.denylist.checks").tag("result", "revoked")
+			.counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void isRevoked_bloomHitWithoutKeyCountsAsFalsePositive() {
+		ParsedToken accessToken = accessToken("jti-1", NOW + 60_000L);
+		denylist.onMessage(new DefaultMessage(bytes(AccessTokenDenylist.CHANNEL), bytes("jti-1")), null);
+		denylist.isRevoked(accessToken("jti-2", NOW + 60_000L));
+		when(redisTemplate.hasKey("RevokedToken:jti-1")).thenReturn(false);
+
+		assertThat(denylist.isRevoked(accessToken)).isFalse();
+		assertThat(meterRegistry.get("jwt.access-token.denylist.false-positive-rate").gauge().value())
+			.isEqualTo(0.5);
+	}
+
+	@Test
+	void isRevoked_failsClosedWhenRedisIsUnavailable() {
+		ParsedToken accessToken = accessToken("jti-1", NOW + 60_000L);
+		denylist.onMessage(new DefaultMessage(bytes(AccessTokenDenylist.CHANNEL), bytes("jti-1")), null);
+		when(redisTemplate.hasKey("RevokedToken:jti-1")).thenThrow(new QueryTimeoutException("timeout"));
+
+		assertThat(denylist.isRevoked(accessToken)).isTrue();
+	}
+
+	@Test
+	void rebuild_replacesFilterWithKeysInRedis() {
+		denylist.onMessage(new DefaultMessage(bytes(AccessTokenDenylist.CHANNEL), bytes("expired")), null);
+		RedisConnection connection = connection(RedisConnection.class);
+		RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+		when(connection.keyCommands()).thenReturn(keyCommands);
+		Cursor<byte[]> cursor = cursor("RevokedToken:missed");
+		when(keyCommands.scan(any(ScanOptions.class))).thenReturn(cursor);
+		when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+		denylist.rebuild();
+
+		assertThat(denylist.isRevoked(accessToken("missed", NOW + 60_000L))).isTrue();
+		assertThat(denylist.isRevoked(accessToken("expired", NOW + 60_000L))).isFalse();
+		verify(redisTemplate, never()).hasKey("RevokedToken:expired");
+		verify(cursor).close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void rebuild_keepsCurrentFilterWhenScanFails() {
+		denylist.onMessage(new DefaultMessage(bytes(AccessTokenDenylist.CHANNEL), bytes("jti-1")), null);
+		when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new QueryTimeoutException("timeout"));
+		when(redisTemplate.hasKey("RevokedToken:jti-1")).thenReturn(true);
+
+		denylist.rebuild();
+
+		assertThat(denylist.isRevoked(accessToken("jti-1", NOW + 60_000L))).isTrue();
+	}
+
+	@Test
+	void rebuild_scansEveryMasterNodeInCluster() {
+		RedisClusterConnection connection = connection(RedisClusterConnection.class);
+		RedisClusterNode firstMaster = clusterNode(7000, RedisClusterNode.NodeType.MASTER);
+		RedisClusterNode secondMaster = clusterNode(7001, RedisClusterNode.NodeType.MASTER);
+		RedisClusterNode replica = clusterNode(7002, RedisClusterNode.NodeType.REPLICA);
+		when(connection.clusterGetNodes()).thenReturn(List.of(firstMaster, secondMaster, replica));
+		Cursor<byte[]> firstKeys = cursor("RevokedToken:jti-1");
+		Cursor<byte[]> secondKeys = cursor("RevokedToken:jti-2");
+		when(connection.scan(eq(firstMaster), any(ScanOptions.class))).thenReturn(firstKeys);
+		when(connection.scan(eq(secondMaster), any(ScanOptions.class))).thenReturn(secondKeys);
+		when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+		denylist.rebuild();
+
+		assertThat(denylist.isRevoked(accessToken("jti-1", NOW + 60_000L))).isTrue();
+		assertThat(denylist.isRevoked(accessToken("jti-2", NOW + 60_000L))).isTrue();
+		verify(connection, never()).scan(eq(replica), any(ScanOptions.class));
+		verify(firstKeys).close();
+		verify(secondKeys).close();
+	}
+
+	@Test
+	void revokeAsync_storesTokenIdWithAsyncCommands() {
+		RedisAsyncCommands<byte[], byte[]> commands = asyncCommands();
+		RedisFuture<Long> stored = redisFuture(CompletableFuture.completedFuture(1L));
+		when(commands.<Long>evalsha(eq(AccessTokenDenylist.REVOKE_SCRIPT.getSha1()), eq(ScriptOutputType.INTEGER),
+			any(byte[][].class), any(byte[].class), any(byte[].class), any(byte[].class))).thenReturn(stored);
+
+		denylist.revokeAsync(accessToken("jti-1", NOW + 60_000L)).join();
+
+		ArgumentCaptor<byte[][]> keys = ArgumentCaptor.forClass(byte[][].class);
+		verify(commands).evalsha(anyString(), eq(ScriptOutputType.INTEGER), keys.capture(), eq(bytes("jti-1")),
+			eq(bytes("60000")), eq(bytes(AccessTokenDenylist.CHANNEL)));
+		assertThat(string(keys.getValue()[0])).isEqualTo("RevokedToken:jti-1");
+	}
+
+	@Test
+	void isRevokedAsync_revokedTokenIsConfirmedInRedis() {
+		RedisAsyncCommands<byte[], byte[]> commands = asyncCommands();
+		ParsedToken accessToken = accessToken("jti-1", NOW + 60_000L);
+		denylist.onMessage(new DefaultMessage(bytes(AccessTokenDenylist.CHANNEL), bytes("jti-1")), null);
+		RedisFuture<Long> exists = redisFuture(CompletableFuture.completedFuture(1L));
+		when(commands.exists(any(byte[].class))).thenReturn(exists);
+
+		assertThat(denylist.isRevokedAsync(accessToken).join()).isTrue();
+		assertThat(denylist.isRevokedAsync(accessToken("jti-2", NOW + 60_000L)).join()).isFalse();
+		verify(commands).exists(bytes("RevokedToken:jti-1"));
+		verify(redisTemplate, never()).hasKey(anyString());
+	}
+
+	@Test
+	void isRevokedAsync_redisFailureIsTreatedAsRevoked() {
+		RedisAsyncCommands<byte[], byte[]> commands = asyncCommands();
+		denylist.onMessage(new DefaultMessage(bytes(AccessTokenDenylist.CHANNEL), bytes("jti-1")), null);
+		RedisFuture<Long> timedOut = redisFuture(
+			CompletableFuture.failedFuture(new RedisCommandTimeoutException("Command timed out")));
+		when(commands.exists(any(byte[].class))).thenReturn(timedOut);
+
+		assertThat(denylist.isRevokedAsync(accessToken("jti-1", NOW + 60_000L)).join()).isTrue();
+	}
+
+	@Test
+	void disabledDenylistNeverRevokes() {
+		AccessTokenDenylist disabled = denylist(false);
+		ParsedToken accessToken = accessToken("jti-1", NOW + 60_000L);
+
+		disabled.revoke(accessToken);
+		disabled.rebuild();
+
+		assertThat(disabled.isRevoked(accessToken)).isFalse();
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private RedisAsyncCommands<byte[], byte[]> asyncCommands() {
+		RedisConnection connection = mock(RedisConnection.class);
+		RedisAsyncCommands<byte[], byte[]> commands = mock(RedisAsyncCommands.class);
+		when(connection.getNativeConnection()).thenReturn(commands);
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		return commands;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <C extends RedisConnection> C connection(Class<C> type) {
+		C connection = mock(type);
+		when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(
+			invocation -> invocation.getArgument(0, RedisCallback.class).doInRedis(connection));
+		return connection;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Cursor<byte[]> cursor(String key) {
+		Cursor<byte[]> cursor = mock(Cursor.class);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(bytes(key));
+		return cursor;
+	}
+
+	private static RedisClusterNode clusterNode(int port, RedisClusterNode.NodeType type) {
+		return RedisClusterNode.newRedisClusterNode().listeningAt("10.0.0.1", port).promotedAs(type).build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> RedisFuture<T> redisFuture(CompletableFuture<T> result) {
+		RedisFuture<T> future = mock(RedisFuture.class);
+		when(future.toCompletableFuture()).thenReturn(result);
+		return future;
+	}
+
+	private AccessTokenDenylist denylist(boolean enabled) {
+		AccessTokenDenylist accessTokenDenylist = new AccessTokenDenylist(redisTemplate, enabled, 1_000L, 0.01,
+			meterRegistry, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+		// 생성할 때 연결 팩토리를 확인한 호출은 검증에서 제외합니다.
+		clearInvocations(redisTemplate);
+		return accessTokenDenylist;
+	}
+
+	private ParsedToken accessToken(String tokenId, long expiresAt) {
+		return ParsedToken.builder()
+			.tokenType("access")
+			.userId(1L)
+			.roles(List.of("ROLE_USER"))
+			.expiresAt(expiresAt)
+			.tokenId(tokenId)
+			.build();
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String string(Object value) {
+		return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : null;
+	}
+}
@@ -0,0 +1,210 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InMemoryRefreshTokenStoreTest {
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private SimpleMeterRegistry meterRegistry;
+	private InMemoryRefreshTokenStore refreshTokenStore;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		refreshTokenStore = store(3, 100L);
+	}
+
+	@Test
+	void rotate_replacesOnlyMatchingToken() {
+		refreshTokenStore.save(1L, "phone", "first", 10_000L);
+
+		assertThat(refreshTokenStore.rotate(1L, "phone", "first", 0L, "second", 10_000L))
+			.isEqualTo(RotationResult.ROTATED);
+		assertThat(refreshTokenStore.rotate(1L, "phone", "first", 0L, "third", 10_000L))
+			.isEqualTo(RotationResult.MISMATCH);
+		assertThat(refreshTokenStore.rotate(1L, "laptop", "second", 0L, "third", 10_000L))
+			.isEqualTo(RotationResult.NOT_FOUND);
+		assertThat(refreshTokenStore.rotate(2L, "phone", "second", 0L, "third", 10_000L))
+			.isEqualTo(RotationResult.NOT_FOUND);
+	}
+
+	@Test
+	void rotate_concurrentRequestsWithSameTokenRotateOnce() throws Exception {
+		refreshTokenStore.save(1L, null, "token", 10_000L);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<RotationResult>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			String newToken = "next-" + i;
+			results.add(executor.submit(() -> {
+				start.await();
+				return refreshTokenStore.rotate(1L, null, "token", 0L, newToken, 10_000L);
+			}));
+		}
+		start.countDown();
+
+		long rotated = 0;
+		for (Future<RotationResult> result : results) {
+			if (result.get() == RotationResult.ROTATED) {
+				rotated++;
+			}
+		}
+		executor.shutdown();
+		assertThat(rotated).isEqualTo(1);
+	}
+
+	@Test
+	void save_keepsMostRecentDevicesUpToLimit() {
+		refreshTokenStore.save(1L, "a", "t", 1_000L);
+		refreshTokenStore.save(1L, "b", "t", 2_000L);
+		refreshTokenStore.save(1L, "c", "t", 3_000L);
+		refreshTokenStore.save(1L, "d", "t", 4_000L);
+
+		assertThat(refreshTokenStore.findSessions(1L)).extracting(DeviceSession::deviceId)
+			.containsExactly("d", "c", "b");
+		assertThat(refreshTokenStore.size()).isEqualTo(3);
+	}
+
+	@Test
+	void delete_removesOnlyDeviceSession() {
+		refreshTokenStore.save(1L, "phone", "t", 1_000L);
+		refreshTokenStore.save(1L, "laptop", "t", 1_000L);
+
+		assertThat(refreshTokenStore.delete(1L, "phone")).isTrue();
+		assertThat(refreshTokenStore.delete(1L, "phone")).isFalse();
+		assertThat(refreshTokenStore.findSessions(1L)).extracting(DeviceSession::deviceId).containsExactly("laptop");
+		assertThat(refreshTokenStore.size()).isEqualTo(1);
+	}
+
+	@Test
+	void expiredSessions_areHiddenBeforeWheelRuns() {
+		refreshTokenStore.save(1L, "phone", "token", 1_000L);
+		now.addAndGet(1_000L);
+
+		assertThat(refreshTokenStore.findSessions(1L)).isEmpty();
+		assertThat(refreshTokenStore.rotate(1L, "phone", "token", 0L, "next", 1_000L))
+			.isEqualTo(RotationResult.NOT_FOUND);
+	}
+
+	@Test
+	void expire_removesExpiredSessionsThroughTimingWheel() {
+		refreshTokenStore.save(1L, "phone", "t", 1_500L);
+		refreshTokenStore.save(2L, "phone", "t", 5_000L);
+		// 휠 한 바퀴(512 틱)보다 먼 만료 시각도 같은 슬롯에 남아 있다가 처리되어야 합니다.
+		refreshTokenStore.save(3L, "phone", "t", 600_000L);
+
+		now.addAndGet(2_000L);
+		refreshTokenStore.expire();
+		assertThat(refreshTokenStore.size()).isEqualTo(2);
+
+		now.addAndGet(512_000L);
+		refreshTokenStore.expire();
+		assertThat(refreshTokenStore.size()).isEqualTo(1);
+
+		now.addAndGet(100_000L);
+		refreshTokenStore.expire();
+		assertThat(refreshTokenStore.size()).isZero();
+		assertThat(meterRegistry.get("jwt.refresh-token.memory-store.expirations").counter().count()).isEqualTo(3.0);
+		assertThat(meterRegistry.get("jwt.refresh-token.memory-store.users").gauge().value()).isZero();
+	}
+
+	@Test
+	void maxSessions_evictsSessionsClosestToExpiry() {
+		meterRegistry = new SimpleMeterRegistry();
+		InMemoryRefreshTokenStore boundedStore = store(3, 2L);
+		boundedStore.save(1L, "phone", "t", 1_000L);
+		boundedStore.save(2L, "phone", "t", 50_000L);
+		boundedStore.save(3L, "phone", "t", 90_000L);
+
+		assertThat(boundedStore.size()).isEqualTo(2);
+		assertThat(boundedStore.findSessions(1L)).isEmpty();
+		assertThat(boundedStore.findSessions(3L)).isNotEmpty();
+		assertThat(meterRegistry.get("jwt.refresh-token.memory-store.evictions").counter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("jwt.refresh-token.memory-store.sessions").gauge().value()).isEqualTo(2.0);
+	}
+
+	@Test
+	void rotate_keepsOneWheelEntryPerUser() {
+		refreshTokenStore.save(1L, "phone", "token-0", 86_400_000L);
+		refreshTokenStore.save(1L, "laptop", "token", 86_400_000L);
+		for (int i = 0; i < 1_000; i++) {
+			now.addAndGet(10L);
+			assertThat(refreshTokenStore.rotate(1L, "phone", "token-" + i, 0L, "token-" + (i + 1), 86_400_000L))
+				.isEqualTo(RotationResult.ROTATED);
+		}
+
+		assertThat(refreshTokenStore.scheduledExpiries()).isEqualTo(1);
+		assertThat(refreshTokenStore.size()).isEqualTo(2);
+
+		refreshTokenStore.delete(1L, "phone");
+		refreshTokenStore.delete(1L, "laptop");
+		assertThat(refreshTokenStore.scheduledExpiries()).isZero();
+	}
+
+	@Test
+	void maxSessions_evictsEarliestDeadlineAcrossWheelRounds() {
+		InMemoryRefreshTokenStore boundedStore = store(3, 1L);
+		// 한 바퀴(512 틱) 뒤의 만료 시각은 먼저 확인하는 슬롯에 담기지만, 축출은 실제 만료 시각이 이른 세션을 골라야 합니다.
+		boundedStore.save(1L, "phone", "t", 512_000L);
+		boundedStore.save(2L, "phone", "t", 50_000L);
+
+		assertThat(boundedStore.findSessions(1L)).isNotEmpty();
+		assertThat(boundedStore.findSessions(2L)).isEmpty();
+		assertThat(boundedStore.scheduledExpiries()).isEqualTo(1);
+	}
+
+	@Test
+	void expire_reschedulesRemainingSessions() {
+		refreshTokenStore.save(1L, "phone", "t", 1_000L);
+		refreshTokenStore.save(1L, "laptop", "t", 5_000L);
+
+		now.addAndGet(2_000L);
+		refreshTokenStore.expire();
+		assertThat(refreshTokenStore.size()).isEqualTo(1);
+		assertThat(refreshTokenStore.scheduledExpiries()).isEqualTo(1);
+
+		now.addAndGet(4_000L);
+		refreshTokenStore.expire();
+		assertThat(refreshTokenStore.size()).isZero();
+		assertThat(refreshTokenStore.scheduledExpiries()).isZero();
+	}
+
+	private InMemoryRefreshTokenStore store(int maxDevices, long maxSessions) {
+		Clock clock = new Clock() {
+			@Override
+			public ZoneOffset getZone() {
+				return ZoneOffset.UTC;
+			}
+
+			@Override
+			public Clock withZone(java.time.ZoneId zone) {
+				return this;
+			}
+
+			@Override
+			public Instant instant() {
+				return Instant.ofEpochMilli(now.get());
+			}
+		};
+		return new InMemoryRefreshTokenStore(maxDevices, maxSessions, Duration.ofSeconds(1), meterRegistry, clock,
+			false);
+	}
+}
@@ -0,0 +1,192 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginRateLimiterTest {
+	private static final String IP = "10.0.0.1";
+	private static final String EMAIL = "test@test.com";
+	private static final String IP_KEY = "LoginBucket:ip:" + IP;
+	private static final String ACCOUNT_KEY = "LoginBucket:account:" + EMAIL;
+
+	private final AtomicLong now = new AtomicLong();
+	private RedisTemplate<String, Object> redisTemplate;
+	private LettuceConnectionFactory connectionFactory;
+	private RedisAsyncCommands<byte[], byte[]> commands;
+	private SimpleMeterRegistry meterRegistry;
+	private LoginRateLimiter limiter;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		connectionFactory = mock(LettuceConnectionFactory.class);
+		RedisConnection connection = mock(RedisConnection.class);
+		commands = mock(RedisAsyncCommands.class);
+		when(redisTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+		when(connectionFactory.getShareNativeConnection()).thenReturn(true);
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(connection.getNativeConnection()).thenReturn(commands);
+		meterRegistry = new SimpleMeterRegistry();
+		limiter = limiter(true);
+	}
+
+	@Test
+	void leasedPermitsAreSpentLocally() {
+		lease(IP_KEY, 10L);
+		lease(ACCOUNT_KEY, 2L);
+
+		limiter.acquire(IP, EMAIL);
+		limiter.acquire(IP, EMAIL);
+		limiter.acquire(IP, EMAIL);
+
+		verifyLeases(IP_KEY, 1);
+		verifyLeases(ACCOUNT_KEY, 2);
+	}
+
+	@Test
+	void exhaustedBucketIsRejectedWithTimeUntilNextPermit() {
+		lease(IP_KEY, 10L);
+		lease(ACCOUNT_KEY, -1500L);
+
+		assertThatThrownBy(() -> limiter.acquire(IP, EMAIL))
+			.isInstanceOf(LoginThrottledException.class)
+			.extracting("retryAfter").isEqualTo(Duration.ofMillis(1500));
+		assertThat(meterRegistry.get("jwt.login.throttle.rejected").tag("scope", "account").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	void ipRejectionDoesNotSpendAccountPermits() {
+		lease(IP_KEY, -100L);
+
+		assertThatThrownBy(() -> limiter.acquire(IP, EMAIL)).isInstanceOf(LoginThrottledException.class);
+
+		verifyLeases(ACCOUNT_KEY, 0);
+	}
+
+	@Test
+	void unusedPermitsAreDroppedAfterLeaseTtl() {
+		lease(IP_KEY, 10L);
+		lease(ACCOUNT_KEY, 10L);
+
+		limiter.acquire(IP, EMAIL);
+		now.addAndGet(Duration.ofSeconds(2).toNanos());
+		limiter.acquire(IP, EMAIL);
+
+		verifyLeases(IP_KEY, 2);
+	}
+
+	@Test
+	void emailIsNormalizedForAccountBucket() {
+		lease(IP_KEY, 10L);
+		lease(ACCOUNT_KEY, 2L);
+
+		limiter.acquire(IP, " Test@Test.com");
+
+		verifyLeases(ACCOUNT_KEY, 1);
+	}
+
+	@Test
+	void unavailableRedisAllowsAttempt() {
+		when(connectionFactory.translateExceptionIfPossible(any(RedisConnectionException.class)))
+			.thenReturn(new RedisConnectionFailureException("connection refused"));
+		lease(IP_KEY, CompletableFuture.failedFuture(new RedisConnectionException("connection refused")));
+		lease(ACCOUNT_KEY, CompletableFuture.failedFuture(new RedisConnectionException("connection refused")));
+
+		assertThatCode(() -> limiter.acquire(IP, EMAIL)).doesNotThrowAnyException();
+		assertThat(meterRegistry.get("jwt.login.throttle.errors").counter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	void disabledLimiterDoesNotTouchRedis() {
+		limiter = limiter(false);
+
+		limiter.acquire(IP, EMAIL);
+		limiter.acquireAsync(IP, EMAIL).join();
+
+		verify(connectionFactory, never()).getConnection();
+		verifyNoInteractions(commands);
+	}
+
+	@Test
+	void acquireAsync_sharesOneLeaseBetweenConcurrentAttempts() {
+		CompletableFuture<Long> ipLease = new CompletableFuture<>();
+		lease(IP_KEY, ipLease);
+		lease(ACCOUNT_KEY, 10L);
+
+		CompletableFuture<Void> first = limiter.acquireAsync(IP, EMAIL);
+		CompletableFuture<Void> second = limiter.acquireAsync(IP, EMAIL);
+
+		assertThat(first).isNotDone();
+		assertThat(second).isNotDone();
+		verifyLeases(IP_KEY, 1);
+
+		ipLease.complete(10L);
+
+		assertThat(first).isCompleted();
+		assertThat(second).isCompleted();
+		verifyLeases(IP_KEY, 1);
+		verifyLeases(ACCOUNT_KEY, 1);
+	}
+
+	@Test
+	void acquireAsync_completesWithThrottledException() {
+		lease(IP_KEY, -2500L);
+
+		assertThat(limiter.acquireAsync(IP, EMAIL))
+			.failsWithin(Duration.ZERO)
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(LoginThrottledException.class);
+		verifyLeases(ACCOUNT_KEY, 0);
+	}
+
+	private LoginRateLimiter limiter(boolean enabled) {
+		return new LoginRateLimiter(redisTemplate, enabled, 100, Duration.ofMillis(600), 10, 10,
+			Duration.ofSeconds(6), 2, Duration.ofSeconds(1), 1000, meterRegistry, now::get);
+	}
+
+	private void lease(String key, long result) {
+		lease(key, CompletableFuture.completedFuture(result));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void lease(String key, CompletableFuture<Long> result) {
+		RedisFuture<Long> future = mock(RedisFuture.class);
+		when(future.toCompletableFuture()).thenReturn(result);
+		when(commands.<Long>evalsha(eq(LoginRateLimiter.LEASE_SCRIPT.getSha1()), eq(ScriptOutputType.INTEGER),
+			keys(key),
+			any(byte[].class), any(byte[].class), any(byte[].class))).thenReturn(future);
+	}
+
+	private void verifyLeases(String key, int times) {
+		verify(commands, times(times)).evalsha(eq(LoginRateLimiter.LEASE_SCRIPT.getSha1()),
+			eq(ScriptOutputType.INTEGER),
+			keys(key),
+			any(byte[].class), any(byte[].class), any(byte[].class));
+	}
+
+	private static byte[][] keys(String key) {
+		return argThat((byte[][] keys) -> keys.length == 1 && key.equals(new String(keys[0], StandardCharsets.UTF_8)));
+	}
+}
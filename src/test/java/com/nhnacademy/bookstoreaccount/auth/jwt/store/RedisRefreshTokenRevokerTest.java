@@ -0,0 +1,86 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class RedisRefreshTokenRevokerTest {
+	private RedisTemplate<String, Object> redisTemplate;
+	private RedisConnection connection;
+	private RedisRefreshTokenRevoker revoker;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		connection = mock(RedisConnection.class);
+		when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(
+			invocation -> ((RedisCallback<?>)invocation.getArgument(0)).doInRedis(connection));
+		revoker = new RedisRefreshTokenRevoker(redisTemplate);
+	}
+
+	@Test
+	void scan_returnsUserIdsAndNextCursor() {
+		when(connection.execute(eq("SCAN"), any(byte[][].class))).thenReturn(List.of(bytes("42"),
+			List.of(bytes("RefreshToken:1"), bytes("RefreshToken:other"), bytes("RefreshToken:30"))));
+
+		RedisRefreshTokenRevoker.ScanPage page = revoker.scan("7", 100);
+
+		assertThat(page.cursor()).isEqualTo("42");
+		assertThat(page.userIds()).containsExactly(1L, 30L);
+		ArgumentCaptor<byte[][]> args = ArgumentCaptor.forClass(byte[][].class);
+		verify(connection).execute(eq("SCAN"), args.capture());
+		assertThat(Arrays.stream(args.getValue()).map(RedisRefreshTokenRevokerTest::string))
+			.containsExactly("7", "MATCH", "RefreshToken:*", "COUNT", "100");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void scan_isRejectedInClusterMode() {
+		RedisClusterConnection clusterConnection = mock(RedisClusterConnection.class);
+		when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(
+			invocation -> ((RedisCallback<?>)invocation.getArgument(0)).doInRedis(clusterConnection));
+
+		assertThatThrownBy(() -> revoker.scan("0", 100)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void revoke_unlinksAllKeysInOneCommand() {
+		RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+		when(connection.keyCommands()).thenReturn(keyCommands);
+		when(keyCommands.unlink(any(byte[][].class))).thenReturn(2L);
+
+		assertThat(revoker.revoke(List.of(1L, 2L, 3L))).isEqualTo(2L);
+		ArgumentCaptor<byte[][]> keys = ArgumentCaptor.forClass(byte[][].class);
+		verify(keyCommands).unlink(keys.capture());
+		assertThat(Arrays.stream(keys.getValue()).map(RedisRefreshTokenRevokerTest::string))
+			.containsExactly("RefreshToken:1", "RefreshToken:2", "RefreshToken:3");
+	}
+
+	@Test
+	void revoke_emptyBatchSkipsRedis() {
+		assertThat(revoker.revoke(List.of())).isZero();
+		verifyNoInteractions(redisTemplate);
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String string(byte[] value) {
+		return new String(value, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,470 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.DeviceSession;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+
+class RedisRefreshTokenStoreTest {
+	private static final long NOW = 1_700_000_000_000L;
+
+	private final GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer();
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private LettuceConnectionFactory connectionFactory;
+
+	private RedisRefreshTokenStore refreshTokenStore;
+
+	@BeforeEach
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when((RedisSerializer)redisTemplate.getHashValueSerializer()).thenReturn(valueSerializer);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(redisTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+		when(connectionFactory.getShareNativeConnection()).thenReturn(true);
+		refreshTokenStore = new RedisRefreshTokenStore(redisTemplate);
+	}
+
+	@Test
+	void save_runsSingleScriptWithSerializedArguments() {
+		refreshTokenStore.save(1L, null, "refreshToken", 86_400_000L);
+
+		Object[] args = captureArguments(RedisRefreshTokenStore.SAVE_SCRIPT, "RefreshToken:1");
+		assertThat(args).hasSize(2);
+		assertThat((byte[])args[0]).isEqualTo(valueSerializer.serialize("refreshToken"));
+		assertThat(new String((byte[])args[1], StandardCharsets.US_ASCII)).isEqualTo("86400000");
+		verify(redisTemplate, never()).delete(anyString());
+		verify(redisTemplate, never()).opsForHash();
+	}
+
+	@Test
+	void rotate_mapsScriptResult() {
+		stubRotateResult(2L);
+		assertThat(refreshTokenStore.rotate(1L, null, "old", 0L, "new", 1_000L)).isEqualTo(RotationResult.ROTATED);
+
+		stubRotateResult(1L);
+		assertThat(refreshTokenStore.rotate(1L, null, "old", 0L, "new", 1_000L)).isEqualTo(RotationResult.MISMATCH);
+
+		stubRotateResult(0L);
+		assertThat(refreshTokenStore.rotate(1L, null, "old", 0L, "new", 1_000L)).isEqualTo(RotationResult.NOT_FOUND);
+	}
+
+	@Test
+	void rotate_comparesAgainstSerializedStoredValue() {
+		stubRotateResult(2L);
+
+		refreshTokenStore.rotate(7L, null, "presented", 0L, "next", 5_000L);
+
+		Object[] args = captureArguments(RedisRefreshTokenStore.ROTATE_SCRIPT, "RefreshToken:7");
+		assertThat((byte[])args[0]).isEqualTo(valueSerializer.serialize("presented"));
+		assertThat((byte[])args[1]).isEqualTo(valueSerializer.serialize("next"));
+		assertThat(new String((byte[])args[2], StandardCharsets.US_ASCII)).isEqualTo("5000");
+	}
+
+	@Test
+	void delete_reportsWhetherTokenExisted() {
+		when(hashOperations.delete("RefreshToken:1", "token")).thenReturn(1L);
+		when(hashOperations.delete("RefreshToken:2", "token")).thenReturn(0L);
+
+		assertThat(refreshTokenStore.delete(1L, null)).isTrue();
+		assertThat(refreshTokenStore.delete(2L, null)).isFalse();
+	}
+
+	@Test
+	void digestFormat_savesFixedSizeDigest() {
+		RedisRefreshTokenStore digestStore = new RedisRefreshTokenStore(redisTemplate, "digest");
+
+		digestStore.save(1L, null, "refreshToken", 86_400_000L);
+
+		Object[] args = captureArguments(RedisRefreshTokenStore.DIGEST_SAVE_SCRIPT, "RefreshToken:1");
+		assertThat((byte[])args[0]).hasSize(32).isEqualTo(RedisRefreshTokenStore.digest("refreshToken"));
+		assertThat(new String((byte[])args[1], StandardCharsets.US_ASCII)).isEqualTo("86400000");
+	}
+
+	@Test
+	void digestFormat_rotatesByDigest() {
+		RedisRefreshTokenStore digestStore = new RedisRefreshTokenStore(redisTemplate, "DIGEST");
+		stubRotateResult(RedisRefreshTokenStore.DIGEST_ROTATE_SCRIPT, 2L);
+
+		assertThat(digestStore.rotate(7L, null, "presented", 0L, "next", 5_000L)).isEqualTo(RotationResult.ROTATED);
+
+		Object[] args = captureArguments(RedisRefreshTokenStore.DIGEST_ROTATE_SCRIPT, "RefreshToken:7");
+		assertThat((byte[])args[0]).isEqualTo(RedisRefreshTokenStore.digest("presented"));
+		assertThat((byte[])args[1]).isEqualTo(RedisRefreshTokenStore.digest("next"));
+		assertThat(new String((byte[])args[2], StandardCharsets.US_ASCII)).isEqualTo("5000");
+	}
+
+	@Test
+	void migrateFormat_passesBothFormatsOfPresentedToken() {
+		RedisRefreshTokenStore migrateStore = new RedisRefreshTokenStore(redisTemplate, "migrate");
+		stubRotateResult(RedisRefreshTokenStore.MIGRATE_ROTATE_SCRIPT, 1L);
+
+		assertThat(migrateStore.rotate(7L, null, "presented", 0L, "next", 5_000L)).isEqualTo(RotationResult.MISMATCH);
+
+		Object[] args = captureArguments(RedisRefreshTokenStore.MIGRATE_ROTATE_SCRIPT, "RefreshToken:7");
+		assertThat((byte[])args[0]).isEqualTo(valueSerializer.serialize("presented"));
+		assertThat((byte[])args[1]).isEqualTo(RedisRefreshTokenStore.digest("presented"));
+		assertThat((byte[])args[2]).isEqualTo(RedisRefreshTokenStore.digest("next"));
+		assertThat(new String((byte[])args[3], StandardCharsets.US_ASCII)).isEqualTo("5000");
+	}
+
+	@Test
+	void migrateFormat_savesDigestAndDeletesWholeKey() {
+		RedisRefreshTokenStore migrateStore = new RedisRefreshTokenStore(redisTemplate, "migrate");
+		when(redisTemplate.delete("RefreshToken:1")).thenReturn(true);
+		when(redisTemplate.delete("RefreshToken:2")).thenReturn(false);
+
+		migrateStore.save(1L, null, "refreshToken", 1_000L);
+		captureArguments(RedisRefreshTokenStore.DIGEST_SAVE_SCRIPT, "RefreshToken:1");
+
+		assertThat(migrateStore.delete(1L, null)).isTrue();
+		assertThat(migrateStore.delete(2L, null)).isFalse();
+		verify(hashOperations, never()).delete(any(), any());
+	}
+
+	@Test
+	void deviceFormat_savesPerDeviceEntryWithExpiry() {
+		RedisRefreshTokenStore deviceStore = deviceStore();
+
+		deviceStore.save(1L, "phone", "refreshToken", 1_000L);
+
+		Object[] args = captureArguments(RedisRefreshTokenStore.DEVICE_SAVE_SCRIPT, "RefreshToken:1");
+		assertThat(ascii(args[0])).isEqualTo("device:phone");
+		assertThat((byte[])args[1]).isEqualTo(RedisRefreshTokenStore.deviceEntry(NOW + 1_000L, "refreshToken"));
+		assertThat(ascii(args[2])).isEqualTo("1000");
+		assertThat(ascii(args[3])).isEqualTo(Long.toString(NOW));
+		assertThat(ascii(args[4])).isEqualTo("3");
+	}
+
+	@Test
+	void deviceFormat_invalidDeviceIdFallsBackToDefault() {
+		RedisRefreshTokenStore deviceStore = deviceStore();
+
+		deviceStore.save(1L, "phone:1", "refreshToken", 1_000L);
+
+		Object[] args = captureArguments(RedisRefreshTokenStore.DEVICE_SAVE_SCRIPT, "RefreshToken:1");
+		assertThat(ascii(args[0])).isEqualTo("device:default");
+	}
+
+	@Test
+	void deviceFormat_rotatesDeviceEntry() {
+		RedisRefreshTokenStore deviceStore = deviceStore();
+		stubRotateResult(RedisRefreshTokenStore.DEVICE_ROTATE_SCRIPT, 2L);
+
+		assertThat(deviceStore.rotate(7L, "laptop", "presented", 0L, "next", 5_000L)).isEqualTo(RotationResult.ROTATED);
+
+		Object[] args = captureArguments(RedisRefreshTokenStore.DEVICE_ROTATE_SCRIPT, "RefreshToken:7");
+		assertThat(ascii(args[0])).isEqualTo("device:laptop");
+		assertThat((byte[])args[1]).isEqualTo(RedisRefreshTokenStore.digest("presented"));
+		assertThat((byte[])args[2]).isEqualTo(valueSerializer.serialize("presented"));
+		assertThat((byte[])args[3]).isEqualTo(RedisRefreshTokenStore.deviceEntry(NOW + 5_000L, "next"));
+		assertThat(ascii(args[4])).isEqualTo("5000");
+		assertThat(ascii(args[5])).isEqualTo(Long.toString(NOW));
+		assertThat(ascii(args[6])).isEqualTo("3");
+	}
+
+	@Test
+	void deviceFormat_deletesOnlyDeviceEntry() {
+		RedisRefreshTokenStore deviceStore = deviceStore();
+		when(redisTemplate.execute(eq(RedisRefreshTokenStore.DEVICE_DELETE_SCRIPT), any(RedisSerializer.class),
+			any(RedisSerializer.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+		assertThat(deviceStore.delete(1L, "phone")).isTrue();
+
+		Object[] args = captureArguments(RedisRefreshTokenStore.DEVICE_DELETE_SCRIPT, "RefreshToken:1");
+		assertThat(ascii(args[0])).isEqualTo("device:phone");
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
+	@Test
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	void deviceFormat_listsSessionsMostRecentFirst() {
+		RedisRefreshTokenStore deviceStore = deviceStore();
+		when(redisTemplate.execute(eq(RedisRefreshTokenStore.DEVICE_SESSIONS_SCRIPT), any(RedisSerializer.class),
+			any(RedisSerializer.class), anyList(), any(Object[].class)))
+			.thenReturn((List)List.of("laptop", "2000", "phone", "3000"));
+
+		assertThat(deviceStore.findSessions(1L)).containsExactly(
+			new DeviceSession("phone", 3000L), new DeviceSession("laptop", 2000L));
+	}
+
+	@Test
+	void singleSessionFormat_listsDefaultSessionFromTtl() {
+		when(redisTemplate.getExpire("RefreshToken:1", TimeUnit.MILLISECONDS)).thenReturn(500L);
+		when(redisTemplate.getExpire("RefreshToken:2", TimeUnit.MILLISECONDS)).thenReturn(-2L);
+		RedisRefreshTokenStore digestStore = new RedisRefreshTokenStore(redisTemplate, RefreshTokenFormat.DIGEST, 3,
+			Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC), null);
+
+		assertThat(digestStore.findSessions(1L)).containsExactly(new DeviceSession("default", NOW + 500L));
+		assertThat(digestStore.findSessions(2L)).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void nearCache_rejectsMismatchedDeviceTokenWithoutRedis() {
+		RefreshTokenNearCache nearCache = mock(RefreshTokenNearCache.class);
+		when(nearCache.get("RefreshToken:1", 10L)).thenReturn(hashSnapshot(Map.of(
+			"device:phone", RedisRefreshTokenStore.deviceEntry(NOW + 1_000L, "current"))));
+		RedisRefreshTokenStore deviceStore = deviceStore(nearCache);
+
+		assertThat(deviceStore.rotate(1L, "phone", "reused", 10L, "next", 1_000L)).isEqualTo(RotationResult.MISMATCH);
+		assertThat(deviceStore.rotate(1L, "laptop", "reused", 10L, "next", 1_000L))
+			.isEqualTo(RotationResult.NOT_FOUND);
+		verify(redisTemplate, never()).execute(any(RedisScript.class), any(RedisSerializer.class),
+			any(RedisSerializer.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	void nearCache_leavesMatchingTokenToRedis() {
+		RefreshTokenNearCache nearCache = mock(RefreshTokenNearCache.class);
+		when(nearCache.get("RefreshToken:1", 10L)).thenReturn(hashSnapshot(Map.of(
+			"device:phone", RedisRefreshTokenStore.deviceEntry(NOW + 1_000L, "current"))));
+		RedisRefreshTokenStore deviceStore = deviceStore(nearCache);
+		stubRotateResult(RedisRefreshTokenStore.DEVICE_ROTATE_SCRIPT, 2L);
+
+		assertThat(deviceStore.rotate(1L, "phone", "current", 10L, "next", 1_000L)).isEqualTo(RotationResult.ROTATED);
+		verify(nearCache, never()).refresh(anyString());
+	}
+
+	@Test
+	void nearCache_loadsKeyAfterRemoteRejection() {
+		RefreshTokenNearCache nearCache = mock(RefreshTokenNearCache.class);
+		RedisRefreshTokenStore deviceStore = deviceStore(nearCache);
+		stubRotateResult(RedisRefreshTokenStore.DEVICE_ROTATE_SCRIPT, 1L);
+
+		assertThat(deviceStore.rotate(1L, "phone", "reused", 10L, "next", 1_000L)).isEqualTo(RotationResult.MISMATCH);
+		verify(nearCache).refresh("RefreshToken:1");
+	}
+
+	@Test
+	void nearCache_listsSessionsFromSnapshot() {
+		RefreshTokenNearCache nearCache = mock(RefreshTokenNearCache.class);
+		when(nearCache.getOrLoad("RefreshToken:1")).thenReturn(hashSnapshot(Map.of(
+			"device:laptop", RedisRefreshTokenStore.deviceEntry(NOW + 2_000L, "a"),
+			"device:phone", RedisRefreshTokenStore.deviceEntry(NOW + 3_000L, "b"),
+			"device:tablet", RedisRefreshTokenStore.deviceEntry(NOW - 1L, "c"))));
+
+		assertThat(deviceStore(nearCache).findSessions(1L)).containsExactly(
+			new DeviceSession("phone", NOW + 3_000L), new DeviceSession("laptop", NOW + 2_000L));
+		verify(redisTemplate, never()).execute(eq(RedisRefreshTokenStore.DEVICE_SESSIONS_SCRIPT),
+			any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void replicaReads_listSessionsWithReadOnlyCommands() {
+		RedisConnection connection = mock(RedisConnection.class);
+		RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+		RedisHashCommands hashCommands = mock(RedisHashCommands.class);
+		when(connection.keyCommands()).thenReturn(keyCommands);
+		when(connection.hashCommands()).thenReturn(hashCommands);
+		byte[] rawKey = "RefreshToken:1".getBytes(StandardCharsets.UTF_8);
+		when(keyCommands.type(rawKey)).thenReturn(DataType.HASH);
+		when(hashCommands.hGetAll(rawKey)).thenReturn(Map.of(
+			"device:laptop".getBytes(StandardCharsets.UTF_8), RedisRefreshTokenStore.deviceEntry(NOW + 2_000L, "a"),
+			"device:phone".getBytes(StandardCharsets.UTF_8), RedisRefreshTokenStore.deviceEntry(NOW + 3_000L, "b")));
+		when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(
+			invocation -> invocation.getArgument(0, RedisCallback.class).doInRedis(connection));
+		RedisRefreshTokenStore replicaStore = new RedisRefreshTokenStore(redisTemplate, RefreshTokenFormat.DEVICE, 3,
+			Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC), null, true);
+
+		assertThat(replicaStore.findSessions(1L)).containsExactly(
+			new DeviceSession("phone", NOW + 3_000L), new DeviceSession("laptop", NOW + 2_000L));
+		verify(redisTemplate, never()).execute(eq(RedisRefreshTokenStore.DEVICE_SESSIONS_SCRIPT),
+			any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	void rotateAsync_runsScriptWithLettuceAsyncCommands() {
+		RedisAsyncCommands<byte[], byte[]> commands = asyncCommands();
+		RedisFuture<Long> rotated = redisFuture(CompletableFuture.completedFuture(2L));
+		when(commands.<Long>evalsha(eq(RedisRefreshTokenStore.ROTATE_SCRIPT.getSha1()), eq(ScriptOutputType.INTEGER),
+			any(byte[][].class), any(byte[].class), any(byte[].class), any(byte[].class))).thenReturn(rotated);
+
+		assertThat(refreshTokenStore.rotateAsync(1L, null, "old", 0L, "new", 1_000L).join())
+			.isEqualTo(RotationResult.ROTATED);
+
+		ArgumentCaptor<byte[][]> keys = ArgumentCaptor.forClass(byte[][].class);
+		verify(commands).evalsha(anyString(), eq(ScriptOutputType.INTEGER), keys.capture(),
+			eq(valueSerializer.serialize("old")), eq(valueSerializer.serialize("new")), eq("1000".getBytes(StandardCharsets.US_ASCII)));
+		assertThat(ascii(keys.getValue()[0])).isEqualTo("RefreshToken:1");
+		verify(redisTemplate, never()).execute(any(RedisScript.class), any(RedisSerializer.class),
+			any(RedisSerializer.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	void rotateAsync_sendsScriptBodyWhenServerDoesNotHaveIt() {
+		RedisAsyncCommands<byte[], byte[]> commands = asyncCommands();
+		RedisFuture<Long> noScript = redisFuture(CompletableFuture.failedFuture(new RedisNoScriptException("NOSCRIPT")));
+		RedisFuture<Long> mismatch = redisFuture(CompletableFuture.completedFuture(1L));
+		when(commands.<Long>evalsha(anyString(), eq(ScriptOutputType.INTEGER), any(byte[][].class),
+			any(byte[].class), any(byte[].class), any(byte[].class))).thenReturn(noScript);
+		when(commands.<Long>eval(eq(RedisRefreshTokenStore.ROTATE_SCRIPT.getScriptAsString()),
+			eq(ScriptOutputType.INTEGER), any(byte[][].class), any(byte[].class), any(byte[].class), any(byte[].class)))
+			.thenReturn(mismatch);
+
+		assertThat(refreshTokenStore.rotateAsync(1L, null, "old", 0L, "new", 1_000L).join())
+			.isEqualTo(RotationResult.MISMATCH);
+	}
+
+	@Test
+	void saveAsync_completesWithTranslatedFailure() {
+		RedisAsyncCommands<byte[], byte[]> commands = asyncCommands();
+		when(connectionFactory.translateExceptionIfPossible(any(RedisCommandTimeoutException.class)))
+			.thenReturn(new QueryTimeoutException("Command timed out"));
+		RedisFuture<Long> timedOut = redisFuture(
+			CompletableFuture.failedFuture(new RedisCommandTimeoutException("Command timed out")));
+		when(commands.<Long>evalsha(anyString(), eq(ScriptOutputType.INTEGER), any(byte[][].class),
+			any(byte[].class), any(byte[].class))).thenReturn(timedOut);
+
+		assertThatThrownBy(() -> refreshTokenStore.saveAsync(1L, null, "refreshToken", 1_000L).join())
+			.hasCauseInstanceOf(QueryTimeoutException.class);
+	}
+
+	@Test
+	void deleteAsync_removesLegacyTokenField() {
+		RedisAsyncCommands<byte[], byte[]> commands = asyncCommands();
+		RedisFuture<Long> deleted = redisFuture(CompletableFuture.completedFuture(1L));
+		when(commands.hdel(any(byte[].class), any(byte[].class))).thenReturn(deleted);
+
+		assertThat(refreshTokenStore.deleteAsync(1L, null).join()).isTrue();
+
+		verify(commands).hdel("RefreshToken:1".getBytes(StandardCharsets.UTF_8),
+			"token".getBytes(StandardCharsets.UTF_8));
+		verify(redisTemplate, never()).opsForHash();
+	}
+
+	@Test
+	void deleteAsync_removesOnlyRequestingDevice() {
+		RedisAsyncCommands<byte[], byte[]> commands = asyncCommands();
+		RedisFuture<Long> missing = redisFuture(CompletableFuture.completedFuture(0L));
+		when(commands.<Long>evalsha(eq(RedisRefreshTokenStore.DEVICE_DELETE_SCRIPT.getSha1()),
+			eq(ScriptOutputType.INTEGER), any(byte[][].class), any(byte[].class))).thenReturn(missing);
+
+		assertThat(deviceStore().deleteAsync(1L, "phone").join()).isFalse();
+
+		verify(commands).evalsha(anyString(), eq(ScriptOutputType.INTEGER), any(byte[][].class),
+			eq("device:phone".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	void rotateAsync_rejectsFromNearCacheWithoutRedis() {
+		RefreshTokenNearCache nearCache = mock(RefreshTokenNearCache.class);
+		when(nearCache.get("RefreshToken:1", 10L)).thenReturn(hashSnapshot(Map.of(
+			"device:phone", RedisRefreshTokenStore.deviceEntry(NOW + 1_000L, "current"))));
+
+		assertThat(deviceStore(nearCache).rotateAsync(1L, "phone", "reused", 10L, "next", 1_000L).join())
+			.isEqualTo(RotationResult.MISMATCH);
+		verify(connectionFactory, never()).getConnection();
+	}
+
+	@Test
+	void constructor_rejectsConnectionFactoryWithoutSharedConnection() {
+		when(connectionFactory.getShareNativeConnection()).thenReturn(false);
+
+		assertThatThrownBy(() -> new RedisRefreshTokenStore(redisTemplate))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void isReplicaRead_treatsPrimaryReadsAsDefault() {
+		assertThat(RedisRefreshTokenStore.isReplicaRead(null)).isFalse();
+		assertThat(RedisRefreshTokenStore.isReplicaRead("upstream")).isFalse();
+		assertThat(RedisRefreshTokenStore.isReplicaRead("MASTER")).isFalse();
+		assertThat(RedisRefreshTokenStore.isReplicaRead("replicaPreferred")).isTrue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private RedisAsyncCommands<byte[], byte[]> asyncCommands() {
+		RedisConnection connection = mock(RedisConnection.class);
+		RedisAsyncCommands<byte[], byte[]> commands = mock(RedisAsyncCommands.class);
+		when(connection.getNativeConnection()).thenReturn(commands);
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		return commands;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> RedisFuture<T> redisFuture(CompletableFuture<T> result) {
+		RedisFuture<T> future = mock(RedisFuture.class);
+		when(future.toCompletableFuture()).thenReturn(result);
+		return future;
+	}
+
+	private static RefreshTokenNearCache.Snapshot hashSnapshot(Map<String, byte[]> fields) {
+		return new RefreshTokenNearCache.Snapshot("hash", null, fields, NOW);
+	}
+
+	private RedisRefreshTokenStore deviceStore() {
+		return deviceStore(null);
+	}
+
+	private RedisRefreshTokenStore deviceStore(RefreshTokenNearCache nearCache) {
+		return new RedisRefreshTokenStore(redisTemplate, RefreshTokenFormat.DEVICE, 3,
+			Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC), nearCache);
+	}
+
+	private static String ascii(Object bytes) {
+		return new String((byte[])bytes, StandardCharsets.US_ASCII);
+	}
+
+	private void stubRotateResult(Long result) {
+		stubRotateResult(RedisRefreshTokenStore.ROTATE_SCRIPT, result);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubRotateResult(RedisScript<Long> script, Long result) {
+		when(redisTemplate.execute(eq(script), any(RedisSerializer.class),
+			any(RedisSerializer.class), anyList(), any(Object[].class))).thenReturn(result);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object[] captureArguments(RedisScript<Long> script, String expectedKey) {
+		ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		verify(redisTemplate).execute(eq(script), any(RedisSerializer.class), any(RedisSerializer.class),
+			keys.capture(), args.capture());
+		assertThat(keys.getValue()).containsExactly(expectedKey);
+		return args.getValue();
+	}
+}
@@ -0,0 +1,211 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SuppressWarnings("unchecked")
+class RefreshTokenNearCacheTest {
+	private static final long NOW = 1_700_000_000_000L;
+
+	private StatefulRedisConnection<String, byte[]> connection;
+	private RedisCommands<String, byte[]> syncCommands;
+	private RedisAsyncCommands<String, byte[]> asyncCommands;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		connection = mock(StatefulRedisConnection.class);
+		syncCommands = mock(RedisCommands.class);
+		asyncCommands = mock(RedisAsyncCommands.class);
+		meterRegistry = new SimpleMeterRegistry();
+		when(connection.sync()).thenReturn(syncCommands);
+		when(connection.async()).thenReturn(asyncCommands);
+		when(syncCommands.clientTracking(any(TrackingArgs.class))).thenReturn("OK");
+	}
+
+	@Test
+	void getOrLoad_readsKeyOnceThroughTrackingConnection() {
+		stubHash("RefreshToken:1", Map.of("device:phone", bytes("1:digest")));
+		RefreshTokenNearCache nearCache = nearCache();
+
+		RefreshTokenNearCache.Snapshot first = nearCache.getOrLoad("RefreshToken:1");
+		RefreshTokenNearCache.Snapshot second = nearCache.getOrLoad("RefreshToken:1");
+
+		assertThat(first.type()).isEqualTo("hash");
+		assertThat(first.fields()).containsKey("device:phone");
+		assertThat(first.loadedAt()).isEqualTo(NOW);
+		assertThat(second).isSameAs(first);
+		verify(asyncCommands, times(1)).type("RefreshToken:1");
+	}
+
+	@Test
+	void getOrLoad_readsStringValue() {
+		RedisFuture<String> type = future("string");
+		RedisFuture<Map<String, byte[]>> fields = failedFuture();
+		RedisFuture<byte[]> value = future(bytes("digest"));
+		when(asyncCommands.type("RefreshToken:1")).thenReturn(type);
+		when(asyncCommands.hgetall("RefreshToken:1")).thenReturn(fields);
+		when(asyncCommands.get("RefreshToken:1")).thenReturn(value);
+
+		RefreshTokenNearCache.Snapshot snapshot = nearCache().getOrLoad("RefreshToken:1");
+
+		assertThat(snapshot.type()).isEqualTo("string");
+		assertThat(snapshot.value()).isEqualTo(bytes("digest"));
+	}
+
+	@Test
+	void get_trustsOnlyTokensIssuedBeforeLoad() {
+		stubHash("RefreshToken:1", Map.of("token", bytes("\"t\"")));
+		RefreshTokenNearCache nearCache = nearCache();
+		nearCache.refresh("RefreshToken:1");
+
+		// 1초(iat 정밀도) + 2초(시계 오차)보다 먼저 발급된 토큰만 캐시로 판단합니다.
+		assertThat(nearCache.get("RefreshToken:1", NOW - 3_001L)).isNotNull();
+		assertThat(nearCache.get("RefreshToken:1", NOW - 3_000L)).isNull();
+		assertThat(nearCache.get("RefreshToken:1", Long.MAX_VALUE)).isNull();
+		assertThat(nearCache.get("RefreshToken:2", 0L)).isNull();
+	}
+
+	@Test
+	void invalidateMessage_removesEntry() {
+		stubHash("RefreshToken:1", Map.of("token", bytes("\"t\"")));
+		RefreshTokenNearCache nearCache = nearCache();
+		nearCache.refresh("RefreshToken:1");
+
+		pushListener().onPushMessage(invalidate(List.of("RefreshToken:1")));
+
+		assertThat(nearCache.get("RefreshToken:1", 0L)).isNull();
+		assertThat(nearCache.estimatedSize()).isZero();
+		assertThat(meterRegistry.get("jwt.refresh-token.near-cache.invalidations").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void invalidateMessage_duringLoadPreventsCaching() {
+		CompletableFuture<String> type = new CompletableFuture<>();
+		RedisFuture<String> typeFuture = mock(RedisFuture.class);
+		when(typeFuture.toCompletableFuture()).thenReturn(type);
+		RedisFuture<Map<String, byte[]>> fields = future(Map.of("token", bytes("\"t\"")));
+		when(asyncCommands.type("RefreshToken:1")).thenReturn(typeFuture);
+		when(asyncCommands.hgetall("RefreshToken:1")).thenReturn(fields);
+		RefreshTokenNearCache nearCache = nearCache();
+
+		nearCache.refresh("RefreshToken:1");
+		pushListener().onPushMessage(invalidate(List.of("RefreshToken:1")));
+		type.complete("hash");
+
+		assertThat(nearCache.get("RefreshToken:1", 0L)).isNull();
+	}
+
+	@Test
+	void flushMessage_clearsAllEntries() {
+		stubHash("RefreshToken:1", Map.of("token", bytes("\"t\"")));
+		RefreshTokenNearCache nearCache = nearCache();
+		nearCache.refresh("RefreshToken:1");
+
+		pushListener().onPushMessage(invalidate(null));
+
+		assertThat(nearCache.estimatedSize()).isZero();
+	}
+
+	@Test
+	void disconnect_disablesCacheUntilTrackingIsRestored() {
+		stubHash("RefreshToken:1", Map.of("token", bytes("\"t\"")));
+		RedisFuture<String> tracking = future("OK");
+		when(asyncCommands.clientTracking(any(TrackingArgs.class))).thenReturn(tracking);
+		RefreshTokenNearCache nearCache = nearCache();
+		nearCache.refresh("RefreshToken:1");
+		RedisConnectionStateListener stateListener = stateListener();
+
+		stateListener.onRedisDisconnected(null);
+		assertThat(nearCache.estimatedSize()).isZero();
+		assertThat(nearCache.getOrLoad("RefreshToken:1")).isNull();
+
+		stateListener.onRedisConnected(null, null);
+		assertThat(nearCache.getOrLoad("RefreshToken:1")).isNotNull();
+	}
+
+	@Test
+	void trackingUnavailable_disablesCache() {
+		when(syncCommands.clientTracking(any(TrackingArgs.class))).thenThrow(new IllegalStateException("RESP2"));
+
+		RefreshTokenNearCache nearCache = nearCache();
+
+		assertThat(nearCache.getOrLoad("RefreshToken:1")).isNull();
+		verifyNoInteractions(asyncCommands);
+	}
+
+	private RefreshTokenNearCache nearCache() {
+		return new RefreshTokenNearCache(connection, 100, Duration.ofMinutes(1), Duration.ofSeconds(2),
+			meterRegistry, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+	}
+
+	private void stubHash(String key, Map<String, byte[]> fields) {
+		RedisFuture<String> type = future("hash");
+		RedisFuture<Map<String, byte[]>> hash = future(fields);
+		when(asyncCommands.type(key)).thenReturn(type);
+		when(asyncCommands.hgetall(key)).thenReturn(hash);
+	}
+
+	private PushListener pushListener() {
+		ArgumentCaptor<PushListener> captor = ArgumentCaptor.forClass(PushListener.class);
+		verify(connection).addListener(captor.capture());
+		return captor.getValue();
+	}
+
+	private RedisConnectionStateListener stateListener() {
+		ArgumentCaptor<RedisConnectionStateListener> captor = ArgumentCaptor.forClass(
+			RedisConnectionStateListener.class);
+		verify(connection).addListener(captor.capture());
+		return captor.getValue();
+	}
+
+	private static PushMessage invalidate(List<String> keys) {
+		PushMessage message = mock(PushMessage.class);
+		when(message.getType()).thenReturn("invalidate");
+		when(message.getContent(any(Function.class))).thenReturn(
+			Arrays.asList("invalidate", keys == null ? null : List.copyOf(keys)));
+		return message;
+	}
+
+	private static <T> RedisFuture<T> future(T value) {
+		RedisFuture<T> future = mock(RedisFuture.class);
+		when(future.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(value));
+		return future;
+	}
+
+	private static <T> RedisFuture<T> failedFuture() {
+		RedisFuture<T> future = mock(RedisFuture.class);
+		when(future.toCompletableFuture()).thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+		return future;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+}
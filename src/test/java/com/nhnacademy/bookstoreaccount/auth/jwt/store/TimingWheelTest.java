@@ -0,0 +1,108 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.store;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+	private static final long TICK = 1_000L;
+	private static final long START = 1_000_000L;
+
+	private final TimingWheel timingWheel = new TimingWheel(8, TICK, START);
+
+	@Test
+	void advance_notifiesOnlyEntriesOfCurrentRound() {
+		timingWheel.reschedule(1L, () -> START + 2_500L);
+		// 한 바퀴(8 틱) 뒤의 같은 슬롯입니다.
+		timingWheel.reschedule(2L, () -> START + 10_500L);
+		List<Long> expired = new ArrayList<>();
+
+		assertThat(timingWheel.advance(START + 3_000L, expired::add)).isEqualTo(1);
+		assertThat(expired).containsExactly(1L);
+		assertThat(timingWheel.size()).isEqualTo(1);
+
+		assertThat(timingWheel.advance(START + 11_000L, expired::add)).isEqualTo(1);
+		assertThat(expired).containsExactly(1L, 2L);
+		assertThat(timingWheel.size()).isZero();
+	}
+
+	@Test
+	void evict_takesEarliestDeadlinesFromCurrentSlotAcrossRounds() {
+		timingWheel.reschedule(1L, () -> START + 30_200L);
+		timingWheel.reschedule(2L, () -> START + 1_900L);
+		timingWheel.reschedule(3L, () -> START + 9_100L);
+		timingWheel.reschedule(4L, () -> START + 1_100L);
+		List<Long> evicted = new ArrayList<>();
+
+		assertThat(timingWheel.evict(3, evicted::add)).isEqualTo(3);
+
+		assertThat(evicted).containsExactly(4L, 2L, 3L);
+		assertThat(timingWheel.size()).isEqualTo(1);
+		assertThat(timingWheel.evict(5, evicted::add)).isEqualTo(1);
+		assertThat(evicted).containsExactly(4L, 2L, 3L, 1L);
+	}
+
+	@Test
+	void evict_followsEntriesRescheduledByEvictor() {
+		timingWheel.reschedule(1L, () -> START + 1_000L);
+		timingWheel.reschedule(2L, () -> START + 50_000L);
+		long[] nextDeadline = {START + 20_000L};
+		List<Long> evicted = new ArrayList<>();
+
+		long count = timingWheel.evict(3, userId -> {
+			evicted.add(userId);
+			if (userId == 1L) {
+				timingWheel.reschedule(userId, () -> nextDeadline[0]);
+				nextDeadline[0] = TimingWheel.NO_DEADLINE;
+			}
+			return true;
+		});
+
+		assertThat(count).isEqualTo(3);
+		assertThat(evicted).containsExactly(1L, 1L, 2L);
+		assertThat(timingWheel.size()).isZero();
+	}
+
+	@Test
+	void reschedule_concurrentlyKeepsOneEntryPerUser() throws Exception {
+		int threads = 8;
+		int users = 100;
+		ConcurrentHashMap<Long, Integer> notifications = new ConcurrentHashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < 1_000; i++) {
+						long userId = i % users;
+						timingWheel.reschedule(userId,
+							() -> START + ThreadLocalRandom.current().nextLong(1_000L, 40_000L));
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(timingWheel.size()).isEqualTo(users);
+		timingWheel.advance(START + 40_000L, userId -> notifications.merge(userId, 1, Integer::sum));
+		assertThat(notifications).hasSize(users).allSatisfy((userId, count) -> assertThat(count).isEqualTo(1));
+		assertThat(timingWheel.size()).isZero();
+	}
+}
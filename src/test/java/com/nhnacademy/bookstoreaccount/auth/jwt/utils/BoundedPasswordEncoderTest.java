@@ -0,0 +1,167 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final CountDownLatch started = new CountDownLatch(1);
+	private SimpleMeterRegistry meterRegistry;
+	private BoundedPasswordEncoder passwordEncoder;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		if (passwordEncoder != null) {
+			passwordEncoder.close();
+		}
+	}
+
+	@Test
+	void matchesVerifiesOnEncoderThreadAndRecordsTimes() {
+		passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, Duration.ofSeconds(5),
+			Duration.ofSeconds(1), meterRegistry);
+		String encoded = passwordEncoder.encode("password");
+
+		assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+		assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+		assertThat(meterRegistry.get("jwt.password.verify.hash").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("jwt.password.verify.wait").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void fullQueueIsRejectedWithoutWaiting() throws Exception {
+		passwordEncoder = blockingEncoder(Duration.ofSeconds(5));
+		CompletableFuture.runAsync(() -> passwordEncoder.matches("running", "encoded"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture.runAsync(() -> passwordEncoder.matches("queued", "encoded"));
+		waitForQueue(1);
+
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> passwordEncoder.matches("rejected", "encoded"))
+			.isInstanceOf(PasswordVerificationRejectedException.class)
+			.extracting("retryAfter").isEqualTo(Duration.ofSeconds(1));
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+		assertThat(rejected("queue-full")).isEqualTo(1.0);
+	}
+
+	@Test
+	void verificationPastDeadlineIsRejectedAndDequeued() throws Exception {
+		passwordEncoder = blockingEncoder(Duration.ofMillis(50));
+		CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+			() -> passwordEncoder.matches("running", "encoded"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> passwordEncoder.matches("late", "encoded"))
+			.isInstanceOf(PasswordVerificationRejectedException.class);
+
+		assertThatThrownBy(running::join).hasCauseInstanceOf(PasswordVerificationRejectedException.class);
+		assertThat(rejected("deadline")).isEqualTo(2.0);
+		assertThat(queueSize()).isZero();
+	}
+
+	@Test
+	void matchesAsyncCompletesOnEncoderThread() {
+		passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, Duration.ofSeconds(5),
+			Duration.ofSeconds(1), meterRegistry);
+		String encoded = passwordEncoder.encode("password");
+
+		assertThat(passwordEncoder.matchesAsync("password", encoded).join()).isTrue();
+		assertThat(passwordEncoder.matchesAsync("wrong", encoded).join()).isFalse();
+		assertThat(meterRegistry.get("jwt.password.verify.hash").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void matchesAsyncPastDeadlineIsRejectedAndDequeued() throws Exception {
+		passwordEncoder = blockingEncoder(Duration.ofMillis(50));
+		CompletableFuture<Boolean> running = passwordEncoder.matchesAsync("running", "encoded");
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Boolean> late = passwordEncoder.matchesAsync("late", "encoded");
+
+		assertThatThrownBy(() -> late.get(5, TimeUnit.SECONDS))
+			.hasCauseInstanceOf(PasswordVerificationRejectedException.class);
+		assertThatThrownBy(running::join).hasCauseInstanceOf(PasswordVerificationRejectedException.class);
+		assertThat(rejected("deadline")).isEqualTo(2.0);
+		assertThat(queueSize()).isZero();
+	}
+
+	@Test
+	void matchesAsyncWithFullQueueFailsImmediately() throws Exception {
+		passwordEncoder = blockingEncoder(Duration.ofSeconds(5));
+		passwordEncoder.matchesAsync("running", "encoded");
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		passwordEncoder.matchesAsync("queued", "encoded");
+
+		assertThat(passwordEncoder.matchesAsync("rejected", "encoded")).isCompletedExceptionally();
+		assertThat(rejected("queue-full")).isEqualTo(1.0);
+	}
+
+	@Test
+	void delegateFailureIsRethrown() {
+		PasswordEncoder failing = new BCryptPasswordEncoder() {
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				throw new IllegalArgumentException("Encoded password does not look like BCrypt");
+			}
+		};
+		passwordEncoder = new BoundedPasswordEncoder(failing, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1),
+			meterRegistry);
+
+		assertThatThrownBy(() -> passwordEncoder.matches("password", "plain"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Encoded password does not look like BCrypt");
+	}
+
+	/**
+	 * 스레드 하나와 크기가 1 인 대기열을 가지며, 검증은 release 될 때까지 끝나지 않습니다.
+	 */
+	private BoundedPasswordEncoder blockingEncoder(Duration deadline) {
+		PasswordEncoder blocking = new BCryptPasswordEncoder() {
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return true;
+			}
+		};
+		return new BoundedPasswordEncoder(blocking, 1, 1, deadline, Duration.ofSeconds(1), meterRegistry);
+	}
+
+	private void waitForQueue(int size) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (queueSize() < size && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(queueSize()).isEqualTo(size);
+	}
+
+	private double queueSize() {
+		return meterRegistry.get("jwt.password.verify.queue").gauge().value();
+	}
+
+	private double rejected(String reason) {
+		return meterRegistry.get("jwt.password.verify.rejected").tag("reason", reason).counter().count();
+	}
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+	private final ClientIpResolver resolver = new ClientIpResolver("10\\.\\d+\\.\\d+\\.\\d+", "X-Forwarded-For");
+
+	@Test
+	void resolve_trustedProxyUsesForwardedClient() {
+		assertThat(resolver.resolve("10.0.0.1", List.of("203.0.113.7"))).isEqualTo("203.0.113.7");
+		assertThat(resolver.resolve("10.0.0.1", List.of("198.51.100.2"))).isEqualTo("198.51.100.2");
+	}
+
+	@Test
+	void resolve_skipsTrustedHopsAndIgnoresSpoofedLeftmostValues() {
+		assertThat(resolver.resolve("10.0.0.1", List.of("1.1.1.1, 203.0.113.7, 10.0.0.9"))).isEqualTo("203.0.113.7");
+		assertThat(resolver.resolve("10.0.0.1", List.of("1.1.1.1", "203.0.113.7"))).isEqualTo("203.0.113.7");
+	}
+
+	@Test
+	void resolve_untrustedRemoteIgnoresForwardedHeader() {
+		assertThat(resolver.resolve("203.0.113.7", List.of("1.1.1.1"))).isEqualTo("203.0.113.7");
+		assertThat(new ClientIpResolver("", "X-Forwarded-For").resolve("10.0.0.1", List.of("203.0.113.7")))
+			.isEqualTo("10.0.0.1");
+	}
+
+	@Test
+	void resolve_withoutForwardedHeaderUsesRemoteAddress() {
+		assertThat(resolver.resolve("10.0.0.1", List.of())).isEqualTo("10.0.0.1");
+		assertThat(resolver.resolve(null, List.of("203.0.113.7"))).isEqualTo("unknown");
+	}
+
+	@Test
+	void resolve_servletAndReactiveRequestsAgree() {
+		MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+		servletRequest.setRemoteAddr("10.0.0.1");
+		servletRequest.addHeader("X-Forwarded-For", "203.0.113.7");
+		MockServerHttpRequest reactiveRequest = MockServerHttpRequest.post("/auth/login")
+			.remoteAddress(new InetSocketAddress("10.0.0.1", 40000))
+			.header("X-Forwarded-For", "203.0.113.7")
+			.build();
+
+		assertThat(resolver.resolve(servletRequest)).isEqualTo("203.0.113.7");
+		assertThat(resolver.resolve(reactiveRequest)).isEqualTo("203.0.113.7");
+	}
+}
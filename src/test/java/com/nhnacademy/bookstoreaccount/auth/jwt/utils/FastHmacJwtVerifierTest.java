@@ -0,0 +1,184 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtKeyRing;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKey;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKeys;
+
+import io.jsonwebtoken.Jwts;
+
+class FastHmacJwtVerifierTest {
+	private static final String SECRET = "MySuperSecretKeyForJwt12345MySuperSecretKeyForJwt12345";
+	private static final String OTHER_SECRET = "AnotherSecretKeyForJwt12345AnotherSecretKeyForJwt12345";
+
+	private JwtSigningKey signingKey;
+	private JwtUtils jjwtUtils;
+	private JwtUtils fastUtils;
+	private FastHmacJwtVerifier fastVerifier;
+
+	@BeforeEach
+	void setUp() {
+		signingKey = JwtSigningKeys.hmac(SECRET, null);
+		JwtKeyRing keyRing = new JwtKeyRing(signingKey, 0L);
+		jjwtUtils = new JwtUtils(keyRing, "jjwt");
+		fastUtils = new JwtUtils(keyRing, "fast");
+		fastVerifier = new FastHmacJwtVerifier(keyRing);
+	}
+
+	@Test
+	void verify_generatedTokensTakeFastPath() {
+		String accessToken = jjwtUtils.generateToken("access", 1L, List.of("ROLE_USER", "ROLE_ADMIN"), 60_000L);
+		String refreshToken = jjwtUtils.generateToken("refresh", 2L, List.of(), 60_000L);
+
+		ParsedToken access = fastVerifier.verify(accessToken, "Bearer ".length());
+		ParsedToken refresh = fastVerifier.verify(refreshToken, 0);
+
+		assertThat(access).isEqualTo(jjwtUtils.parseToken(accessToken));
+		assertThat(access.roles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+		assertThat(refresh).isEqualTo(jjwtUtils.parseToken(refreshToken));
+	}
+
+	@Test
+	void verify_tamperedSignatureFallsBack() {
+		String token = jjwtUtils.generateToken("refresh", 1L, List.of("ROLE_USER"), 60_000L);
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BA" : "AA");
+
+		assertThat(fastVerifier.verify(tampered, 0)).isNull();
+		assertThat(fastUtils.parseToken(tampered).errorMessage()).isEqualTo("유효하지 않은 토큰입니다.");
+	}
+
+	@Test
+	void verify_unusualTokensFallBack() {
+		long exp = System.currentTimeMillis() / 1000 + 600;
+		String kid = signingKey.keyId();
+		String header = "{\"kid\":\"" + kid + "\",\"alg\":\"HS256\"}";
+
+		assertThat(fastVerifier.verify(sign(header, "{\"token-type\":\"access\",\"exp\":" + exp + ",\"nbf\":1}"), 0))
+			.as("unknown claim").isNull();
+		assertThat(fastVerifier.verify(sign(header, "{\"token-type\":\"access\",\"exp\":" + exp + ",\"jti\":\"1\"}"), 0)
+			.tokenId()).as("token id").isEqualTo("1");
+		assertThat(fastVerifier.verify(sign(header, "{\"token-type\":\"access\",\"exp\":" + exp + ",\"exp\":1}"), 0))
+			.as("duplicate claim").isNull();
+		assertThat(fastVerifier.verify(sign(header, "{\"token-type\":\"acc\\u0065ss\",\"exp\":" + exp + "}"), 0))
+			.as("escaped string").isNull();
+		assertThat(fastVerifier.verify(sign(header, "{\"token-type\":\"access\",\"exp\":" + exp + ".5}"), 0))
+			.as("fractional number").isNull();
+		assertThat(fastVerifier.verify(sign(header, "{\"token-type\":\"access\"}"), 0))
+			.as("missing exp").isNull();
+		assertThat(fastVerifier.verify(sign(header, "{\"token-type\":\"access\",\"exp\":1}"), 0))
+			.as("expired").isNull();
+		assertThat(fastVerifier.verify(sign("{\"kid\":\"" + kid + "\",\"alg\":\"HS256\",\"crit\":[]}",
+			"{\"exp\":" + exp + "}"), 0)).as("unknown header").isNull();
+		assertThat(fastVerifier.verify(sign(header, " {\"token-type\" : \"access\", \"exp\": " + exp + " } "), 0))
+			.as("insignificant whitespace").isNotNull();
+	}
+
+	@Test
+	void parseToken_fastAndJjwtAgreeOnCorpus() {
+		for (String token : corpus()) {
+			assertSameVerdict(token);
+		}
+	}
+
+	@Test
+	void parseToken_fastAndJjwtAgreeOnMutations() {
+		Random random = new Random(42L);
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_.=+/ ";
+		for (String token : corpus()) {
+			for (int i = 0; i < 50 && !token.isEmpty(); i++) {
+				StringBuilder mutated = new StringBuilder(token);
+				int position = random.nextInt(mutated.length());
+				switch (random.nextInt(3)) {
+					case 0 -> mutated.setCharAt(position, alphabet.charAt(random.nextInt(alphabet.length())));
+					case 1 -> mutated.deleteCharAt(position);
+					default -> mutated.insert(position, alphabet.charAt(random.nextInt(alphabet.length())));
+				}
+				assertSameVerdict(mutated.toString());
+			}
+		}
+	}
+
+	private void assertSameVerdict(String token) {
+		Object expected = outcome(jjwtUtils, token);
+		Object actual = outcome(fastUtils, token);
+		assertThat(actual).as(token).isEqualTo(expected);
+	}
+
+	private static Object outcome(JwtUtils jwtUtils, String token) {
+		try {
+			return jwtUtils.parseToken(token);
+		} catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+
+	private List<String> corpus() {
+		long now = System.currentTimeMillis();
+		long exp = now / 1000 + 600;
+		String kid = signingKey.keyId();
+		String header = "{\"kid\":\"" + kid + "\",\"alg\":\"HS256\"}";
+		SecretKey secretKey = (SecretKey)signingKey.signingKey();
+		List<String> corpus = new ArrayList<>(List.of(
+			jjwtUtils.generateToken("access", 1L, List.of("ROLE_USER"), 60_000L),
+			jjwtUtils.generateToken("refresh", 3L, List.of("ROLE_USER", "ROLE_ADMIN"), 60_000L),
+			jjwtUtils.generateToken("refresh", Long.MAX_VALUE, List.of("관리자"), 60_000L),
+			new JwtUtils(OTHER_SECRET).generateToken("access", 1L, List.of("ROLE_USER"), 60_000L),
+			Jwts.builder().header().keyId(kid).and()
+				.claim("userId", 1L)
+				.expiration(new Date(now - 1_000L))
+				.signWith(secretKey, Jwts.SIG.HS256).compact(),
+			Jwts.builder().header().keyId(kid).and()
+				.claim("token-type", "access")
+				.signWith(secretKey, Jwts.SIG.HS384).compact(),
+			Jwts.builder().header().keyId(kid).and()
+				.claims(Map.of("token-type", "access", "nbf", now / 1000 - 10, "exp", exp))
+				.signWith(secretKey, Jwts.SIG.HS256).compact(),
+			sign(header, "{\"token-type\":\"access\",\"userId\":7,\"roles\":null,\"exp\":" + exp + "}"),
+			sign(header, "{\"token-type\":\"access\",\"userId\":7,\"roles\":[1,2],\"exp\":" + exp + "}"),
+			sign(header, "{\"token-type\":\"access\",\"userId\":007,\"exp\":" + exp + "}"),
+			sign(header, "{\"token-type\":\"access\",\"userId\":-7,\"exp\":" + exp + "}"),
+			sign(header, "{\"token-type\":\"access\",\"exp\":" + exp + "}trailing"),
+			sign(header, "{\"token-type\":\"access\",\"exp\":" + exp + ",}"),
+			sign("{\"alg\":\"HS256\"}", "{\"token-type\":\"access\",\"exp\":" + exp + "}"),
+			sign("{\"kid\":\"unknown\",\"alg\":\"HS256\"}", "{\"exp\":" + exp + "}"),
+			"Bearer " + sign(header, "{\"token-type\":\"access\",\"userId\":1,\"roles\":[],\"iat\":"
+				+ (exp - 600) + ",\"exp\":" + exp + "}"),
+			"Bearer ",
+			"a.b.c",
+			""
+		));
+		corpus.add(corpus.get(0).replace("Bearer ", ""));
+		return corpus;
+	}
+
+	private String sign(String header, String payload) {
+		try {
+			Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+			String signingInput = encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			return signingInput + "." + encoder.encodeToString(
+				mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
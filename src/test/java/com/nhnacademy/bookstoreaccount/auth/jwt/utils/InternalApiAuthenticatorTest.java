@@ -0,0 +1,26 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class InternalApiAuthenticatorTest {
+	@Test
+	void isAuthorized_acceptsOnlyConfiguredSecret() {
+		InternalApiAuthenticator authenticator = new InternalApiAuthenticator("internal-secret");
+
+		assertThat(authenticator.isAuthorized("internal-secret")).isTrue();
+		assertThat(authenticator.isAuthorized("internal-secreT")).isFalse();
+		assertThat(authenticator.isAuthorized("")).isFalse();
+		assertThat(authenticator.isAuthorized(null)).isFalse();
+	}
+
+	@Test
+	void isAuthorized_rejectsEveryCallerWhenSecretIsNotConfigured() {
+		InternalApiAuthenticator authenticator = new InternalApiAuthenticator("");
+
+		assertThat(authenticator.isAuthorized("")).isFalse();
+		assertThat(authenticator.isAuthorized(null)).isFalse();
+		assertThat(new InternalApiAuthenticator(null).isAuthorized(null)).isFalse();
+	}
+}
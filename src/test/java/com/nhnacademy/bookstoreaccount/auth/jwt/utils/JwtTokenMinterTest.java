@@ -0,0 +1,127 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.TokenPair;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtKeyRing;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKey;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKeys;
+
+import io.jsonwebtoken.Jwts;
+
+class JwtTokenMinterTest {
+	private static final String SECRET = "MySuperSecretKeyForJwt12345MySuperSecretKeyForJwt12345";
+	private static final long ISSUED_AT = 1_792_296_864_123L;
+
+	private JwtSigningKey signingKey;
+	private JwtTokenMinter tokenMinter;
+
+	@BeforeEach
+	void setUp() {
+		signingKey = JwtSigningKeys.hmac(SECRET, null);
+		tokenMinter = new JwtTokenMinter(new JwtKeyRing(signingKey, 0L));
+	}
+
+	@Test
+	void mint_matchesJjwtByteForByte() {
+		List<List<String>> roleSets = List.of(
+			List.of("ROLE_USER"),
+			List.of("ROLE_USER", "관리자"),
+			List.of(),
+			List.of("quote\"back\\slash", "control\u0001\n\t"),
+			Arrays.asList("ROLE_USER", null)
+		);
+		for (List<String> roles : roleSets) {
+			for (String tokenType : Arrays.asList("access", "refresh", "custom", "")) {
+				String expected = ("access".equals(tokenType) ? "Bearer " : "")
+					+ jjwtToken(tokenType, 42L, roles, 600_000L);
+
+				assertThat(tokenMinter.mint(signingKey, tokenType, 42L, roles, ISSUED_AT, 600_000L, null))
+					.as(tokenType + " " + roles)
+					.isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	void mint_omitsNullClaimsLikeJjwt() {
+		assertThat(tokenMinter.mint(signingKey, "refresh", null, null, ISSUED_AT, 600_000L, null))
+			.isEqualTo(jjwtToken("refresh", null, null, 600_000L));
+		assertThat(tokenMinter.mint(signingKey, null, -7L, List.of("ROLE_USER"), ISSUED_AT, 600_000L, null))
+			.isEqualTo(jjwtToken(null, -7L, List.of("ROLE_USER"), 600_000L));
+		assertThat(tokenMinter.mint(signingKey, "access", 1L, List.of(), ISSUED_AT, 600_000L, "a\"b"))
+			.isEqualTo("Bearer " + jjwtToken("access", 1L, List.of(), 600_000L, "a\"b"));
+	}
+
+	@Test
+	void mintPair_sharesIssuedAt() {
+		TokenPair tokenPair = tokenMinter.mintPair(signingKey, 1L, List.of("ROLE_USER"), ISSUED_AT, 600_000L,
+			86_400_000L, "jti-1");
+
+		assertThat(tokenPair.accessToken()).isEqualTo("Bearer " + jjwtToken("access", 1L, List.of("ROLE_USER"),
+			600_000L, "jti-1"));
+		assertThat(tokenPair.refreshToken()).isEqualTo(jjwtToken("refresh", 1L, List.of("ROLE_USER"), 86_400_000L));
+	}
+
+	@Test
+	void mint_asymmetricKeyIsLeftToJjwt() {
+		JwtSigningKey asymmetricKey = JwtSigningKeys.asymmetric("ES256", null, null);
+
+		assertThat(tokenMinter.mint(asymmetricKey, "access", 1L, List.of("ROLE_USER"), ISSUED_AT, 600_000L, null))
+			.isNull();
+		assertThat(tokenMinter.mintPair(asymmetricKey, 1L, List.of("ROLE_USER"), ISSUED_AT, 600_000L, 600_000L, null))
+			.isNull();
+	}
+
+	@Test
+	void generateTokenPair_parsesBack() {
+		JwtUtils jwtUtils = new JwtUtils(new JwtKeyRing(signingKey, 0L));
+
+		TokenPair tokenPair = jwtUtils.generateTokenPair(1L, List.of("ROLE_USER"), 600_000L, 86_400_000L);
+		ParsedToken access = jwtUtils.parseToken(tokenPair.accessToken());
+		ParsedToken refresh = jwtUtils.parseToken(tokenPair.refreshToken());
+
+		assertThat(access.isTokenType("access")).isTrue();
+		assertThat(refresh.isTokenType("refresh")).isTrue();
+		assertThat(access.issuedAt()).isEqualTo(refresh.issuedAt());
+		assertThat(refresh.expiresAt() - access.expiresAt()).isEqualTo(86_400_000L - 600_000L);
+		assertThat(refresh.roles()).containsExactly("ROLE_USER");
+		assertThat(access.tokenId()).hasSize(22);
+		assertThat(refresh.tokenId()).isNull();
+	}
+
+	@Test
+	void generateTokenPair_asymmetricKeyFallsBackToJjwt() {
+		JwtUtils jwtUtils = new JwtUtils(JwtSigningKeys.asymmetric("ES256", null, null));
+
+		TokenPair tokenPair = jwtUtils.generateTokenPair(1L, List.of("ROLE_USER"), 600_000L, 86_400_000L);
+
+		assertThat(tokenPair.accessToken()).startsWith("Bearer ");
+		assertThat(jwtUtils.parseToken(tokenPair.accessToken()).isTokenType("access")).isTrue();
+		assertThat(jwtUtils.parseToken(tokenPair.refreshToken()).isTokenType("refresh")).isTrue();
+	}
+
+	private String jjwtToken(String tokenType, Long userId, List<String> roles, long expiresIn) {
+		return jjwtToken(tokenType, userId, roles, expiresIn, null);
+	}
+
+	private String jjwtToken(String tokenType, Long userId, List<String> roles, long expiresIn, String tokenId) {
+		return signingKey.sign(Jwts.builder()
+				.header().keyId(signingKey.keyId()).and()
+				.claim("token-type", tokenType)
+				.claim("userId", userId)
+				.claim("roles", roles)
+				.issuedAt(new Date(ISSUED_AT))
+				.expiration(new Date(ISSUED_AT + expiresIn))
+				.id(tokenId))
+			.compact();
+	}
+}
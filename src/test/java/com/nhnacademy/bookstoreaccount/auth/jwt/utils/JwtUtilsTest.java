@@ -12,17 +12,21 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.nhnacademy.bookstoreaccount.auth.jwt.dto.ParsedToken;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKey;
+import com.nhnacademy.bookstoreaccount.auth.jwt.key.JwtSigningKeys;
 import com.nhnacademy.bookstoreaccount.auth.jwt.utils.JwtUtils;
 
 class JwtUtilsTest {
+	private static final String SECRET = "MySuperSecretKeyForJwt12345MySuperSecretKeyForJwt12345"; // Ensure this key is at least 32 bytes long
+
 	private JwtUtils jwtUtils;
 	private SecretKey secretKey;
 
 	@BeforeEach
 	void setUp() {
-		String secret = "MySuperSecretKeyForJwt12345MySuperSecretKeyForJwt12345"; // Ensure this key is at least 32 bytes long
-		jwtUtils = new JwtUtils(secret);
-		secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+		jwtUtils = new JwtUtils(SECRET);
+		secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
 	}
 
 	@Test
@@ -92,6 +96,80 @@ class JwtUtilsTest {
 		assertEquals("토큰 값이 비어있습니다.", validationResult);
 	}
 
+	@Test
+	void validateToken_invalidSignature() {
+		String otherSecret = "AnotherSecretKeyForJwt12345AnotherSecretKeyForJwt12345";
+		String token = new JwtUtils(otherSecret).generateToken("refresh", 1L, List.of("ROLE_USER"), 3600000L);
+		String validationResult = jwtUtils.validateToken(token);
+		assertEquals("유효하지 않은 토큰입니다.", validationResult);
+	}
+
+	@Test
+	void parseToken() {
+		String token = jwtUtils.generateToken("access", 1L, List.of("ROLE_USER", "ROLE_ADMIN"), 3600000L);
+		ParsedToken parsedToken = jwtUtils.parseToken(token);
+		assertTrue(parsedToken.isValid());
+		assertTrue(parsedToken.isTokenType("access"));
+		assertEquals(1L, parsedToken.userId());
+		assertEquals(List.of("ROLE_USER", "ROLE_ADMIN"), parsedToken.roles());
+		assertNotNull(parsedToken.issuedAt());
+		assertTrue(parsedToken.expiresAt() > System.currentTimeMillis());
+	}
+
+	@Test
+	void parseToken_expiredToken() {
+		String expiredToken = generateTestToken("refresh", 1L, List.of("ROLE_USER"), -3600000L);
+		ParsedToken parsedToken = jwtUtils.parseToken(expiredToken);
+		assertFalse(parsedToken.isValid());
+		assertFalse(parsedToken.isTokenType("refresh"));
+		assertEquals("만료된 토큰입니다.", parsedToken.errorMessage());
+		assertNull(parsedToken.userId());
+	}
+
+	@Test
+	void generateToken_defaultsToHs256() {
+		String token = jwtUtils.generateToken("refresh", 1L, List.of("ROLE_USER"), 3600000L);
+		Jws<Claims> jws = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+		assertEquals("HS256", jws.getHeader().getAlgorithm());
+	}
+
+	@Test
+	void generateToken_configuredHmacAlgorithm() {
+		JwtUtils hs384JwtUtils = new JwtUtils(JwtSigningKeys.hmac(SECRET, "HS384"));
+		String token = hs384JwtUtils.generateToken("refresh", 1L, List.of("ROLE_USER"), 3600000L);
+		Jws<Claims> jws = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+		assertEquals("HS384", jws.getHeader().getAlgorithm());
+		assertTrue(hs384JwtUtils.parseToken(token).isValid());
+	}
+
+	@Test
+	void generateToken_asymmetricKeys() {
+		for (String algorithm : List.of("ES256", "EdDSA")) {
+			JwtSigningKey signingKey = JwtSigningKeys.asymmetric(algorithm, null, null);
+			JwtUtils asymmetricJwtUtils = new JwtUtils(signingKey);
+
+			String token = asymmetricJwtUtils.generateToken("access", 1L, List.of("ROLE_USER"), 3600000L);
+			ParsedToken parsedToken = asymmetricJwtUtils.parseToken(token);
+
+			assertTrue(parsedToken.isValid());
+			assertEquals(1L, parsedToken.userId());
+			assertNotNull(jwtUtils.validateToken(token));
+			assertEquals(1, asymmetricJwtUtils.getPublicJwks().size());
+		}
+	}
+
+	@Test
+	void generateToken_carriesKeyId() {
+		String token = jwtUtils.generateToken("refresh", 1L, List.of("ROLE_USER"), 3600000L);
+		Jws<Claims> jws = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+		assertEquals(JwtSigningKeys.hmac(SECRET, null).keyId(), jws.getHeader().getKeyId());
+	}
+
+	@Test
+	void getPublicJwks_hmacKey() {
+		assertTrue(jwtUtils.getPublicJwks().isEmpty());
+	}
+
 	private String generateTestToken(String tokenType, Long userId, List<String> roles, Long expiresIn) {
 		return Jwts.builder()
 			.claim("token-type", tokenType)
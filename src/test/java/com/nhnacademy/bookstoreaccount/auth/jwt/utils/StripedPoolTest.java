@@ -0,0 +1,73 @@
+package com.nhnacademy.bookstoreaccount.auth.jwt.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class StripedPoolTest {
+	private final AtomicInteger created = new AtomicInteger();
+
+	@Test
+	void releasedObjectIsReused() {
+		StripedPool<Object> pool = new StripedPool<>(4, this::create);
+
+		Object first = pool.acquire();
+		pool.release(first);
+
+		assertThat(pool.acquire()).isSameAs(first);
+		assertThat(created).hasValue(1);
+	}
+
+	@Test
+	void objectInUseIsNotHandedOutTwice() {
+		StripedPool<Object> pool = new StripedPool<>(4, this::create);
+
+		Object first = pool.acquire();
+		Object second = pool.acquire();
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(created).hasValue(2);
+	}
+
+	@Test
+	void extraObjectIsDroppedWhenSlotIsFull() {
+		StripedPool<Object> pool = new StripedPool<>(1, this::create);
+		Object first = pool.acquire();
+		Object second = pool.acquire();
+
+		pool.release(first);
+		pool.release(second);
+
+		assertThat(pool.acquire()).isSameAs(first);
+		assertThat(pool.acquire()).isNotSameAs(second);
+	}
+
+	@Test
+	void objectIsSharedAcrossThreads() {
+		StripedPool<Object> pool = new StripedPool<>(1, this::create);
+		Object released = CompletableFuture.supplyAsync(() -> {
+			Object value = pool.acquire();
+			pool.release(value);
+			return value;
+		}).join();
+
+		assertThat(pool.acquire()).isSameAs(released);
+	}
+
+	@Test
+	void nullFromFactoryIsNotPooled() {
+		StripedPool<Object> pool = new StripedPool<>(1, () -> null);
+
+		pool.release(pool.acquire());
+
+		assertThat(pool.acquire()).isNull();
+	}
+
+	private Object create() {
+		created.incrementAndGet();
+		return new Object();
+	}
+}
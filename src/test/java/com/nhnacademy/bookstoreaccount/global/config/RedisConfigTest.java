@@ -0,0 +1,121 @@
+package com.nhnacademy.bookstoreaccount.global.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import com.nhnacademy.bookstoreaccount.keymanager.property.RedisMode;
+import com.nhnacademy.bookstoreaccount.keymanager.property.RedisProperty;
+import com.nhnacademy.bookstoreaccount.keymanager.service.KeyManagerService;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisURI;
+
+class RedisConfigTest {
+	private RedisProperty redisProperty;
+	private KeyManagerService keyManagerService;
+	private RedisConfig redisConfig;
+
+	@BeforeEach
+	void setUp() {
+		redisProperty = new RedisProperty();
+		redisProperty.setHost("hostKey");
+		redisProperty.setPort("portKey");
+		redisProperty.setPassword("passwordKey");
+		redisProperty.setDatabase("databaseKey");
+		redisProperty.setNodes("nodesKey");
+		redisProperty.setMaster("masterKey");
+
+		keyManagerService = mock(KeyManagerService.class);
+		when(keyManagerService.getSecret("hostKey")).thenReturn("localhost");
+		when(keyManagerService.getSecret("portKey")).thenReturn("6379");
+		when(keyManagerService.getSecret("passwordKey")).thenReturn("secret");
+		when(keyManagerService.getSecret("databaseKey")).thenReturn("3");
+		when(keyManagerService.getSecret("nodesKey")).thenReturn("10.0.0.1:26379, 10.0.0.2:26379");
+		when(keyManagerService.getSecret("masterKey")).thenReturn("auth-master");
+
+		redisConfig = new RedisConfig(redisProperty, keyManagerService);
+	}
+
+	@Test
+	void standaloneMode_leavesReadFromUnsetByDefault() {
+		LettuceConnectionFactory factory = redisConfig.redisConnectionFactory();
+
+		assertThat(factory.getStandaloneConfiguration().getHostName()).isEqualTo("localhost");
+		assertThat(factory.getStandaloneConfiguration().getPort()).isEqualTo(6379);
+		assertThat(factory.getSentinelConfiguration()).isNull();
+		assertThat(factory.getClusterConfiguration()).isNull();
+		assertThat(factory.getClientConfiguration().getReadFrom()).isEmpty();
+	}
+
+	@Test
+	void standaloneMode_setsReadFromForReplicaReads() {
+		redisProperty.setReadFrom("replicaPreferred");
+
+		LettuceConnectionFactory factory = redisConfig.redisConnectionFactory();
+
+		assertThat(factory.getClientConfiguration().getReadFrom()).contains(ReadFrom.REPLICA_PREFERRED);
+	}
+
+	@Test
+	void sentinelMode_resolvesMasterAndSentinelsThroughKeyManager() {
+		redisProperty.setMode(RedisMode.SENTINEL);
+		redisProperty.setReadFrom("replicaPreferred");
+
+		LettuceConnectionFactory factory = redisConfig.redisConnectionFactory();
+
+		assertThat(factory.getSentinelConfiguration().getMaster().getName()).isEqualTo("auth-master");
+		assertThat(factory.getSentinelConfiguration().getSentinels()).containsExactlyInAnyOrder(
+			new RedisNode("10.0.0.1", 26379), new RedisNode("10.0.0.2", 26379));
+		assertThat(factory.getSentinelConfiguration().getPassword()).isEqualTo(RedisPassword.of("secret"));
+		assertThat(factory.getSentinelConfiguration().getDatabase()).isEqualTo(3);
+		assertThat(factory.getClientConfiguration().getReadFrom()).contains(ReadFrom.REPLICA_PREFERRED);
+	}
+
+	@Test
+	void clusterMode_resolvesNodesThroughKeyManager() {
+		redisProperty.setMode(RedisMode.CLUSTER);
+		redisProperty.setReadFrom("replicaPreferred");
+
+		LettuceConnectionFactory factory = redisConfig.redisConnectionFactory();
+
+		assertThat(factory.getClusterConfiguration().getClusterNodes()).containsExactlyInAnyOrder(
+			new RedisNode("10.0.0.1", 26379), new RedisNode("10.0.0.2", 26379));
+		assertThat(factory.getClusterConfiguration().getPassword()).isEqualTo(RedisPassword.of("secret"));
+	}
+
+	@Test
+	void sentinelMode_requiresNodes() {
+		redisProperty.setMode(RedisMode.SENTINEL);
+		when(keyManagerService.getSecret("nodesKey")).thenReturn(null);
+
+		assertThatThrownBy(() -> redisConfig.redisConnectionFactory()).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void nearCacheUri_followsSentinelMaster() {
+		redisProperty.setMode(RedisMode.SENTINEL);
+
+		RedisURI redisUri = RedisConfig.nearCacheUri(redisConfig.redisConnectionFactory());
+
+		assertThat(redisUri.getSentinelMasterId()).isEqualTo("auth-master");
+		assertThat(redisUri.getSentinels()).extracting(RedisURI::getHost).containsExactlyInAnyOrder(
+			"10.0.0.1", "10.0.0.2");
+		assertThat(redisUri.getDatabase()).isEqualTo(3);
+		assertThat(new String(redisUri.getCredentialsProvider().resolveCredentials().block().getPassword()))
+			.isEqualTo("secret");
+	}
+
+	@Test
+	void nearCacheUri_rejectsClusterMode() {
+		redisProperty.setMode(RedisMode.CLUSTER);
+		LettuceConnectionFactory factory = redisConfig.redisConnectionFactory();
+
+		assertThatThrownBy(() -> RedisConfig.nearCacheUri(factory)).isInstanceOf(IllegalStateException.class);
+	}
+}